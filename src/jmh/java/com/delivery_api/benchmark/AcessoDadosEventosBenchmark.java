@@ -0,0 +1,94 @@
+package com.delivery_api.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.helpers.NOPAppender;
+import com.delivery_api.config.AcessoDadosEventosProperties;
+import com.delivery_api.logging.AcessoDadosEventos;
+import com.delivery_api.logging.EventoAcessoDados;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo, com 32 threads ao mesmo tempo, de registrar uma falta no cache nos serviços.
+ *
+ * {@code println} reproduz o caminho anterior: concatenação e {@code println} num PrintStream com flush
+ * automático (como o System.out), aqui apontado para /dev/null. Todas as threads disputam o lock do
+ * PrintStream e fazem uma escrita no sistema por evento.
+ *
+ * {@code eventos} usa o {@link AcessoDadosEventos}: desligado, só contando (nível DEBUG desabilitado, o padrão
+ * do application.yml) ou logando 1 a cada 100 em INFO. O log vai para um appender que não faz nada, para medir
+ * só o custo na thread que registra; a gravação fica na thread do AsyncJsonAppender.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(32)
+public class AcessoDadosEventosBenchmark {
+
+    @Param({"DESLIGADO", "CONTADOR", "AMOSTRADO"})
+    private String modo;
+
+    private PrintStream saida;
+    private AcessoDadosEventos eventos;
+
+    @Setup
+    public void setUp() throws FileNotFoundException {
+        saida = new PrintStream(new FileOutputStream("/dev/null"), true);
+
+        Logger raiz = ((LoggerContext) LoggerFactory.getILoggerFactory()).getLogger(Logger.ROOT_LOGGER_NAME);
+        raiz.detachAndStopAllAppenders();
+        NOPAppender<ILoggingEvent> nop = new NOPAppender<>();
+        nop.start();
+        raiz.addAppender(nop);
+        raiz.setLevel(Level.INFO);
+
+        AcessoDadosEventosProperties properties = new AcessoDadosEventosProperties();
+        properties.setHabilitado(!"DESLIGADO".equals(modo));
+        if ("AMOSTRADO".equals(modo)) {
+            properties.setCacheMiss(new AcessoDadosEventosProperties.Amostragem(org.slf4j.event.Level.INFO, 100));
+        }
+        eventos = new AcessoDadosEventos(properties, new SimpleMeterRegistry());
+    }
+
+    @TearDown
+    public void tearDown() {
+        saida.close();
+    }
+
+    @Benchmark
+    public void println() {
+        long id = ThreadLocalRandom.current().nextLong(1, 10_000);
+        saida.println("### BUSCANDO PRODUTO DO BANCO DE DADOS (ID: " + id + ") ###");
+    }
+
+    @Benchmark
+    public void eventos() {
+        long id = ThreadLocalRandom.current().nextLong(1, 10_000);
+        eventos.registrar(EventoAcessoDados.PRODUTO_POR_ID, id);
+    }
+}
@@ -0,0 +1,51 @@
+package com.delivery_api.benchmark;
+
+import com.delivery_api.dto.ApiResponseWrapper;
+import com.delivery_api.dto.PedidoResponseDTO;
+import com.delivery_api.mapper.PedidoMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização Jackson do corpo de resposta de um pedido, com o mesmo ObjectMapper
+ * padrão que o Spring MVC usa ({@link Jackson2ObjectMapperBuilder}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"5", "50"})
+    private int quantidadeItens;
+
+    private ObjectMapper objectMapper;
+    private ApiResponseWrapper<PedidoResponseDTO> resposta;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        PedidoResponseDTO pedido = new PedidoMapper().toResponseDTO(BenchmarkFixtures.novoPedido(quantidadeItens));
+        resposta = new ApiResponseWrapper<>(true, pedido, "Pedido encontrado");
+    }
+
+    @Benchmark
+    public byte[] serializar() throws Exception {
+        return objectMapper.writeValueAsBytes(resposta);
+    }
+}
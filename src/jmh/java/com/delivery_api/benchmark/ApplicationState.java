@@ -0,0 +1,86 @@
+package com.delivery_api.benchmark;
+
+import com.delivery_api.DeliveryApiApplication;
+import com.delivery_api.model.Cliente;
+import com.delivery_api.model.Produto;
+import com.delivery_api.model.Restaurante;
+import com.delivery_api.repository.ClienteRepository;
+import com.delivery_api.repository.ProdutoRepository;
+import com.delivery_api.repository.RestauranteRepository;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sobe a aplicação completa (com o servidor web em uma porta livre, pois a configuração de
+ * segurança depende do Spring MVC) sobre um H2 em memória exclusivo da execução,
+ * e gera uma massa de dados própria: um restaurante com {@link #QUANTIDADE_PRODUTOS}
+ * produtos e um cliente ativo.
+ */
+@State(Scope.Benchmark)
+public class ApplicationState {
+
+    static final int QUANTIDADE_PRODUTOS = 50;
+
+    ConfigurableApplicationContext context;
+    Long clienteId;
+    Long restauranteId;
+    List<Long> produtoIds;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        context = new SpringApplicationBuilder(DeliveryApiApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "spring.data.redis.host=localhost",
+                        "spring.security.user.password=benchmark",
+                        "jwt.secret=benchmark-secret-key-with-at-least-32-bytes",
+                        "logging.level.root=WARN",
+                        "logging.level.org.springframework.data.redis=WARN",
+                        "logging.level.com.delivery_api=WARN")
+                .run();
+
+        gerarDados();
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        context.close();
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    private void gerarDados() {
+        Restaurante restaurante = bean(RestauranteRepository.class).save(new Restaurante(
+                "Restaurante Benchmark", "Italiana", "Rua do Benchmark, 1", "11900000000",
+                new BigDecimal("6.50"), true, 40, "10:00-23:00"));
+        restauranteId = restaurante.getId();
+
+        Cliente cliente = bean(ClienteRepository.class).save(new Cliente(
+                "Cliente Benchmark", "benchmark@email.com", "11911111111", "Rua do Cliente, 2", true));
+        clienteId = cliente.getId();
+
+        List<Produto> produtos = new ArrayList<>(QUANTIDADE_PRODUTOS);
+        for (int i = 0; i < QUANTIDADE_PRODUTOS; i++) {
+            produtos.add(new Produto(null, "Produto " + i, "Descrição " + i,
+                    new BigDecimal("10.00").add(BigDecimal.valueOf(i)), "Categoria " + (i % 5),
+                    true, restaurante, null));
+        }
+        produtoIds = bean(ProdutoRepository.class).saveAll(produtos).stream().map(Produto::getId).toList();
+    }
+}
@@ -0,0 +1,103 @@
+package com.delivery_api.benchmark;
+
+import com.delivery_api.audit.AuditLogPipeline;
+import com.delivery_api.config.AuditProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latência de publicação de um evento de auditoria com 32 threads publicando ao mesmo tempo, em percentis
+ * (modo amostragem), no {@link AuditLogPipeline} com cada política de transbordo.
+ *
+ * {@code sincrono} reproduz o caminho anterior: mapa, JSON com ObjectMapper e escrita com flush no arquivo
+ * sob um lock, como o appender do Logback fazia, tudo na thread que publica.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(32)
+public class AuditLogPipelineBenchmark {
+
+    @Param({"BLOQUEAR", "DESCARTAR"})
+    private AuditProperties.Politica politica;
+
+    private Path diretorio;
+    private AuditLogPipeline pipeline;
+    private BufferedWriter arquivoSincrono;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Object> detalhes = Map.of("pedidoId", 42, "status", "CONFIRMADO");
+
+    @Setup
+    public void setUp() throws IOException {
+        diretorio = Files.createTempDirectory("audit-benchmark");
+        AuditProperties properties = new AuditProperties();
+        properties.setArquivo(diretorio.resolve("audit.log").toString());
+        properties.setPolitica(politica);
+        // Mede só o caminho até o arquivo, como o escritor síncrono de comparação
+        properties.setConsole(false);
+        pipeline = new AuditLogPipeline(properties, new SimpleMeterRegistry());
+        pipeline.iniciar();
+        arquivoSincrono = Files.newBufferedWriter(diretorio.resolve("audit-sincrono.log"));
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        pipeline.encerrar();
+        arquivoSincrono.close();
+        try (var arquivos = Files.list(diretorio)) {
+            for (Path arquivo : arquivos.toList()) {
+                Files.delete(arquivo);
+            }
+        }
+        Files.delete(diretorio);
+    }
+
+    @Benchmark
+    public boolean pipeline() {
+        return pipeline.publicarAcaoUsuario("7", "UPDATE", "Pedido", detalhes, "corr-1");
+    }
+
+    @Benchmark
+    public boolean sincrono() throws IOException {
+        Map<String, Object> evento = new LinkedHashMap<>();
+        evento.put("timestamp", Instant.now().toString());
+        evento.put("type", "USER_ACTION");
+        evento.put("userId", "7");
+        evento.put("action", "UPDATE");
+        evento.put("resource", "Pedido");
+        evento.put("details", detalhes);
+        evento.put("correlationId", "corr-1");
+        String json = objectMapper.writeValueAsString(evento);
+        synchronized (arquivoSincrono) {
+            arquivoSincrono.write(json);
+            arquivoSincrono.newLine();
+            arquivoSincrono.flush();
+        }
+        return true;
+    }
+}
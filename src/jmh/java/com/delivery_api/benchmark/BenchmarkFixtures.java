@@ -0,0 +1,56 @@
+package com.delivery_api.benchmark;
+
+import com.delivery_api.model.Cliente;
+import com.delivery_api.model.ItemPedido;
+import com.delivery_api.model.Pedido;
+import com.delivery_api.model.Produto;
+import com.delivery_api.model.Restaurante;
+
+import java.math.BigDecimal;
+
+/**
+ * Massa de dados em memória compartilhada pelos benchmarks que não precisam de banco.
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static Restaurante novoRestaurante() {
+        Restaurante restaurante = new Restaurante("Cantina da Mama", "Italiana", "Rua das Pizzas, 123",
+                "11987654321", new BigDecimal("5.00"), true, 45, "18:00-23:00");
+        restaurante.setId(1L);
+        return restaurante;
+    }
+
+    static Cliente novoCliente() {
+        Cliente cliente = new Cliente("Ana Souza", "ana@email.com", "11912345678", "Rua das Palmeiras, 45", true);
+        cliente.setId(7L);
+        return cliente;
+    }
+
+    /**
+     * Pedido confirmado com {@code quantidadeItens} itens, um produto diferente por item.
+     */
+    static Pedido novoPedido(int quantidadeItens) {
+        Restaurante restaurante = novoRestaurante();
+
+        Pedido pedido = new Pedido();
+        pedido.setId(99L);
+        pedido.setCliente(novoCliente());
+        pedido.setRestaurante(restaurante);
+        for (int i = 0; i < quantidadeItens; i++) {
+            Produto produto = new Produto(1000L + i, "Produto " + i, "Descrição", new BigDecimal("10.00"),
+                    "Lanches", true, restaurante, null);
+            ItemPedido item = new ItemPedido();
+            item.setId(5000L + i);
+            item.setProduto(produto);
+            item.setQuantidade(1 + i % 3);
+            item.setPrecoUnitario(produto.getPreco());
+            item.calcularSubtotal();
+            pedido.adicionarItem(item);
+        }
+        pedido.confirmar();
+        return pedido;
+    }
+}
@@ -0,0 +1,94 @@
+package com.delivery_api.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compara dois resultados JMH em JSON ({@code -rf json}) e falha quando algum benchmark
+ * piorou além do limite percentual.
+ *
+ * Uso: {@code JmhResultComparator <atual.json> <baseline.json> [limite%]}
+ *
+ * Benchmarks em modo de vazão (thrpt) pioram quando o score cai; os demais
+ * (avgt, sample, ss) pioram quando o score sobe.
+ */
+public final class JmhResultComparator {
+
+    private static final double LIMITE_PADRAO = 10.0;
+
+    private JmhResultComparator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Uso: JmhResultComparator <atual.json> <baseline.json> [limite%]");
+            System.exit(2);
+        }
+        double limite = args.length > 2 ? Double.parseDouble(args[2]) : LIMITE_PADRAO;
+
+        Map<String, Resultado> atual = ler(new File(args[0]));
+        Map<String, Resultado> baseline = ler(new File(args[1]));
+
+        int regressoes = 0;
+        for (Map.Entry<String, Resultado> entrada : atual.entrySet()) {
+            Resultado anterior = baseline.get(entrada.getKey());
+            Resultado novo = entrada.getValue();
+            if (anterior == null) {
+                System.out.printf("%-80s %12.3f %-8s (novo)%n", entrada.getKey(), novo.score(), novo.unidade());
+                continue;
+            }
+
+            double variacao = (novo.score() - anterior.score()) / anterior.score() * 100.0;
+            double piora = novo.vazao() ? -variacao : variacao;
+            boolean regrediu = piora > limite;
+            if (regrediu) {
+                regressoes++;
+            }
+            System.out.printf("%-80s %12.3f -> %12.3f %-8s %+7.1f%% %s%n", entrada.getKey(), anterior.score(),
+                    novo.score(), novo.unidade(), variacao, regrediu ? "REGRESSÃO" : "");
+        }
+
+        if (regressoes > 0) {
+            System.err.printf("%d benchmark(s) pioraram mais de %.1f%% em relação ao baseline.%n", regressoes, limite);
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Resultado> ler(File arquivo) throws IOException {
+        Map<String, Resultado> resultados = new LinkedHashMap<>();
+        for (JsonNode benchmark : new ObjectMapper().readTree(arquivo)) {
+            JsonNode metrica = benchmark.get("primaryMetric");
+            resultados.put(chave(benchmark), new Resultado(
+                    metrica.get("score").asDouble(),
+                    metrica.get("scoreUnit").asText(),
+                    "thrpt".equals(benchmark.get("mode").asText())));
+        }
+        return resultados;
+    }
+
+    // Nome do benchmark + parâmetros, ex: "...PedidoServiceBenchmark.criarPedido{quantidadeItens=50}"
+    private static String chave(JsonNode benchmark) {
+        String nome = benchmark.get("benchmark").asText();
+        JsonNode params = benchmark.get("params");
+        if (params == null || params.isEmpty()) {
+            return nome;
+        }
+        Map<String, String> ordenados = new TreeMap<>();
+        Iterator<Map.Entry<String, JsonNode>> campos = params.fields();
+        while (campos.hasNext()) {
+            Map.Entry<String, JsonNode> campo = campos.next();
+            ordenados.put(campo.getKey(), campo.getValue().asText());
+        }
+        return nome + ordenados;
+    }
+
+    private record Resultado(double score, String unidade, boolean vazao) {
+    }
+}
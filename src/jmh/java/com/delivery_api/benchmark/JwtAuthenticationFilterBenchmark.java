@@ -0,0 +1,85 @@
+package com.delivery_api.benchmark;
+
+import com.delivery_api.config.JwtProperties;
+import com.delivery_api.enums.UserRole;
+import com.delivery_api.model.Usuario;
+import com.delivery_api.security.DisabledUserRegistry;
+import com.delivery_api.security.JwtAuthenticationFilter;
+import com.delivery_api.security.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tempo por requisição autenticada no {@link JwtAuthenticationFilter}: validação do token,
+ * carga do usuário (aqui em memória, sem banco nem Redis) e montagem do SecurityContext.
+ *
+ * Com {@code verifiedCacheSize=0} a requisição paga um parse do token; com o cache ligado,
+ * o mesmo token só é verificado na primeira requisição.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    // 0 desliga o cache de tokens verificados: mede só o parse único.
+    @Param({"0", "10000"})
+    private long verifiedCacheSize;
+
+    // true monta o principal a partir das claims e dispensa o UserDetailsService.
+    @Param({"false", "true"})
+    private boolean statelessPrincipal;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", "benchmark-secret-key-with-at-least-32-bytes");
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpiration", 86_400_000L);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheSize", verifiedCacheSize);
+        jwtUtil.init();
+
+        Usuario usuario = new Usuario();
+        usuario.setId(1L);
+        usuario.setEmail("benchmark@email.com");
+        usuario.setRole(UserRole.CLIENTE);
+
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setStatelessPrincipal(statelessPrincipal);
+
+        // Sem banco: o bitmap começa vazio e não é recarregado.
+        filter = new JwtAuthenticationFilter(jwtUtil, email -> usuario, jwtProperties,
+                new DisabledUserRegistry(null, jwtProperties));
+        request = new MockHttpServletRequest("GET", "/api/pedidos/1");
+        request.addHeader("Authorization", "Bearer " + jwtUtil.generateToken(usuario));
+    }
+
+    @Benchmark
+    public Object filtrarRequisicao() throws Exception {
+        SecurityContextHolder.clearContext();
+        // O OncePerRequestFilter marca a requisição como já filtrada; o atributo é removido a cada chamada.
+        request.removeAttribute(filter.getClass().getName() + ".FILTERED");
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
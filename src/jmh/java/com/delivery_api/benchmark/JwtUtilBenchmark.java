@@ -0,0 +1,59 @@
+package com.delivery_api.benchmark;
+
+import com.delivery_api.enums.UserRole;
+import com.delivery_api.model.Usuario;
+import com.delivery_api.security.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo por requisição autenticada: o {@code JwtAuthenticationFilter} chama
+ * {@code extractUsername} e depois {@code isTokenValid} para o mesmo token.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private Usuario usuario;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", "benchmark-secret-key-with-at-least-32-bytes");
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpiration", 86_400_000L);
+        jwtUtil.init();
+
+        usuario = new Usuario();
+        usuario.setId(1L);
+        usuario.setEmail("benchmark@email.com");
+        usuario.setRole(UserRole.CLIENTE);
+        token = jwtUtil.generateToken(usuario);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtUtil.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtUtil.isTokenValid(token, usuario);
+    }
+}
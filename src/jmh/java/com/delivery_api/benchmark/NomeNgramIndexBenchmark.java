@@ -0,0 +1,101 @@
+package com.delivery_api.benchmark;
+
+import com.delivery_api.search.NomeNgramIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Busca dos 10 nomes mais parecidos no {@link NomeNgramIndex}, no volume de restaurantes (100 mil) e de
+ * clientes (1 milhão), e a recarga completa do índice, como na subida da aplicação.
+ *
+ * Os nomes combinam listas de palavras comuns, o que gera listas de trigramas longas e repetitivas: é o caso
+ * difícil para o índice. As consultas alternam entre um trecho exato de um nome e o mesmo trecho com uma
+ * letra trocada. Para a recarga de 1 milhão, use {@code -Xmx2g} ou mais.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NomeNgramIndexBenchmark {
+
+    private static final String[] PRIMEIROS = {
+            "Ana", "Bruno", "Carla", "Daniel", "Eduarda", "Felipe", "Gabriela", "Henrique", "Isabela", "João",
+            "Larissa", "Marcos", "Natália", "Otávio", "Patrícia", "Rafael", "Sofia", "Thiago", "Vitória", "Wagner"};
+    private static final String[] SOBRENOMES = {
+            "Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira", "Alves", "Pereira", "Lima", "Gomes",
+            "Costa", "Ribeiro", "Martins", "Carvalho", "Almeida", "Lopes", "Soares", "Fernandes", "Vieira", "Barbosa"};
+    private static final String[] TIPOS = {
+            "Pizzaria", "Cantina", "Churrascaria", "Lanchonete", "Sushi", "Padaria", "Hamburgueria", "Açaí",
+            "Restaurante", "Esfiharia"};
+
+    @Param({"100000", "1000000"})
+    private int quantidadeNomes;
+
+    private NomeNgramIndex indice;
+    private String[] nomes;
+    private String[] consultas;
+    private int proxima;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        boolean restaurantes = quantidadeNomes <= 100_000;
+        nomes = new String[quantidadeNomes];
+        for (int i = 0; i < nomes.length; i++) {
+            String pessoa = PRIMEIROS[random.nextInt(PRIMEIROS.length)] + " "
+                    + SOBRENOMES[random.nextInt(SOBRENOMES.length)] + " "
+                    + SOBRENOMES[random.nextInt(SOBRENOMES.length)];
+            nomes[i] = restaurantes ? TIPOS[random.nextInt(TIPOS.length)] + " " + pessoa : pessoa;
+        }
+        indice = new NomeNgramIndex();
+        carregar();
+
+        consultas = new String[1024];
+        for (int i = 0; i < consultas.length; i++) {
+            String[] palavras = nomes[random.nextInt(nomes.length)].split(" ");
+            String consulta = palavras[palavras.length - 2] + " " + palavras[palavras.length - 1];
+            if ((i & 1) == 1) {
+                // Uma letra trocada no meio da consulta
+                int posicao = consulta.length() / 2;
+                consulta = consulta.substring(0, posicao) + 'x' + consulta.substring(posicao + 1);
+            }
+            consultas[i] = consulta;
+        }
+    }
+
+    @Benchmark
+    public List<NomeNgramIndex.Resultado> buscar10() {
+        proxima = (proxima + 1) & (consultas.length - 1);
+        return indice.buscar(consultas[proxima], 10, true);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int recarregar() {
+        carregar();
+        return indice.tamanho();
+    }
+
+    private void carregar() {
+        indice.limpar();
+        for (int i = 0; i < nomes.length; i++) {
+            indice.atualizar(i, nomes[i], i % 10 != 0);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.delivery_api.benchmark;
+
+import com.delivery_api.dto.PedidoResponseDTO;
+import com.delivery_api.mapper.PedidoMapper;
+import com.delivery_api.model.Pedido;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o mapeamento de um {@link Pedido} com 50 itens para {@link PedidoResponseDTO}:
+ * ModelMapper (reflexão) contra o {@link PedidoMapper} escrito à mão.
+ *
+ * Para ver a alocação por operação, rode com {@code -prof gc}
+ * (ex: {@code mvn -P benchmark verify -Djmh.includes="PedidoMapperBenchmark -prof gc"}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PedidoMapperBenchmark {
+
+    @Param({"50"})
+    private int quantidadeItens;
+
+    private Pedido pedido;
+    private ModelMapper modelMapper;
+    private PedidoMapper pedidoMapper;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        pedidoMapper = new PedidoMapper();
+
+        pedido = BenchmarkFixtures.novoPedido(quantidadeItens);
+
+        // O primeiro map() do ModelMapper monta o TypeMap; isso fica fora da medição.
+        modelMapper.map(pedido, PedidoResponseDTO.class);
+    }
+
+    @Benchmark
+    public PedidoResponseDTO modelMapper() {
+        return modelMapper.map(pedido, PedidoResponseDTO.class);
+    }
+
+    @Benchmark
+    public PedidoResponseDTO pedidoMapper() {
+        return pedidoMapper.toResponseDTO(pedido);
+    }
+}
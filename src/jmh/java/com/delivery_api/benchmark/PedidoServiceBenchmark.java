@@ -0,0 +1,70 @@
+package com.delivery_api.benchmark;
+
+import com.delivery_api.dto.ItemPedidoDTO;
+import com.delivery_api.dto.PedidoDTO;
+import com.delivery_api.dto.PedidoResponseDTO;
+import com.delivery_api.service.PedidoService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code PedidoServiceImpl.criarPedido} e {@code calcularTotalPedido} passando pelo proxy
+ * transacional do Spring e pelo H2 em memória (ver {@link ApplicationState}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PedidoServiceBenchmark {
+
+    @Param({"5", "50"})
+    private int quantidadeItens;
+
+    private PedidoService pedidoService;
+    private PedidoDTO pedidoDTO;
+
+    @Setup
+    public void setUp(ApplicationState app) {
+        pedidoService = app.bean(PedidoService.class);
+
+        List<ItemPedidoDTO> itens = new ArrayList<>(quantidadeItens);
+        for (int i = 0; i < quantidadeItens; i++) {
+            ItemPedidoDTO item = new ItemPedidoDTO();
+            item.setProdutoId(app.produtoIds.get(i % app.produtoIds.size()));
+            item.setQuantidade(1 + i % 3);
+            itens.add(item);
+        }
+
+        pedidoDTO = new PedidoDTO();
+        pedidoDTO.setClienteId(app.clienteId);
+        pedidoDTO.setRestauranteId(app.restauranteId);
+        pedidoDTO.setEnderecoEntrega("Rua do Cliente, 2");
+        pedidoDTO.setItens(itens);
+    }
+
+    @Benchmark
+    public PedidoResponseDTO criarPedido() {
+        return pedidoService.criarPedido(pedidoDTO);
+    }
+
+    @Benchmark
+    public BigDecimal calcularTotalPedido() {
+        return pedidoService.calcularTotalPedido(pedidoDTO.getItens());
+    }
+}
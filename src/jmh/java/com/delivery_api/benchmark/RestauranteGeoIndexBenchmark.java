@@ -0,0 +1,67 @@
+package com.delivery_api.benchmark;
+
+import com.delivery_api.geo.Coordenada;
+import com.delivery_api.geo.RestauranteGeoIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Busca por raio e pelos k mais próximos no {@link RestauranteGeoIndex}, com restaurantes
+ * espalhados pela Grande São Paulo (~80 x 80 km).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RestauranteGeoIndexBenchmark {
+
+    @Param({"10000", "100000"})
+    private int quantidadeRestaurantes;
+
+    private RestauranteGeoIndex indice;
+    private Coordenada[] origens;
+    private int proxima;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        indice = new RestauranteGeoIndex();
+        for (int i = 0; i < quantidadeRestaurantes; i++) {
+            indice.atualizar(i, -23.9 + random.nextDouble() * 0.8, -47.0 + random.nextDouble() * 0.8, true);
+        }
+        origens = new Coordenada[1024];
+        for (int i = 0; i < origens.length; i++) {
+            origens[i] = new Coordenada(-23.8 + random.nextDouble() * 0.6, -46.9 + random.nextDouble() * 0.6);
+        }
+    }
+
+    @Benchmark
+    public List<RestauranteGeoIndex.Resultado> raio5Km() {
+        return indice.buscarNoRaio(origem(), 5);
+    }
+
+    @Benchmark
+    public List<RestauranteGeoIndex.Resultado> maisProximos10() {
+        return indice.buscarMaisProximos(origem(), 10);
+    }
+
+    private Coordenada origem() {
+        proxima = (proxima + 1) & (origens.length - 1);
+        return origens[proxima];
+    }
+}
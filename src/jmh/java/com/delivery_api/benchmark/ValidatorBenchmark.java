@@ -0,0 +1,64 @@
+package com.delivery_api.benchmark;
+
+import com.delivery_api.validation.CEPValidator;
+import com.delivery_api.validation.HorarioFuncionamentoValidator;
+import com.delivery_api.validation.TelefoneValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validadores customizados de Bean Validation, com entradas válidas e inválidas.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+
+    @Param({"valido", "invalido"})
+    private String cenario;
+
+    private final CEPValidator cepValidator = new CEPValidator();
+    private final TelefoneValidator telefoneValidator = new TelefoneValidator();
+    private final HorarioFuncionamentoValidator horarioValidator = new HorarioFuncionamentoValidator();
+
+    private String cep;
+    private String telefone;
+    private String horario;
+
+    @Setup
+    public void setUp() {
+        boolean valido = "valido".equals(cenario);
+        cep = valido ? "01310-100" : "0131-0100";
+        telefone = valido ? "(11) 98765-4321" : "(11) 8765";
+        horario = valido ? "18:00-23:00" : "23:00-18:00";
+    }
+
+    @Benchmark
+    public boolean cep() {
+        return cepValidator.isValid(cep, null);
+    }
+
+    @Benchmark
+    public boolean telefone() {
+        return telefoneValidator.isValid(telefone, null);
+    }
+
+    @Benchmark
+    public boolean horarioFuncionamento() {
+        return horarioValidator.isValid(horario, null);
+    }
+}
@@ -0,0 +1,128 @@
+package com.delivery_api.audit;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Arquivo de auditoria com rotação diária, no mesmo esquema que o appender do Logback usava:
+ * o dia corrente em "delivery-api-audit.log", os anteriores em "delivery-api-audit.aaaa-mm-dd.log",
+ * apagados depois de {@code historicoDias}.
+ *
+ * Só a thread do escritor usa esta classe.
+ */
+final class AuditArquivoRotativo implements Closeable {
+
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+
+    private final Path arquivo;
+    private final String prefixo;
+    private final String sufixo;
+    private final int historicoDias;
+    private LocalDate dataAtual;
+    private OutputStream saida;
+
+    AuditArquivoRotativo(Path arquivo, int historicoDias, LocalDate hoje) throws IOException {
+        this.arquivo = arquivo.toAbsolutePath();
+        String nome = this.arquivo.getFileName().toString();
+        int ponto = nome.lastIndexOf('.');
+        this.prefixo = (ponto > 0 ? nome.substring(0, ponto) : nome) + ".";
+        this.sufixo = ponto > 0 ? nome.substring(ponto) : "";
+        this.historicoDias = historicoDias;
+
+        Files.createDirectories(this.arquivo.getParent());
+        // Arquivo de um dia anterior que ficou para trás (aplicação parada na virada do dia)
+        if (Files.exists(this.arquivo)) {
+            LocalDate modificado = LocalDate.ofInstant(Files.getLastModifiedTime(this.arquivo).toInstant(),
+                    ZoneId.systemDefault());
+            if (modificado.isBefore(hoje)) {
+                mover(modificado);
+            }
+        }
+        this.dataAtual = hoje;
+        abrir();
+    }
+
+    /**
+     * Reabre o arquivo se uma rotação anterior falhou depois de fechá-lo.
+     */
+    OutputStream saida() throws IOException {
+        if (saida == null) {
+            abrir();
+        }
+        return saida;
+    }
+
+    boolean precisaRotacionar(LocalDate hoje) {
+        return !hoje.equals(dataAtual);
+    }
+
+    /**
+     * Fecha o arquivo do dia anterior, renomeia-o com a data e abre um novo. Quem escreve deve ter
+     * descarregado o que tinha em buffer antes. Se o arquivo não puder ser movido, a data não muda e
+     * a rotação pode ser tentada de novo; a escrita continua no mesmo arquivo.
+     */
+    void rotacionar(LocalDate hoje) throws IOException {
+        OutputStream anterior = saida;
+        saida = null;
+        anterior.close();
+        mover(dataAtual);
+        dataAtual = hoje;
+        abrir();
+        apagarAntigos(hoje);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (saida != null) {
+            saida.close();
+        }
+    }
+
+    Path rotacionado(LocalDate data) {
+        return arquivo.resolveSibling(prefixo + data + sufixo);
+    }
+
+    private void abrir() throws IOException {
+        saida = new BufferedOutputStream(Files.newOutputStream(arquivo, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND), TAMANHO_BUFFER);
+    }
+
+    // Se já existe um arquivo com a data (reinício no mesmo dia), o conteúdo é acrescentado a ele
+    private void mover(LocalDate data) throws IOException {
+        Path destino = rotacionado(data);
+        if (Files.exists(destino)) {
+            try (OutputStream anexo = Files.newOutputStream(destino, StandardOpenOption.APPEND)) {
+                Files.copy(arquivo, anexo);
+            }
+            Files.delete(arquivo);
+        } else {
+            Files.move(arquivo, destino);
+        }
+    }
+
+    private void apagarAntigos(LocalDate hoje) throws IOException {
+        LocalDate limite = hoje.minusDays(historicoDias);
+        try (DirectoryStream<Path> arquivos = Files.newDirectoryStream(arquivo.getParent(), prefixo + "*" + sufixo)) {
+            for (Path rotacionado : arquivos) {
+                String nome = rotacionado.getFileName().toString();
+                String data = nome.substring(prefixo.length(), nome.length() - sufixo.length());
+                try {
+                    if (LocalDate.parse(data).isBefore(limite)) {
+                        Files.deleteIfExists(rotacionado);
+                    }
+                } catch (DateTimeParseException e) {
+                    // Outro arquivo com o mesmo prefixo: não é nosso
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.delivery_api.audit;
+
+/**
+ * Posição da fila de auditoria. Os objetos são criados uma vez, junto com a fila, e reaproveitados:
+ * quem publica preenche os campos, o escritor grava e limpa.
+ */
+final class AuditEvento {
+
+    static final String ACAO_USUARIO = "USER_ACTION";
+    static final String EVENTO_SEGURANCA = "SECURITY_EVENT";
+
+    String tipo;
+    long instante;
+    String correlationId;
+
+    // USER_ACTION
+    String usuarioId;
+    String acao;
+    String recurso;
+    Object detalhes;
+
+    // SECURITY_EVENT
+    String evento;
+    String detalhesSeguranca;
+    boolean sucesso;
+
+    // Solta as referências para não segurar objetos de requisições antigas
+    void limpar() {
+        tipo = null;
+        correlationId = null;
+        usuarioId = null;
+        acao = null;
+        recurso = null;
+        detalhes = null;
+        evento = null;
+        detalhesSeguranca = null;
+    }
+}
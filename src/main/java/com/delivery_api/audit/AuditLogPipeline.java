@@ -0,0 +1,429 @@
+package com.delivery_api.audit;
+
+import com.delivery_api.config.AuditProperties;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Grava os eventos de auditoria fora da thread da requisição.
+ *
+ * Quem publica só reserva uma posição na {@link AuditRingBuffer}, copia os campos e volta; nada de mapa,
+ * JSON ou I/O no caminho da requisição. Uma única thread ("audit-writer") lê os eventos em lotes, codifica
+ * cada um como uma linha JSON com um {@link JsonGenerator} reaproveitado, escreve no buffer do arquivo
+ * (sem passar pelo Logback) e faz um flush por lote. Com {@code delivery.audit.console}, a mesma linha vai
+ * também para o logger "AUDIT" e dele para o stdout, como antes.
+ *
+ * Com a fila cheia vale a {@link AuditProperties.Politica} configurada; eventos descartados são contados
+ * em {@code delivery_audit_eventos_total}. Ao desligar, o escritor grava tudo o que estiver na fila antes
+ * de fechar o arquivo.
+ *
+ * Um erro de escrita (disco cheio, rotação que falhou) ou um evento que não codifica perde só os eventos
+ * afetados, contados em {@code delivery_audit_erros_gravacao_total}: o escritor continua esvaziando a fila,
+ * e quem espera espaço com a política BLOQUEAR não fica preso.
+ */
+@Component
+public class AuditLogPipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLogPipeline.class);
+    private static final Logger auditLog = LoggerFactory.getLogger("AUDIT");
+
+    // Espera do escritor sem eventos; quem publica o acorda antes, se ele estiver parado
+    private static final long ESPERA_OCIOSA_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long ESPERA_BLOQUEIO_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    // Intervalo mínimo entre logs de erro de gravação e entre tentativas de uma rotação que falhou
+    private static final long INTERVALO_ERRO_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final AuditProperties properties;
+    private final Clock relogio;
+    private final AuditRingBuffer fila;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final int ocupacaoAmostragem;
+    private final AtomicLong sequenciaAmostragem = new AtomicLong();
+
+    private final Counter publicados;
+    private final Counter descartadosFilaCheia;
+    private final Counter descartadosAmostragem;
+    private final Counter descartadosEncerramento;
+    private final Counter bloqueios;
+    private final Counter gravados;
+    private final Counter errosGravacao;
+
+    // Usados só pela thread do escritor: cada evento é codificado aqui e então copiado para o arquivo
+    private final ByteArrayOutputStream linha = new ByteArrayOutputStream(1024);
+    private JsonGenerator gerador = criarGerador();
+
+    // Quem espera espaço na fila (política BLOQUEAR) dorme aqui até o escritor liberar um lote
+    private final ReentrantLock esperaEspaco = new ReentrantLock();
+    private final Condition espacoLiberado = esperaEspaco.newCondition();
+    private final AtomicInteger aguardandoEspaco = new AtomicInteger();
+
+    private long ultimoLogErroNanos;
+    private long errosSemLog;
+    private long proximaRotacaoNanos;
+
+    private volatile Thread escritor;
+    private volatile boolean escritorParado;
+    private volatile boolean encerrando;
+
+    @Autowired
+    public AuditLogPipeline(AuditProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    AuditLogPipeline(AuditProperties properties, MeterRegistry meterRegistry, Clock relogio) {
+        this.properties = properties;
+        this.relogio = relogio;
+        this.fila = new AuditRingBuffer(properties.getCapacidade());
+        this.ocupacaoAmostragem = (int) (fila.capacidade() * properties.getAmostragem().getLimiar());
+
+        this.publicados = contador(meterRegistry, "publicado");
+        this.descartadosFilaCheia = contador(meterRegistry, "descartado_fila_cheia");
+        this.descartadosAmostragem = contador(meterRegistry, "descartado_amostragem");
+        this.descartadosEncerramento = contador(meterRegistry, "descartado_encerramento");
+        this.bloqueios = Counter.builder("delivery_audit_bloqueios_total")
+                .description("Publicações que esperaram espaço na fila de auditoria")
+                .register(meterRegistry);
+        this.gravados = Counter.builder("delivery_audit_gravados_total")
+                .description("Eventos de auditoria gravados no arquivo")
+                .register(meterRegistry);
+        this.errosGravacao = Counter.builder("delivery_audit_erros_gravacao_total")
+                .description("Eventos de auditoria perdidos por erro de escrita no arquivo")
+                .register(meterRegistry);
+        Gauge.builder("delivery_audit_fila_eventos", fila, AuditRingBuffer::ocupacao)
+                .description("Eventos de auditoria aguardando gravação")
+                .register(meterRegistry);
+    }
+
+    private static Counter contador(MeterRegistry meterRegistry, String resultado) {
+        return Counter.builder("delivery_audit_eventos_total")
+                .description("Eventos de auditoria recebidos, por resultado da publicação")
+                .tag("resultado", resultado)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void iniciar() throws IOException {
+        AuditArquivoRotativo arquivo = new AuditArquivoRotativo(Path.of(properties.getArquivo()),
+                properties.getHistoricoDias(), LocalDate.now(relogio));
+        Thread thread = new Thread(() -> executar(arquivo), "audit-writer");
+        thread.setDaemon(true);
+        escritor = thread;
+        thread.start();
+    }
+
+    /**
+     * Para de aceitar eventos, espera o escritor gravar os pendentes e fecha o arquivo.
+     */
+    @PreDestroy
+    public void encerrar() throws InterruptedException {
+        encerrando = true;
+        Thread thread = escritor;
+        if (thread == null) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        thread.join(properties.getTempoEncerramento().toMillis());
+        if (thread.isAlive()) {
+            log.warn("Escritor de auditoria não terminou em {}; {} eventos podem não ter sido gravados",
+                    properties.getTempoEncerramento(), fila.ocupacao());
+        }
+    }
+
+    /**
+     * Os {@code detalhes} são copiados aqui, na thread de quem publica (valores simples como estão, os
+     * demais convertidos para {@link JsonNode}): o escritor grava a cópia mais tarde, então alterações
+     * posteriores no objeto ou entidades JPA com sessão já fechada não afetam o que vai para o arquivo.
+     *
+     * @return {@code false} se o evento foi descartado pela política de transbordo ou pelo encerramento
+     */
+    public boolean publicarAcaoUsuario(String usuarioId, String acao, String recurso, Object detalhes,
+                                       String correlationId) {
+        long posicao = reservar();
+        if (posicao < 0) {
+            return false;
+        }
+        AuditEvento evento = fila.evento(posicao);
+        evento.tipo = AuditEvento.ACAO_USUARIO;
+        evento.instante = relogio.millis();
+        evento.correlationId = correlationId;
+        evento.usuarioId = usuarioId;
+        evento.acao = acao;
+        evento.recurso = recurso;
+        evento.detalhes = copiar(detalhes);
+        concluirPublicacao(posicao);
+        return true;
+    }
+
+    /**
+     * @return {@code false} se o evento foi descartado pela política de transbordo ou pelo encerramento
+     */
+    public boolean publicarEventoSeguranca(String nomeEvento, String detalhes, boolean sucesso, String correlationId) {
+        long posicao = reservar();
+        if (posicao < 0) {
+            return false;
+        }
+        AuditEvento evento = fila.evento(posicao);
+        evento.tipo = AuditEvento.EVENTO_SEGURANCA;
+        evento.instante = relogio.millis();
+        evento.correlationId = correlationId;
+        evento.evento = nomeEvento;
+        evento.detalhesSeguranca = detalhes;
+        evento.sucesso = sucesso;
+        concluirPublicacao(posicao);
+        return true;
+    }
+
+    private Object copiar(Object detalhes) {
+        if (detalhes == null || detalhes instanceof String || detalhes instanceof Number
+                || detalhes instanceof Boolean || detalhes instanceof Enum<?>) {
+            return detalhes;
+        }
+        try {
+            return objectMapper.valueToTree(detalhes);
+        } catch (RuntimeException e) {
+            // Não serializa (ex.: proxy JPA não inicializado): grava o texto, ou ao menos o tipo
+            try {
+                return String.valueOf(detalhes);
+            } catch (RuntimeException erroTexto) {
+                return "<" + detalhes.getClass().getName() + ">";
+            }
+        }
+    }
+
+    private long reservar() {
+        if (encerrando) {
+            descartadosEncerramento.increment();
+            return -1;
+        }
+        AuditProperties.Politica politica = properties.getPolitica();
+        if (politica == AuditProperties.Politica.AMOSTRAR && fila.ocupacao() >= ocupacaoAmostragem
+                && sequenciaAmostragem.getAndIncrement() % properties.getAmostragem().getTaxa() != 0) {
+            descartadosAmostragem.increment();
+            return -1;
+        }
+
+        long posicao = fila.tentarReservar();
+        if (posicao >= 0) {
+            return posicao;
+        }
+        if (politica != AuditProperties.Politica.BLOQUEAR) {
+            descartadosFilaCheia.increment();
+            return -1;
+        }
+
+        bloqueios.increment();
+        aguardandoEspaco.incrementAndGet();
+        try {
+            while ((posicao = fila.tentarReservar()) < 0) {
+                if (encerrando) {
+                    descartadosEncerramento.increment();
+                    return -1;
+                }
+                acordarEscritor();
+                // Espera de verdade (sem girar): com poucos núcleos, girar tira CPU justamente do escritor
+                esperaEspaco.lock();
+                try {
+                    if (fila.ocupacao() >= fila.capacidade()) {
+                        espacoLiberado.await(ESPERA_BLOQUEIO_NANOS, TimeUnit.NANOSECONDS);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    descartadosFilaCheia.increment();
+                    return -1;
+                } finally {
+                    esperaEspaco.unlock();
+                }
+            }
+            return posicao;
+        } finally {
+            aguardandoEspaco.decrementAndGet();
+        }
+    }
+
+    private void concluirPublicacao(long posicao) {
+        fila.publicar(posicao);
+        publicados.increment();
+        if (escritorParado) {
+            acordarEscritor();
+        }
+    }
+
+    private void acordarEscritor() {
+        Thread thread = escritor;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void executar(AuditArquivoRotativo arquivo) {
+        try {
+            while (true) {
+                rotacionarSeNecessario(arquivo);
+
+                if (gravarLote(arquivo) > 0) {
+                    continue;
+                }
+                if (fila.ocupacao() > 0) {
+                    // Evento reservado, ainda sendo preenchido: é questão de nanossegundos
+                    Thread.onSpinWait();
+                    continue;
+                }
+                if (encerrando) {
+                    break;
+                }
+                // Marca antes de conferir a fila de novo: quem publicar depois da conferência vê a marca e acorda
+                escritorParado = true;
+                if (fila.ocupacao() == 0 && !encerrando) {
+                    LockSupport.parkNanos(this, ESPERA_OCIOSA_NANOS);
+                }
+                escritorParado = false;
+            }
+        } catch (RuntimeException | Error e) {
+            // Só erros fora de um evento (os de gravação são tratados por evento e por lote)
+            log.error("Escritor de auditoria interrompido; {} eventos na fila não serão gravados", fila.ocupacao(), e);
+            throw e;
+        } finally {
+            try {
+                arquivo.close();
+            } catch (IOException e) {
+                log.error("Erro ao fechar o arquivo de auditoria", e);
+            }
+        }
+    }
+
+    // Uma rotação que falhou é tentada de novo depois de INTERVALO_ERRO_NANOS; até lá, grava no arquivo atual
+    private void rotacionarSeNecessario(AuditArquivoRotativo arquivo) {
+        LocalDate hoje = LocalDate.now(relogio);
+        if (!arquivo.precisaRotacionar(hoje) || System.nanoTime() - proximaRotacaoNanos < 0) {
+            return;
+        }
+        try {
+            arquivo.rotacionar(hoje);
+        } catch (IOException e) {
+            proximaRotacaoNanos = System.nanoTime() + INTERVALO_ERRO_NANOS;
+            log.error("Erro ao rotacionar o arquivo de auditoria; nova tentativa em {}s",
+                    TimeUnit.NANOSECONDS.toSeconds(INTERVALO_ERRO_NANOS), e);
+        }
+    }
+
+    private int gravarLote(AuditArquivoRotativo arquivo) {
+        int quantidade = 0;
+        int escritos = 0;
+        int erros = 0;
+        Exception falha = null;
+        AuditEvento evento;
+        while (quantidade < properties.getTamanhoLote() && (evento = fila.proximo()) != null) {
+            try {
+                escrever(evento);
+                if (properties.isConsole()) {
+                    // Antes do arquivo: com o disco cheio, o evento ainda chega ao stdout
+                    String texto = linha.toString(StandardCharsets.UTF_8);
+                    auditLog.info(texto.substring(0, texto.length() - 1));
+                }
+                linha.writeTo(arquivo.saida());
+                escritos++;
+            } catch (IOException | RuntimeException e) {
+                // O gerador pode ter ficado no meio de um objeto: começa outro
+                gerador = criarGerador();
+                erros++;
+                falha = e;
+            } finally {
+                linha.reset();
+                fila.liberar();
+            }
+            quantidade++;
+        }
+        if (quantidade > 0) {
+            try {
+                if (escritos > 0) {
+                    arquivo.saida().flush();
+                }
+                gravados.increment(escritos);
+            } catch (IOException e) {
+                // Não dá para saber quanto do buffer chegou ao disco: o lote inteiro conta como perdido
+                erros += escritos;
+                falha = e;
+            }
+            if (erros > 0) {
+                registrarErros(erros, falha);
+            }
+            if (aguardandoEspaco.get() > 0) {
+                esperaEspaco.lock();
+                try {
+                    espacoLiberado.signalAll();
+                } finally {
+                    esperaEspaco.unlock();
+                }
+            }
+        }
+        return quantidade;
+    }
+
+    // Com o disco cheio todo lote falha: loga no máximo uma vez a cada INTERVALO_ERRO_NANOS
+    private void registrarErros(int erros, Exception falha) {
+        errosGravacao.increment(erros);
+        errosSemLog += erros;
+        long agora = System.nanoTime();
+        if (ultimoLogErroNanos == 0 || agora - ultimoLogErroNanos >= INTERVALO_ERRO_NANOS) {
+            log.error("{} eventos de auditoria não gravados", errosSemLog, falha);
+            ultimoLogErroNanos = agora;
+            errosSemLog = 0;
+        }
+    }
+
+    // Mesmos campos e ordem do JSON que era montado com LinkedHashMap
+    private void escrever(AuditEvento evento) throws IOException {
+        gerador.writeStartObject();
+        gerador.writeStringField("timestamp", Instant.ofEpochMilli(evento.instante).toString());
+        gerador.writeStringField("type", evento.tipo);
+        if (AuditEvento.ACAO_USUARIO.equals(evento.tipo)) {
+            gerador.writeStringField("userId", evento.usuarioId);
+            gerador.writeStringField("action", evento.acao);
+            gerador.writeStringField("resource", evento.recurso);
+            gerador.writeFieldName("details");
+            gerador.writeObject(evento.detalhes);
+        } else {
+            gerador.writeStringField("event", evento.evento);
+            gerador.writeStringField("details", evento.detalhesSeguranca);
+            gerador.writeBooleanField("success", evento.sucesso);
+        }
+        gerador.writeStringField("correlationId", evento.correlationId);
+        gerador.writeEndObject();
+        gerador.writeRaw('\n');
+        gerador.flush();
+    }
+
+    private JsonGenerator criarGerador() {
+        try {
+            return objectMapper.getFactory().createGenerator(linha);
+        } catch (IOException e) {
+            // Saída em memória: não acontece
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.delivery_api.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fila circular limitada, sem locks, para vários produtores e um único consumidor.
+ *
+ * Cada posição tem um número de sequência que diz de quem é a vez: igual à posição do produtor, está livre;
+ * igual à posição + 1, está publicada e pode ser lida; igual à posição + capacidade, foi lida e está livre
+ * para a próxima volta. O produtor reserva a posição com um CAS na cauda, preenche o evento e publica
+ * (escrita com release); o consumidor só avança a cabeça, sem CAS.
+ */
+final class AuditRingBuffer {
+
+    private final AuditEvento[] eventos;
+    private final AtomicLongArray sequencias;
+    private final int mascara;
+    private final AtomicLong cauda = new AtomicLong();
+    // Alterada só pelo consumidor; volátil para a ocupação vista pelos produtores
+    private volatile long cabeca;
+
+    AuditRingBuffer(int capacidadeMinima) {
+        int capacidade = Integer.highestOneBit(Math.max(2, capacidadeMinima) - 1) << 1;
+        eventos = new AuditEvento[capacidade];
+        sequencias = new AtomicLongArray(capacidade);
+        for (int i = 0; i < capacidade; i++) {
+            eventos[i] = new AuditEvento();
+            sequencias.set(i, i);
+        }
+        mascara = capacidade - 1;
+    }
+
+    /**
+     * @return a posição reservada, a ser preenchida e publicada, ou -1 com a fila cheia
+     */
+    long tentarReservar() {
+        while (true) {
+            long posicao = cauda.get();
+            long diferenca = sequencias.getAcquire(indice(posicao)) - posicao;
+            if (diferenca == 0) {
+                if (cauda.compareAndSet(posicao, posicao + 1)) {
+                    return posicao;
+                }
+            } else if (diferenca < 0) {
+                // A posição ainda guarda o evento da volta anterior, não lido
+                return -1;
+            }
+            // diferenca > 0: outro produtor levou a posição; tenta a seguinte
+        }
+    }
+
+    AuditEvento evento(long posicao) {
+        return eventos[indice(posicao)];
+    }
+
+    void publicar(long posicao) {
+        sequencias.setRelease(indice(posicao), posicao + 1);
+    }
+
+    /**
+     * Só o consumidor chama.
+     *
+     * @return o próximo evento publicado, ou {@code null} se ainda não há (ou está reservado e não publicado)
+     */
+    AuditEvento proximo() {
+        long posicao = cabeca;
+        return sequencias.getAcquire(indice(posicao)) == posicao + 1 ? eventos[indice(posicao)] : null;
+    }
+
+    /**
+     * Só o consumidor chama, depois de gravar o evento devolvido por {@link #proximo()}.
+     */
+    void liberar() {
+        long posicao = cabeca;
+        eventos[indice(posicao)].limpar();
+        sequencias.setRelease(indice(posicao), posicao + eventos.length);
+        cabeca = posicao + 1;
+    }
+
+    /**
+     * Eventos reservados e ainda não lidos (inclui os que estão sendo preenchidos).
+     */
+    int ocupacao() {
+        // A cabeça é lida depois da cauda e pode ter passado dela nesse intervalo
+        return (int) Math.max(0, cauda.get() - cabeca);
+    }
+
+    int capacidade() {
+        return eventos.length;
+    }
+
+    private int indice(long posicao) {
+        return (int) posicao & mascara;
+    }
+}
@@ -0,0 +1,26 @@
+package com.delivery_api.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Canal usado para propagar invalidações do cache local (L1) entre os nós da aplicação.
+ *
+ * Sempre que uma entrada é alterada ou removida em um nó, uma mensagem é publicada
+ * para que os demais nós descartem a cópia local desatualizada.
+ */
+public interface CacheInvalidationChannel {
+
+    /**
+     * Publica uma invalidação para todos os nós inscritos.
+     *
+     * @param message a invalidação a ser propagada.
+     */
+    void publish(CacheInvalidationMessage message);
+
+    /**
+     * Registra um ouvinte que será chamado para cada invalidação recebida.
+     *
+     * @param listener o consumidor das mensagens de invalidação.
+     */
+    void subscribe(Consumer<CacheInvalidationMessage> listener);
+}
@@ -0,0 +1,15 @@
+package com.delivery_api.cache;
+
+/**
+ * Mensagem de invalidação trocada entre os nós.
+ *
+ * @param origem    identificador do nó que publicou a mensagem (usado para ignorar o próprio eco).
+ * @param cacheName nome do cache afetado (ex: "produtos").
+ * @param key       chave invalidada; nulo indica que o cache inteiro deve ser limpo.
+ */
+public record CacheInvalidationMessage(String origem, String cacheName, String key) {
+
+    public boolean isClear() {
+        return key == null;
+    }
+}
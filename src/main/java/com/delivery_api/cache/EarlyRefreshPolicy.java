@@ -0,0 +1,75 @@
+package com.delivery_api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Renovação antecipada probabilística ("XFetch") das entradas de um cache.
+ *
+ * Para cada chave carregada por este nó guarda o instante da carga e quanto ela custou.
+ * Uma leitura decide renovar antes do vencimento quando
+ * {@code agora + custo * beta * -ln(aleatorio) >= vencimento}: quanto mais perto do fim
+ * do TTL e mais cara a carga, maior a chance. Assim, em geral uma única requisição
+ * recarrega a entrada antes que ela expire para todos ao mesmo tempo.
+ */
+public class EarlyRefreshPolicy {
+
+    private final long ttlNanos;
+    private final double beta;
+    private final DoubleSupplier random;
+    private final LongSupplier clock;
+    private final Cache<String, LoadStamp> stamps;
+
+    public EarlyRefreshPolicy(Duration ttl, double beta, long maximumSize) {
+        this(ttl, beta, maximumSize, () -> ThreadLocalRandom.current().nextDouble(), System::nanoTime);
+    }
+
+    EarlyRefreshPolicy(Duration ttl, double beta, long maximumSize, DoubleSupplier random, LongSupplier clock) {
+        this.ttlNanos = ttl.toNanos();
+        this.beta = beta;
+        this.random = random;
+        this.clock = clock;
+        this.stamps = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Registra que a chave acabou de ser carregada da origem, levando {@code computeNanos}.
+     */
+    void recordLoad(String key, long computeNanos) {
+        stamps.put(key, new LoadStamp(clock.getAsLong(), computeNanos));
+    }
+
+    void forget(String key) {
+        stamps.invalidate(key);
+    }
+
+    void forgetAll() {
+        stamps.invalidateAll();
+    }
+
+    /**
+     * Indica se a leitura atual deve renovar a entrada antes do vencimento.
+     * Chaves sem registro de carga (gravadas por outro nó ou via put) nunca são renovadas aqui.
+     */
+    boolean shouldRefresh(String key) {
+        LoadStamp stamp = stamps.getIfPresent(key);
+        if (stamp == null) {
+            return false;
+        }
+        // 1 - nextDouble() fica em (0, 1], evitando ln(0).
+        double sorteio = -Math.log(1.0 - random.getAsDouble());
+        long expiraEm = stamp.loadedAtNanos() + ttlNanos;
+        return clock.getAsLong() + (long) (stamp.computeNanos() * beta * sorteio) >= expiraEm;
+    }
+
+    private record LoadStamp(long loadedAtNanos, long computeNanos) {
+    }
+}
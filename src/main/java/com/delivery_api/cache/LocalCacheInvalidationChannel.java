@@ -0,0 +1,26 @@
+package com.delivery_api.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Canal de invalidação em memória, entregue de forma síncrona aos ouvintes da mesma JVM.
+ * Usado quando a aplicação roda com um único nó e nos testes.
+ */
+public class LocalCacheInvalidationChannel implements CacheInvalidationChannel {
+
+    private final List<Consumer<CacheInvalidationMessage>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(CacheInvalidationMessage message) {
+        for (Consumer<CacheInvalidationMessage> listener : listeners) {
+            listener.accept(message);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,59 @@
+package com.delivery_api.cache;
+
+import com.delivery_api.exception.EntityNotFoundException;
+import com.delivery_api.projection.PedidoDono;
+import com.delivery_api.repository.PedidoRepository;
+import com.delivery_api.repository.ProdutoRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Índice de posse usado pelas checagens de {@code @PreAuthorize}.
+ *
+ * Responde "de quem é este pedido/produto" com uma consulta que lê apenas as chaves estrangeiras,
+ * sem carregar a entidade, e guarda a resposta em memória local. O cliente e o restaurante de
+ * um pedido, assim como o restaurante de um produto, não mudam depois do cadastro, então as
+ * entradas só saem quando a entidade é removida ({@link #removerProduto}; pedidos não são
+ * removidos) ou pelo limite de tamanho, que controla a memória.
+ */
+@Component
+public class OwnershipIndex {
+
+    private static final long TAMANHO_MAXIMO = 50_000;
+
+    @Autowired
+    private PedidoRepository pedidoRepository;
+
+    @Autowired
+    private ProdutoRepository produtoRepository;
+
+    private final Cache<Long, PedidoDono> donosDePedido = Caffeine.newBuilder().maximumSize(TAMANHO_MAXIMO).build();
+    private final Cache<Long, Long> restaurantesDeProduto = Caffeine.newBuilder().maximumSize(TAMANHO_MAXIMO).build();
+
+    /**
+     * @throws EntityNotFoundException se o pedido não existir
+     */
+    public PedidoDono donoDoPedido(Long pedidoId) {
+        return donosDePedido.get(pedidoId, id -> pedidoRepository.findDonoById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Pedido não encontrado")));
+    }
+
+    /**
+     * @throws EntityNotFoundException se o produto não existir
+     */
+    public Long restauranteDoProduto(Long produtoId) {
+        return restaurantesDeProduto.get(produtoId, id -> produtoRepository.findRestauranteIdById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Produto com ID " + id + " não encontrado.")));
+    }
+
+    /**
+     * Esquece o dono de um produto removido: sem isso, a checagem de posse seguiria respondendo
+     * pela entrada antiga (403 para quem não é dono, em vez do 404 da consulta). Chamar depois do
+     * commit da remoção, para que uma leitura concorrente não recoloque a entrada.
+     */
+    public void removerProduto(Long produtoId) {
+        restaurantesDeProduto.invalidate(produtoId);
+    }
+}
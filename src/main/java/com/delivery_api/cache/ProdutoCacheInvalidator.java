@@ -0,0 +1,67 @@
+package com.delivery_api.cache;
+
+import com.delivery_api.util.AposCommit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Invalidação dirigida do cache "produtos".
+ *
+ * Em vez de limpar o cache inteiro a cada escrita, remove apenas as chaves que dependem
+ * do produto alterado: a entrada do próprio ID, as listas do seu restaurante, as listas das
+ * categorias a que pertence (antiga e nova) e a lista completa ("todos").
+ *
+ * As buscas por nome não passam por cache: são respondidas pelo {@code ProdutoSearchIndex}.
+ *
+ * As chaves devem seguir as expressões dos {@code @Cacheable} de {@code ProdutoServiceImpl}.
+ */
+@Component
+public class ProdutoCacheInvalidator {
+
+    public static final String CACHE_PRODUTOS = "produtos";
+
+    // Valores possíveis do parâmetro "disponivel" em buscarProdutosPorRestaurante.
+    private static final Boolean[] FILTROS_DISPONIVEL = {Boolean.TRUE, Boolean.FALSE, null};
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    public ProdutoCacheInvalidator() {
+    }
+
+    ProdutoCacheInvalidator(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Invalida as entradas que dependem de um produto.
+     *
+     * @param produtoId     ID do produto (pode ser nulo em um cadastro ainda não salvo)
+     * @param restauranteId restaurante ao qual o produto pertence
+     * @param categorias    categorias do produto antes e depois da alteração
+     */
+    public void produtoAlterado(Long produtoId, Long restauranteId, String... categorias) {
+        Set<Object> chaves = new LinkedHashSet<>();
+        if (produtoId != null) {
+            chaves.add(produtoId);
+        }
+        for (Boolean disponivel : FILTROS_DISPONIVEL) {
+            chaves.add("restaurante::" + restauranteId + "::disponivel::" + disponivel);
+        }
+        for (String categoria : categorias) {
+            chaves.add("categoria::" + categoria);
+        }
+        chaves.add("todos");
+
+        AposCommit.executar(() -> {
+            Cache produtos = Objects.requireNonNull(cacheManager.getCache(CACHE_PRODUTOS));
+            chaves.forEach(produtos::evict);
+        });
+    }
+}
@@ -0,0 +1,87 @@
+package com.delivery_api.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Canal de invalidação baseado em Redis Pub/Sub.
+ * Cada nó publica no mesmo tópico e todos os nós (inclusive o emissor) recebem a mensagem.
+ *
+ * O container de listeners é iniciado por este canal, e não automaticamente pelo Spring,
+ * para que a aplicação suba mesmo com o Redis indisponível. Nesse caso as cópias locais
+ * continuam limitadas pelo TTL do L1.
+ */
+public class RedisCacheInvalidationChannel implements CacheInvalidationChannel, SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisCacheInvalidationChannel.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ChannelTopic topic;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private volatile boolean running;
+
+    public RedisCacheInvalidationChannel(StringRedisTemplate redisTemplate,
+                                         RedisMessageListenerContainer listenerContainer,
+                                         String topic) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.topic = new ChannelTopic(topic);
+    }
+
+    @Override
+    public void publish(CacheInvalidationMessage message) {
+        try {
+            redisTemplate.convertAndSend(topic.getTopic(), objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            logger.error("Erro ao serializar invalidação de cache: {}", message, e);
+        } catch (RuntimeException e) {
+            // A invalidação local já foi aplicada; os outros nós expiram a entrada pelo TTL do L1.
+            logger.warn("Falha ao publicar invalidação de cache no Redis: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            try {
+                listener.accept(objectMapper.readValue(body, CacheInvalidationMessage.class));
+            } catch (JsonProcessingException e) {
+                logger.warn("Mensagem de invalidação de cache inválida ignorada: {}", body);
+            }
+        }, topic);
+    }
+
+    @Override
+    public void start() {
+        try {
+            listenerContainer.start();
+        } catch (RuntimeException e) {
+            logger.warn("Não foi possível assinar o tópico de invalidação de cache '{}': {}", topic.getTopic(), e.getMessage());
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        if (listenerContainer.isRunning()) {
+            listenerContainer.stop();
+        }
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,285 @@
+package com.delivery_api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Cache de dois níveis: um L1 local (Caffeine) na frente de um L2 compartilhado (Redis).
+ *
+ * Leituras consultam primeiro o L1 e só vão ao L2 em caso de falta, repovoando o L1.
+ * Escritas e remoções são aplicadas nos dois níveis e publicadas no
+ * {@link CacheInvalidationChannel} para que os outros nós descartem a cópia local.
+ *
+ * Cargas via {@link #get(Object, Callable)} (usado pelo {@code @Cacheable(sync = true)}) são
+ * "single-flight": por nó, apenas uma chamada executa o loader de uma chave e as demais
+ * aguardam o mesmo resultado. Com uma {@link EarlyRefreshPolicy} configurada, entradas
+ * próximas do vencimento são renovadas antecipadamente por uma única requisição.
+ */
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final Cache<String, Object> local;
+    private final org.springframework.cache.Cache remote;
+    private final CacheInvalidationChannel invalidationChannel;
+    private final String nodeId;
+    private final EarlyRefreshPolicy earlyRefresh;
+
+    // Cargas em andamento por chave; quem chega durante uma carga espera o mesmo futuro.
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+    private final Counter coalescedWaiters;
+    private final Counter refreshAhead;
+
+    public TwoLevelCache(String name,
+                         Cache<String, Object> local,
+                         org.springframework.cache.Cache remote,
+                         CacheInvalidationChannel invalidationChannel,
+                         String nodeId,
+                         MeterRegistry meterRegistry) {
+        this(name, local, remote, invalidationChannel, nodeId, meterRegistry, null);
+    }
+
+    public TwoLevelCache(String name,
+                         Cache<String, Object> local,
+                         org.springframework.cache.Cache remote,
+                         CacheInvalidationChannel invalidationChannel,
+                         String nodeId,
+                         MeterRegistry meterRegistry,
+                         EarlyRefreshPolicy earlyRefresh) {
+        super(false);
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.invalidationChannel = invalidationChannel;
+        this.nodeId = nodeId;
+        this.earlyRefresh = earlyRefresh;
+
+        this.l1Hits = requestCounter(meterRegistry, "l1", "hit");
+        this.l1Misses = requestCounter(meterRegistry, "l1", "miss");
+        this.l2Hits = requestCounter(meterRegistry, "l2", "hit");
+        this.l2Misses = requestCounter(meterRegistry, "l2", "miss");
+        this.coalescedWaiters = Counter.builder("delivery_cache_coalesced_waiters_total")
+                .description("Chamadas que aguardaram uma carga já em andamento em vez de ir à origem")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.refreshAhead = Counter.builder("delivery_cache_refresh_ahead_total")
+                .description("Entradas renovadas antecipadamente antes do vencimento do TTL")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    private Counter requestCounter(MeterRegistry meterRegistry, String level, String result) {
+        return Counter.builder("delivery_cache_requests_total")
+                .description("Consultas ao cache de dois níveis, por nível e resultado")
+                .tag("cache", name)
+                .tag("level", level)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = localKey(key);
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            l1Hits.increment();
+            return value;
+        }
+        l1Misses.increment();
+
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper == null || wrapper.get() == null) {
+            l2Misses.increment();
+            return null;
+        }
+        l2Hits.increment();
+        local.put(localKey, wrapper.get());
+        return wrapper.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object cached = lookup(key);
+        if (cached == null) {
+            return (T) load(key, valueLoader, false);
+        }
+        if (earlyRefresh != null && earlyRefresh.shouldRefresh(localKey(key))) {
+            Object refreshed = load(key, valueLoader, true);
+            if (refreshed != null) {
+                return (T) refreshed;
+            }
+        }
+        return (T) cached;
+    }
+
+    /**
+     * Carrega a chave na origem com no máximo uma execução do loader por vez neste nó.
+     * Em uma renovação antecipada ({@code refresh}), se outra chamada já está carregando
+     * a chave não há espera: devolve {@code null} e o chamador segue com o valor que já tinha.
+     */
+    private Object load(Object key, Callable<?> valueLoader, boolean refresh) {
+        String localKey = localKey(key);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(localKey, flight);
+        if (existing != null) {
+            if (refresh) {
+                return null;
+            }
+            coalescedWaiters.increment();
+            return await(existing, key, valueLoader);
+        }
+
+        try {
+            // Outra carga pode ter terminado entre o lookup e a reserva da chave.
+            Object value = refresh ? null : local.getIfPresent(localKey);
+            if (value == null) {
+                long inicio = System.nanoTime();
+                value = valueLoader.call();
+                long custo = System.nanoTime() - inicio;
+                if (value != null) {
+                    remote.put(key, value);
+                    local.put(localKey, value);
+                    if (earlyRefresh != null) {
+                        earlyRefresh.recordLoad(localKey, custo);
+                    }
+                    if (refresh) {
+                        refreshAhead.increment();
+                        // Os outros nós ainda têm o valor antigo no L1.
+                        publish(localKey);
+                    }
+                }
+            }
+            flight.complete(value);
+            return value;
+        } catch (Throwable ex) {
+            flight.completeExceptionally(ex);
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        } finally {
+            inFlight.remove(localKey, flight);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> flight, Object key, Callable<?> valueLoader) {
+        try {
+            return flight.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        } catch (ExecutionException ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex.getCause());
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            // Valores nulos não são cacheados (mesma política do Redis); apenas remove o que existir.
+            evict(key);
+            return;
+        }
+        remote.put(key, value);
+        local.put(localKey(key), value);
+        forgetLoad(localKey(key));
+        publish(localKey(key));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        if (existing != null && existing.get() != null) {
+            local.put(localKey(key), existing.get());
+            return new SimpleValueWrapper(existing.get());
+        }
+        if (value != null) {
+            local.put(localKey(key), value);
+            publish(localKey(key));
+        }
+        return null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(localKey(key));
+        forgetLoad(localKey(key));
+        publish(localKey(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean removed = remote.evictIfPresent(key);
+        local.invalidate(localKey(key));
+        forgetLoad(localKey(key));
+        publish(localKey(key));
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        if (earlyRefresh != null) {
+            earlyRefresh.forgetAll();
+        }
+        publish(null);
+    }
+
+    /**
+     * Aplica uma invalidação recebida de outro nó apenas no L1 local.
+     * O L2 já foi atualizado pelo nó de origem.
+     */
+    void onInvalidation(CacheInvalidationMessage message) {
+        if (nodeId.equals(message.origem())) {
+            return;
+        }
+        if (message.isClear()) {
+            local.invalidateAll();
+            if (earlyRefresh != null) {
+                earlyRefresh.forgetAll();
+            }
+        } else {
+            local.invalidate(message.key());
+            forgetLoad(message.key());
+        }
+    }
+
+    private void forgetLoad(String localKey) {
+        if (earlyRefresh != null) {
+            earlyRefresh.forget(localKey);
+        }
+    }
+
+    private void publish(String key) {
+        invalidationChannel.publish(new CacheInvalidationMessage(nodeId, name, key));
+    }
+
+    // As chaves do Redis são convertidas para String; o L1 usa a mesma representação
+    // para que "1" e 1L apontem para a mesma entrada nos dois níveis e entre nós.
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,95 @@
+package com.delivery_api.cache;
+
+import com.delivery_api.config.NearCacheProperties;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link CacheManager} composto que coloca um cache local limitado (L1, Caffeine)
+ * na frente de outro gerenciador de cache compartilhado (L2, normalmente o Redis).
+ *
+ * O tamanho e o TTL do L1 são definidos por nome de cache em {@link NearCacheProperties}.
+ * Quando a renovação antecipada está ligada, cada cache recebe uma {@link EarlyRefreshPolicy}
+ * calculada sobre o TTL do cache remoto.
+ */
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final CacheManager remoteCacheManager;
+    private final NearCacheProperties properties;
+    private final CacheInvalidationChannel invalidationChannel;
+    private final MeterRegistry meterRegistry;
+    private final Duration remoteTtl;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager,
+                                NearCacheProperties properties,
+                                CacheInvalidationChannel invalidationChannel,
+                                MeterRegistry meterRegistry) {
+        this(remoteCacheManager, properties, invalidationChannel, meterRegistry, null);
+    }
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager,
+                                NearCacheProperties properties,
+                                CacheInvalidationChannel invalidationChannel,
+                                MeterRegistry meterRegistry,
+                                Duration remoteTtl) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.properties = properties;
+        this.invalidationChannel = invalidationChannel;
+        this.meterRegistry = meterRegistry;
+        this.remoteTtl = remoteTtl;
+
+        invalidationChannel.subscribe(message -> {
+            TwoLevelCache cache = caches.get(message.cacheName());
+            if (cache != null) {
+                cache.onInvalidation(message);
+            }
+        });
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    private TwoLevelCache createCache(String name) {
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            throw new IllegalStateException("Cache remoto não encontrado: " + name);
+        }
+
+        NearCacheProperties.Spec spec = properties.specFor(name);
+        com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                .maximumSize(spec.getMaximumSize())
+                .expireAfterWrite(spec.getTtl())
+                .build();
+
+        EarlyRefreshPolicy earlyRefresh = null;
+        NearCacheProperties.RefreshAhead refreshAhead = properties.getRefreshAhead();
+        if (refreshAhead.isEnabled() && remoteTtl != null) {
+            earlyRefresh = new EarlyRefreshPolicy(remoteTtl, refreshAhead.getBeta(), spec.getMaximumSize());
+        }
+
+        return new TwoLevelCache(name, local, remote, invalidationChannel, nodeId, meterRegistry, earlyRefresh);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+}
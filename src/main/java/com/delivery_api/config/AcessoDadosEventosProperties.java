@@ -0,0 +1,49 @@
+package com.delivery_api.config;
+
+import lombok.Data;
+import org.slf4j.event.Level;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "delivery.eventos-acesso") // Eventos de falta no cache e de invalidação dos serviços
+@Data
+public class AcessoDadosEventosProperties {
+
+    /**
+     * Desligado, {@code registrar} volta na primeira linha: sem contador e sem log.
+     */
+    private boolean habilitado = true;
+
+    /**
+     * Leituras que foram ao banco por falta no cache.
+     */
+    private Amostragem cacheMiss = new Amostragem(Level.DEBUG, 100);
+
+    /**
+     * Gravações que limparam o cache.
+     */
+    private Amostragem invalidacao = new Amostragem(Level.INFO, 1);
+
+    @Data
+    public static class Amostragem {
+
+        /**
+         * Nível do log do evento; também precisa estar habilitado no logger.
+         */
+        private Level nivel;
+
+        /**
+         * Loga em média 1 a cada {@code taxa} eventos (1 loga todos, 0 nenhum). O contador conta todos.
+         */
+        private int taxa;
+
+        public Amostragem() {
+        }
+
+        public Amostragem(Level nivel, int taxa) {
+            this.nivel = nivel;
+            this.taxa = taxa;
+        }
+    }
+}
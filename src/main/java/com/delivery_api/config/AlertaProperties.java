@@ -0,0 +1,69 @@
+package com.delivery_api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "delivery.alertas") // Regras de alerta sobre as janelas recentes da criação de pedidos
+@Data
+public class AlertaProperties {
+
+    /**
+     * Intervalo entre verificações (lido pelo @Scheduled de AlertServiceImpl).
+     */
+    private Duration intervalo = Duration.ofSeconds(10);
+
+    /**
+     * Mínimo de chamadas na janela longa de uma regra para ela poder disparar.
+     */
+    private long volumeMinimo = 10;
+
+    /**
+     * Fração de chamadas sem erro prometida; o que sobra é o orçamento de erros (0.99 -> 1%).
+     */
+    private double objetivoSucesso = 0.99;
+
+    /**
+     * Um alerta disparado só é resolvido quando o valor na janela longa cai abaixo de limiar * fatorResolucao,
+     * para não ficar disparando e resolvendo em torno do limiar.
+     */
+    private double fatorResolucao = 0.8;
+
+    /**
+     * Regras de consumo do orçamento de erros: disparam quando a taxa de erro dividida pelo orçamento passa
+     * do limiar nas duas janelas (a curta confirma que o problema ainda está acontecendo).
+     */
+    private List<Regra> taxaErro = new ArrayList<>(List.of(
+            new Regra("CRITICAL", Duration.ofMinutes(1), Duration.ofMinutes(5), 14.4),
+            new Regra("WARNING", Duration.ofMinutes(5), Duration.ofMinutes(15), 6)));
+
+    /**
+     * Regras de latência: disparam quando o p99, em milissegundos, passa do limiar nas duas janelas.
+     */
+    private List<Regra> latencia = new ArrayList<>(List.of(
+            new Regra("WARNING", Duration.ofMinutes(1), Duration.ofMinutes(5), 1000)));
+
+    @Data
+    public static class Regra {
+
+        private String severidade;
+        private Duration janelaCurta;
+        private Duration janelaLonga;
+        private double limiar;
+
+        public Regra() {
+        }
+
+        public Regra(String severidade, Duration janelaCurta, Duration janelaLonga, double limiar) {
+            this.severidade = severidade;
+            this.janelaCurta = janelaCurta;
+            this.janelaLonga = janelaLonga;
+            this.limiar = limiar;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.delivery_api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "delivery.audit") // Fila e arquivo do log de auditoria (AuditLogPipeline)
+@Data
+public class AuditProperties {
+
+    /**
+     * O que fazer quando a fila está cheia.
+     */
+    public enum Politica {
+        /** A thread da requisição espera por espaço: nenhum evento se perde. */
+        BLOQUEAR,
+        /** O evento é descartado (e contado). */
+        DESCARTAR,
+        /** Acima do limiar de ocupação, só 1 a cada {@code taxa} eventos entra; com a fila cheia, descarta. */
+        AMOSTRAR
+    }
+
+    /**
+     * Eventos na fila em memória; arredondado para a próxima potência de 2.
+     */
+    private int capacidade = 8192;
+
+    /**
+     * Máximo de eventos gravados entre dois flushes do arquivo.
+     */
+    private int tamanhoLote = 512;
+
+    private Politica politica = Politica.BLOQUEAR;
+
+    private Amostragem amostragem = new Amostragem();
+
+    /**
+     * Arquivo corrente; os dias anteriores viram "nome.aaaa-mm-dd.log" no mesmo diretório.
+     */
+    private String arquivo = "logs/delivery-api-audit.log";
+
+    /**
+     * Dias de arquivos rotacionados mantidos.
+     */
+    private int historicoDias = 365;
+
+    /**
+     * Também envia cada linha ao logger "AUDIT" (CONSOLE_JSON, no stdout), como antes do AuditLogPipeline;
+     * desligar se o stdout não for coletado.
+     */
+    private boolean console = true;
+
+    /**
+     * Tempo máximo para gravar os eventos pendentes ao desligar a aplicação.
+     */
+    private Duration tempoEncerramento = Duration.ofSeconds(10);
+
+    @Data
+    public static class Amostragem {
+
+        /**
+         * Fração de ocupação da fila a partir da qual a amostragem começa.
+         */
+        private double limiar = 0.75;
+
+        /**
+         * Mantém 1 a cada {@code taxa} eventos durante a amostragem.
+         */
+        private int taxa = 10;
+    }
+}
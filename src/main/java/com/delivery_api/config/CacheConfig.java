@@ -1,8 +1,17 @@
 package com.delivery_api.config;
 
+import com.delivery_api.cache.CacheInvalidationChannel;
+import com.delivery_api.cache.RedisCacheInvalidationChannel;
+import com.delivery_api.cache.TwoLevelCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -14,10 +23,18 @@ import java.time.Duration;
  *
  * Esta classe estabelece o comportamento padrão para todos os caches da aplicação,
  * garantindo consistência e as melhores práticas de serialização.
+ *
+ * Os caches são servidos em dois níveis: um cache local em memória (L1, Caffeine)
+ * na frente do Redis (L2). Ver {@link TwoLevelCacheManager}.
  */
 @Configuration
 public class CacheConfig {
 
+    /**
+     * TTL das entradas no Redis. Também é a base da renovação antecipada do {@link TwoLevelCacheManager}.
+     */
+    static final Duration REDIS_TTL = Duration.ofMinutes(10);
+
     /**
      * Define a configuração padrão para todos os caches gerenciados pelo Spring.
      * Ao criar este Bean, o Spring Boot o utilizará automaticamente para o RedisCacheManager.
@@ -30,7 +47,7 @@ public class CacheConfig {
 
                 // Define um tempo de vida (TTL) padrão para as entradas de cache.
                 // Após 10 minutos de inatividade, a entrada expira e será buscada do banco novamente.
-                .entryTtl(Duration.ofMinutes(10))
+                .entryTtl(REDIS_TTL)
 
                 // Desabilita o cache de valores nulos. Isso evita que uma busca por um
                 // dado inexistente seja cacheada, garantindo que a aplicação tente buscar
@@ -47,4 +64,40 @@ public class CacheConfig {
                 // e armazena os dados em formato JSON, que é legível e interoperável.
                 .serializeValuesWith(SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()));
     }
-}
\ No newline at end of file
+
+    /**
+     * Gerenciador de cache da aplicação: L1 local por nó na frente do RedisCacheManager.
+     * Ao declarar este Bean, a auto-configuração de cache do Spring Boot deixa de criar o seu próprio.
+     */
+    @Bean
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     RedisCacheConfiguration redisCacheConfiguration,
+                                     NearCacheProperties nearCacheProperties,
+                                     CacheInvalidationChannel cacheInvalidationChannel,
+                                     MeterRegistry meterRegistry) {
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(redisCacheConfiguration)
+                .build();
+        redisCacheManager.afterPropertiesSet();
+
+        return new TwoLevelCacheManager(redisCacheManager, nearCacheProperties, cacheInvalidationChannel,
+                meterRegistry, REDIS_TTL);
+    }
+
+    /**
+     * Canal Pub/Sub que leva as invalidações do L1 a todos os nós da aplicação.
+     */
+    @Bean
+    public CacheInvalidationChannel cacheInvalidationChannel(StringRedisTemplate stringRedisTemplate,
+                                                             RedisConnectionFactory connectionFactory,
+                                                             NearCacheProperties nearCacheProperties) {
+        // O container não é exposto como Bean: quem o inicia é o próprio canal,
+        // que tolera o Redis fora do ar durante a subida da aplicação.
+        RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+
+        return new RedisCacheInvalidationChannel(stringRedisTemplate, listenerContainer,
+                nearCacheProperties.getInvalidationTopic());
+    }
+}
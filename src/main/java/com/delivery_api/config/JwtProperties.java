@@ -4,6 +4,8 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 import lombok.Data;
 
+import java.time.Duration;
+
 @Component
 @ConfigurationProperties(prefix = "jwt") // Diz ao Spring para buscar propriedades que começam com "jwt"
 @Data // Lombok para gerar getters e setters
@@ -20,4 +22,16 @@ public class JwtProperties {
      * Padrão: 86400000 (24 horas).
      */
     private Long expiration;
+
+    /**
+     * Monta o principal direto das claims do token verificado (userId, role, restauranteId),
+     * sem buscar o usuário no cache/banco a cada requisição. Desligado por padrão.
+     */
+    private boolean statelessPrincipal = false;
+
+    /**
+     * Intervalo de recarga, a partir do banco, dos IDs de usuários desativados
+     * consultados no modo {@link #statelessPrincipal}.
+     */
+    private Duration disabledUsersRefresh = Duration.ofSeconds(30);
 }
\ No newline at end of file
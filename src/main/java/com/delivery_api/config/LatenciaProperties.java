@@ -0,0 +1,64 @@
+package com.delivery_api.config;
+
+import com.delivery_api.metrics.OperacaoLatencia;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "delivery.latencia") // Percentis e SLOs dos timers de pedidos e autenticação
+@Data
+public class LatenciaProperties {
+
+    /**
+     * Percentis calculados na aplicação, sobre a janela de {@link #expiracao}, para o dashboard e os alertas.
+     * O Prometheus não os recebe (timer com buckets sai como histograma): lá, use histogram_quantile.
+     */
+    private List<Double> percentis = List.of(0.5, 0.95, 0.99);
+
+    /**
+     * Publica os buckets do histograma para o Prometheus calcular percentis agregando as instâncias.
+     */
+    private boolean histograma = true;
+
+    /**
+     * Janela dos percentis: amostras mais antigas que isso deixam de contar.
+     */
+    private Duration expiracao = Duration.ofMinutes(2);
+
+    /**
+     * Em quantas partes a janela gira (mais partes, descarte mais gradual).
+     */
+    private int partesJanela = 4;
+
+    /**
+     * Limites do histograma publicado.
+     */
+    private Duration minimoEsperado = Duration.ofMillis(1);
+    private Duration maximoEsperado = Duration.ofSeconds(30);
+
+    /**
+     * Quanto tempo de histórico a janela deslizante dos alertas guarda, em baldes de um segundo.
+     */
+    private Duration horizonteAlertas = Duration.ofMinutes(15);
+
+    /**
+     * SLOs das operações sem entrada em {@link #slos}.
+     */
+    private List<Duration> slosPadrao = List.of(Duration.ofMillis(100), Duration.ofMillis(250),
+            Duration.ofMillis(500), Duration.ofSeconds(1));
+
+    /**
+     * SLOs por operação, pela chave de {@link OperacaoLatencia#chave()} (ex: "pedido-criacao").
+     */
+    private Map<String, List<Duration>> slos = new HashMap<>();
+
+    public List<Duration> slosPara(OperacaoLatencia operacao) {
+        return slos.getOrDefault(operacao.chave(), slosPadrao);
+    }
+}
@@ -4,6 +4,10 @@ import org.modelmapper.ModelMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+/**
+ * ModelMapper usado apenas na entrada (DTO de requisição para entidade).
+ * As respostas usam os mappers escritos à mão de {@code com.delivery_api.mapper}.
+ */
 @Configuration
 public class ModelMapperConfig {
 
@@ -0,0 +1,67 @@
+package com.delivery_api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "delivery.cache.near") // Propriedades do cache local (L1) em frente ao Redis
+@Data
+public class NearCacheProperties {
+
+    /**
+     * Configuração usada pelos caches que não possuem uma entrada própria em {@link #caches}.
+     */
+    private Spec defaultSpec = new Spec();
+
+    /**
+     * Configuração específica por nome de cache (ex: "produtos", "usuarios").
+     */
+    private Map<String, Spec> caches = new HashMap<>();
+
+    /**
+     * Tópico Redis Pub/Sub usado para propagar invalidações do L1 entre os nós.
+     */
+    private String invalidationTopic = "delivery:cache:invalidation";
+
+    /**
+     * Renovação antecipada probabilística das entradas, antes do vencimento do TTL do Redis.
+     */
+    private RefreshAhead refreshAhead = new RefreshAhead();
+
+    public Spec specFor(String cacheName) {
+        return caches.getOrDefault(cacheName, defaultSpec);
+    }
+
+    @Data
+    public static class Spec {
+
+        /**
+         * Número máximo de entradas mantidas em memória.
+         */
+        private long maximumSize = 1000;
+
+        /**
+         * Tempo de vida de cada entrada no L1. Deve ser menor que o TTL do Redis.
+         */
+        private Duration ttl = Duration.ofSeconds(60);
+    }
+
+    @Data
+    public static class RefreshAhead {
+
+        /**
+         * Liga a renovação antecipada. Só vale para métodos com {@code @Cacheable(sync = true)}.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Agressividade da renovação: valores maiores que 1 renovam mais cedo.
+         */
+        private double beta = 1.0;
+    }
+}
@@ -0,0 +1,30 @@
+package com.delivery_api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "delivery.painel") // Envio das métricas do dashboard por server-sent events
+@Data
+public class PainelProperties {
+
+    /**
+     * Intervalo entre snapshots: as métricas são lidas e serializadas uma vez por intervalo, para todos os
+     * dashboards abertos.
+     */
+    private Duration intervalo = Duration.ofSeconds(2);
+
+    /**
+     * Tempo máximo de uma conexão SSE; o EventSource do navegador reconecta sozinho ao fim dela.
+     */
+    private Duration timeoutConexao = Duration.ofMinutes(30);
+
+    /**
+     * Threads que gravam os snapshots nas conexões. Um cliente lento ocupa uma delas até a gravação terminar,
+     * sem atrasar o snapshot seguinte.
+     */
+    private int threadsEnvio = 2;
+}
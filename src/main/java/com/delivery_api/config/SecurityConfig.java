@@ -3,6 +3,7 @@ package com.delivery_api.config;
 import com.delivery_api.security.CustomAccessDeniedHandler;
 import com.delivery_api.security.CustomAuthenticationEntryPoint;
 import com.delivery_api.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
@@ -68,6 +69,8 @@ public class SecurityConfig {
                 )
 
                 .authorizeHttpRequests(authorize -> authorize
+                        // O despacho assíncrono que encerra um SSE já foi autorizado na requisição original
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/swagger-ui/**",
                                 "/swagger-ui.html",
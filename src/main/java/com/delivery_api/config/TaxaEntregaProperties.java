@@ -0,0 +1,35 @@
+package com.delivery_api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "delivery.taxa-entrega") // Faixas de distância somadas à taxa base do restaurante
+@Data
+public class TaxaEntregaProperties {
+
+    /**
+     * Faixas de distância (em linha reta) entre o restaurante e o CEP de entrega. A primeira faixa cujo
+     * limite cobre a distância define o acréscimo; além da última, o endereço está fora da área de entrega.
+     */
+    private List<Faixa> faixas = new ArrayList<>();
+
+    @Data
+    public static class Faixa {
+
+        /**
+         * Distância máxima da faixa, em km.
+         */
+        private double ateKm;
+
+        /**
+         * Valor somado à taxa de entrega do restaurante.
+         */
+        private BigDecimal acrescimo = BigDecimal.ZERO;
+    }
+}
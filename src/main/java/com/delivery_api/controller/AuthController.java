@@ -4,6 +4,8 @@ import com.delivery_api.dto.LoginRequest;
 import com.delivery_api.dto.LoginResponse;
 import com.delivery_api.dto.RegisterRequest;
 import com.delivery_api.dto.UserResponse;
+import com.delivery_api.metrics.MedirLatencia;
+import com.delivery_api.metrics.OperacaoLatencia;
 import com.delivery_api.model.Usuario;
 import com.delivery_api.security.JwtUtil;
 import com.delivery_api.service.impl.UsuarioServiceImpl;
@@ -51,6 +53,7 @@ public class AuthController {
         @ApiResponse(responseCode = "401", description = "Credenciais inválidas")
     })
     @PostMapping("/login")
+    @MedirLatencia(OperacaoLatencia.AUTH_LOGIN)
     public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest loginRequest) {
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getSenha())
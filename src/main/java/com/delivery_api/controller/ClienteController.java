@@ -15,6 +15,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/clientes")
@@ -68,6 +69,50 @@ public class ClienteController {
         return ResponseEntity.ok(clientes);
     }
 
+    @GetMapping("/buscar")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Buscar clientes por nome (Admin)",
+               description = "Busca aproximada: ignora acentos, tolera erros de digitação e ordena pela relevância.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Clientes encontrados"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "403", description = "Acesso negado")
+    })
+    public ResponseEntity<List<ClienteResponseDTO>> buscarPorNome(
+            @RequestParam String nome,
+            @RequestParam(defaultValue = "true") boolean apenasAtivos,
+            @RequestParam(defaultValue = "20") int quantidade) {
+        List<ClienteResponseDTO> clientes = clienteService.buscarClientesPorNome(nome, apenasAtivos, quantidade);
+        return ResponseEntity.ok(clientes);
+    }
+
+    @GetMapping("/ids-por-cidade")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "IDs dos clientes ativos por cidade (Admin)",
+               description = "Para segmentação de campanhas: várias cidades em uma única consulta, ignorando acentos e maiúsculas.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Clientes agrupados por cidade"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "403", description = "Acesso negado")
+    })
+    public ResponseEntity<Map<String, List<Long>>> buscarIdsPorCidade(@RequestParam List<String> cidades) {
+        Map<String, List<Long>> idsPorCidade = clienteService.buscarIdsAtivosPorCidades(cidades);
+        return ResponseEntity.ok(idsPorCidade);
+    }
+
+    @PostMapping("/cidades/preenchimento")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Preencher a cidade dos clientes a partir do endereço (Admin)",
+               description = "Processa em lotes os clientes ainda sem cidade e retorna quantos foram atualizados.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Preenchimento concluído"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "403", description = "Acesso negado")
+    })
+    public ResponseEntity<Integer> preencherCidades() {
+        return ResponseEntity.ok(clienteService.preencherCidades());
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or #id == principal.id")
     @Operation(summary = "Atualizar cliente (Admin ou Próprio Cliente)")
@@ -1,7 +1,9 @@
 package com.delivery_api.controller;
 
 import com.delivery_api.dto.*;
+import com.delivery_api.enums.FormatoExportacao;
 import com.delivery_api.enums.StatusPedido;
+import com.delivery_api.service.PedidoExportService;
 import com.delivery_api.service.PedidoService;
 // 🔹 IMPORTS DO SWAGGER
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,11 +16,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -32,6 +37,9 @@ public class PedidoController {
     @Autowired
     private PedidoService pedidoService;
 
+    @Autowired
+    private PedidoExportService pedidoExportService;
+
     @PostMapping
     @PreAuthorize("hasRole('CLIENTE')")
     @Operation(summary = "Criar um novo pedido (Cliente)",
@@ -69,7 +77,8 @@ public class PedidoController {
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Listar todos os pedidos (Admin)",
-               description = "Lista todos os pedidos do sistema com filtros opcionais e paginação. O Springdoc adiciona automaticamente os parâmetros para paginação (page, size, sort).")
+               description = "Lista todos os pedidos do sistema com filtros opcionais e paginação. O Springdoc adiciona automaticamente os parâmetros para paginação (page, size, sort). " +
+                             "Com o parâmetro 'cursor', usa paginação por cursor em (dataPedido, id), mais recentes primeiro, sem OFFSET.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Lista de pedidos recuperada com sucesso"),
         @ApiResponse(responseCode = "401", description = "Não autorizado"),
@@ -79,7 +88,14 @@ public class PedidoController {
             @Parameter(description = "Filtrar por status do pedido") @RequestParam(required = false) StatusPedido status,
             @Parameter(description = "Filtrar por data inicial (formato YYYY-MM-DD)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
             @Parameter(description = "Filtrar por data final (formato YYYY-MM-DD)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim,
+            @Parameter(description = "Paginação por cursor: vazio para a primeira página, depois o token de links.next. Ignora 'page' e 'sort'.") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Na paginação por cursor, calcula também o total de itens (COUNT)") @RequestParam(defaultValue = "false") boolean incluirTotal,
             Pageable pageable) {
+        if (cursor != null) {
+            CursorPage<PedidoResponseDTO> pedidos =
+                    pedidoService.listarPedidosPorCursor(status, dataInicio, dataFim, cursor, pageable.getPageSize(), incluirTotal);
+            return ResponseEntity.ok(new PagedResponseWrapper<>(pedidos));
+        }
         Page<PedidoResponseDTO> pedidos =
                 pedidoService.listarPedidos(status, dataInicio, dataFim, pageable);
         PagedResponseWrapper<PedidoResponseDTO> response =
@@ -87,6 +103,29 @@ public class PedidoController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/exportacao")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Exportar pedidos de um período (Admin)",
+               description = "Exporta os pedidos do período, com seus itens, em NDJSON (um pedido por linha) ou CSV (uma linha por item). " +
+                             "A resposta é escrita à medida que os pedidos são lidos do banco, sem carregar o período inteiro em memória.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Exportação gerada"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "403", description = "Acesso negado")
+    })
+    public void exportar(
+            @Parameter(description = "Data inicial (formato YYYY-MM-DD)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
+            @Parameter(description = "Data final, inclusive (formato YYYY-MM-DD)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim,
+            @Parameter(description = "Filtrar por status do pedido") @RequestParam(required = false) StatusPedido status,
+            @Parameter(description = "NDJSON ou CSV") @RequestParam(defaultValue = "NDJSON") FormatoExportacao formato,
+            HttpServletResponse response) throws IOException {
+        response.setContentType(formato.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"pedidos-" + dataInicio + "-" + dataFim + "." + formato.getExtensao() + "\"");
+        pedidoExportService.exportarPedidos(dataInicio, dataFim, status, formato, response.getOutputStream());
+    }
+
     @PatchMapping("/{id}/status")
     @PreAuthorize("hasRole('ADMIN') or (hasRole('RESTAURANTE') and @pedidoServiceImpl.isRestaurantOwner(#id))")
     @Operation(summary = "Atualizar status do pedido (Admin ou Restaurante)",
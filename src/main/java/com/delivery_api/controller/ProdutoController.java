@@ -10,6 +10,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -150,15 +152,16 @@ public class ProdutoController {
 
     // 🔹 ENDPOINT PÚBLICO
     @GetMapping("/buscar")
-    @Operation(summary = "Buscar produtos por nome (Público)",
-               description = "Busca produtos cujo nome contenha o termo pesquisado.")
+    @Operation(summary = "Buscar produtos (Público)",
+               description = "Busca produtos disponíveis por nome, categoria e descrição, sem diferenciar acentos, " +
+                             "aceitando prefixos e pequenos erros de digitação. Resultados paginados por relevância.")
     @ApiResponses({ // 🔹 ADICIONADO
         @ApiResponse(responseCode = "200", description = "Busca realizada com sucesso")
     })
-    public ResponseEntity<ApiResponseWrapper<List<ProdutoResponseDTO>>> buscarPorNome(@Parameter(description = "Termo para buscar no nome do produto") @RequestParam String nome) {
-        List<ProdutoResponseDTO> produtos = produtoService.buscarProdutosPorNome(nome);
-        ApiResponseWrapper<List<ProdutoResponseDTO>> response =
-                new ApiResponseWrapper<>(true, produtos, "Busca realizada com sucesso");
-        return ResponseEntity.ok(response);
+    public ResponseEntity<PagedResponseWrapper<ProdutoResponseDTO>> buscarPorNome(
+            @Parameter(description = "Termos da busca (ex: \"pizza calab\")") @RequestParam String nome,
+            Pageable pageable) {
+        Page<ProdutoResponseDTO> produtos = produtoService.buscarProdutosPorNome(nome, pageable);
+        return ResponseEntity.ok(new PagedResponseWrapper<>(produtos));
     }
 }
\ No newline at end of file
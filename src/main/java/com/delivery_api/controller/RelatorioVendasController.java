@@ -0,0 +1,58 @@
+package com.delivery_api.controller;
+
+import com.delivery_api.dto.ApiResponseWrapper;
+import com.delivery_api.dto.DivergenciaVendasDTO;
+import com.delivery_api.service.VendaDiariaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/relatorios/vendas")
+@Tag(name = "Relatórios de Vendas", description = "Manutenção do agregado diário de vendas usado nos relatórios. Requer perfil ADMIN.")
+@SecurityRequirement(name = "bearerAuth")
+public class RelatorioVendasController {
+
+    @Autowired
+    private VendaDiariaService vendaDiariaService;
+
+    @PostMapping("/reconstrucao")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Reconstruir o agregado de vendas (Admin)",
+               description = "Recalcula o agregado (restaurante, dia, status) a partir da tabela de pedidos. " +
+                             "Necessário após cargas que inserem pedidos fora da API.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Agregado reconstruído"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "403", description = "Acesso negado")
+    })
+    public ResponseEntity<ApiResponseWrapper<Integer>> reconstruir() {
+        int grupos = vendaDiariaService.reconstruir();
+        return ResponseEntity.ok(new ApiResponseWrapper<>(true, grupos, "Agregado de vendas reconstruído"));
+    }
+
+    @GetMapping("/consistencia")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Verificar o agregado de vendas (Admin)",
+               description = "Compara o agregado com os totais calculados da tabela de pedidos e lista os grupos divergentes.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Verificação concluída"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "403", description = "Acesso negado")
+    })
+    public ResponseEntity<ApiResponseWrapper<List<DivergenciaVendasDTO>>> verificarConsistencia() {
+        List<DivergenciaVendasDTO> divergencias = vendaDiariaService.verificarConsistencia();
+        String mensagem = divergencias.isEmpty()
+                ? "Agregado de vendas consistente"
+                : divergencias.size() + " grupo(s) divergente(s)";
+        return ResponseEntity.ok(new ApiResponseWrapper<>(true, divergencias, mensagem));
+    }
+}
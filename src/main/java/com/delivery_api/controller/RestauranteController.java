@@ -59,14 +59,22 @@ public class RestauranteController {
     // 🔹 ENDPOINT PÚBLICO
     @GetMapping
     @Operation(summary = "Listar restaurantes (Público)",
-               description = "Retorna uma lista paginada de restaurantes, com filtros opcionais por categoria e status.")
+               description = "Retorna uma lista paginada de restaurantes, com filtros opcionais por categoria e status. " +
+                             "Com o parâmetro 'cursor', usa paginação por cursor em ordem de ID, sem OFFSET.")
     @ApiResponses({ // 🔹 ADICIONADO
         @ApiResponse(responseCode = "200", description = "Lista de restaurantes retornada com sucesso")
     })
     public ResponseEntity<PagedResponseWrapper<RestauranteResponseDTO>> listar(
             @Parameter(description = "Filtrar por categoria de cozinha") @RequestParam(required = false) String categoria,
             @Parameter(description = "Filtrar por restaurantes ativos (true) ou inativos (false)") @RequestParam(required = false) Boolean ativo,
+            @Parameter(description = "Paginação por cursor: vazio para a primeira página, depois o token de links.next. Ignora 'page' e 'sort'.") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Na paginação por cursor, calcula também o total de itens (COUNT)") @RequestParam(defaultValue = "false") boolean incluirTotal,
             Pageable pageable) {
+        if (cursor != null) {
+            CursorPage<RestauranteResponseDTO> restaurantes =
+                    restauranteService.listarRestaurantesPorCursor(cursor, pageable.getPageSize(), incluirTotal);
+            return ResponseEntity.ok(new PagedResponseWrapper<>(restaurantes));
+        }
         Page<RestauranteResponseDTO> restaurantes =
                 restauranteService.listarRestaurantes(categoria, ativo, pageable);
         PagedResponseWrapper<RestauranteResponseDTO> response =
@@ -74,6 +82,44 @@ public class RestauranteController {
         return ResponseEntity.ok(response);
     }
     
+    // 🔹 ENDPOINT PÚBLICO
+    @GetMapping("/proximos")
+    @Operation(summary = "Buscar restaurantes próximos a um CEP (Público)",
+               description = "Com 'raio', retorna os restaurantes ativos a até 'raio' km do CEP; sem 'raio', os 'quantidade' mais próximos. " +
+                             "O resultado vem ordenado por distância, informada em 'distanciaKm'.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Busca realizada com sucesso"),
+        @ApiResponse(responseCode = "404", description = "CEP não encontrado na tabela de coordenadas")
+    })
+    public ResponseEntity<ApiResponseWrapper<List<RestauranteResponseDTO>>> buscarProximos(
+            @Parameter(description = "CEP de referência", example = "01310-100") @RequestParam String cep,
+            @Parameter(description = "Raio da busca em km (1 a 50)") @RequestParam(required = false) Integer raio,
+            @Parameter(description = "Quantidade de restaurantes quando não há raio (1 a 50)") @RequestParam(defaultValue = "10") int quantidade) {
+        List<RestauranteResponseDTO> restaurantes = raio != null
+                ? restauranteService.buscarRestaurantesProximos(cep, raio)
+                : restauranteService.buscarRestaurantesMaisProximos(cep, quantidade);
+        ApiResponseWrapper<List<RestauranteResponseDTO>> response =
+                new ApiResponseWrapper<>(true, restaurantes, "Busca realizada com sucesso");
+        return ResponseEntity.ok(response);
+    }
+
+    // 🔹 ENDPOINT PÚBLICO
+    @GetMapping("/buscar")
+    @Operation(summary = "Buscar restaurantes ativos por nome (Público)",
+               description = "Busca aproximada: ignora acentos, tolera erros de digitação e retorna os 'quantidade' " +
+                             "restaurantes mais relevantes.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Busca realizada com sucesso")
+    })
+    public ResponseEntity<ApiResponseWrapper<List<RestauranteResponseDTO>>> buscarPorNome(
+            @Parameter(description = "Nome ou parte do nome", example = "pizzaria") @RequestParam String nome,
+            @Parameter(description = "Quantidade de restaurantes (1 a 50)") @RequestParam(defaultValue = "10") int quantidade) {
+        List<RestauranteResponseDTO> restaurantes = restauranteService.buscarRestaurantesPorNome(nome, quantidade);
+        ApiResponseWrapper<List<RestauranteResponseDTO>> response =
+                new ApiResponseWrapper<>(true, restaurantes, "Busca realizada com sucesso");
+        return ResponseEntity.ok(response);
+    }
+
     // 🔹 ENDPOINT PÚBLICO
     @GetMapping("/{id}")
     @Operation(summary = "Buscar restaurante por ID (Público)",
@@ -0,0 +1,54 @@
+package com.delivery_api.controller;
+
+import com.delivery_api.dto.ApiResponseWrapper;
+import com.delivery_api.dto.UserResponse;
+import com.delivery_api.model.Usuario;
+import com.delivery_api.service.impl.UsuarioServiceImpl;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Positive;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/usuarios")
+@Validated
+@Tag(name = "Usuários", description = "Administração das contas de usuário.")
+public class UsuarioController {
+
+    @Autowired
+    private UsuarioServiceImpl usuarioService;
+
+    // 🔹 ENDPOINT PROTEGIDO: toda ativação/desativação de usuário passa por aqui, para que o token de um
+    // usuário desativado deixe de valer na hora neste nó (DisabledUserRegistry) e o cache "usuarios" seja limpo
+    @PatchMapping("/{id}/ativo")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Ativar ou desativar um usuário (Admin)",
+               description = "Define se o usuário pode se autenticar. Os tokens de um usuário desativado são recusados.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Status alterado com sucesso"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "403", description = "Acesso negado"),
+        @ApiResponse(responseCode = "404", description = "Usuário não encontrado")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    public ResponseEntity<ApiResponseWrapper<UserResponse>> alterarAtivo(
+            @Parameter(description = "ID do usuário") @PathVariable @Positive(message = "O ID deve ser um número positivo") Long id,
+            @Parameter(description = "true para ativar, false para desativar") @RequestParam boolean ativo) {
+        Usuario usuario = usuarioService.alterarAtivo(id, ativo);
+        ApiResponseWrapper<UserResponse> response =
+                new ApiResponseWrapper<>(true, new UserResponse(usuario), "Status alterado com sucesso");
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,5 +1,6 @@
 package com.delivery_api.dto;
 
+import com.delivery_api.validation.ValidCEP;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
@@ -21,4 +22,8 @@ public class CalculoPedidoDTO {
     @Valid // Assegura que os objetos ItemPedidoDTO dentro da lista sejam validados
     @Schema(description = "Lista dos itens que compõem o pedido para o cálculo.", requiredMode = Schema.RequiredMode.REQUIRED)
     private List<ItemPedidoDTO> itens;
+
+    @Schema(description = "CEP de entrega (opcional). Informado, a taxa de entrega inclui o acréscimo pela distância.", example = "01310-100")
+    @ValidCEP
+    private String cep;
 }
\ No newline at end of file
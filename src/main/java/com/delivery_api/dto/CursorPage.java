@@ -0,0 +1,42 @@
+package com.delivery_api.dto;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de uma listagem por cursor (keyset).
+ *
+ * @param content       itens da página
+ * @param size          tamanho de página pedido
+ * @param first         se esta é a primeira página (requisição sem cursor)
+ * @param nextCursor    token opaco da próxima página, ou null se esta for a última
+ * @param totalElements total de itens, ou null quando a contagem não foi pedida
+ */
+public record CursorPage<T>(List<T> content, int size, boolean first, String nextCursor, Long totalElements)
+        implements Serializable {
+
+    /**
+     * Monta a página a partir de uma consulta que buscou {@code size + 1} itens:
+     * o item excedente só indica que há próxima página e não é devolvido.
+     *
+     * @param cursorDoItem gera o token de continuação a partir do último item da página
+     */
+    public static <T> CursorPage<T> fromLookahead(List<T> itens, int size, boolean first,
+                                                  Function<? super T, String> cursorDoItem, Long totalElements) {
+        if (itens.size() <= size) {
+            return new CursorPage<>(itens, size, first, null, totalElements);
+        }
+        List<T> pagina = itens.subList(0, size);
+        return new CursorPage<>(pagina, size, first, cursorDoItem.apply(pagina.get(size - 1)), totalElements);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> convertidos = content.stream().<R>map(mapper).toList();
+        return new CursorPage<>(convertidos, size, first, nextCursor, totalElements);
+    }
+}
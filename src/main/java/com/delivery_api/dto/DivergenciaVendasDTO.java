@@ -0,0 +1,20 @@
+package com.delivery_api.dto;
+
+import com.delivery_api.enums.StatusPedido;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Um grupo (restaurante, dia, status) em que o agregado de vendas não bate com os pedidos.
+ * Os campos "agregado" vêm de venda_diaria; os "reais", de um GROUP BY na tabela de pedidos.
+ */
+public record DivergenciaVendasDTO(
+        Long restauranteId,
+        LocalDate dia,
+        StatusPedido status,
+        long quantidadeAgregada,
+        long quantidadeReal,
+        BigDecimal valorAgregado,
+        BigDecimal valorReal) {
+}
@@ -0,0 +1,55 @@
+package com.delivery_api.dto;
+
+import com.delivery_api.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.function.Function;
+
+/**
+ * Codifica e decodifica o token de continuação da paginação por cursor.
+ *
+ * O token guarda os valores da chave de ordenação do último item entregue (ex: dataPedido e id)
+ * em Base64 URL-safe. Para o cliente ele é opaco: basta repassá-lo em {@code ?cursor=}.
+ */
+public final class KeysetCursor {
+
+    private static final String SEPARADOR = "|";
+
+    private KeysetCursor() {
+    }
+
+    public static String encode(Object... valores) {
+        StringBuilder texto = new StringBuilder();
+        for (int i = 0; i < valores.length; i++) {
+            if (i > 0) {
+                texto.append(SEPARADOR);
+            }
+            texto.append(valores[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(texto.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica o token e converte seus valores com {@code conversor}.
+     *
+     * @throws BusinessException se o token não foi gerado por {@link #encode} com {@code partes} valores
+     *                           ou se algum valor não puder ser convertido
+     */
+    public static <T> T decode(String cursor, int partes, Function<String[], T> conversor) {
+        String[] valores;
+        try {
+            valores = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\" + SEPARADOR, -1);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Cursor de paginação inválido", e);
+        }
+        if (valores.length != partes) {
+            throw new BusinessException("Cursor de paginação inválido");
+        }
+        try {
+            return conversor.apply(valores);
+        } catch (RuntimeException e) {
+            throw new BusinessException("Cursor de paginação inválido", e);
+        }
+    }
+}
@@ -25,22 +25,31 @@ public class PagedResponseWrapper<T> implements Serializable{
         this.page = new PageInfo(page);
         this.links = new PageLinks(page);
     }
+
+    /**
+     * Resposta da paginação por cursor: {@code links.next} carrega o token da próxima página.
+     */
+    public PagedResponseWrapper(CursorPage<T> page) {
+        this.content = page.content();
+        this.page = new PageInfo(page);
+        this.links = new PageLinks(page);
+    }
     
     // As classes internas (inner classes) são usadas para organizar a resposta
     
     @Getter
     @Schema(description = "Detalhes sobre o estado da paginação.")
     public static class PageInfo implements Serializable{
-        @Schema(description = "O número da página atual, começando em 0.", example = "0")
+        @Schema(description = "O número da página atual, começando em 0 (-1 na paginação por cursor).", example = "0")
         private final int number;
         
         @Schema(description = "O número de itens por página.", example = "10")
         private final int size;
         
-        @Schema(description = "O número total de itens em todas as páginas.", example = "42")
+        @Schema(description = "O número total de itens em todas as páginas (-1 quando não calculado na paginação por cursor).", example = "42")
         private final long totalElements;
         
-        @Schema(description = "O número total de páginas disponíveis.", example = "5")
+        @Schema(description = "O número total de páginas disponíveis (-1 quando não calculado na paginação por cursor).", example = "5")
         private final int totalPages;
         
         @Schema(description = "Indica se esta é a primeira página.", example = "true")
@@ -57,6 +66,17 @@ public class PagedResponseWrapper<T> implements Serializable{
             this.first = page.isFirst();
             this.last = page.isLast();
         }
+
+        public PageInfo(CursorPage<?> page) {
+            this.number = -1;
+            this.size = page.size();
+            this.totalElements = page.totalElements() != null ? page.totalElements() : -1;
+            this.totalPages = page.totalElements() != null && page.size() > 0
+                    ? (int) Math.ceil((double) page.totalElements() / page.size())
+                    : -1;
+            this.first = page.first();
+            this.last = !page.hasNext();
+        }
     }
 
     @Getter
@@ -68,7 +88,7 @@ public class PagedResponseWrapper<T> implements Serializable{
         @Schema(description = "URL para a última página de resultados.", example = "/api/restaurantes?page=4&size=10")
         private String last;
         
-        @Schema(description = "URL para a próxima página de resultados (nulo se for a última).", example = "/api/restaurantes?page=1&size=10")
+        @Schema(description = "URL para a próxima página de resultados (nulo se for a última). Na paginação por cursor, traz o token opaco em 'cursor'.", example = "/api/restaurantes?page=1&size=10")
         private String next;
         
         @Schema(description = "URL para a página anterior de resultados (nulo se for a primeira).", example = "null")
@@ -88,5 +108,13 @@ public class PagedResponseWrapper<T> implements Serializable{
                 this.prev = "?page=" + (page.getNumber() - 1) + "&size=" + page.getSize();
             }
         }
+
+        // A paginação por cursor só anda para frente: não há "last" nem "prev".
+        public PageLinks(CursorPage<?> page) {
+            this.first = "?cursor=&size=" + page.size();
+            if (page.hasNext()) {
+                this.next = "?cursor=" + page.nextCursor() + "&size=" + page.size();
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -55,4 +55,18 @@ public class RestauranteDTO{
     @NotBlank(message = "Horário de funcionamento é obrigatório")
     @ValidHorarioFuncionamento
     private String horarioFuncionamento;
-}
\ No newline at end of file
+
+    @Schema(description = "CEP do restaurante (opcional). Sem latitude/longitude, as coordenadas são obtidas da tabela local de CEPs.", example = "01310-100")
+    @Pattern(regexp = "^\\d{5}-?\\d{3}$", message = "CEP deve estar no formato 00000-000")
+    private String cep;
+
+    @Schema(description = "Latitude em graus decimais (opcional).", example = "-23.5631")
+    @DecimalMin(value = "-90.0", message = "Latitude deve estar entre -90 e 90")
+    @DecimalMax(value = "90.0", message = "Latitude deve estar entre -90 e 90")
+    private Double latitude;
+
+    @Schema(description = "Longitude em graus decimais (opcional).", example = "-46.6544")
+    @DecimalMin(value = "-180.0", message = "Longitude deve estar entre -180 e 180")
+    @DecimalMax(value = "180.0", message = "Longitude deve estar entre -180 e 180")
+    private Double longitude;
+}
@@ -1,5 +1,6 @@
 package com.delivery_api.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
 
@@ -36,4 +37,17 @@ public class RestauranteResponseDTO implements Serializable {
 
     @Schema(description = "Indica se o restaurante está aberto para receber pedidos.", example = "true")
     private boolean ativo;
-}
\ No newline at end of file
+
+    @Schema(description = "CEP do restaurante.", example = "01310-100")
+    private String cep;
+
+    @Schema(description = "Latitude em graus decimais.", example = "-23.5631")
+    private Double latitude;
+
+    @Schema(description = "Longitude em graus decimais.", example = "-46.6544")
+    private Double longitude;
+
+    @Schema(description = "Distância em km até o CEP informado; presente apenas na busca por proximidade.", example = "1.27")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double distanciaKm;
+}
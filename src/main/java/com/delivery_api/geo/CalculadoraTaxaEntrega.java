@@ -0,0 +1,82 @@
+package com.delivery_api.geo;
+
+import com.delivery_api.config.TaxaEntregaProperties;
+import com.delivery_api.exception.BusinessException;
+import com.delivery_api.model.Restaurante;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Taxa de entrega por distância: a taxa do restaurante mais o acréscimo da faixa
+ * ({@code delivery.taxa-entrega.faixas}) em que cai a distância em linha reta até o CEP.
+ *
+ * A distância vem de {@link CepCoordenadas} e as faixas são arrays montados na inicialização, então
+ * uma cotação não consulta o banco nem aloca nada além do valor devolvido.
+ */
+@Component
+public class CalculadoraTaxaEntrega {
+
+    private final CepCoordenadas cepCoordenadas;
+    private final double[] limitesKm;
+    private final BigDecimal[] acrescimos;
+
+    @Autowired
+    public CalculadoraTaxaEntrega(CepCoordenadas cepCoordenadas, TaxaEntregaProperties properties) {
+        this.cepCoordenadas = cepCoordenadas;
+        List<TaxaEntregaProperties.Faixa> faixas = properties.getFaixas().stream()
+                .sorted(Comparator.comparingDouble(TaxaEntregaProperties.Faixa::getAteKm))
+                .toList();
+        limitesKm = new double[faixas.size()];
+        acrescimos = new BigDecimal[faixas.size()];
+        for (int i = 0; i < faixas.size(); i++) {
+            limitesKm[i] = faixas.get(i).getAteKm();
+            acrescimos[i] = faixas.get(i).getAcrescimo();
+        }
+    }
+
+    /**
+     * @param restaurante restaurante já carregado; sem coordenadas, cobra só a taxa base
+     * @param cep         CEP de entrega, com ou sem hífen; fora da tabela de coordenadas, cobra só a taxa base
+     * @throws BusinessException CEP inválido ou fora da área de entrega
+     */
+    public BigDecimal calcular(Restaurante restaurante, String cep) {
+        if (CepCoordenadas.numero(cep) < 0) {
+            throw new BusinessException("CEP inválido: " + cep);
+        }
+        BigDecimal taxaBase = restaurante.getTaxaEntrega() != null ? restaurante.getTaxaEntrega() : BigDecimal.ZERO;
+        if (restaurante.getLatitude() == null || restaurante.getLongitude() == null) {
+            return taxaBase;
+        }
+
+        double distanciaKm = cepCoordenadas.distanciaKm(cep, restaurante.getLatitude(), restaurante.getLongitude());
+        if (Double.isNaN(distanciaKm)) {
+            // A tabela não cobre todos os CEPs: sem a distância, vale a taxa base, como antes das faixas
+            return taxaBase;
+        }
+        BigDecimal acrescimo = acrescimo(distanciaKm);
+        if (acrescimo == null) {
+            throw new BusinessException(String.format(Locale.ROOT,
+                    "CEP fora da área de entrega do restaurante (%.1f km; máximo de %.1f km)",
+                    distanciaKm, limitesKm[limitesKm.length - 1]));
+        }
+        return taxaBase.add(acrescimo);
+    }
+
+    // Acréscimo da primeira faixa que cobre a distância; null além da última. Sem faixas, não há limite.
+    BigDecimal acrescimo(double distanciaKm) {
+        if (limitesKm.length == 0) {
+            return BigDecimal.ZERO;
+        }
+        for (int i = 0; i < limitesKm.length; i++) {
+            if (distanciaKm <= limitesKm[i]) {
+                return acrescimos[i];
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,128 @@
+package com.delivery_api.geo;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Tabela local de CEP para coordenadas, lida de um arquivo ({@code cep;latitude;longitude}).
+ *
+ * Substitui um geocodificador externo. O arquivo pode ter CEPs completos (8 dígitos) e setores
+ * (5 dígitos); um CEP sem entrada própria usa a do seu setor.
+ *
+ * Na carga o CSV é compilado para uma {@link CepTabela} binária e ordenada, mapeada em memória: a busca
+ * é binária, não aloca e não ocupa heap, mesmo com a base nacional de CEPs.
+ */
+@Component
+public class CepCoordenadas {
+
+    private static final Logger log = LoggerFactory.getLogger(CepCoordenadas.class);
+
+    @Value("${delivery.geo.cep-arquivo:classpath:geo/cep-coordenadas.csv}")
+    private Resource arquivo;
+
+    private volatile CepTabela tabela;
+
+    public CepCoordenadas() {
+    }
+
+    CepCoordenadas(Resource arquivo) {
+        this.arquivo = arquivo;
+        carregar();
+    }
+
+    @PostConstruct
+    public void carregar() {
+        SortedMap<Integer, Coordenada> ceps = new TreeMap<>();
+        SortedMap<Integer, Coordenada> setores = new TreeMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(arquivo.getInputStream(), StandardCharsets.UTF_8))) {
+            String linha;
+            while ((linha = reader.readLine()) != null) {
+                linha = linha.strip();
+                if (linha.isEmpty() || linha.startsWith("#")) {
+                    continue;
+                }
+                String[] campos = linha.split(";");
+                Coordenada coordenada = new Coordenada(Double.parseDouble(campos[1]), Double.parseDouble(campos[2]));
+                String cep = campos[0];
+                (cep.length() == 5 ? setores : ceps).put(Integer.parseInt(cep), coordenada);
+            }
+
+            Path binario = Files.createTempFile("cep-coordenadas", ".bin");
+            binario.toFile().deleteOnExit();
+            CepTabela.gravar(binario, ceps, setores);
+            tabela = CepTabela.abrir(binario);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível carregar a tabela de CEPs: " + arquivo, e);
+        }
+        log.info("Tabela de CEPs carregada: {} CEPs e {} setores", ceps.size(), setores.size());
+    }
+
+    /**
+     * @param cep CEP com ou sem hífen
+     * @return coordenada do CEP ou do seu setor; vazio se o CEP for inválido ou não estiver na tabela
+     */
+    public Optional<Coordenada> buscar(String cep) {
+        int numero = numero(cep);
+        CepTabela atual = tabela;
+        int posicao = numero < 0 ? -1 : atual.localizar(numero);
+        if (posicao < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(new Coordenada(atual.latitude(posicao), atual.longitude(posicao)));
+    }
+
+    /**
+     * Distância em linha reta do CEP até um ponto, sem alocar objetos (usada nas cotações de frete).
+     *
+     * @return distância em km, ou {@link Double#NaN} se o CEP for inválido ou não estiver na tabela
+     */
+    public double distanciaKm(CharSequence cep, double latitude, double longitude) {
+        int numero = numero(cep);
+        CepTabela atual = tabela;
+        int posicao = numero < 0 ? -1 : atual.localizar(numero);
+        if (posicao < 0) {
+            return Double.NaN;
+        }
+        return Coordenada.distanciaKm(atual.latitude(posicao), atual.longitude(posicao), latitude, longitude);
+    }
+
+    /**
+     * Converte o CEP (com ou sem hífen, espaços nas pontas) para número, sem criar strings intermediárias.
+     *
+     * @return os 8 dígitos como número, ou -1 se não for um CEP válido
+     */
+    public static int numero(CharSequence cep) {
+        if (cep == null) {
+            return -1;
+        }
+        int numero = 0;
+        int digitos = 0;
+        for (int i = 0; i < cep.length(); i++) {
+            char c = cep.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digitos > 8) {
+                    return -1;
+                }
+                numero = numero * 10 + (c - '0');
+            } else if (c != '-' && c != ' ') {
+                return -1;
+            }
+        }
+        return digitos == 8 ? numero : -1;
+    }
+}
@@ -0,0 +1,118 @@
+package com.delivery_api.geo;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Tabela binária de CEPs, ordenada e mapeada em memória (somente leitura).
+ *
+ * Formato: cabeçalho com {@link #MAGICO}, quantidade de CEPs completos e quantidade de setores, seguido
+ * das duas seções, cada uma ordenada pela chave. Cada registro tem 12 bytes: chave (CEP de 8 dígitos ou
+ * setor de 5), latitude e longitude em milionésimos de grau.
+ *
+ * A busca é binária com leituras absolutas no buffer: não aloca objetos e pode ser feita por várias
+ * threads ao mesmo tempo. Os dados ficam fora do heap, no cache de páginas do sistema operacional.
+ */
+final class CepTabela {
+
+    static final int MAGICO = 0x43455031; // "CEP1"
+    private static final int CABECALHO = 12;
+    private static final int REGISTRO = 12;
+    private static final double ESCALA = 1_000_000.0;
+
+    private final ByteBuffer dados;
+    private final int quantidadeCeps;
+    private final int quantidadeSetores;
+
+    private CepTabela(ByteBuffer dados) {
+        if (dados.capacity() < CABECALHO || dados.getInt(0) != MAGICO) {
+            throw new IllegalStateException("Arquivo não é uma tabela de CEPs");
+        }
+        this.dados = dados;
+        this.quantidadeCeps = dados.getInt(4);
+        this.quantidadeSetores = dados.getInt(8);
+        if (dados.capacity() != CABECALHO + (long) REGISTRO * (quantidadeCeps + quantidadeSetores)) {
+            throw new IllegalStateException("Tabela de CEPs truncada ou corrompida");
+        }
+    }
+
+    static CepTabela abrir(Path arquivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            // O mapeamento continua válido depois que o canal é fechado.
+            return new CepTabela(canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size()));
+        }
+    }
+
+    static void gravar(Path arquivo, SortedMap<Integer, Coordenada> ceps, SortedMap<Integer, Coordenada> setores)
+            throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(CABECALHO + REGISTRO * (ceps.size() + setores.size()));
+        buffer.putInt(MAGICO).putInt(ceps.size()).putInt(setores.size());
+        escrever(buffer, ceps);
+        escrever(buffer, setores);
+        buffer.flip();
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                canal.write(buffer);
+            }
+        }
+    }
+
+    private static void escrever(ByteBuffer buffer, SortedMap<Integer, Coordenada> registros) {
+        for (Map.Entry<Integer, Coordenada> registro : registros.entrySet()) {
+            buffer.putInt(registro.getKey())
+                    .putInt((int) Math.round(registro.getValue().latitude() * ESCALA))
+                    .putInt((int) Math.round(registro.getValue().longitude() * ESCALA));
+        }
+    }
+
+    /**
+     * @param cep CEP com 8 dígitos, como número
+     * @return posição do registro do CEP ou, sem ele, do seu setor; -1 se nenhum dos dois estiver na tabela
+     */
+    int localizar(int cep) {
+        int posicao = buscar(0, quantidadeCeps, cep);
+        if (posicao < 0) {
+            posicao = buscar(quantidadeCeps, quantidadeCeps + quantidadeSetores, cep / 1000);
+        }
+        return posicao;
+    }
+
+    double latitude(int posicao) {
+        return dados.getInt(CABECALHO + posicao * REGISTRO + 4) / ESCALA;
+    }
+
+    double longitude(int posicao) {
+        return dados.getInt(CABECALHO + posicao * REGISTRO + 8) / ESCALA;
+    }
+
+    int quantidadeCeps() {
+        return quantidadeCeps;
+    }
+
+    int quantidadeSetores() {
+        return quantidadeSetores;
+    }
+
+    private int buscar(int inicio, int fim, int chave) {
+        int baixo = inicio;
+        int alto = fim - 1;
+        while (baixo <= alto) {
+            int meio = (baixo + alto) >>> 1;
+            int atual = dados.getInt(CABECALHO + meio * REGISTRO);
+            if (atual < chave) {
+                baixo = meio + 1;
+            } else if (atual > chave) {
+                alto = meio - 1;
+            } else {
+                return meio;
+            }
+        }
+        return -1;
+    }
+}
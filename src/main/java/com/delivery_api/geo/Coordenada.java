@@ -0,0 +1,22 @@
+package com.delivery_api.geo;
+
+/**
+ * Ponto em graus decimais (WGS84).
+ */
+public record Coordenada(double latitude, double longitude) {
+
+    static final double RAIO_TERRA_KM = 6371.0088;
+
+    // Distância em km pela fórmula de haversine
+    public double distanciaKm(Coordenada outra) {
+        return distanciaKm(latitude, longitude, outra.latitude, outra.longitude);
+    }
+
+    static double distanciaKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * RAIO_TERRA_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+}
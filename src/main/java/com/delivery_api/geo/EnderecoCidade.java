@@ -0,0 +1,52 @@
+package com.delivery_api.geo;
+
+import com.delivery_api.search.TextoBusca;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Extrai a cidade de um endereço em texto livre, na forma usada para gravar e consultar {@code cliente.cidade}.
+ *
+ * A cidade é reconhecida pela UF que a segue: "..., São Paulo - SP, 01310-100", "Campinas/SP" ou
+ * "Niterói, RJ". Endereços sem UF ("Rua das Flores, 123, Apto 45") não têm cidade.
+ */
+public final class EnderecoCidade {
+
+    // Nome da cidade: letras, espaços, pontos, apóstrofos e hífens colados ("Embu-Guaçu"); depois, "-", "/" ou "," e a UF.
+    private static final Pattern CIDADE_UF = Pattern.compile(
+            "(\\p{L}[\\p{L}'. ]*?(?:-\\p{L}[\\p{L}'. ]*?)*)\\s*[-–/,]\\s*"
+                    + "(AC|AL|AP|AM|BA|CE|DF|ES|GO|MA|MT|MS|MG|PA|PB|PR|PE|PI|RJ|RN|RS|RO|RR|SC|SP|SE|TO)"
+                    + "(?![\\p{L}\\d])");
+    private static final Pattern SEPARADORES = Pattern.compile("[^a-z0-9]+");
+
+    private EnderecoCidade() {
+    }
+
+    /**
+     * @return a cidade normalizada (ver {@link #normalizar}) ou {@code null} se o endereço não tiver UF
+     */
+    public static String extrair(String endereco) {
+        if (endereco == null) {
+            return null;
+        }
+        // A última ocorrência: antes dela pode haver um bairro ou logradouro seguido de algo parecido com UF
+        String cidade = null;
+        Matcher matcher = CIDADE_UF.matcher(endereco);
+        while (matcher.find()) {
+            cidade = matcher.group(1);
+        }
+        if (cidade == null) {
+            return null;
+        }
+        String normalizada = normalizar(cidade);
+        return normalizada.isEmpty() ? null : normalizada;
+    }
+
+    /**
+     * Minúsculas, sem acentos e com um único espaço entre as palavras: "São  Paulo" e "sao paulo" são a mesma cidade.
+     */
+    public static String normalizar(String cidade) {
+        return SEPARADORES.matcher(TextoBusca.normalizar(cidade)).replaceAll(" ").strip();
+    }
+}
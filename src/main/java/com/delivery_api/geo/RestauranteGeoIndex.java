@@ -0,0 +1,211 @@
+package com.delivery_api.geo;
+
+import com.delivery_api.model.Restaurante;
+import com.delivery_api.repository.RestauranteRepository;
+import com.delivery_api.util.AposCommit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice espacial em memória dos restaurantes ativos com coordenadas.
+ *
+ * Grade fixa de células de {@value #TAMANHO_CELULA_GRAUS} grau (~2,2 km de latitude). A busca por raio
+ * visita só as células que cobrem o retângulo do raio; a dos k mais próximos visita anéis de células
+ * em volta da origem até que nenhuma célula ainda não visitada possa ter um ponto mais perto.
+ *
+ * Cada célula guarda um array imutável, trocado a cada escrita: as leituras não usam lock e as
+ * escritas (raras: cadastro, mudança de endereço ou de status) são serializadas.
+ */
+@Component
+public class RestauranteGeoIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(RestauranteGeoIndex.class);
+
+    static final double TAMANHO_CELULA_GRAUS = 0.02;
+    private static final double KM_POR_GRAU = Math.PI * Coordenada.RAIO_TERRA_KM / 180.0;
+    private static final Ponto[] VAZIO = new Ponto[0];
+
+    public record Resultado(long restauranteId, double distanciaKm) {
+    }
+
+    private record Ponto(long id, double latitude, double longitude, long celula) {
+    }
+
+    private final Map<Long, Ponto[]> celulas = new ConcurrentHashMap<>();
+    private final Map<Long, Ponto> pontos = new ConcurrentHashMap<>();
+
+    @Autowired
+    private RestauranteRepository restauranteRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        List<Restaurante> ativos = restauranteRepository.findByAtivoTrue();
+        ativos.forEach(this::atualizar);
+        log.info("Índice geográfico carregado: {} restaurantes ativos com coordenadas", pontos.size());
+    }
+
+    /**
+     * Aplica o estado do restaurante ao índice depois do commit da transação atual (ou já, sem transação).
+     * Restaurantes inativos ou sem coordenadas saem do índice.
+     */
+    public void atualizarAposCommit(Restaurante restaurante) {
+        long id = restaurante.getId();
+        Double latitude = restaurante.getLatitude();
+        Double longitude = restaurante.getLongitude();
+        boolean ativo = restaurante.isAtivo();
+        AposCommit.executar(() -> atualizar(id, latitude, longitude, ativo));
+    }
+
+    public void removerAposCommit(Long restauranteId) {
+        AposCommit.executar(() -> remover(restauranteId));
+    }
+
+    public void atualizar(Restaurante restaurante) {
+        atualizar(restaurante.getId(), restaurante.getLatitude(), restaurante.getLongitude(), restaurante.isAtivo());
+    }
+
+    public synchronized void atualizar(long id, Double latitude, Double longitude, boolean ativo) {
+        if (!ativo || latitude == null || longitude == null) {
+            remover(id);
+            return;
+        }
+        Ponto novo = new Ponto(id, latitude, longitude, celula(latitude, longitude));
+        Ponto anterior = pontos.put(id, novo);
+        if (anterior != null) {
+            retirarDaCelula(anterior);
+        }
+        celulas.merge(novo.celula(), new Ponto[]{novo}, (atual, adicionado) -> {
+            Ponto[] copia = Arrays.copyOf(atual, atual.length + 1);
+            copia[atual.length] = novo;
+            return copia;
+        });
+    }
+
+    public synchronized void remover(long id) {
+        Ponto anterior = pontos.remove(id);
+        if (anterior != null) {
+            retirarDaCelula(anterior);
+        }
+    }
+
+    public int tamanho() {
+        return pontos.size();
+    }
+
+    /**
+     * Restaurantes a até {@code raioKm} da origem, do mais próximo para o mais distante.
+     */
+    public List<Resultado> buscarNoRaio(Coordenada origem, double raioKm) {
+        double deltaLat = raioKm / KM_POR_GRAU;
+        double deltaLon = raioKm / (KM_POR_GRAU * Math.max(0.01, Math.cos(Math.toRadians(origem.latitude()))));
+        int linhaMin = indice(origem.latitude() - deltaLat);
+        int linhaMax = indice(origem.latitude() + deltaLat);
+        int colunaMin = indice(origem.longitude() - deltaLon);
+        int colunaMax = indice(origem.longitude() + deltaLon);
+
+        List<Resultado> resultados = new ArrayList<>();
+        long quantidadeCelulas = (long) (linhaMax - linhaMin + 1) * (colunaMax - colunaMin + 1);
+        if (quantidadeCelulas > celulas.size()) {
+            // Raio grande para o tamanho do índice: percorrer as células existentes custa menos.
+            for (Ponto[] celula : celulas.values()) {
+                coletar(celula, origem, raioKm, resultados);
+            }
+        } else {
+            for (int linha = linhaMin; linha <= linhaMax; linha++) {
+                for (int coluna = colunaMin; coluna <= colunaMax; coluna++) {
+                    coletar(celulas.getOrDefault(chave(linha, coluna), VAZIO), origem, raioKm, resultados);
+                }
+            }
+        }
+        resultados.sort(Comparator.comparingDouble(Resultado::distanciaKm));
+        return resultados;
+    }
+
+    /**
+     * Os {@code k} restaurantes mais próximos da origem, do mais próximo para o mais distante.
+     */
+    public List<Resultado> buscarMaisProximos(Coordenada origem, int k) {
+        List<Resultado> candidatos = new ArrayList<>();
+        if (k <= 0 || pontos.isEmpty()) {
+            return candidatos;
+        }
+        int linhaOrigem = indice(origem.latitude());
+        int colunaOrigem = indice(origem.longitude());
+
+        for (int anel = 0; ; anel++) {
+            long lado = 2L * anel + 1;
+            if (lado * lado > celulas.size()) {
+                // O quadrado de anéis já cobre mais células do que as ocupadas: percorre todas de uma vez.
+                candidatos.clear();
+                for (Ponto[] celula : celulas.values()) {
+                    coletar(celula, origem, Double.MAX_VALUE, candidatos);
+                }
+                return primeiros(candidatos, k);
+            }
+            for (int linha = linhaOrigem - anel; linha <= linhaOrigem + anel; linha++) {
+                boolean borda = linha == linhaOrigem - anel || linha == linhaOrigem + anel;
+                int passo = borda ? 1 : 2 * anel;
+                for (int coluna = colunaOrigem - anel; coluna <= colunaOrigem + anel; coluna += passo) {
+                    Ponto[] celula = celulas.get(chave(linha, coluna));
+                    if (celula != null) {
+                        coletar(celula, origem, Double.MAX_VALUE, candidatos);
+                    }
+                }
+            }
+            // Qualquer ponto fora dos anéis visitados está a pelo menos "anel" células inteiras da origem.
+            double latitudeMaisLonga = Math.min(89.0, Math.abs(origem.latitude()) + (anel + 1) * TAMANHO_CELULA_GRAUS);
+            double distanciaMinimaFora = anel * TAMANHO_CELULA_GRAUS * KM_POR_GRAU
+                    * Math.max(0.01, Math.cos(Math.toRadians(latitudeMaisLonga)));
+            if (candidatos.size() >= k) {
+                candidatos.sort(Comparator.comparingDouble(Resultado::distanciaKm));
+                if (candidatos.get(k - 1).distanciaKm() <= distanciaMinimaFora) {
+                    return primeiros(candidatos, k);
+                }
+            }
+        }
+    }
+
+    private static List<Resultado> primeiros(List<Resultado> candidatos, int k) {
+        candidatos.sort(Comparator.comparingDouble(Resultado::distanciaKm));
+        return new ArrayList<>(candidatos.subList(0, Math.min(k, candidatos.size())));
+    }
+
+    private static void coletar(Ponto[] celula, Coordenada origem, double raioKm, List<Resultado> resultados) {
+        for (Ponto ponto : celula) {
+            double distancia = Coordenada.distanciaKm(origem.latitude(), origem.longitude(), ponto.latitude(), ponto.longitude());
+            if (distancia <= raioKm) {
+                resultados.add(new Resultado(ponto.id(), distancia));
+            }
+        }
+    }
+
+    private void retirarDaCelula(Ponto ponto) {
+        celulas.computeIfPresent(ponto.celula(), (chave, atual) -> {
+            Ponto[] restantes = Arrays.stream(atual).filter(p -> p.id() != ponto.id()).toArray(Ponto[]::new);
+            return restantes.length == 0 ? null : restantes;
+        });
+    }
+
+    private static long celula(double latitude, double longitude) {
+        return chave(indice(latitude), indice(longitude));
+    }
+
+    private static int indice(double graus) {
+        return (int) Math.floor(graus / TAMANHO_CELULA_GRAUS);
+    }
+
+    private static long chave(int linha, int coluna) {
+        return ((long) linha << 32) | (coluna & 0xFFFFFFFFL);
+    }
+}
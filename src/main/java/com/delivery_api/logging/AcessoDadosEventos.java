@@ -0,0 +1,94 @@
+package com.delivery_api.logging;
+
+import com.delivery_api.config.AcessoDadosEventosProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Registra as idas ao banco por falta no cache e as invalidações feitas pelos serviços.
+ *
+ * Todo evento incrementa {@code delivery_acesso_dados_total{tipo, cache, operacao}}. Uma amostra, por tipo de
+ * evento, vai para o log estruturado, com tipo, cache, operação e chave como campos do JSON. O sorteio da
+ * amostra usa {@link ThreadLocalRandom} e o contador do Micrometer é um adder, então as threads não disputam
+ * nada entre si; a mensagem só é montada para os eventos sorteados com o nível habilitado.
+ */
+@Component
+public class AcessoDadosEventos {
+
+    private static final Logger log = LoggerFactory.getLogger(AcessoDadosEventos.class);
+
+    private final boolean habilitado;
+    private final Counter[] contadores;
+    private final Level[] niveis;
+    private final int[] taxas;
+
+    public AcessoDadosEventos(AcessoDadosEventosProperties properties, MeterRegistry meterRegistry) {
+        this.habilitado = properties.isHabilitado();
+
+        EventoAcessoDados[] eventos = EventoAcessoDados.values();
+        this.contadores = new Counter[eventos.length];
+        for (EventoAcessoDados evento : eventos) {
+            contadores[evento.ordinal()] = Counter.builder("delivery_acesso_dados_total")
+                    .description("Leituras que foram ao banco por falta no cache e gravações que invalidaram o cache")
+                    .tag("tipo", evento.getTipo().name().toLowerCase())
+                    .tag("cache", evento.getCache())
+                    .tag("operacao", evento.getOperacao())
+                    .register(meterRegistry);
+        }
+
+        EventoAcessoDados.Tipo[] tipos = EventoAcessoDados.Tipo.values();
+        this.niveis = new Level[tipos.length];
+        this.taxas = new int[tipos.length];
+        configurar(EventoAcessoDados.Tipo.CACHE_MISS, properties.getCacheMiss());
+        configurar(EventoAcessoDados.Tipo.INVALIDACAO, properties.getInvalidacao());
+    }
+
+    public void registrar(EventoAcessoDados evento) {
+        registrar(evento, null);
+    }
+
+    /**
+     * @param chave chave do cache envolvida (id, e-mail, categoria...); só é convertida em texto se o evento
+     *              for para o log
+     */
+    public void registrar(EventoAcessoDados evento, Object chave) {
+        if (!habilitado) {
+            return;
+        }
+        contadores[evento.ordinal()].increment();
+
+        int tipo = evento.getTipo().ordinal();
+        int taxa = taxas[tipo];
+        if (taxa <= 0 || (taxa > 1 && ThreadLocalRandom.current().nextInt(taxa) != 0)) {
+            return;
+        }
+        Level nivel = niveis[tipo];
+        if (!log.isEnabledForLevel(nivel)) {
+            return;
+        }
+        LoggingEventBuilder registro = log.atLevel(nivel)
+                .addKeyValue("evento", evento.getTipo().name())
+                .addKeyValue("cache", evento.getCache())
+                .addKeyValue("operacao", evento.getOperacao());
+        if (chave != null) {
+            registro = registro.addKeyValue("chave", chave);
+        }
+        if (taxa > 1) {
+            registro = registro.addKeyValue("amostragem", taxa);
+        }
+        registro.log(evento.getTipo() == EventoAcessoDados.Tipo.CACHE_MISS
+                ? "Falta no cache, buscando no banco" : "Cache invalidado");
+    }
+
+    private void configurar(EventoAcessoDados.Tipo tipo, AcessoDadosEventosProperties.Amostragem amostragem) {
+        niveis[tipo.ordinal()] = amostragem.getNivel() != null ? amostragem.getNivel() : Level.DEBUG;
+        taxas[tipo.ordinal()] = amostragem.getTaxa();
+    }
+}
@@ -0,0 +1,196 @@
+package com.delivery_api.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Appender assíncrono de log em JSON na saída padrão.
+ *
+ * A thread que loga só enfileira o evento em uma fila limitada e volta; uma thread própria ("log-json-writer")
+ * tira os eventos em lotes, codifica com o {@link JsonStreamingEncoder} direto no buffer da saída e faz um
+ * flush por lote. A thread que loga nunca espera:
+ * <ul>
+ *   <li>com menos de {@code limiarDescarte} posições livres, eventos TRACE, DEBUG e INFO são descartados;</li>
+ *   <li>com a fila cheia, qualquer evento é descartado.</li>
+ * </ul>
+ * Descartes, eventos gravados, tamanho da fila e o atraso entre o log e a gravação ficam expostos para o
+ * Micrometer por {@link LogAppenderMetrics}.
+ *
+ * Configuração no logback-spring.xml: {@code capacidade}, {@code limiarDescarte} (padrão: 1/5 da capacidade),
+ * {@code tamanhoLote}, {@code tempoEncerramentoMs} e o {@code encoder}.
+ */
+public class AsyncJsonAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+
+    private static final long ESPERA_OCIOSA_MS = 100;
+
+    private int capacidade = 8192;
+    private int limiarDescarte = -1;
+    private int tamanhoLote = 256;
+    private long tempoEncerramentoMs = 1000;
+    private JsonStreamingEncoder encoder;
+    private OutputStream saida;
+
+    private BlockingQueue<ILoggingEvent> fila;
+    private Thread trabalhador;
+    private final LongAdder descartados = new LongAdder();
+    private final LongAdder gravados = new LongAdder();
+    private volatile long atrasoMs;
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (encoder == null) {
+            addError("Nenhum encoder configurado para o appender " + name);
+            return;
+        }
+        if (capacidade < 1) {
+            addError("Capacidade inválida: " + capacidade);
+            return;
+        }
+        if (limiarDescarte < 0) {
+            limiarDescarte = capacidade / 5;
+        }
+        if (saida == null) {
+            // Sem System.out: evita o lock e o flush por escrita do PrintStream
+            saida = new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), 64 * 1024);
+        }
+        fila = new ArrayBlockingQueue<>(capacidade);
+        trabalhador = new Thread(this::executar, "log-json-writer");
+        trabalhador.setDaemon(true);
+        super.start();
+        trabalhador.start();
+    }
+
+    /**
+     * Para de aceitar eventos e espera até {@code tempoEncerramentoMs} para gravar os que estão na fila.
+     */
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        try {
+            trabalhador.join(tempoEncerramentoMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (trabalhador.isAlive()) {
+            addWarn(fila.size() + " eventos de log não gravados no encerramento do appender " + name);
+        }
+    }
+
+    @Override
+    protected void append(ILoggingEvent evento) {
+        if (fila.remainingCapacity() < limiarDescarte && evento.getLevel().toInt() <= Level.INFO_INT) {
+            descartados.increment();
+            return;
+        }
+        // Mensagem formatada, nome da thread e MDC precisam ser lidos aqui, na thread que logou
+        evento.prepareForDeferredProcessing();
+        if (!fila.offer(evento)) {
+            descartados.increment();
+        }
+    }
+
+    private void executar() {
+        List<ILoggingEvent> lote = new ArrayList<>(tamanhoLote);
+        while (isStarted() || !fila.isEmpty()) {
+            try {
+                ILoggingEvent primeiro = fila.poll(ESPERA_OCIOSA_MS, TimeUnit.MILLISECONDS);
+                if (primeiro == null) {
+                    continue;
+                }
+                lote.add(primeiro);
+                fila.drainTo(lote, tamanhoLote - 1);
+                gravar(lote);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lote.clear();
+            }
+        }
+    }
+
+    private void gravar(List<ILoggingEvent> lote) {
+        try {
+            for (ILoggingEvent evento : lote) {
+                encoder.encode(evento, saida);
+            }
+            saida.flush();
+            gravados.add(lote.size());
+        } catch (IOException e) {
+            descartados.add(lote.size());
+            addError("Falha ao gravar eventos de log", e);
+        }
+        // O primeiro do lote é o que mais esperou
+        atrasoMs = System.currentTimeMillis() - lote.get(0).getTimeStamp();
+    }
+
+    /**
+     * Eventos aguardando gravação.
+     */
+    public int getTamanhoFila() {
+        return fila != null ? fila.size() : 0;
+    }
+
+    /**
+     * Tempo entre o log e a gravação do evento mais antigo do último lote.
+     */
+    public long getAtrasoMs() {
+        return atrasoMs;
+    }
+
+    public long getDescartados() {
+        return descartados.sum();
+    }
+
+    public long getGravados() {
+        return gravados.sum();
+    }
+
+    public int getCapacidade() {
+        return capacidade;
+    }
+
+    public void setCapacidade(int capacidade) {
+        this.capacidade = capacidade;
+    }
+
+    public void setLimiarDescarte(int limiarDescarte) {
+        this.limiarDescarte = limiarDescarte;
+    }
+
+    public void setTamanhoLote(int tamanhoLote) {
+        this.tamanhoLote = Math.max(1, tamanhoLote);
+    }
+
+    public void setTempoEncerramentoMs(long tempoEncerramentoMs) {
+        this.tempoEncerramentoMs = tempoEncerramentoMs;
+    }
+
+    public void setEncoder(JsonStreamingEncoder encoder) {
+        this.encoder = encoder;
+    }
+
+    // Para testes; por padrão, a saída padrão do processo
+    void setSaida(OutputStream saida) {
+        this.saida = saida;
+    }
+}
@@ -0,0 +1,62 @@
+package com.delivery_api.logging;
+
+/**
+ * Pontos dos serviços que vão ao banco por falta no cache ou que invalidam o cache ao gravar.
+ *
+ * Um valor por ponto: {@link AcessoDadosEventos} guarda o contador de cada um pelo ordinal, sem montar chave
+ * nem procurar em mapa a cada evento.
+ */
+public enum EventoAcessoDados {
+
+    USUARIO_POR_EMAIL(Tipo.CACHE_MISS, "usuarios", "loadUserByUsername"),
+
+    RESTAURANTE_POR_ID(Tipo.CACHE_MISS, "restaurantes", "buscarRestaurantePorId"),
+    RESTAURANTES_POR_CATEGORIA(Tipo.CACHE_MISS, "restaurantesPorCategoria", "buscarRestaurantesPorCategoria"),
+    RESTAURANTE_ATUALIZADO(Tipo.INVALIDACAO, "restaurantes", "atualizarRestaurante"),
+
+    CLIENTE_POR_ID(Tipo.CACHE_MISS, "clientes", "buscarClientePorId"),
+    CLIENTE_POR_EMAIL(Tipo.CACHE_MISS, "clientes", "buscarClientePorEmail"),
+    CLIENTES_ATIVOS(Tipo.CACHE_MISS, "clientes", "listarClientesAtivos"),
+
+    PRODUTO_POR_ID(Tipo.CACHE_MISS, "produtos", "buscarProdutoPorId"),
+    PRODUTOS_TODOS(Tipo.CACHE_MISS, "produtos", "listarTodosProdutos"),
+    PRODUTOS_POR_CATEGORIA(Tipo.CACHE_MISS, "produtos", "buscarProdutosPorCategoria"),
+    PRODUTOS_POR_RESTAURANTE(Tipo.CACHE_MISS, "produtos", "buscarProdutosPorRestaurante"),
+    PRODUTO_CADASTRADO(Tipo.INVALIDACAO, "produtos", "cadastrarProduto"),
+    PRODUTO_ATUALIZADO(Tipo.INVALIDACAO, "produtos", "atualizarProduto"),
+    PRODUTO_REMOVIDO(Tipo.INVALIDACAO, "produtos", "removerProduto"),
+    PRODUTO_DISPONIBILIDADE_ALTERADA(Tipo.INVALIDACAO, "produtos", "alterarDisponibilidade"),
+
+    PEDIDO_POR_ID(Tipo.CACHE_MISS, "pedidos", "buscarPedidoPorId"),
+    PEDIDO_STATUS_ATUALIZADO(Tipo.INVALIDACAO, "pedidos", "atualizarStatusPedido"),
+    PEDIDO_CANCELADO(Tipo.INVALIDACAO, "pedidos", "cancelarPedido");
+
+    public enum Tipo {
+        // Leitura que não achou o valor no cache e foi ao banco
+        CACHE_MISS,
+        // Gravação que limpou entradas do cache
+        INVALIDACAO
+    }
+
+    private final Tipo tipo;
+    private final String cache;
+    private final String operacao;
+
+    EventoAcessoDados(Tipo tipo, String cache, String operacao) {
+        this.tipo = tipo;
+        this.cache = cache;
+        this.operacao = operacao;
+    }
+
+    public Tipo getTipo() {
+        return tipo;
+    }
+
+    public String getCache() {
+        return cache;
+    }
+
+    public String getOperacao() {
+        return operacao;
+    }
+}
@@ -0,0 +1,197 @@
+package com.delivery_api.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.encoder.EncoderBase;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.slf4j.event.KeyValuePair;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Codifica cada evento de log como uma linha JSON, com um {@link JsonGenerator} e um buffer reaproveitados
+ * de um evento para o outro (sem o {@code Map} por evento do JsonLayout).
+ *
+ * Mesmo formato do JsonLayout usado antes: timestamp ("aaaa-MM-dd HH:mm:ss.SSS", no fuso do sistema), level,
+ * thread, mdc (objeto com correlationId, traceId, spanId..., omitido se vazio), logger, message, context e, se
+ * houver, exception. Os pares chave/valor do evento ({@code log.atInfo().addKeyValue(...)}) vêm no primeiro
+ * nível, depois de context. O prefixo da data até os segundos é montado uma vez por segundo.
+ *
+ * Pensado para uma única thread (a do {@link AsyncJsonAppender}); os métodos são sincronizados para
+ * continuar correto em outros appenders.
+ */
+public class JsonStreamingEncoder extends EncoderBase<ILoggingEvent> {
+
+    private static final int TAMANHO_DATA_HORA = 23; // "2025-09-04 20:30:00.123"
+
+    private final JsonFactory fabrica = new JsonFactory();
+    private final Buffer buffer = new Buffer();
+    private final char[] dataHora = new char[TAMANHO_DATA_HORA];
+    private long segundoEmCache = Long.MIN_VALUE;
+    private ZoneId zona = ZoneId.systemDefault();
+    private JsonGenerator gerador;
+
+    @Override
+    public void start() {
+        gerador = criarGerador();
+        super.start();
+    }
+
+    @Override
+    public byte[] headerBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return null;
+    }
+
+    @Override
+    public synchronized byte[] encode(ILoggingEvent evento) {
+        codificar(evento);
+        byte[] bytes = buffer.toByteArray();
+        buffer.reset();
+        return bytes;
+    }
+
+    /**
+     * Escreve a linha do evento direto em {@code destino}, sem criar o {@code byte[]} de {@link #encode}.
+     */
+    public synchronized void encode(ILoggingEvent evento, OutputStream destino) throws IOException {
+        codificar(evento);
+        try {
+            buffer.writeTo(destino);
+        } finally {
+            buffer.reset();
+        }
+    }
+
+    void setZona(ZoneId zona) {
+        this.zona = zona;
+        this.segundoEmCache = Long.MIN_VALUE;
+    }
+
+    private void codificar(ILoggingEvent evento) {
+        try {
+            gerador.writeStartObject();
+            gerador.writeFieldName("timestamp");
+            gerador.writeString(dataHora(evento.getTimeStamp()), 0, TAMANHO_DATA_HORA);
+            gerador.writeStringField("level", evento.getLevel().levelStr);
+            gerador.writeStringField("thread", evento.getThreadName());
+            Map<String, String> mdc = evento.getMDCPropertyMap();
+            if (mdc != null && !mdc.isEmpty()) {
+                gerador.writeObjectFieldStart("mdc");
+                for (Map.Entry<String, String> entrada : mdc.entrySet()) {
+                    gerador.writeStringField(entrada.getKey(), entrada.getValue());
+                }
+                gerador.writeEndObject();
+            }
+            gerador.writeStringField("logger", evento.getLoggerName());
+            gerador.writeStringField("message", evento.getFormattedMessage());
+            String contexto = evento.getLoggerContextVO().getName();
+            if (contexto != null) {
+                gerador.writeStringField("context", contexto);
+            }
+            List<KeyValuePair> pares = evento.getKeyValuePairs();
+            if (pares != null) {
+                for (KeyValuePair par : pares) {
+                    escreverPar(par);
+                }
+            }
+            IThrowableProxy excecao = evento.getThrowableProxy();
+            if (excecao != null) {
+                gerador.writeStringField("exception", ThrowableProxyUtil.asString(excecao));
+            }
+            gerador.writeEndObject();
+            gerador.writeRaw('\n');
+            gerador.flush();
+        } catch (IOException | RuntimeException e) {
+            // O gerador fica num estado inválido no meio de um objeto: descarta a linha e começa outro
+            buffer.reset();
+            gerador = criarGerador();
+            addError("Falha ao codificar evento de log em JSON", e);
+        }
+    }
+
+    private void escreverPar(KeyValuePair par) throws IOException {
+        gerador.writeFieldName(par.key);
+        if (par.value instanceof Integer || par.value instanceof Long) {
+            gerador.writeNumber(((Number) par.value).longValue());
+        } else if (par.value instanceof Boolean valor) {
+            gerador.writeBoolean(valor);
+        } else if (par.value == null) {
+            gerador.writeNull();
+        } else {
+            gerador.writeString(par.value.toString());
+        }
+    }
+
+    private char[] dataHora(long instante) {
+        long segundo = Math.floorDiv(instante, 1000);
+        if (segundo != segundoEmCache) {
+            LocalDateTime data = LocalDateTime.ofInstant(Instant.ofEpochSecond(segundo), zona);
+            escreverNumero(data.getYear(), 0, 4);
+            dataHora[4] = '-';
+            escreverNumero(data.getMonthValue(), 5, 2);
+            dataHora[7] = '-';
+            escreverNumero(data.getDayOfMonth(), 8, 2);
+            dataHora[10] = ' ';
+            escreverNumero(data.getHour(), 11, 2);
+            dataHora[13] = ':';
+            escreverNumero(data.getMinute(), 14, 2);
+            dataHora[16] = ':';
+            escreverNumero(data.getSecond(), 17, 2);
+            dataHora[19] = '.';
+            segundoEmCache = segundo;
+        }
+        escreverNumero((int) Math.floorMod(instante, 1000), 20, 3);
+        return dataHora;
+    }
+
+    private void escreverNumero(int valor, int posicao, int digitos) {
+        for (int i = posicao + digitos - 1; i >= posicao; i--) {
+            dataHora[i] = (char) ('0' + valor % 10);
+            valor /= 10;
+        }
+    }
+
+    private JsonGenerator criarGerador() {
+        try {
+            // Sem o espaço que o Jackson põe entre valores de primeiro nível: cada linha começa com '{'
+            return fabrica.createGenerator(buffer).setRootValueSeparator(null);
+        } catch (IOException e) {
+            // Saída em memória: não acontece
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Buffer que encolhe de volta quando um evento grande (stack trace) o fez crescer demais
+    private static final class Buffer extends ByteArrayOutputStream {
+
+        private static final int INICIAL = 1024;
+        private static final int MAXIMO_RETIDO = 64 * 1024;
+
+        Buffer() {
+            super(INICIAL);
+        }
+
+        @Override
+        public synchronized void reset() {
+            super.reset();
+            if (buf.length > MAXIMO_RETIDO) {
+                buf = new byte[INICIAL];
+            }
+        }
+    }
+}
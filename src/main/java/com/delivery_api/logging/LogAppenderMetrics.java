@@ -0,0 +1,56 @@
+package com.delivery_api.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Métricas dos {@link AsyncJsonAppender} ligados ao logger raiz, com a tag {@code appender}: tamanho da fila,
+ * atraso de gravação, eventos gravados e descartados.
+ */
+@Component
+public class LogAppenderMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext contexto)) {
+            return;
+        }
+        Iterator<Appender<ILoggingEvent>> appenders = contexto.getLogger(Logger.ROOT_LOGGER_NAME).iteratorForAppenders();
+        while (appenders.hasNext()) {
+            if (appenders.next() instanceof AsyncJsonAppender appender) {
+                registrar(registry, appender);
+            }
+        }
+    }
+
+    private void registrar(MeterRegistry registry, AsyncJsonAppender appender) {
+        Gauge.builder("delivery_log_fila_eventos", appender, AsyncJsonAppender::getTamanhoFila)
+                .description("Eventos de log aguardando gravação")
+                .tag("appender", appender.getName())
+                .register(registry);
+        TimeGauge.builder("delivery_log_atraso", appender, TimeUnit.MILLISECONDS, AsyncJsonAppender::getAtrasoMs)
+                .description("Tempo entre o log e a gravação do evento mais antigo do último lote")
+                .tag("appender", appender.getName())
+                .register(registry);
+        FunctionCounter.builder("delivery_log_eventos_gravados", appender, AsyncJsonAppender::getGravados)
+                .description("Eventos de log gravados")
+                .tag("appender", appender.getName())
+                .register(registry);
+        FunctionCounter.builder("delivery_log_eventos_descartados", appender, AsyncJsonAppender::getDescartados)
+                .description("Eventos de log descartados com a fila cheia ou acima do limiar de descarte")
+                .tag("appender", appender.getName())
+                .register(registry);
+    }
+}
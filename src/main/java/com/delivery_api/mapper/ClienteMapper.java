@@ -0,0 +1,26 @@
+package com.delivery_api.mapper;
+
+import com.delivery_api.dto.ClienteResponseDTO;
+import com.delivery_api.model.Cliente;
+import org.springframework.stereotype.Component;
+
+/**
+ * Conversão de {@link Cliente} para {@link ClienteResponseDTO} sem reflexão.
+ */
+@Component
+public class ClienteMapper {
+
+    public ClienteResponseDTO toResponseDTO(Cliente cliente) {
+        if (cliente == null) {
+            return null;
+        }
+        ClienteResponseDTO dto = new ClienteResponseDTO();
+        dto.setId(cliente.getId());
+        dto.setNome(cliente.getNome());
+        dto.setEmail(cliente.getEmail());
+        dto.setTelefone(cliente.getTelefone());
+        dto.setEndereco(cliente.getEndereco());
+        dto.setAtivo(cliente.isAtivo());
+        return dto;
+    }
+}
@@ -0,0 +1,82 @@
+package com.delivery_api.mapper;
+
+import com.delivery_api.dto.ItemPedidoDTO;
+import com.delivery_api.dto.PedidoResponseDTO;
+import com.delivery_api.model.Cliente;
+import com.delivery_api.model.ItemPedido;
+import com.delivery_api.model.Pedido;
+import com.delivery_api.model.Restaurante;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Conversão de {@link Pedido} para {@link PedidoResponseDTO}, incluindo o cliente e o
+ * restaurante resumidos e a lista de itens.
+ *
+ * Escrito à mão para o caminho quente das listagens: não usa reflexão e só aloca os
+ * objetos de destino (a lista de itens já nasce com a capacidade exata).
+ */
+@Component
+public class PedidoMapper {
+
+    public PedidoResponseDTO toResponseDTO(Pedido pedido) {
+        if (pedido == null) {
+            return null;
+        }
+        PedidoResponseDTO dto = new PedidoResponseDTO();
+        dto.setId(pedido.getId());
+        dto.setDataPedido(pedido.getDataPedido());
+        dto.setStatus(pedido.getStatus());
+        dto.setEnderecoEntrega(pedido.getEnderecoEntrega());
+        dto.setSubtotal(pedido.getSubtotal());
+        dto.setTaxaEntrega(pedido.getTaxaEntrega());
+        dto.setValorTotal(pedido.getValorTotal());
+        dto.setCliente(toClienteResumido(pedido.getCliente()));
+        dto.setRestaurante(toRestauranteResumido(pedido.getRestaurante()));
+        dto.setItens(toItensDTO(pedido.getItens()));
+        return dto;
+    }
+
+    private PedidoResponseDTO.ClienteResumidoDTO toClienteResumido(Cliente cliente) {
+        if (cliente == null) {
+            return null;
+        }
+        PedidoResponseDTO.ClienteResumidoDTO dto = new PedidoResponseDTO.ClienteResumidoDTO();
+        dto.setId(cliente.getId());
+        dto.setNome(cliente.getNome());
+        return dto;
+    }
+
+    private PedidoResponseDTO.RestauranteResumidoDTO toRestauranteResumido(Restaurante restaurante) {
+        if (restaurante == null) {
+            return null;
+        }
+        PedidoResponseDTO.RestauranteResumidoDTO dto = new PedidoResponseDTO.RestauranteResumidoDTO();
+        dto.setId(restaurante.getId());
+        dto.setNome(restaurante.getNome());
+        return dto;
+    }
+
+    private List<ItemPedidoDTO> toItensDTO(List<ItemPedido> itens) {
+        if (itens == null) {
+            return null;
+        }
+        List<ItemPedidoDTO> dtos = new ArrayList<>(itens.size());
+        // Laço indexado: evita criar um Iterator por pedido (as listas vindas do JPA são de acesso aleatório).
+        for (int i = 0; i < itens.size(); i++) {
+            dtos.add(toItemDTO(itens.get(i)));
+        }
+        return dtos;
+    }
+
+    private ItemPedidoDTO toItemDTO(ItemPedido item) {
+        ItemPedidoDTO dto = new ItemPedidoDTO();
+        if (item.getProduto() != null) {
+            dto.setProdutoId(item.getProduto().getId());
+        }
+        dto.setQuantidade(item.getQuantidade());
+        return dto;
+    }
+}
@@ -0,0 +1,29 @@
+package com.delivery_api.mapper;
+
+import com.delivery_api.dto.ProdutoResponseDTO;
+import com.delivery_api.model.Produto;
+import org.springframework.stereotype.Component;
+
+/**
+ * Conversão de {@link Produto} para {@link ProdutoResponseDTO} sem reflexão.
+ */
+@Component
+public class ProdutoMapper {
+
+    public ProdutoResponseDTO toResponseDTO(Produto produto) {
+        if (produto == null) {
+            return null;
+        }
+        ProdutoResponseDTO dto = new ProdutoResponseDTO();
+        dto.setId(produto.getId());
+        dto.setNome(produto.getNome());
+        dto.setDescricao(produto.getDescricao());
+        dto.setPreco(produto.getPreco());
+        dto.setCategoria(produto.getCategoria());
+        dto.setDisponivel(produto.isDisponivel());
+        if (produto.getRestaurante() != null) {
+            dto.setRestauranteId(produto.getRestaurante().getId());
+        }
+        return dto;
+    }
+}
@@ -0,0 +1,32 @@
+package com.delivery_api.mapper;
+
+import com.delivery_api.dto.RestauranteResponseDTO;
+import com.delivery_api.model.Restaurante;
+import org.springframework.stereotype.Component;
+
+/**
+ * Conversão de {@link Restaurante} para {@link RestauranteResponseDTO} sem reflexão.
+ */
+@Component
+public class RestauranteMapper {
+
+    public RestauranteResponseDTO toResponseDTO(Restaurante restaurante) {
+        if (restaurante == null) {
+            return null;
+        }
+        RestauranteResponseDTO dto = new RestauranteResponseDTO();
+        dto.setId(restaurante.getId());
+        dto.setNome(restaurante.getNome());
+        dto.setCategoria(restaurante.getCategoria());
+        dto.setEndereco(restaurante.getEndereco());
+        dto.setTelefone(restaurante.getTelefone());
+        dto.setTaxaEntrega(restaurante.getTaxaEntrega());
+        dto.setTempoEntrega(restaurante.getTempoEntrega());
+        dto.setHorarioFuncionamento(restaurante.getHorarioFuncionamento());
+        dto.setAtivo(restaurante.isAtivo());
+        dto.setCep(restaurante.getCep());
+        dto.setLatitude(restaurante.getLatitude());
+        dto.setLongitude(restaurante.getLongitude());
+        return dto;
+    }
+}
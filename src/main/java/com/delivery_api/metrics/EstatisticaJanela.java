@@ -0,0 +1,11 @@
+package com.delivery_api.metrics;
+
+import java.time.Duration;
+
+// Chamadas, erros e percentil de latência (ms) nos últimos segundos de uma JanelaDeslizante
+public record EstatisticaJanela(Duration janela, long total, long erros, double percentilMs) {
+
+    public double taxaErro() {
+        return total > 0 ? (double) erros / total : 0.0;
+    }
+}
@@ -0,0 +1,142 @@
+package com.delivery_api.metrics;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Anel de baldes de um segundo com chamadas, erros e um histograma de latência, para avaliar taxa de erro e
+ * percentis nos últimos minutos em vez de desde a subida da aplicação.
+ *
+ * Cada balde guarda o segundo a que pertence; quem grava num balde de um segundo antigo o zera antes (por CAS,
+ * sem lock). Uma gravação concorrente com essa troca pode se perder, o que não muda a avaliação de alertas.
+ *
+ * O histograma é log-linear, como o do HdrHistogram com 2 bits de mantissa: 4 faixas por potência de 2 de
+ * microssegundos, erro relativo de até 25%. Os percentis devolvem o limite superior da faixa.
+ */
+public class JanelaDeslizante {
+
+    private static final int SUBFAIXAS = 4;
+    // 2^26 µs ≈ 67 s; acima disso tudo cai na última faixa
+    private static final int EXPOENTE_MAXIMO = 26;
+    static final int FAIXAS = (EXPOENTE_MAXIMO - 1) * SUBFAIXAS + SUBFAIXAS;
+
+    private final int segundos;
+    private final Clock clock;
+    private final AtomicLongArray segundoDoBalde;
+    private final AtomicLongArray chamadas;
+    private final AtomicLongArray erros;
+    private final AtomicIntegerArray histograma;
+
+    public JanelaDeslizante(Duration horizonte) {
+        this(horizonte, Clock.systemUTC());
+    }
+
+    JanelaDeslizante(Duration horizonte, Clock clock) {
+        this.segundos = Math.toIntExact(horizonte.toSeconds());
+        this.clock = clock;
+        this.segundoDoBalde = new AtomicLongArray(segundos);
+        for (int i = 0; i < segundos; i++) {
+            segundoDoBalde.set(i, Long.MIN_VALUE);
+        }
+        this.chamadas = new AtomicLongArray(segundos);
+        this.erros = new AtomicLongArray(segundos);
+        this.histograma = new AtomicIntegerArray(segundos * FAIXAS);
+    }
+
+    public void registrar(long duracaoNanos, boolean erro) {
+        long agora = segundoAtual();
+        int balde = (int) Math.floorMod(agora, segundos);
+        long segundoGravado = segundoDoBalde.get(balde);
+        if (segundoGravado < agora && segundoDoBalde.compareAndSet(balde, segundoGravado, agora)) {
+            zerar(balde);
+        }
+        chamadas.incrementAndGet(balde);
+        if (erro) {
+            erros.incrementAndGet(balde);
+        }
+        histograma.incrementAndGet(balde * FAIXAS + faixa(duracaoNanos / 1000));
+    }
+
+    /**
+     * Soma os baldes dos últimos {@code janela} segundos, incluindo o atual.
+     */
+    public EstatisticaJanela resumir(Duration janela, double percentil) {
+        long tamanho = janela.toSeconds();
+        if (tamanho < 1 || tamanho > segundos) {
+            throw new IllegalArgumentException("Janela fora do horizonte de " + segundos + "s: " + janela);
+        }
+        long agora = segundoAtual();
+        long total = 0;
+        long totalErros = 0;
+        long[] contagens = new long[FAIXAS];
+        for (long segundo = agora - tamanho + 1; segundo <= agora; segundo++) {
+            int balde = (int) Math.floorMod(segundo, segundos);
+            if (segundoDoBalde.get(balde) != segundo) {
+                continue;
+            }
+            total += chamadas.get(balde);
+            totalErros += erros.get(balde);
+            int base = balde * FAIXAS;
+            for (int f = 0; f < FAIXAS; f++) {
+                contagens[f] += histograma.get(base + f);
+            }
+        }
+        return new EstatisticaJanela(janela, total, totalErros, percentilMs(contagens, percentil));
+    }
+
+    private void zerar(int balde) {
+        chamadas.set(balde, 0);
+        erros.set(balde, 0);
+        int base = balde * FAIXAS;
+        for (int f = 0; f < FAIXAS; f++) {
+            histograma.set(base + f, 0);
+        }
+    }
+
+    private long segundoAtual() {
+        return Math.floorDiv(clock.millis(), 1000);
+    }
+
+    private static double percentilMs(long[] contagens, double percentil) {
+        long total = 0;
+        for (long contagem : contagens) {
+            total += contagem;
+        }
+        if (total == 0) {
+            return 0.0;
+        }
+        long alvo = (long) Math.ceil(percentil * total);
+        long acumulado = 0;
+        for (int f = 0; f < FAIXAS; f++) {
+            acumulado += contagens[f];
+            if (acumulado >= alvo) {
+                return limiteSuperior(f) / 1000.0;
+            }
+        }
+        return limiteSuperior(FAIXAS - 1) / 1000.0;
+    }
+
+    // Faixa do valor em µs: 0..7 valem o próprio valor; acima, 4 faixas por potência de 2
+    static int faixa(long micros) {
+        if (micros < 2 * SUBFAIXAS) {
+            return (int) Math.max(micros, 0);
+        }
+        int expoente = 63 - Long.numberOfLeadingZeros(micros);
+        if (expoente >= EXPOENTE_MAXIMO) {
+            return FAIXAS - 1;
+        }
+        int mantissa = (int) (micros >> (expoente - 2));
+        return (expoente - 1) * SUBFAIXAS + (mantissa - SUBFAIXAS);
+    }
+
+    static long limiteSuperior(int faixa) {
+        if (faixa < 2 * SUBFAIXAS) {
+            return faixa;
+        }
+        int expoente = faixa / SUBFAIXAS + 1;
+        long mantissa = faixa % SUBFAIXAS + SUBFAIXAS;
+        return ((mantissa + 1) << (expoente - 2)) - 1;
+    }
+}
@@ -0,0 +1,64 @@
+package com.delivery_api.metrics;
+
+import com.delivery_api.exception.BusinessException;
+import jakarta.validation.ValidationException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE) // Por fora da transação e do cache: a medida inclui o commit
+public class LatenciaAspect {
+
+    @Autowired
+    private LatenciaRegistro latenciaRegistro;
+
+    @Around("@annotation(com.delivery_api.metrics.MedirLatencia)")
+    public Object medir(ProceedingJoinPoint joinPoint) throws Throwable {
+        OperacaoLatencia operacao = operacao(joinPoint);
+        long inicio = System.nanoTime();
+        boolean erro = false;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            erro = falhaInesperada(e);
+            throw e;
+        } finally {
+            latenciaRegistro.registrar(operacao, System.nanoTime() - inicio, erro);
+        }
+    }
+
+    /**
+     * Só falhas do servidor (as que viram 5xx) consomem o orçamento de erros dos alertas. Pedido recusado por
+     * regra de negócio, recurso inexistente, dados inválidos, acesso negado ou senha errada são erros do
+     * cliente: contam na latência, não como erro.
+     */
+    static boolean falhaInesperada(Throwable e) {
+        return !(e instanceof BusinessException
+                || e instanceof ValidationException
+                || e instanceof AccessDeniedException
+                || e instanceof AuthenticationException);
+    }
+
+    // Com proxy por interface, o método da assinatura é o da interface, sem a anotação
+    private static OperacaoLatencia operacao(ProceedingJoinPoint joinPoint) {
+        Method metodo = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        MedirLatencia anotacao = metodo.getAnnotation(MedirLatencia.class);
+        if (anotacao == null) {
+            anotacao = AopUtils.getMostSpecificMethod(metodo, joinPoint.getTarget().getClass())
+                    .getAnnotation(MedirLatencia.class);
+        }
+        return anotacao.value();
+    }
+}
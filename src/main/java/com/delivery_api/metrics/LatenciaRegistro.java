@@ -0,0 +1,136 @@
+package com.delivery_api.metrics;
+
+import com.delivery_api.config.LatenciaProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timers das {@link OperacaoLatencia}, com percentis calculados na aplicação e buckets de SLO.
+ *
+ * Os percentis vêm do histograma em janela do Micrometer (HdrHistogram por baixo): cada gravação é um
+ * incremento num recorder sem lock, e a janela gira a cada {@code expiracao / partesJanela}. Os mesmos timers
+ * aparecem no /actuator/prometheus e, resumidos, no dashboard.
+ *
+ * As operações avaliadas em alertas também gravam, com o resultado, numa {@link JanelaDeslizante}.
+ */
+@Component
+public class LatenciaRegistro {
+
+    private final Timer[] timers;
+    private final long[][] slosNanos;
+    private final JanelaDeslizante[] janelas;
+
+    public LatenciaRegistro(LatenciaProperties properties, MeterRegistry meterRegistry) {
+        OperacaoLatencia[] operacoes = OperacaoLatencia.values();
+        this.timers = new Timer[operacoes.length];
+        this.slosNanos = new long[operacoes.length][];
+        this.janelas = new JanelaDeslizante[operacoes.length];
+
+        double[] percentis = properties.getPercentis().stream().mapToDouble(Double::doubleValue).toArray();
+        for (OperacaoLatencia operacao : operacoes) {
+            List<Duration> slos = properties.slosPara(operacao);
+            slosNanos[operacao.ordinal()] = slos.stream().mapToLong(Duration::toNanos).sorted().toArray();
+            timers[operacao.ordinal()] = Timer.builder(operacao.getMetrica())
+                    .description("Latência de operações de pedidos e autenticação")
+                    .tag("operacao", operacao.getOperacao())
+                    .publishPercentiles(percentis)
+                    .publishPercentileHistogram(properties.isHistograma())
+                    .serviceLevelObjectives(slos.toArray(Duration[]::new))
+                    .minimumExpectedValue(properties.getMinimoEsperado())
+                    .maximumExpectedValue(properties.getMaximoEsperado())
+                    .distributionStatisticExpiry(properties.getExpiracao())
+                    .distributionStatisticBufferLength(properties.getPartesJanela())
+                    .register(meterRegistry);
+            if (operacao.isAvaliadaEmAlertas()) {
+                janelas[operacao.ordinal()] = new JanelaDeslizante(properties.getHorizonteAlertas());
+            }
+        }
+    }
+
+    public void registrar(OperacaoLatencia operacao, long duracaoNanos) {
+        registrar(operacao, duracaoNanos, false);
+    }
+
+    public void registrar(OperacaoLatencia operacao, long duracaoNanos, boolean erro) {
+        timers[operacao.ordinal()].record(duracaoNanos, TimeUnit.NANOSECONDS);
+        JanelaDeslizante janela = janelas[operacao.ordinal()];
+        if (janela != null) {
+            janela.registrar(duracaoNanos, erro);
+        }
+    }
+
+    public Timer timer(OperacaoLatencia operacao) {
+        return timers[operacao.ordinal()];
+    }
+
+    /**
+     * Janela deslizante da operação, ou {@code null} se ela não é avaliada em alertas.
+     */
+    public JanelaDeslizante janela(OperacaoLatencia operacao) {
+        return janelas[operacao.ordinal()];
+    }
+
+    /**
+     * Valor do percentil na janela atual, em milissegundos; 0 se o percentil não estiver configurado ou ainda
+     * não houver amostras.
+     */
+    public double percentilMs(OperacaoLatencia operacao, double percentil) {
+        for (ValueAtPercentile valor : timer(operacao).takeSnapshot().percentileValues()) {
+            if (valor.percentile() == percentil) {
+                return valor.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return 0.0;
+    }
+
+    /**
+     * Resumo de todas as operações, pela chave de {@link OperacaoLatencia#chave()}.
+     */
+    public Map<String, LatenciaResumo> resumo() {
+        Map<String, LatenciaResumo> resumo = new LinkedHashMap<>();
+        for (OperacaoLatencia operacao : OperacaoLatencia.values()) {
+            resumo.put(operacao.chave(), resumir(operacao));
+        }
+        return resumo;
+    }
+
+    private LatenciaResumo resumir(OperacaoLatencia operacao) {
+        HistogramSnapshot snapshot = timer(operacao).takeSnapshot();
+
+        Map<String, Double> percentis = new LinkedHashMap<>();
+        for (ValueAtPercentile valor : snapshot.percentileValues()) {
+            percentis.put("p" + formatarPercentil(valor.percentile()), valor.value(TimeUnit.MILLISECONDS));
+        }
+
+        // Os buckets do histograma publicado também vêm no snapshot: só os das SLOs interessam aqui
+        Map<String, Double> slos = new LinkedHashMap<>();
+        long[] limites = slosNanos[operacao.ordinal()];
+        for (CountAtBucket bucket : snapshot.histogramCounts()) {
+            long limite = (long) bucket.bucket();
+            if (Arrays.binarySearch(limites, limite) >= 0) {
+                slos.put(Duration.ofNanos(limite).toMillis() + "ms",
+                        snapshot.count() > 0 ? bucket.count() / snapshot.count() : 1.0);
+            }
+        }
+
+        return new LatenciaResumo(snapshot.count(), snapshot.mean(TimeUnit.MILLISECONDS),
+                snapshot.max(TimeUnit.MILLISECONDS), percentis, slos);
+    }
+
+    // 0.95 -> "95", 0.999 -> "99.9"
+    private static String formatarPercentil(double percentil) {
+        double valor = percentil * 100;
+        return valor == Math.rint(valor) ? String.valueOf((long) valor) : String.valueOf(Math.round(valor * 10) / 10.0);
+    }
+}
@@ -0,0 +1,8 @@
+package com.delivery_api.metrics;
+
+import java.util.Map;
+
+// Latência de uma operação para o dashboard, em milissegundos; slos é a fração das chamadas dentro de cada limite
+public record LatenciaResumo(long contagem, double mediaMs, double maximoMs,
+                             Map<String, Double> percentisMs, Map<String, Double> slos) {
+}
@@ -0,0 +1,18 @@
+package com.delivery_api.metrics;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Mede a duração do método no timer da operação, via {@link LatenciaAspect}. Uma exceção inesperada (que vira
+ * 5xx) conta como erro na janela dos alertas; erros do cliente, como {@code BusinessException}, não.
+ * Só vale em chamadas que passam pelo proxy do Spring, como {@code @Transactional}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MedirLatencia {
+
+    OperacaoLatencia value();
+}
@@ -0,0 +1,47 @@
+package com.delivery_api.metrics;
+
+/**
+ * Operações com latência medida por {@link LatenciaRegistro}: nome do timer e valor da tag {@code operacao}.
+ *
+ * As SLOs de cada uma ficam em {@code delivery.latencia.slos.<chave>} (ex: {@code pedido-criacao}).
+ */
+public enum OperacaoLatencia {
+
+    PEDIDO_CRIACAO("delivery_pedido_processamento_seconds", "criar", true),
+    PEDIDO_STATUS("delivery_pedido_processamento_seconds", "atualizar_status", false),
+    PEDIDO_CANCELAMENTO("delivery_pedido_processamento_seconds", "cancelar", false),
+    PEDIDO_CALCULO("delivery_pedido_processamento_seconds", "calcular_total", false),
+    AUTH_LOGIN("delivery_auth_seconds", "login", false);
+
+    private final String metrica;
+    private final String operacao;
+    private final boolean avaliadaEmAlertas;
+
+    OperacaoLatencia(String metrica, String operacao, boolean avaliadaEmAlertas) {
+        this.metrica = metrica;
+        this.operacao = operacao;
+        this.avaliadaEmAlertas = avaliadaEmAlertas;
+    }
+
+    public String getMetrica() {
+        return metrica;
+    }
+
+    public String getOperacao() {
+        return operacao;
+    }
+
+    /**
+     * Se as chamadas também vão para a {@link JanelaDeslizante} usada pelos alertas.
+     */
+    public boolean isAvaliadaEmAlertas() {
+        return avaliadaEmAlertas;
+    }
+
+    /**
+     * Chave da operação na configuração: o nome em minúsculas, com hífen.
+     */
+    public String chave() {
+        return name().toLowerCase().replace('_', '-');
+    }
+}
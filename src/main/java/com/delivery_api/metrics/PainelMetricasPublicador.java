@@ -0,0 +1,271 @@
+package com.delivery_api.metrics;
+
+import com.delivery_api.config.PainelProperties;
+import com.delivery_api.service.AlertService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publica as métricas do dashboard por server-sent events.
+ *
+ * A cada {@code delivery.painel.intervalo} uma thread própria ("painel-metricas") lê as métricas, monta o
+ * snapshot e o serializa uma vez; o mesmo JSON vai para todas as conexões abertas. Os medidores são
+ * resolvidos uma vez na subida, não procurados no MeterRegistry a cada leitura.
+ *
+ * O produtor nunca grava na conexão: cada assinante guarda só o último snapshot pendente e as gravações
+ * correm num pool separado, no máximo uma por assinante. Um cliente lento recebe o snapshot mais recente
+ * quando a gravação anterior termina; os intermediários são substituídos (e contados em
+ * {@code delivery_painel_snapshots_substituidos}), sem fila crescendo em memória.
+ */
+@Component
+public class PainelMetricasPublicador implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(PainelMetricasPublicador.class);
+
+    private static final String EVENTO = "metricas";
+
+    private final MeterRegistry meterRegistry;
+    private final LatenciaRegistro latenciaRegistro;
+    private final AlertService alertService;
+    private final PainelProperties properties;
+    private final ObjectMapper objectMapper;
+
+    private final Set<Assinante> assinantes = ConcurrentHashMap.newKeySet();
+    private final LongAdder substituidos = new LongAdder();
+    private volatile Snapshot ultimo;
+
+    // Resolvidos em start(), depois que todos os beans registraram seus medidores
+    private Counter pedidosTotal;
+    private Counter pedidosSucesso;
+    private Counter pedidosErro;
+    private Gauge usuariosAtivos;
+    private Timer tempoPedido;
+
+    private ScheduledExecutorService agendador;
+    private ExecutorService envio;
+    private volatile boolean running;
+
+    public PainelMetricasPublicador(MeterRegistry meterRegistry, LatenciaRegistro latenciaRegistro,
+                                    AlertService alertService, PainelProperties properties,
+                                    ObjectMapper objectMapper) {
+        this.meterRegistry = meterRegistry;
+        this.latenciaRegistro = latenciaRegistro;
+        this.alertService = alertService;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+
+        Gauge.builder("delivery_painel_assinantes", assinantes, Set::size)
+                .description("Conexões SSE abertas do dashboard")
+                .register(meterRegistry);
+        FunctionCounter.builder("delivery_painel_snapshots_substituidos", substituidos, LongAdder::sum)
+                .description("Snapshots do dashboard não enviados porque um mais novo chegou antes da gravação")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Abre uma conexão SSE; o último snapshot é enviado logo, sem esperar o próximo intervalo.
+     */
+    public SseEmitter assinar() {
+        return assinar(new SseEmitter(properties.getTimeoutConexao().toMillis()));
+    }
+
+    SseEmitter assinar(SseEmitter emitter) {
+        Assinante assinante = new Assinante(emitter);
+        emitter.onCompletion(() -> assinantes.remove(assinante));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> assinantes.remove(assinante));
+        assinantes.add(assinante);
+        assinante.entregar(snapshot().json());
+        return emitter;
+    }
+
+    /**
+     * Último snapshot, para quem ainda consulta o endpoint JSON.
+     */
+    public Map<String, Object> snapshotAtual() {
+        return snapshot().dados();
+    }
+
+    int getAssinantes() {
+        return assinantes.size();
+    }
+
+    long getSubstituidos() {
+        return substituidos.sum();
+    }
+
+    /**
+     * Monta um snapshot e o entrega a todos os assinantes. Chamado pelo agendador.
+     */
+    void publicar() {
+        Snapshot snapshot = calcular();
+        ultimo = snapshot;
+        for (Assinante assinante : assinantes) {
+            assinante.entregar(snapshot.json());
+        }
+    }
+
+    @Override
+    public void start() {
+        resolverMedidores();
+        envio = Executors.newFixedThreadPool(Math.max(1, properties.getThreadsEnvio()), fabrica("painel-sse-"));
+        agendador = Executors.newSingleThreadScheduledExecutor(fabrica("painel-metricas"));
+        long intervalo = properties.getIntervalo().toMillis();
+        agendador.scheduleAtFixedRate(this::publicarComSeguranca, intervalo, intervalo, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        if (agendador != null) {
+            agendador.shutdownNow();
+            agendador = null;
+        }
+        for (Assinante assinante : assinantes) {
+            assinante.emitter.complete();
+        }
+        assinantes.clear();
+        if (envio != null) {
+            envio.shutdownNow();
+            envio = null;
+        }
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void publicarComSeguranca() {
+        try {
+            publicar();
+        } catch (RuntimeException e) {
+            // Mantém o último snapshot; o próximo intervalo tenta de novo.
+            logger.warn("Falha ao publicar métricas do dashboard: {}", e.getMessage());
+        }
+    }
+
+    private Snapshot snapshot() {
+        Snapshot snapshot = ultimo;
+        return snapshot != null ? snapshot : calcular();
+    }
+
+    private Snapshot calcular() {
+        if (tempoPedido == null) {
+            resolverMedidores();
+        }
+        Map<String, Object> dados = new LinkedHashMap<>();
+        dados.put("pedidos_total", pedidosTotal != null ? pedidosTotal.count() : 0.0);
+        dados.put("pedidos_sucesso", pedidosSucesso != null ? pedidosSucesso.count() : 0.0);
+        dados.put("pedidos_erro", pedidosErro != null ? pedidosErro.count() : 0.0);
+        dados.put("tempo_medio_pedido_ms", tempoPedido.mean(TimeUnit.MILLISECONDS));
+        dados.put("usuarios_ativos", usuariosAtivos != null ? usuariosAtivos.value() : 0.0);
+        // Percentis da janela recente e fração dentro de cada SLO, por operação
+        dados.put("latencias", latenciaRegistro.resumo());
+        dados.put("alertas_ativos", alertService.alertasAtivos());
+        try {
+            return new Snapshot(dados, objectMapper.writeValueAsString(dados));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar métricas do dashboard", e);
+        }
+    }
+
+    private void resolverMedidores() {
+        pedidosTotal = meterRegistry.find("delivery_pedidos_total").counter();
+        pedidosSucesso = meterRegistry.find("delivery_pedidos_sucesso_total").counter();
+        pedidosErro = meterRegistry.find("delivery_pedidos_erro_total").counter();
+        usuariosAtivos = meterRegistry.find("delivery_usuarios_ativos_total").gauge();
+        tempoPedido = latenciaRegistro.timer(OperacaoLatencia.PEDIDO_CRIACAO);
+    }
+
+    private static ThreadFactory fabrica(String prefixo) {
+        AtomicInteger sequencia = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, prefixo.endsWith("-") ? prefixo + sequencia.incrementAndGet() : prefixo);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record Snapshot(Map<String, Object> dados, String json) {
+    }
+
+    private final class Assinante {
+
+        private final SseEmitter emitter;
+        // Só o snapshot mais novo ainda não gravado
+        private final AtomicReference<String> pendente = new AtomicReference<>();
+        private final AtomicBoolean enviando = new AtomicBoolean();
+
+        Assinante(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void entregar(String json) {
+            if (pendente.getAndSet(json) != null) {
+                substituidos.increment();
+            }
+            agendarEnvio();
+        }
+
+        private void agendarEnvio() {
+            ExecutorService executor = envio;
+            if (executor == null || !enviando.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                executor.execute(this::enviar);
+            } catch (RejectedExecutionException e) {
+                // Encerrando
+                enviando.set(false);
+            }
+        }
+
+        private void enviar() {
+            try {
+                String json;
+                while ((json = pendente.getAndSet(null)) != null) {
+                    emitter.send(SseEmitter.event().name(EVENTO).data(json, MediaType.APPLICATION_JSON));
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Cliente desconectado ou conexão já encerrada: o container completa o emitter
+                assinantes.remove(this);
+                return;
+            } finally {
+                enviando.set(false);
+            }
+            // Um snapshot pode ter chegado entre o último getAndSet e a liberação de "enviando"
+            if (pendente.get() != null) {
+                agendarEnvio();
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.delivery_api.model;
 
+import com.delivery_api.geo.EnderecoCidade;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -9,17 +10,23 @@ import java.util.List;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 @Entity
+@Table(indexes = {
+        // Segmentação por cidade (ClienteRepository.findIdsAtivosPorCidades)
+        @Index(name = "idx_cliente_cidade_ativo", columnList = "cidade, ativo")
+})
 @Data
 @NoArgsConstructor
 public class Cliente {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequenceId(sequenceName = "cliente_seq")
     private Long id;
 
     private String nome;
     private String email;
     private String telefone;
     private String endereco;
+    // Derivada do endereço (EnderecoCidade): minúsculas, sem acentos; nula quando o endereço não tem UF
+    private String cidade;
     private boolean ativo;
 
     @JsonIgnore
@@ -34,6 +41,12 @@ public class Cliente {
         this.ativo = ativo;
     }
 
+    @PrePersist
+    @PreUpdate
+    void derivarCidade() {
+        this.cidade = EnderecoCidade.extrair(endereco);
+    }
+
     // Método utilitário para inativação (soft delete)
     public void inativar() {
         this.ativo = false;
@@ -15,7 +15,7 @@ import com.fasterxml.jackson.annotation.JsonBackReference;
 @AllArgsConstructor
 public class ItemPedido {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequenceId(sequenceName = "item_pedido_seq")
     private Long id;
 
     private int quantidade;
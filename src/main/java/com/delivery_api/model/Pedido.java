@@ -15,12 +15,20 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
+@Table(indexes = {
+        // Filtros da listagem de pedidos: igualdade na primeira coluna, intervalo/ordenação por data na segunda.
+        @Index(name = "idx_pedido_status_data", columnList = "status, data_pedido"),
+        @Index(name = "idx_pedido_restaurante_data", columnList = "restaurante_id, data_pedido"),
+        @Index(name = "idx_pedido_cliente_data", columnList = "cliente_id, data_pedido"),
+        // Paginação por cursor sem filtro, em (dataPedido, id).
+        @Index(name = "idx_pedido_data_id", columnList = "data_pedido, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Pedido {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequenceId(sequenceName = "pedido_seq")
     private Long id;
 
     private String numeroPedido;
@@ -0,0 +1,46 @@
+package com.delivery_api.model;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.lang.reflect.Member;
+import java.util.Properties;
+
+/**
+ * Gerador de IDs baseado em sequence (estilo hi/lo) usado por {@link PooledSequenceId}.
+ *
+ * A cada ida ao banco, a sequence reserva um bloco de IDs do tamanho configurado em
+ * "spring.jpa.properties.delivery.id.allocation_size" (padrão: 50). Os IDs do bloco são
+ * entregues em memória, sem novas consultas, até o bloco se esgotar.
+ */
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+
+    public static final String ALLOCATION_SIZE_SETTING = "delivery.id.allocation_size";
+    public static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    private final String sequenceName;
+
+    public PooledSequenceGenerator(PooledSequenceId config, Member member, CustomIdGeneratorCreationContext context) {
+        this.sequenceName = config.sequenceName();
+    }
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) {
+        int allocationSize = ConfigurationHelper.getInt(
+                ALLOCATION_SIZE_SETTING,
+                serviceRegistry.requireService(ConfigurationService.class).getSettings(),
+                DEFAULT_ALLOCATION_SIZE
+        );
+
+        parameters.put(SEQUENCE_PARAM, sequenceName);
+        parameters.put(INCREMENT_PARAM, String.valueOf(allocationSize));
+        parameters.put(OPT_PARAM, StandardOptimizerDescriptor.POOLED_LO.getExternalName());
+
+        super.configure(type, parameters, serviceRegistry);
+    }
+}
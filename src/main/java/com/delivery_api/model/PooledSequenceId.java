@@ -0,0 +1,27 @@
+package com.delivery_api.model;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca o ID de uma entidade para ser gerado por uma sequence com otimizador "pooled-lo".
+ *
+ * Diferente de GenerationType.IDENTITY, o ID é conhecido antes do INSERT, o que permite
+ * ao Hibernate agrupar os INSERTs em lotes JDBC (hibernate.jdbc.batch_size).
+ * O tamanho do bloco reservado a cada ida à sequence é definido em
+ * {@link PooledSequenceGenerator#ALLOCATION_SIZE_SETTING}.
+ */
+@IdGeneratorType(PooledSequenceGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface PooledSequenceId {
+
+    /**
+     * Nome da sequence no banco de dados (ex: "pedido_seq").
+     */
+    String sequenceName();
+}
@@ -14,7 +14,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 @NoArgsConstructor
 public class Restaurante {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequenceId(sequenceName = "restaurante_seq")
     private Long id;
 
     private String nome;
@@ -30,6 +30,11 @@ public class Restaurante {
     private Integer tempoEntrega;
     private String horarioFuncionamento;
 
+    // Localização usada na busca por proximidade (ver RestauranteGeoIndex)
+    private String cep;
+    private Double latitude;
+    private Double longitude;
+
     @JsonIgnore
     @OneToMany(mappedBy = "restaurante")
     private List<Produto> produtos;
@@ -0,0 +1,32 @@
+package com.delivery_api.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Agregado de vendas por restaurante, dia (de {@code dataPedido}) e status.
+ *
+ * Mantido na mesma transação das escritas de {@link Pedido} (ver {@code VendaDiariaService});
+ * os relatórios de vendas leem daqui em vez de agrupar a tabela de pedidos inteira.
+ */
+@Entity
+@Table(name = "venda_diaria", indexes = {
+        // Relatórios por período; os por restaurante usam a chave primária.
+        @Index(name = "idx_venda_diaria_dia", columnList = "dia")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VendaDiaria {
+
+    @EmbeddedId
+    private VendaDiariaId id;
+
+    private long quantidadePedidos;
+
+    private BigDecimal valorTotal;
+}
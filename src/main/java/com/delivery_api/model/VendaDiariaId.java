@@ -0,0 +1,28 @@
+package com.delivery_api.model;
+
+import com.delivery_api.enums.StatusPedido;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VendaDiariaId implements Serializable {
+
+    @Column(name = "restaurante_id")
+    private Long restauranteId;
+
+    private LocalDate dia;
+
+    @Enumerated(EnumType.STRING)
+    private StatusPedido status;
+}
@@ -0,0 +1,5 @@
+package com.delivery_api.projection;
+
+// Cliente ativo de uma cidade, para a segmentação por várias cidades de uma vez
+public record ClienteCidade(String cidade, Long id) {
+}
@@ -0,0 +1,5 @@
+package com.delivery_api.projection;
+
+// Endereço ainda sem cidade extraída, lido em lotes pelo preenchimento de cliente.cidade
+public record ClienteEndereco(Long id, String endereco) {
+}
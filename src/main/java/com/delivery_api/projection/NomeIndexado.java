@@ -0,0 +1,5 @@
+package com.delivery_api.projection;
+
+// Projeção com o necessário para montar os índices de nome, sem carregar as entidades
+public record NomeIndexado(Long id, String nome, boolean ativo) {
+}
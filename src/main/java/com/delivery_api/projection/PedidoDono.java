@@ -0,0 +1,5 @@
+package com.delivery_api.projection;
+
+// Projeção com os donos de um pedido, sem carregar o pedido, o cliente ou o restaurante
+public record PedidoDono(Long clienteId, Long restauranteId) {
+}
@@ -0,0 +1,30 @@
+package com.delivery_api.projection;
+
+import com.delivery_api.enums.StatusPedido;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Uma linha da exportação de pedidos: os dados do pedido repetidos em cada um dos seus itens.
+ * Pedidos sem itens vêm em uma única linha, com os campos do item nulos.
+ *
+ * É uma projeção (não uma entidade) para que o cursor não encha o contexto de persistência.
+ */
+public record PedidoExportLinha(
+        Long pedidoId,
+        String numeroPedido,
+        LocalDateTime dataPedido,
+        StatusPedido status,
+        Long clienteId,
+        Long restauranteId,
+        BigDecimal subtotal,
+        BigDecimal taxaEntrega,
+        BigDecimal valorTotal,
+        Long itemId,
+        Long produtoId,
+        String produtoNome,
+        Integer quantidade,
+        BigDecimal precoUnitario,
+        BigDecimal itemSubtotal) {
+}
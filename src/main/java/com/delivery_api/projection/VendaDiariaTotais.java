@@ -0,0 +1,15 @@
+package com.delivery_api.projection;
+
+import com.delivery_api.enums.StatusPedido;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Totais de um grupo (restaurante, dia, status), lidos do agregado ou calculados dos pedidos
+public record VendaDiariaTotais(
+        Long restauranteId,
+        LocalDate dia,
+        StatusPedido status,
+        Long quantidadePedidos,
+        BigDecimal valorTotal) {
+}
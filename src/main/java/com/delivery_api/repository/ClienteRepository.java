@@ -1,12 +1,23 @@
 package com.delivery_api.repository;
 
+import com.delivery_api.geo.EnderecoCidade;
 import com.delivery_api.model.Cliente;
+import com.delivery_api.projection.ClienteCidade;
+import com.delivery_api.projection.ClienteEndereco;
+import com.delivery_api.projection.NomeIndexado;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ClienteRepository extends JpaRepository<Cliente, Long> {
@@ -16,11 +27,38 @@ public interface ClienteRepository extends JpaRepository<Cliente, Long> {
     List<Cliente> findByNomeContainingIgnoreCase(String nome);
     Optional<Cliente> findByTelefone(String telefone);
 
+    // Carga do índice de nomes (ClienteNomeIndex). Deve ser consumido dentro de uma transação e fechado ao final.
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.delivery_api.projection.NomeIndexado(c.id, c.nome, c.ativo) FROM Cliente c")
+    Stream<NomeIndexado> streamNomesParaIndice();
+
     @Query("SELECT DISTINCT c FROM Cliente c JOIN c.pedidos p WHERE c.ativo = true")
     List<Cliente> findClientesComPedidos();
 
-    @Query(value = "SELECT * FROM cliente WHERE endereco LIKE %:cidade% AND ativo = true", nativeQuery = true)
-    List<Cliente> findByCidade(@Param("cidade") String cidade);
+    // Clientes ativos da cidade; aceita o nome como digitado ("São Paulo") e compara com a coluna normalizada
+    default List<Cliente> findByCidade(String cidade) {
+        return findAtivosPorCidadeNormalizada(EnderecoCidade.normalizar(cidade));
+    }
+
+    @Query("SELECT c FROM Cliente c WHERE c.cidade = :cidade AND c.ativo = true")
+    List<Cliente> findAtivosPorCidadeNormalizada(@Param("cidade") String cidade);
+
+    // IDs dos clientes ativos de várias cidades (já normalizadas) em uma consulta, ordenados por cidade e ID
+    @Query("SELECT new com.delivery_api.projection.ClienteCidade(c.cidade, c.id) FROM Cliente c " +
+           "WHERE c.cidade IN :cidades AND c.ativo = true ORDER BY c.cidade, c.id")
+    List<ClienteCidade> findIdsAtivosPorCidades(@Param("cidades") Collection<String> cidades);
+
+    // Próximo lote do preenchimento de cidade, por cursor no ID
+    @Query("SELECT new com.delivery_api.projection.ClienteEndereco(c.id, c.endereco) FROM Cliente c " +
+           "WHERE c.cidade IS NULL AND c.endereco IS NOT NULL AND c.id > :ultimoId ORDER BY c.id")
+    List<ClienteEndereco> findSemCidadeAposId(@Param("ultimoId") long ultimoId, Limit limite);
+
+    @Modifying
+    @Query("UPDATE Cliente c SET c.cidade = :cidade WHERE c.id IN :ids")
+    int atualizarCidade(@Param("cidade") String cidade, @Param("ids") Collection<Long> ids);
 
     @Query("SELECT COUNT(c) FROM Cliente c WHERE c.ativo = true")
     Long countClientesAtivos();
@@ -3,16 +3,25 @@ package com.delivery_api.repository;
 import com.delivery_api.model.Pedido;
 import com.delivery_api.model.Cliente;
 import com.delivery_api.enums.StatusPedido;
+import com.delivery_api.projection.PedidoDono;
+import com.delivery_api.projection.PedidoExportLinha;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface PedidoRepository extends JpaRepository<Pedido, Long> {
+public interface PedidoRepository extends JpaRepository<Pedido, Long>, JpaSpecificationExecutor<Pedido> {
     List<Pedido> findByClienteOrderByDataPedidoDesc(Cliente cliente);
 
     List<Pedido> findByClienteId(Long clienteId);
@@ -30,19 +39,28 @@ public interface PedidoRepository extends JpaRepository<Pedido, Long> {
     @Query("SELECT p FROM Pedido p WHERE p.restaurante.id = :restauranteId ORDER BY p.dataPedido DESC")
     List<Pedido> findByRestauranteId(@Param("restauranteId") Long restauranteId);
 
-    @Query("SELECT p.status, COUNT(p) FROM Pedido p GROUP BY p.status")
+    // Lê só as chaves estrangeiras; usado nas checagens de permissão
+    @Query("SELECT new com.delivery_api.projection.PedidoDono(p.cliente.id, p.restaurante.id) FROM Pedido p WHERE p.id = :id")
+    Optional<PedidoDono> findDonoById(@Param("id") Long id);
+
+    // Os relatórios de vendas abaixo leem o agregado VendaDiaria, não a tabela de pedidos.
+    @Query("SELECT v.id.status, SUM(v.quantidadePedidos) FROM VendaDiaria v " +
+           "GROUP BY v.id.status HAVING SUM(v.quantidadePedidos) > 0")
     List<Object[]> countPedidosByStatus();
 
     @Query("SELECT p FROM Pedido p WHERE p.status IN ('PENDENTE', 'CONFIRMADO', 'PREPARANDO') ORDER BY p.dataPedido ASC")
     List<Pedido> findPedidosPendentes();
 
-    @Query("SELECT SUM(p.valorTotal) FROM Pedido p WHERE p.dataPedido BETWEEN :inicio AND :fim AND p.status NOT IN ('CANCELADO')")
-    BigDecimal calcularVendasPorPeriodo(@Param("inicio") LocalDateTime inicio, @Param("fim") LocalDateTime fim);
+    // O agregado é diário: o período vai de dias inteiros, inicio e fim inclusive.
+    @Query("SELECT SUM(v.valorTotal) FROM VendaDiaria v " +
+           "WHERE v.id.dia BETWEEN :inicio AND :fim AND v.id.status <> com.delivery_api.enums.StatusPedido.CANCELADO")
+    BigDecimal calcularVendasPorPeriodo(@Param("inicio") LocalDate inicio, @Param("fim") LocalDate fim);
 
-    @Query("SELECT p.restaurante.nome, SUM(p.valorTotal) " +
-           "FROM Pedido p " +
-           "GROUP BY p.restaurante.id, p.restaurante.nome " +
-           "ORDER BY SUM(p.valorTotal) DESC")
+    @Query("SELECT r.nome, SUM(v.valorTotal) " +
+           "FROM VendaDiaria v JOIN Restaurante r ON r.id = v.id.restauranteId " +
+           "GROUP BY r.id, r.nome " +
+           "HAVING SUM(v.quantidadePedidos) > 0 " +
+           "ORDER BY SUM(v.valorTotal) DESC")
     List<Object[]> calcularTotalVendasPorRestaurante();
 
     @Query("SELECT p FROM Pedido p WHERE p.valorTotal > :valor ORDER BY p.valorTotal DESC")
@@ -57,4 +75,24 @@ public interface PedidoRepository extends JpaRepository<Pedido, Long> {
         @Param("fim") LocalDateTime fim,
         @Param("status") StatusPedido status
     );
+
+    // Exportação: cursor só para frente, lido em blocos de fetchSize linhas e ordenado como
+    // idx_pedido_data_id, com os itens de cada pedido em sequência. Deve ser consumido
+    // dentro de uma transação e fechado ao final (try-with-resources).
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.delivery_api.projection.PedidoExportLinha(" +
+           "p.id, p.numeroPedido, p.dataPedido, p.status, p.cliente.id, p.restaurante.id, " +
+           "p.subtotal, p.taxaEntrega, p.valorTotal, i.id, pr.id, pr.nome, i.quantidade, i.precoUnitario, i.subtotal) " +
+           "FROM Pedido p LEFT JOIN p.itens i LEFT JOIN i.produto pr " +
+           "WHERE p.dataPedido >= :inicio AND p.dataPedido < :fim " +
+           "AND (:status IS NULL OR p.status = :status) " +
+           "ORDER BY p.dataPedido, p.id, i.id")
+    Stream<PedidoExportLinha> streamParaExportacao(
+        @Param("inicio") LocalDateTime inicio,
+        @Param("fim") LocalDateTime fim,
+        @Param("status") StatusPedido status
+    );
 }
@@ -0,0 +1,72 @@
+package com.delivery_api.repository;
+
+import com.delivery_api.enums.StatusPedido;
+import com.delivery_api.model.Pedido;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Critérios dinâmicos para consultas de {@link Pedido}.
+ *
+ * Os filtros opcionais não geram predicado quando o argumento é nulo, então podem ser
+ * combinados livremente. Cada combinação usada nas listagens tem um índice composto
+ * declarado em {@link Pedido} (ex: status + data_pedido).
+ */
+public final class PedidoSpecifications {
+
+    /**
+     * Ordem da paginação por cursor: mais recentes primeiro, com o ID desempatando pedidos do mesmo instante.
+     */
+    public static final Sort ORDEM_CURSOR = Sort.by(Sort.Order.desc("dataPedido"), Sort.Order.desc("id"));
+
+    private PedidoSpecifications() {
+    }
+
+    /**
+     * Combina os filtros da listagem administrativa; argumentos nulos são ignorados.
+     */
+    public static Specification<Pedido> filtros(StatusPedido status, LocalDate dataInicio, LocalDate dataFim) {
+        return Specification.allOf(comStatus(status), aPartirDe(dataInicio), ate(dataFim));
+    }
+
+    public static Specification<Pedido> comStatus(StatusPedido status) {
+        return (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Pedido> doRestaurante(Long restauranteId) {
+        return (root, query, cb) -> restauranteId == null ? null : cb.equal(root.get("restaurante").get("id"), restauranteId);
+    }
+
+    public static Specification<Pedido> doCliente(Long clienteId) {
+        return (root, query, cb) -> clienteId == null ? null : cb.equal(root.get("cliente").get("id"), clienteId);
+    }
+
+    /**
+     * Pedidos feitos a partir do início do dia informado.
+     */
+    public static Specification<Pedido> aPartirDe(LocalDate dataInicio) {
+        return (root, query, cb) -> dataInicio == null ? null
+                : cb.greaterThanOrEqualTo(root.get("dataPedido"), dataInicio.atStartOfDay());
+    }
+
+    /**
+     * Pedidos feitos até o fim do dia informado (inclusive).
+     */
+    public static Specification<Pedido> ate(LocalDate dataFim) {
+        return (root, query, cb) -> dataFim == null ? null
+                : cb.lessThan(root.get("dataPedido"), dataFim.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * Pedidos que vêm depois de (dataPedido, id) na {@link #ORDEM_CURSOR}:
+     * {@code data_pedido < :data OR (data_pedido = :data AND id < :id)}.
+     */
+    public static Specification<Pedido> aposCursor(LocalDateTime dataPedido, Long id) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("dataPedido"), dataPedido),
+                cb.and(cb.equal(root.get("dataPedido"), dataPedido), cb.lessThan(root.get("id"), id)));
+    }
+}
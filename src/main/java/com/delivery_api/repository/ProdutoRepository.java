@@ -7,7 +7,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.lang.NonNull; // Add this import
 
 @Repository
@@ -21,9 +23,6 @@ public interface ProdutoRepository extends JpaRepository<Produto, Long> {
     @NonNull
     List<Produto> findByCategoriaAndDisponivelTrue(String categoria);
     
-    @NonNull
-    List<Produto> findByNomeContainingIgnoreCaseAndDisponivelTrue(String nome);
-    
     @NonNull
     List<Produto> findByPrecoBetweenAndDisponivelTrue(BigDecimal precoMin, BigDecimal precoMax);
     
@@ -58,7 +57,16 @@ public interface ProdutoRepository extends JpaRepository<Produto, Long> {
 
     @NonNull
     List<Produto> findByRestauranteId(Long restauranteId);
+
+    // Carrega vários produtos (e seus restaurantes) em uma única consulta, usado na montagem de pedidos
+    @Query("SELECT p FROM Produto p JOIN FETCH p.restaurante WHERE p.id IN :ids")
+    @NonNull
+    List<Produto> findProdutosComRestaurantePorIds(@Param("ids") Collection<Long> ids);
     
+    // Lê só o restaurante dono do produto; usado nas checagens de permissão
+    @Query("SELECT p.restaurante.id FROM Produto p WHERE p.id = :id")
+    Optional<Long> findRestauranteIdById(@Param("id") Long id);
+
     // Add this method to find all products
     @Override
     @NonNull
@@ -3,24 +3,37 @@ package com.delivery_api.repository;
 import com.delivery_api.model.Restaurante;
 import com.delivery_api.projection.RelatorioVendas;
 
+import com.delivery_api.projection.NomeIndexado;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface RestauranteRepository extends JpaRepository<Restaurante, Long> {
+public interface RestauranteRepository extends JpaRepository<Restaurante, Long>, JpaSpecificationExecutor<Restaurante> {
     Optional<Restaurante> findByNome(String nome);
     List<Restaurante> findByCategoria(String categoria);
     List<Restaurante> findByAtivoTrue();
     List<Restaurante> findByCategoriaAndAtivoTrue(String categoria);
     List<Restaurante> findByTaxaEntregaLessThanEqual(BigDecimal taxaEntrega);
-    List<Restaurante> findByNomeContainingIgnoreCaseAndAtivoTrue(String nome);
     List<Restaurante> findTop5ByOrderByNomeAsc();
 
+    // Carga do índice de nomes (RestauranteNomeIndex). Deve ser consumido dentro de uma transação e fechado ao final.
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.delivery_api.projection.NomeIndexado(r.id, r.nome, r.ativo) FROM Restaurante r")
+    Stream<NomeIndexado> streamNomesParaIndice();
+
     @Query("SELECT DISTINCT r FROM Restaurante r JOIN r.produtos p WHERE r.ativo = true")
     List<Restaurante> findRestaurantesComProdutos();
 
@@ -32,11 +45,12 @@ public interface RestauranteRepository extends JpaRepository<Restaurante, Long>
 
     boolean existsByTelefone(String telefone);
 
+    // Lê o agregado VendaDiaria; restaurantes sem vendas aparecem com total nulo e quantidade zero.
     @Query("SELECT r.nome as nomeRestaurante, " +
-           "SUM(p.valorTotal) as totalVendas, " +
-           "COUNT(p.id) as quantidadePedidos " +
+           "SUM(v.valorTotal) as totalVendas, " +
+           "COALESCE(SUM(v.quantidadePedidos), 0) as quantidadePedidos " +
            "FROM Restaurante r " +
-           "LEFT JOIN Pedido p ON r.id = p.restaurante.id " +
+           "LEFT JOIN VendaDiaria v ON r.id = v.id.restauranteId " +
            "GROUP BY r.id, r.nome")
     List<RelatorioVendas> relatorioVendasPorRestaurante();
 }
@@ -0,0 +1,23 @@
+package com.delivery_api.repository;
+
+import com.delivery_api.model.Restaurante;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Critérios dinâmicos para consultas de {@link Restaurante}.
+ */
+public final class RestauranteSpecifications {
+
+    /**
+     * Ordem da paginação por cursor: pelo ID, que é único e já indexado pela chave primária.
+     */
+    public static final Sort ORDEM_CURSOR = Sort.by(Sort.Order.asc("id"));
+
+    private RestauranteSpecifications() {
+    }
+
+    public static Specification<Restaurante> aposCursor(Long id) {
+        return (root, query, cb) -> cb.greaterThan(root.get("id"), id);
+    }
+}
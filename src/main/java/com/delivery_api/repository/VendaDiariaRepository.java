@@ -0,0 +1,72 @@
+package com.delivery_api.repository;
+
+import com.delivery_api.model.VendaDiaria;
+import com.delivery_api.model.VendaDiariaId;
+import com.delivery_api.projection.VendaDiariaTotais;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface VendaDiariaRepository extends JpaRepository<VendaDiaria, VendaDiariaId> {
+
+    // Soma (ou subtrai, com valores negativos) no grupo, criando a linha se ainda não existir.
+    // Dois MERGE simultâneos num grupo novo iriam ambos para o INSERT e o segundo falharia pela
+    // chave primária; por isso o serviço cria o grupo antes, com criarGrupo em transação própria.
+    @Modifying
+    @Query(nativeQuery = true, value =
+            "MERGE INTO venda_diaria v " +
+            "USING (SELECT CAST(:restauranteId AS BIGINT) AS restaurante_id, CAST(:dia AS DATE) AS dia, " +
+            "CAST(:status AS VARCHAR(32)) AS status) d " +
+            "ON (v.restaurante_id = d.restaurante_id AND v.dia = d.dia AND v.status = d.status) " +
+            "WHEN MATCHED THEN UPDATE SET quantidade_pedidos = v.quantidade_pedidos + :pedidos, " +
+            "valor_total = v.valor_total + :valor " +
+            "WHEN NOT MATCHED THEN INSERT (restaurante_id, dia, status, quantidade_pedidos, valor_total) " +
+            "VALUES (d.restaurante_id, d.dia, d.status, :pedidos, :valor)")
+    int acumular(@Param("restauranteId") Long restauranteId,
+                 @Param("dia") LocalDate dia,
+                 @Param("status") String status,
+                 @Param("pedidos") long pedidos,
+                 @Param("valor") BigDecimal valor);
+
+    // Grupo zerado, equivalente a um grupo ausente; falha pela chave primária se ele já existir.
+    @Modifying
+    @Query(nativeQuery = true, value =
+            "INSERT INTO venda_diaria (restaurante_id, dia, status, quantidade_pedidos, valor_total) " +
+            "VALUES (:restauranteId, :dia, :status, 0, 0)")
+    int criarGrupo(@Param("restauranteId") Long restauranteId,
+                   @Param("dia") LocalDate dia,
+                   @Param("status") String status);
+
+    @Modifying
+    @Query("DELETE FROM VendaDiaria")
+    int apagarTudo();
+
+    @Modifying
+    @Query(nativeQuery = true, value =
+            "INSERT INTO venda_diaria (restaurante_id, dia, status, quantidade_pedidos, valor_total) " +
+            "SELECT restaurante_id, CAST(data_pedido AS DATE), status, COUNT(*), COALESCE(SUM(valor_total), 0) " +
+            "FROM pedido " +
+            "WHERE restaurante_id IS NOT NULL AND data_pedido IS NOT NULL AND status IS NOT NULL " +
+            "GROUP BY restaurante_id, CAST(data_pedido AS DATE), status")
+    int inserirAgrupandoPedidos();
+
+    @Query("SELECT new com.delivery_api.projection.VendaDiariaTotais(" +
+           "v.id.restauranteId, v.id.dia, v.id.status, v.quantidadePedidos, v.valorTotal) " +
+           "FROM VendaDiaria v")
+    List<VendaDiariaTotais> listarTotais();
+
+    // Mesmo agrupamento calculado direto dos pedidos; usado apenas na verificação de consistência.
+    @Query("SELECT new com.delivery_api.projection.VendaDiariaTotais(" +
+           "p.restaurante.id, CAST(p.dataPedido AS localdate), p.status, COUNT(p), COALESCE(SUM(p.valorTotal), 0)) " +
+           "FROM Pedido p " +
+           "WHERE p.restaurante IS NOT NULL AND p.dataPedido IS NOT NULL AND p.status IS NOT NULL " +
+           "GROUP BY p.restaurante.id, CAST(p.dataPedido AS localdate), p.status")
+    List<VendaDiariaTotais> calcularTotaisDosPedidos();
+}
@@ -0,0 +1,42 @@
+package com.delivery_api.search;
+
+import com.delivery_api.model.Cliente;
+import com.delivery_api.projection.NomeIndexado;
+import com.delivery_api.repository.ClienteRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Stream;
+
+/**
+ * Índice de trigramas dos nomes de clientes, usado na busca por nome.
+ */
+@Component
+public class ClienteNomeIndex extends NomeNgramIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ClienteNomeIndex.class);
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void carregar() {
+        long inicio = System.nanoTime();
+        limpar();
+        try (Stream<NomeIndexado> nomes = clienteRepository.streamNomesParaIndice()) {
+            nomes.forEach(r -> atualizar(r.id(), r.nome(), r.ativo()));
+        }
+        log.info("Índice de nomes de clientes carregado: {} clientes em {} ms",
+                tamanho(), (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    public void atualizarAposCommit(Cliente cliente) {
+        atualizarAposCommit(cliente.getId(), cliente.getNome(), cliente.isAtivo());
+    }
+}
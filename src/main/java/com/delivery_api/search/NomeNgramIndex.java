@@ -0,0 +1,388 @@
+package com.delivery_api.search;
+
+import com.delivery_api.util.AposCommit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice de trigramas sobre nomes (restaurantes, clientes), para buscas do tipo "contém" sem varrer a tabela.
+ *
+ * O nome é normalizado (minúsculas, sem acentos, só letras e dígitos) e quebrado em trigramas, com um espaço
+ * antes de cada palavra: "Ana Lima" vira " an", "ana", "na ", "a l", " li", ... Cada trigrama aponta para a
+ * lista ordenada dos documentos que o contêm. Um nome é candidato quando tem pelo menos 60% dos trigramas da
+ * consulta, o que também tolera um erro de digitação em palavras mais longas; a relevância é a semelhança
+ * entre os conjuntos de trigramas, com bônus quando o nome contém a consulta inteira.
+ *
+ * Os documentos são numerados internamente em ordem de inserção, então as listas crescem só no final e seguem
+ * ordenadas. Uma alteração de nome aposenta o número antigo e cria outro; quando os aposentados passam da
+ * metade, o índice é recompactado.
+ *
+ * Leituras compartilham um lock de leitura; escritas (cadastro, alteração de nome ou status) usam o de escrita.
+ */
+public class NomeNgramIndex {
+
+    // Espaço, a-z e 0-9
+    private static final int ALFABETO = 37;
+    private static final int QUANTIDADE_TRIGRAMAS = ALFABETO * ALFABETO * ALFABETO;
+    private static final double FRACAO_MINIMA = 0.6;
+    private static final double BONUS_CONTEM = 1.0;
+    private static final int APOSENTADOS_MINIMO_COMPACTACAO = 1024;
+    // Mantém a contagem de trigramas por documento dentro de um byte
+    private static final int TAMANHO_MAXIMO_CONSULTA = 100;
+    private static final int[] VAZIO = new int[0];
+
+    // Topo do heap dos k melhores: menor relevância e, no empate, maior ID
+    private static final Comparator<Resultado> PIOR_PRIMEIRO = Comparator.comparingDouble(Resultado::relevancia)
+            .thenComparing(Comparator.comparingLong(Resultado::id).reversed());
+
+    public record Resultado(long id, double relevancia) {
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final int[][] postagens = new int[QUANTIDADE_TRIGRAMAS][];
+    private final int[] tamanhos = new int[QUANTIDADE_TRIGRAMAS];
+
+    // Por número interno do documento
+    private long[] ids = new long[1024];
+    private String[] nomes = new String[1024];
+    private int[] quantidadeTrigramas = new int[1024];
+    private final BitSet vivos = new BitSet();
+    private final BitSet ativos = new BitSet();
+    private int proximo;
+    private int aposentados;
+
+    private MapaIdNumero numeroPorId = new MapaIdNumero(1024);
+
+    /**
+     * Inclui ou substitui o nome de um documento. Se só o status mudou, apenas a marca de ativo é trocada.
+     */
+    public void atualizar(long id, String nome, boolean ativo) {
+        String normalizado = normalizar(nome);
+        lock.writeLock().lock();
+        try {
+            int numero = numeroPorId.get(id);
+            if (numero >= 0 && normalizado.equals(nomes[numero])) {
+                ativos.set(numero, ativo);
+                return;
+            }
+            if (numero >= 0) {
+                aposentar(numero);
+            }
+            incluir(id, normalizado, ativo);
+            compactarSeNecessario();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remover(long id) {
+        lock.writeLock().lock();
+        try {
+            int numero = numeroPorId.get(id);
+            if (numero >= 0) {
+                aposentar(numero);
+                numeroPorId.remove(id);
+                compactarSeNecessario();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void limpar() {
+        lock.writeLock().lock();
+        try {
+            Arrays.fill(postagens, null);
+            Arrays.fill(tamanhos, 0);
+            ids = new long[1024];
+            nomes = new String[1024];
+            quantidadeTrigramas = new int[1024];
+            vivos.clear();
+            ativos.clear();
+            proximo = 0;
+            aposentados = 0;
+            numeroPorId = new MapaIdNumero(1024);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int tamanho() {
+        lock.readLock().lock();
+        try {
+            return proximo - aposentados;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Os {@code k} nomes mais parecidos com a consulta, do mais para o menos relevante (empates pelo ID).
+     * Consultas com menos de duas letras ou dígitos não têm trigramas e não retornam nada.
+     */
+    public List<Resultado> buscar(String consulta, int k, boolean apenasAtivos) {
+        String normalizada = normalizar(consulta);
+        if (normalizada.length() > TAMANHO_MAXIMO_CONSULTA) {
+            normalizada = normalizada.substring(0, TAMANHO_MAXIMO_CONSULTA);
+        }
+        int[] trigramasConsulta = trigramas(" " + normalizada.strip());
+        int n = trigramasConsulta.length;
+        if (n == 0 || k <= 0) {
+            return List.of();
+        }
+        int minimo = n <= 2 ? n : (int) Math.ceil(n * FRACAO_MINIMA);
+        String textoConsulta = normalizada.strip();
+
+        lock.readLock().lock();
+        try {
+            // Contagem de trigramas em comum por documento: uma passada sequencial por lista, sem busca binária.
+            // O contador é alocado por consulta (1 byte por documento) para as leituras não disputarem estado.
+            byte[] comuns = new byte[proximo];
+            for (int trigrama : trigramasConsulta) {
+                int[] lista = postagens[trigrama];
+                int tamanho = tamanhos[trigrama];
+                for (int i = 0; i < tamanho; i++) {
+                    comuns[lista[i]]++;
+                }
+            }
+
+            PriorityQueue<Resultado> melhores = new PriorityQueue<>(k + 1, PIOR_PRIMEIRO);
+            for (int candidato = 0; candidato < proximo; candidato++) {
+                int emComum = comuns[candidato];
+                if (emComum < minimo || !vivos.get(candidato) || (apenasAtivos && !ativos.get(candidato))) {
+                    continue;
+                }
+                double relevancia = (double) emComum / (n + quantidadeTrigramas[candidato] - emComum);
+                if (nomes[candidato].contains(textoConsulta)) {
+                    relevancia += BONUS_CONTEM;
+                }
+                melhores.offer(new Resultado(ids[candidato], relevancia));
+                if (melhores.size() > k) {
+                    melhores.poll();
+                }
+            }
+
+            List<Resultado> resultados = new ArrayList<>(melhores);
+            resultados.sort(PIOR_PRIMEIRO.reversed());
+            return resultados;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Aplica a alteração depois do commit da transação atual (ou já, sem transação).
+     */
+    protected void atualizarAposCommit(long id, String nome, boolean ativo) {
+        AposCommit.executar(() -> atualizar(id, nome, ativo));
+    }
+
+    public void removerAposCommit(Long id) {
+        AposCommit.executar(() -> remover(id));
+    }
+
+    private void incluir(long id, String normalizado, boolean ativo) {
+        if (proximo == ids.length) {
+            int capacidade = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacidade);
+            nomes = Arrays.copyOf(nomes, capacidade);
+            quantidadeTrigramas = Arrays.copyOf(quantidadeTrigramas, capacidade);
+        }
+        int numero = proximo++;
+        int[] doNome = trigramas(normalizado);
+        ids[numero] = id;
+        nomes[numero] = normalizado;
+        quantidadeTrigramas[numero] = doNome.length;
+        vivos.set(numero);
+        ativos.set(numero, ativo);
+        numeroPorId.put(id, numero);
+        for (int trigrama : doNome) {
+            int[] lista = postagens[trigrama];
+            if (lista == null) {
+                lista = postagens[trigrama] = new int[4];
+            } else if (tamanhos[trigrama] == lista.length) {
+                lista = postagens[trigrama] = Arrays.copyOf(lista, lista.length + (lista.length >> 1) + 1);
+            }
+            lista[tamanhos[trigrama]++] = numero;
+        }
+    }
+
+    private void aposentar(int numero) {
+        vivos.clear(numero);
+        ativos.clear(numero);
+        nomes[numero] = null;
+        aposentados++;
+    }
+
+    // Refaz as listas só com os documentos vivos, renumerando-os na mesma ordem
+    private void compactarSeNecessario() {
+        if (aposentados < APOSENTADOS_MINIMO_COMPACTACAO || aposentados * 2 < proximo) {
+            return;
+        }
+        long[] idsVivos = new long[proximo - aposentados];
+        String[] nomesVivos = new String[idsVivos.length];
+        boolean[] ativosVivos = new boolean[idsVivos.length];
+        int j = 0;
+        for (int numero = vivos.nextSetBit(0); numero >= 0; numero = vivos.nextSetBit(numero + 1)) {
+            idsVivos[j] = ids[numero];
+            nomesVivos[j] = nomes[numero];
+            ativosVivos[j++] = ativos.get(numero);
+        }
+
+        Arrays.fill(postagens, null);
+        Arrays.fill(tamanhos, 0);
+        vivos.clear();
+        ativos.clear();
+        proximo = 0;
+        aposentados = 0;
+        numeroPorId = new MapaIdNumero(idsVivos.length);
+        for (int i = 0; i < idsVivos.length; i++) {
+            incluir(idsVivos[i], nomesVivos[i], ativosVivos[i]);
+        }
+    }
+
+    /**
+     * Minúsculas, sem acentos; o que não é letra ou dígito vira um único espaço, e há um espaço em cada ponta.
+     */
+    static String normalizar(String nome) {
+        String semAcento = TextoBusca.normalizar(nome);
+        StringBuilder resultado = new StringBuilder(semAcento.length() + 2).append(' ');
+        for (int i = 0; i < semAcento.length(); i++) {
+            char c = semAcento.charAt(i);
+            if (codigo(c) > 0) {
+                resultado.append(c);
+            } else if (resultado.charAt(resultado.length() - 1) != ' ') {
+                resultado.append(' ');
+            }
+        }
+        if (resultado.charAt(resultado.length() - 1) != ' ') {
+            resultado.append(' ');
+        }
+        return resultado.toString();
+    }
+
+    // Trigramas distintos do texto, já codificados. Na consulta não há espaço final: a palavra pode continuar.
+    private static int[] trigramas(String texto) {
+        if (texto.length() < 3) {
+            return VAZIO;
+        }
+        int[] codigos = new int[texto.length() - 2];
+        for (int i = 0; i < codigos.length; i++) {
+            codigos[i] = (codigo(texto.charAt(i)) * ALFABETO + codigo(texto.charAt(i + 1))) * ALFABETO
+                    + codigo(texto.charAt(i + 2));
+        }
+        Arrays.sort(codigos);
+        int unicos = 0;
+        for (int i = 0; i < codigos.length; i++) {
+            if (i == 0 || codigos[i] != codigos[i - 1]) {
+                codigos[unicos++] = codigos[i];
+            }
+        }
+        return Arrays.copyOf(codigos, unicos);
+    }
+
+    private static int codigo(char c) {
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a' + 1;
+        }
+        if (c >= '0' && c <= '9') {
+            return c - '0' + 27;
+        }
+        return 0;
+    }
+
+    /**
+     * Mapa de ID para número interno com endereçamento aberto, sem caixas de Long/Integer
+     * (com 1 milhão de clientes, um HashMap custaria dezenas de MB a mais).
+     */
+    private static final class MapaIdNumero {
+
+        private static final int AUSENTE = -1;
+
+        private long[] chaves;
+        private int[] valores;
+        private int quantidade;
+
+        MapaIdNumero(int capacidadeEsperada) {
+            int capacidade = Integer.highestOneBit(Math.max(16, capacidadeEsperada * 2) - 1) << 1;
+            chaves = new long[capacidade];
+            valores = new int[capacidade];
+            Arrays.fill(valores, AUSENTE);
+        }
+
+        int get(long chave) {
+            int mascara = chaves.length - 1;
+            for (int i = indice(chave, mascara); ; i = (i + 1) & mascara) {
+                if (valores[i] == AUSENTE) {
+                    return AUSENTE;
+                }
+                if (chaves[i] == chave) {
+                    return valores[i];
+                }
+            }
+        }
+
+        void put(long chave, int valor) {
+            if ((quantidade + 1) * 2 > chaves.length) {
+                crescer();
+            }
+            int mascara = chaves.length - 1;
+            int i = indice(chave, mascara);
+            while (valores[i] != AUSENTE && chaves[i] != chave) {
+                i = (i + 1) & mascara;
+            }
+            if (valores[i] == AUSENTE) {
+                quantidade++;
+            }
+            chaves[i] = chave;
+            valores[i] = valor;
+        }
+
+        // Remoção com reposicionamento dos vizinhos, para não deixar buracos na sequência de sondagem
+        void remove(long chave) {
+            int mascara = chaves.length - 1;
+            int i = indice(chave, mascara);
+            while (valores[i] != AUSENTE && chaves[i] != chave) {
+                i = (i + 1) & mascara;
+            }
+            if (valores[i] == AUSENTE) {
+                return;
+            }
+            valores[i] = AUSENTE;
+            quantidade--;
+            for (int j = (i + 1) & mascara; valores[j] != AUSENTE; j = (j + 1) & mascara) {
+                long chaveMovida = chaves[j];
+                int valorMovido = valores[j];
+                valores[j] = AUSENTE;
+                quantidade--;
+                put(chaveMovida, valorMovido);
+            }
+        }
+
+        private void crescer() {
+            long[] chavesAntigas = chaves;
+            int[] valoresAntigos = valores;
+            chaves = new long[chavesAntigas.length * 2];
+            valores = new int[chaves.length];
+            Arrays.fill(valores, AUSENTE);
+            quantidade = 0;
+            for (int i = 0; i < chavesAntigas.length; i++) {
+                if (valoresAntigos[i] != AUSENTE) {
+                    put(chavesAntigas[i], valoresAntigos[i]);
+                }
+            }
+        }
+
+        private static int indice(long chave, int mascara) {
+            long h = chave * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & mascara;
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.delivery_api.search;
+
+import com.delivery_api.model.Produto;
+import com.delivery_api.repository.ProdutoRepository;
+import com.delivery_api.util.AposCommit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido em memória sobre nome, categoria e descrição dos produtos.
+ *
+ * Cada termo (normalizado por {@link TextoBusca}) aponta para os produtos que o contêm, com um peso
+ * pelo campo: nome vale mais que categoria, que vale mais que descrição. Cada termo da consulta casa
+ * por igualdade, por prefixo ("calab" encontra "calabresa") ou, quando nenhum termo do índice começa
+ * com ele, por aproximação (até 1 erro de digitação, 2 em palavras longas). Todos os termos da consulta
+ * precisam casar; a relevância soma os pesos, ponderados pela raridade do termo.
+ *
+ * O dicionário é um {@link TreeMap}, o que deixa a busca por prefixo em uma faixa de chaves. As leituras
+ * compartilham um lock de leitura; as escritas (cadastro e alteração de produtos) são raras.
+ */
+@Component
+public class ProdutoSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ProdutoSearchIndex.class);
+
+    static final float PESO_NOME = 3f;
+    static final float PESO_CATEGORIA = 2f;
+    static final float PESO_DESCRICAO = 1f;
+
+    // Fração do peso conforme o tipo de casamento
+    private static final double EXATO = 1.0;
+    private static final double PREFIXO = 0.6;
+    private static final double APROXIMADO = 0.4;
+
+    private static final int TAMANHO_MINIMO_APROXIMADO = 4;
+    private static final int TAMANHO_DUAS_EDICOES = 8;
+
+    public record Resultado(long produtoId, double relevancia) {
+    }
+
+    private record Documento(boolean disponivel, Map<String, Float> pesos) {
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Map<Long, Float>> termos = new TreeMap<>();
+    private final Map<Long, Documento> documentos = new HashMap<>();
+
+    @Autowired
+    private ProdutoRepository produtoRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        produtoRepository.findAll().forEach(this::atualizar);
+        log.info("Índice de busca de produtos carregado: {} produtos, {} termos", tamanho(), quantidadeTermos());
+    }
+
+    /**
+     * Reindexa o produto depois do commit da transação atual (ou já, sem transação).
+     */
+    public void atualizarAposCommit(Produto produto) {
+        long id = produto.getId();
+        String nome = produto.getNome();
+        String descricao = produto.getDescricao();
+        String categoria = produto.getCategoria();
+        boolean disponivel = produto.isDisponivel();
+        AposCommit.executar(() -> atualizar(id, nome, descricao, categoria, disponivel));
+    }
+
+    public void removerAposCommit(Long produtoId) {
+        AposCommit.executar(() -> remover(produtoId));
+    }
+
+    public void atualizar(Produto produto) {
+        atualizar(produto.getId(), produto.getNome(), produto.getDescricao(), produto.getCategoria(), produto.isDisponivel());
+    }
+
+    public void atualizar(long id, String nome, String descricao, String categoria, boolean disponivel) {
+        Map<String, Float> pesos = new HashMap<>();
+        acumular(pesos, nome, PESO_NOME);
+        acumular(pesos, categoria, PESO_CATEGORIA);
+        acumular(pesos, descricao, PESO_DESCRICAO);
+
+        lock.writeLock().lock();
+        try {
+            retirar(id);
+            documentos.put(id, new Documento(disponivel, pesos));
+            pesos.forEach((termo, peso) -> termos.computeIfAbsent(termo, t -> new HashMap<>()).put(id, peso));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remover(long id) {
+        lock.writeLock().lock();
+        try {
+            retirar(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int tamanho() {
+        lock.readLock().lock();
+        try {
+            return documentos.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int quantidadeTermos() {
+        lock.readLock().lock();
+        try {
+            return termos.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Produtos disponíveis que casam com todos os termos da consulta, do mais para o menos relevante
+     * (empates pelo ID).
+     */
+    public List<Resultado> buscar(String consulta) {
+        List<String> termosConsulta = TextoBusca.termos(consulta);
+        if (termosConsulta.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Double> acumulado = null;
+        lock.readLock().lock();
+        try {
+            for (String termo : termosConsulta) {
+                Map<Long, Double> doTermo = pontuar(termo);
+                if (acumulado == null) {
+                    acumulado = doTermo;
+                } else {
+                    acumulado.keySet().retainAll(doTermo.keySet());
+                    acumulado.replaceAll((id, relevancia) -> relevancia + doTermo.get(id));
+                }
+                if (acumulado.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            List<Resultado> resultados = new ArrayList<>(acumulado.size());
+            for (Map.Entry<Long, Double> entrada : acumulado.entrySet()) {
+                if (documentos.get(entrada.getKey()).disponivel()) {
+                    resultados.add(new Resultado(entrada.getKey(), entrada.getValue()));
+                }
+            }
+            resultados.sort(Comparator.comparingDouble(Resultado::relevancia).reversed()
+                    .thenComparingLong(Resultado::produtoId));
+            return resultados;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Melhor casamento de cada produto com um termo da consulta: exato, por prefixo ou aproximado
+    private Map<Long, Double> pontuar(String termo) {
+        Map<Long, Double> melhores = new HashMap<>();
+        for (Map.Entry<String, Map<Long, Float>> entrada : termos.tailMap(termo, true).entrySet()) {
+            String candidato = entrada.getKey();
+            if (!candidato.startsWith(termo)) {
+                break;
+            }
+            // O prefixo vale mais quanto mais da palavra ele cobre
+            double fator = candidato.length() == termo.length()
+                    ? EXATO
+                    : PREFIXO * termo.length() / candidato.length();
+            pontuarPostagens(entrada.getValue(), fator, melhores);
+        }
+
+        if (melhores.isEmpty() && termo.length() >= TAMANHO_MINIMO_APROXIMADO) {
+            int limite = termo.length() >= TAMANHO_DUAS_EDICOES ? 2 : 1;
+            // Só candidatos com a mesma inicial: o erro de digitação na primeira letra é raro
+            String inicial = termo.substring(0, 1);
+            String proximaInicial = String.valueOf((char) (termo.charAt(0) + 1));
+            for (Map.Entry<String, Map<Long, Float>> entrada : termos.subMap(inicial, true, proximaInicial, false).entrySet()) {
+                if (distancia(termo, entrada.getKey(), limite) <= limite) {
+                    pontuarPostagens(entrada.getValue(), APROXIMADO, melhores);
+                }
+            }
+        }
+        return melhores;
+    }
+
+    private void pontuarPostagens(Map<Long, Float> postagens, double fator, Map<Long, Double> melhores) {
+        double idf = Math.log(1.0 + (double) documentos.size() / postagens.size());
+        for (Map.Entry<Long, Float> postagem : postagens.entrySet()) {
+            melhores.merge(postagem.getKey(), postagem.getValue() * fator * idf, Math::max);
+        }
+    }
+
+    private void retirar(long id) {
+        Documento anterior = documentos.remove(id);
+        if (anterior == null) {
+            return;
+        }
+        for (String termo : anterior.pesos().keySet()) {
+            Map<Long, Float> postagens = termos.get(termo);
+            postagens.remove(id);
+            if (postagens.isEmpty()) {
+                termos.remove(termo);
+            }
+        }
+    }
+
+    // Um termo repetido no mesmo campo conta uma vez; em campos diferentes, os pesos somam.
+    private static void acumular(Map<String, Float> pesos, String texto, float peso) {
+        for (String termo : new HashSet<>(TextoBusca.termos(texto))) {
+            pesos.merge(termo, peso, Float::sum);
+        }
+    }
+
+    /**
+     * Distância de edição (inserção, remoção, troca e transposição de letras vizinhas), limitada:
+     * para de calcular e devolve {@code limite + 1} assim que ela passa do limite.
+     */
+    static int distancia(String a, String b, int limite) {
+        if (Math.abs(a.length() - b.length()) > limite) {
+            return limite + 1;
+        }
+        int[] anterior2 = new int[b.length() + 1];
+        int[] anterior = new int[b.length() + 1];
+        int[] atual = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            anterior[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            atual[0] = i;
+            int menorDaLinha = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int custo = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int valor = Math.min(Math.min(anterior[j] + 1, atual[j - 1] + 1), anterior[j - 1] + custo);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    valor = Math.min(valor, anterior2[j - 2] + 1);
+                }
+                atual[j] = valor;
+                menorDaLinha = Math.min(menorDaLinha, valor);
+            }
+            if (menorDaLinha > limite) {
+                return limite + 1;
+            }
+            int[] livre = anterior2;
+            anterior2 = anterior;
+            anterior = atual;
+            atual = livre;
+        }
+        return Math.min(anterior[b.length()], limite + 1);
+    }
+}
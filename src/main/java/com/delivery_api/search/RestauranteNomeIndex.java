@@ -0,0 +1,42 @@
+package com.delivery_api.search;
+
+import com.delivery_api.model.Restaurante;
+import com.delivery_api.projection.NomeIndexado;
+import com.delivery_api.repository.RestauranteRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Stream;
+
+/**
+ * Índice de trigramas dos nomes de restaurantes, usado na busca por nome.
+ */
+@Component
+public class RestauranteNomeIndex extends NomeNgramIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(RestauranteNomeIndex.class);
+
+    @Autowired
+    private RestauranteRepository restauranteRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void carregar() {
+        long inicio = System.nanoTime();
+        limpar();
+        try (Stream<NomeIndexado> nomes = restauranteRepository.streamNomesParaIndice()) {
+            nomes.forEach(r -> atualizar(r.id(), r.nome(), r.ativo()));
+        }
+        log.info("Índice de nomes de restaurantes carregado: {} restaurantes em {} ms",
+                tamanho(), (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    public void atualizarAposCommit(Restaurante restaurante) {
+        atualizarAposCommit(restaurante.getId(), restaurante.getNome(), restaurante.isAtivo());
+    }
+}
@@ -0,0 +1,50 @@
+package com.delivery_api.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Normalização de texto para os índices de busca: minúsculas, sem acentos ("Guaraná" e "guarana"
+ * viram o mesmo termo, "ç" vira "c") e quebra em palavras, descartando as palavras vazias do português.
+ */
+public final class TextoBusca {
+
+    private static final Pattern MARCAS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^a-z0-9]+");
+
+    // Já sem acento ("à" vira "a")
+    private static final Set<String> PALAVRAS_VAZIAS = Set.of(
+            "a", "o", "as", "os", "um", "uma", "de", "da", "do", "das", "dos", "e", "ou",
+            "em", "na", "no", "nas", "nos", "ao", "aos", "com", "sem", "para", "por");
+
+    private TextoBusca() {
+    }
+
+    /**
+     * @return o texto em minúsculas e sem acentos; vazio para {@code null}
+     */
+    public static String normalizar(String texto) {
+        if (texto == null) {
+            return "";
+        }
+        String decomposto = Normalizer.normalize(texto.toLowerCase(Locale.ROOT), Normalizer.Form.NFD);
+        return MARCAS.matcher(decomposto).replaceAll("");
+    }
+
+    /**
+     * @return as palavras normalizadas do texto, na ordem, sem as palavras vazias
+     */
+    public static List<String> termos(String texto) {
+        List<String> termos = new ArrayList<>();
+        for (String termo : SEPARADORES.split(normalizar(texto))) {
+            if (!termo.isEmpty() && !PALAVRAS_VAZIAS.contains(termo)) {
+                termos.add(termo);
+            }
+        }
+        return termos;
+    }
+}
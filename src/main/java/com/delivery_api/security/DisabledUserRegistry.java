@@ -0,0 +1,160 @@
+package com.delivery_api.security;
+
+import com.delivery_api.config.JwtProperties;
+import com.delivery_api.repository.UsuarioRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bitmap local com os IDs dos usuários desativados.
+ *
+ * No modo {@code jwt.stateless-principal} o filtro JWT não consulta mais o usuário a cada
+ * requisição; esta é a verificação de revogação que sobra. A consulta é uma leitura de bit,
+ * sem rede. O bitmap é recarregado do banco em intervalos curtos
+ * ({@code jwt.disabled-users-refresh}) e atualizado na hora quando o próprio nó altera um usuário.
+ *
+ * Cada alteração publica uma nova cópia; as leituras nunca bloqueiam.
+ */
+@Component
+public class DisabledUserRegistry implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(DisabledUserRegistry.class);
+
+    private final UsuarioRepository usuarioRepository;
+    private final JwtProperties jwtProperties;
+
+    private volatile Snapshot snapshot = new Snapshot(new BitSet(), Set.of());
+    // Incrementado a cada alteração local; protegido por "this".
+    private long alteracoes;
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    public DisabledUserRegistry(UsuarioRepository usuarioRepository, JwtProperties jwtProperties) {
+        this.usuarioRepository = usuarioRepository;
+        this.jwtProperties = jwtProperties;
+    }
+
+    public boolean isDisabled(long usuarioId) {
+        return snapshot.contains(usuarioId);
+    }
+
+    public synchronized void markDisabled(long usuarioId) {
+        snapshot = snapshot.with(usuarioId, true);
+        alteracoes++;
+    }
+
+    public synchronized void markEnabled(long usuarioId) {
+        snapshot = snapshot.with(usuarioId, false);
+        alteracoes++;
+    }
+
+    /**
+     * Substitui o bitmap pelos usuários inativos do banco.
+     */
+    public void reload() {
+        long antes;
+        synchronized (this) {
+            antes = alteracoes;
+        }
+        Snapshot novo = Snapshot.of(usuarioRepository.findIdsInativos());
+        synchronized (this) {
+            // Uma alteração local durante a consulta pode não estar no resultado; espera a próxima recarga.
+            if (alteracoes == antes) {
+                snapshot = novo;
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        // Sem o modo stateless o filtro carrega o usuário a cada requisição e o bitmap não é consultado.
+        if (jwtProperties.isStatelessPrincipal()) {
+            recarregarComSeguranca();
+            long intervalo = jwtProperties.getDisabledUsersRefresh().toMillis();
+            scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "disabled-users-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::recarregarComSeguranca, intervalo, intervalo, TimeUnit.MILLISECONDS);
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void recarregarComSeguranca() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            // Mantém o último bitmap conhecido; a próxima recarga tenta de novo.
+            logger.warn("Falha ao recarregar usuários desativados: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * IDs até Integer.MAX_VALUE ficam no BitSet; os maiores (improváveis com IDENTITY) num conjunto à parte.
+     */
+    private record Snapshot(BitSet bits, Set<Long> grandes) {
+
+        static Snapshot of(Collection<Long> ids) {
+            BitSet bits = new BitSet();
+            Set<Long> grandes = new HashSet<>();
+            for (Long id : ids) {
+                if (id <= Integer.MAX_VALUE) {
+                    bits.set(id.intValue());
+                } else {
+                    grandes.add(id);
+                }
+            }
+            return new Snapshot(bits, Set.copyOf(grandes));
+        }
+
+        boolean contains(long id) {
+            if (id < 0) {
+                return false;
+            }
+            return id <= Integer.MAX_VALUE ? bits.get((int) id) : grandes.contains(id);
+        }
+
+        Snapshot with(long id, boolean desativado) {
+            if (id < 0) {
+                return this;
+            }
+            if (id > Integer.MAX_VALUE) {
+                Set<Long> copia = new HashSet<>(grandes);
+                if (desativado) {
+                    copia.add(id);
+                } else {
+                    copia.remove(id);
+                }
+                return new Snapshot(bits, Set.copyOf(copia));
+            }
+            BitSet copia = (BitSet) bits.clone();
+            copia.set((int) id, desativado);
+            return new Snapshot(copia, grandes);
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package com.delivery_api.security;
 
+import com.delivery_api.config.JwtProperties;
+import com.delivery_api.enums.UserRole;
+import com.delivery_api.model.Usuario;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
@@ -27,10 +31,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final JwtProperties jwtProperties;
+    private final DisabledUserRegistry disabledUserRegistry;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService,
+                                   JwtProperties jwtProperties, DisabledUserRegistry disabledUserRegistry) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.jwtProperties = jwtProperties;
+        this.disabledUserRegistry = disabledUserRegistry;
     }
 
     @Override
@@ -48,34 +57,69 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         final String jwt = authHeader.substring(7);
-        String userEmail = null;
+        Claims claims = null;
 
         try {
-            userEmail = jwtUtil.extractUsername(jwt);
+            // Um único parse: assinatura, validade e claims de uma vez.
+            claims = jwtUtil.validateToken(jwt);
         } catch (ExpiredJwtException e) {
             logger.warn("Token JWT expirado: {}", e.getMessage());
         } catch (JwtException e) {
             logger.warn("Token JWT inválido: {}", e.getMessage());
         }
 
+        String userEmail = claims != null ? claims.getSubject() : null;
+
         if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            try {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-                if (jwtUtil.isTokenValid(jwt, userDetails)) {
-                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails,
-                            null,
-                            userDetails.getAuthorities()
-                    );
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
+            Usuario principal = jwtProperties.isStatelessPrincipal() ? principalFromClaims(claims) : null;
+            if (principal != null) {
+                // Modo stateless: a assinatura já garante as claims; resta apenas a checagem de desativação.
+                if (disabledUserRegistry.isDisabled(principal.getId())) {
+                    logger.warn("Token JWT de usuário desativado: {}", userEmail);
+                } else {
+                    authenticate(principal, request);
+                }
+            } else {
+                try {
+                    UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+                    if (jwtUtil.isTokenValid(claims, userDetails)) {
+                        authenticate(userDetails, request);
+                    }
+                } catch (UsernameNotFoundException e) {
+                     logger.warn("Usuário não encontrado para o e-mail no token: {}", userEmail);
                 }
-            } catch (UsernameNotFoundException e) {
-                 logger.warn("Usuário não encontrado para o e-mail no token: {}", userEmail);
             }
         }
         
         // A chamada para o próximo filtro agora está fora do 'if' e sempre acontece
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    private void authenticate(UserDetails userDetails, HttpServletRequest request) {
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                userDetails,
+                null,
+                userDetails.getAuthorities()
+        );
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+    }
+
+    /**
+     * Monta o principal a partir das claims gravadas por {@link JwtUtil#generateToken}.
+     * Tokens sem userId ou role (emitidos antes dessas claims) retornam null e seguem pela busca do usuário.
+     */
+    private Usuario principalFromClaims(Claims claims) {
+        Long userId = claims.get("userId", Long.class);
+        String role = claims.get("role", String.class);
+        if (userId == null || role == null) {
+            return null;
+        }
+        Usuario usuario = new Usuario();
+        usuario.setId(userId);
+        usuario.setEmail(claims.getSubject());
+        usuario.setRole(UserRole.valueOf(role));
+        usuario.setRestauranteId(claims.get("restauranteId", Long.class));
+        return usuario;
+    }
+}
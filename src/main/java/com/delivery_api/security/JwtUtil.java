@@ -1,20 +1,30 @@
 package com.delivery_api.security;
 
 import com.delivery_api.model.Usuario;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 // Removido o import desnecessário: import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets; // 👈 1. NOVO IMPORT
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Component
@@ -26,12 +36,57 @@ public class JwtUtil {
     @Value("${jwt.expiration}")
     private long jwtExpiration;
 
+    // Quantidade máxima de tokens já verificados mantidos em memória (0 desliga o cache).
+    @Value("${jwt.verified-cache-size:10000}")
+    private long verifiedCacheSize = 10_000;
+
+    private Key signInKey;
+    private JwtParser parser;
+
+    // Chave: SHA-256 do token, para não manter o token em si na memória. Cada entrada vence junto com o token.
+    private Cache<String, Claims> verifiedTokens;
+
+    /**
+     * Monta a chave HMAC, o parser e o cache de tokens verificados uma única vez.
+     * Chamado pelo Spring após a injeção dos valores; fora do Spring, deve ser chamado manualmente.
+     */
+    @PostConstruct
+    public void init() {
+        this.signInKey = getSignInKey();
+        this.parser = Jwts.parserBuilder().setSigningKey(signInKey).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new ExpiraComToken())
+                .build();
+    }
+
+    /**
+     * Verifica assinatura e validade do token uma única vez e devolve todas as claims.
+     * Tokens já verificados são servidos pelo cache até o seu vencimento.
+     *
+     * @throws io.jsonwebtoken.ExpiredJwtException se o token estiver expirado
+     * @throws JwtException                        se o token for inválido
+     */
+    public Claims validateToken(String token) {
+        String hash = hash(token);
+        Claims claims = verifiedTokens.getIfPresent(hash);
+        if (claims != null) {
+            return claims;
+        }
+        claims = extractAllClaims(token);
+        // Sem "exp" não há como saber quando a entrada deixa de valer; esses tokens não são guardados.
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(hash, claims);
+        }
+        return claims;
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = validateToken(token);
         return claimsResolver.apply(claims);
     }
 
@@ -54,29 +109,28 @@ public class JwtUtil {
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .signWith(signInKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return isTokenValid(validateToken(token), userDetails);
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    /**
+     * Confere as claims já extraídas por {@link #validateToken(String)} contra o usuário, sem novo parse.
+     */
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return userDetails.getUsername().equals(claims.getSubject()) && !isTokenExpired(claims);
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    private boolean isTokenExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.before(new Date());
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     /**
@@ -87,4 +141,33 @@ public class JwtUtil {
         byte[] keyBytes = this.secretKey.getBytes(StandardCharsets.UTF_8);
         return Keys.hmacShaKeyFor(keyBytes);
     }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 é obrigatório em toda JVM.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class ExpiraComToken implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String hash, Claims claims, long currentTime) {
+            long restanteMs = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(restanteMs, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String hash, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(hash, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String hash, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
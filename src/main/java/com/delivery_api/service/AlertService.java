@@ -1,5 +1,7 @@
 package com.delivery_api.service;
 
+import java.util.List;
+
 /**
  * Interface para o serviço de monitoramento e envio de alertas.
  * Define o contrato para as operações de verificação de métricas e disparo de alertas.
@@ -13,4 +15,9 @@ public interface AlertService {
      */
     void verificarAlertas();
 
+    /**
+     * Alertas disparados e ainda não resolvidos, identificados pelo tipo, severidade e janelas da regra.
+     */
+    List<String> alertasAtivos();
+
 }
\ No newline at end of file
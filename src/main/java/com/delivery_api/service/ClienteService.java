@@ -3,6 +3,7 @@ package com.delivery_api.service;
 import com.delivery_api.dto.ClienteDTO;
 import com.delivery_api.dto.ClienteResponseDTO;
 import java.util.List;
+import java.util.Map;
 
 public interface ClienteService {
 
@@ -17,4 +18,19 @@ public interface ClienteService {
     ClienteResponseDTO ativarDesativarCliente(Long id);
 
     List<ClienteResponseDTO> listarClientesAtivos();
+
+    List<ClienteResponseDTO> buscarClientesPorNome(String nome, boolean apenasAtivos, int quantidade);
+
+    /**
+     * IDs dos clientes ativos de cada cidade, em uma única consulta. As chaves são as cidades como recebidas,
+     * na mesma ordem; cidades sem clientes vêm com lista vazia.
+     */
+    Map<String, List<Long>> buscarIdsAtivosPorCidades(List<String> cidades);
+
+    /**
+     * Preenche a cidade dos clientes que ainda não a têm, a partir do endereço, em lotes.
+     *
+     * @return quantidade de clientes atualizados
+     */
+    int preencherCidades();
 }
\ No newline at end of file
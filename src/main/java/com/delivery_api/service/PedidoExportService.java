@@ -0,0 +1,25 @@
+package com.delivery_api.service;
+
+import com.delivery_api.enums.FormatoExportacao;
+import com.delivery_api.enums.StatusPedido;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+public interface PedidoExportService {
+
+    /**
+     * Escreve os pedidos do período (e seus itens) diretamente na saída, à medida que são lidos
+     * do banco. A memória usada não depende da quantidade de pedidos exportados.
+     *
+     * @param dataInicio primeiro dia do período (inclusive)
+     * @param dataFim    último dia do período (inclusive)
+     * @param status     filtro opcional de status
+     * @param formato    NDJSON (um pedido por linha, com os itens aninhados) ou CSV (uma linha por item)
+     * @param saida      destino; é descarregado (flush) mas não fechado
+     * @return quantidade de pedidos exportados
+     */
+    long exportarPedidos(LocalDate dataInicio, LocalDate dataFim, StatusPedido status,
+                         FormatoExportacao formato, OutputStream saida) throws IOException;
+}
@@ -4,6 +4,7 @@ import com.delivery_api.dto.PedidoDTO;
 import com.delivery_api.dto.PedidoResponseDTO;
 import com.delivery_api.dto.CalculoPedidoDTO;
 import com.delivery_api.dto.CalculoPedidoResponseDTO;
+import com.delivery_api.dto.CursorPage;
 import com.delivery_api.dto.ItemPedidoDTO;
 import com.delivery_api.enums.StatusPedido;
 
@@ -30,6 +31,9 @@ public interface PedidoService {
 
     Page<PedidoResponseDTO> listarPedidos(StatusPedido status, LocalDate dataInicio, LocalDate dataFim, Pageable pageable);
 
+    CursorPage<PedidoResponseDTO> listarPedidosPorCursor(StatusPedido status, LocalDate dataInicio, LocalDate dataFim,
+                                                         String cursor, int size, boolean incluirTotal);
+
     List<PedidoResponseDTO> buscarPedidosPorRestaurante(Long restauranteId, StatusPedido status);
     
     CalculoPedidoResponseDTO calcularTotalPedido(CalculoPedidoDTO dto);
@@ -2,6 +2,9 @@ package com.delivery_api.service;
 
 import com.delivery_api.dto.ProdutoDTO;
 import com.delivery_api.dto.ProdutoResponseDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
 import java.util.List;
 
 public interface ProdutoService {
@@ -20,7 +23,7 @@ public interface ProdutoService {
 
     List<ProdutoResponseDTO> buscarProdutosPorCategoria(String categoria);
 
-    List<ProdutoResponseDTO> buscarProdutosPorNome(String nome);
+    Page<ProdutoResponseDTO> buscarProdutosPorNome(String nome, Pageable pageable);
     
     List<ProdutoResponseDTO> buscarProdutosPorRestaurante(Long restauranteId, Boolean disponivel);
 }
\ No newline at end of file
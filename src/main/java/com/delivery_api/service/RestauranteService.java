@@ -1,5 +1,6 @@
 package com.delivery_api.service;
 
+import com.delivery_api.dto.CursorPage;
 import com.delivery_api.dto.RestauranteDTO;
 import com.delivery_api.dto.RestauranteResponseDTO;
 import org.springframework.data.domain.Page;
@@ -13,6 +14,8 @@ public interface RestauranteService {
 
     Page<RestauranteResponseDTO> listarRestaurantes(String categoria, Boolean ativo, Pageable pageable);
 
+    CursorPage<RestauranteResponseDTO> listarRestaurantesPorCursor(String cursor, int size, boolean incluirTotal);
+
     RestauranteResponseDTO buscarRestaurantePorId(Long id);
 
     RestauranteResponseDTO atualizarRestaurante(Long id, RestauranteDTO dto);
@@ -23,7 +26,20 @@ public interface RestauranteService {
 
     BigDecimal calcularTaxaEntrega(Long id, String cep);
 
+    /**
+     * Restaurantes ativos a até {@code raio} km do CEP, do mais próximo para o mais distante.
+     */
     List<RestauranteResponseDTO> buscarRestaurantesProximos(String cep, Integer raio);
 
+    /**
+     * Os {@code quantidade} restaurantes ativos mais próximos do CEP, do mais próximo para o mais distante.
+     */
+    List<RestauranteResponseDTO> buscarRestaurantesMaisProximos(String cep, int quantidade);
+
+    /**
+     * Os {@code quantidade} restaurantes ativos com nome mais parecido com o termo, do mais para o menos relevante.
+     */
+    List<RestauranteResponseDTO> buscarRestaurantesPorNome(String nome, int quantidade);
+
     void deletarRestaurante(Long id);
 }
\ No newline at end of file
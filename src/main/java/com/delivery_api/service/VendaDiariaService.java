@@ -0,0 +1,35 @@
+package com.delivery_api.service;
+
+import com.delivery_api.dto.DivergenciaVendasDTO;
+import com.delivery_api.enums.StatusPedido;
+import com.delivery_api.model.Pedido;
+
+import java.util.List;
+
+public interface VendaDiariaService {
+
+    /**
+     * Conta um pedido recém-criado no agregado. Deve ser chamado na transação que salvou o pedido.
+     */
+    void registrarPedido(Pedido pedido);
+
+    /**
+     * Move o pedido do grupo do status anterior para o do status atual.
+     * Deve ser chamado na transação que alterou o status.
+     */
+    void registrarMudancaDeStatus(Pedido pedido, StatusPedido statusAnterior);
+
+    /**
+     * Recalcula todo o agregado a partir da tabela de pedidos.
+     *
+     * @return quantidade de grupos (restaurante, dia, status) gravados
+     */
+    int reconstruir();
+
+    /**
+     * Compara o agregado com os totais calculados dos pedidos.
+     *
+     * @return grupos divergentes; vazio quando o agregado está consistente
+     */
+    List<DivergenciaVendasDTO> verificarConsistencia();
+}
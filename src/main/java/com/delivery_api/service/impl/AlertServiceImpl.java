@@ -1,69 +1,126 @@
 package com.delivery_api.service.impl;
 
+import com.delivery_api.config.AlertaProperties;
+import com.delivery_api.metrics.EstatisticaJanela;
+import com.delivery_api.metrics.JanelaDeslizante;
+import com.delivery_api.metrics.LatenciaRegistro;
+import com.delivery_api.metrics.OperacaoLatencia;
 import com.delivery_api.service.AlertService;
-import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Avalia as regras de alerta sobre as janelas recentes (1, 5 e 15 minutos por padrão) da criação de pedidos,
+ * em vez dos contadores acumulados desde a subida, que diluem um pico de erros em horas de tráfego normal.
+ *
+ * Cada regra olha uma janela curta e uma longa e só dispara quando as duas passam do limiar; depois de
+ * disparada, só é resolvida quando a janela longa cai abaixo de limiar * fatorResolucao (histerese). O alerta
+ * é logado ao disparar e ao resolver, não a cada verificação.
+ */
 @Service
 public class AlertServiceImpl implements AlertService {
 
     private static final Logger logger = LoggerFactory.getLogger(AlertServiceImpl.class);
-    
-    // Injeção da dependência para acessar as métricas da aplicação.
-    private final MeterRegistry meterRegistry;
 
-    // Constantes privadas que definem os limites (thresholds) para os alertas.
-    private static final double ERROR_RATE_THRESHOLD = 0.1; // 10%
-    private static final double RESPONSE_TIME_THRESHOLD_MS = 1000; // 1 segundo
+    private static final double PERCENTIL_LATENCIA = 0.99;
+
+    private final AlertaProperties properties;
+    // Resolvida uma vez: as verificações não procuram métricas no MeterRegistry
+    private final JanelaDeslizante janela;
+    // Alertas disparados e ainda não resolvidos, pela chave da regra
+    private final Set<String> ativos = ConcurrentHashMap.newKeySet();
 
-    public AlertServiceImpl(MeterRegistry meterRegistry) {
-        this.meterRegistry = meterRegistry;
+    public AlertServiceImpl(AlertaProperties properties, LatenciaRegistro latenciaRegistro) {
+        this.properties = properties;
+        this.janela = latenciaRegistro.janela(OperacaoLatencia.PEDIDO_CRIACAO);
+        // Falha na subida se alguma regra usar uma janela maior que o histórico guardado
+        for (AlertaProperties.Regra regra : regras()) {
+            janela.resumir(regra.getJanelaCurta(), PERCENTIL_LATENCIA);
+            janela.resumir(regra.getJanelaLonga(), PERCENTIL_LATENCIA);
+        }
     }
 
-    /**
-     * Implementação do método agendado. A anotação @Scheduled fica aqui,
-     * pois o agendamento é um detalhe da implementação.
-     */
     @Override
-    @Scheduled(fixedRate = 60000) // Roda a cada 60 segundos
+    @Scheduled(fixedRateString = "${delivery.alertas.intervalo:10s}")
     public void verificarAlertas() {
-        logger.info("Executando verificação de alertas...");
-        verificarTaxaDeErro();
-        verificarTempoDeResposta();
+        logger.debug("Executando verificação de alertas...");
+        // Cada janela é somada uma vez por verificação, mesmo usada por várias regras
+        Map<Duration, EstatisticaJanela> estatisticas = new HashMap<>();
+        verificarTaxaDeErro(estatisticas);
+        verificarTempoDeResposta(estatisticas);
+    }
+
+    @Override
+    public List<String> alertasAtivos() {
+        return ativos.stream().sorted().toList();
     }
 
     /**
-     * Lógica privada para verificar a taxa de erro.
-     * Não faz parte do contrato público.
+     * Consumo do orçamento de erros (taxa de erro / (1 - objetivo)) nas duas janelas de cada regra.
      */
-    private void verificarTaxaDeErro() {
-        double totalRequests = getCounterValue("delivery_pedidos_total");
-        double errorRequests = getCounterValue("delivery_pedidos_erro_total");
-
-        if (totalRequests > 10) { // Só alerta se houver um volume mínimo de requisições.
-            double errorRate = errorRequests / totalRequests;
-            if (errorRate > ERROR_RATE_THRESHOLD) {
-                enviarAlerta("CRITICAL", "HIGH_ERROR_RATE",
-                    String.format("Taxa de erro de %.2f%% excede o limite de %.2f%%",
-                        errorRate * 100, ERROR_RATE_THRESHOLD * 100));
-            }
+    private void verificarTaxaDeErro(Map<Duration, EstatisticaJanela> estatisticas) {
+        double orcamento = 1 - properties.getObjetivoSucesso();
+        for (AlertaProperties.Regra regra : properties.getTaxaErro()) {
+            EstatisticaJanela curta = estatistica(estatisticas, regra.getJanelaCurta());
+            EstatisticaJanela longa = estatistica(estatisticas, regra.getJanelaLonga());
+            avaliar("HIGH_ERROR_RATE", regra, longa.total(),
+                    curta.taxaErro() / orcamento, longa.taxaErro() / orcamento,
+                    String.format("Consumo do orçamento de erros de %.1fx (taxa de erro de %.2f%% em %s) excede %.1fx",
+                            longa.taxaErro() / orcamento, longa.taxaErro() * 100, rotulo(regra.getJanelaLonga()),
+                            regra.getLimiar()));
         }
     }
-    
+
     /**
-     * Lógica privada para verificar o tempo médio de resposta.
+     * p99 da criação de pedidos nas duas janelas de cada regra.
      */
-    private void verificarTempoDeResposta() {
-        // O nome da métrica foi ajustado para buscar segundos, conforme o gabarito.
-        double avgResponseTimeInMillis = getTimerMean("delivery_pedido_processamento_seconds"); 
-        if (avgResponseTimeInMillis > RESPONSE_TIME_THRESHOLD_MS) {
-         enviarAlerta("WARNING", "HIGH_RESPONSE_TIME",
-                String.format("Tempo médio de resposta de %.2fms excede o limite de %.0fms",
-                    avgResponseTimeInMillis, RESPONSE_TIME_THRESHOLD_MS));
+    private void verificarTempoDeResposta(Map<Duration, EstatisticaJanela> estatisticas) {
+        for (AlertaProperties.Regra regra : properties.getLatencia()) {
+            EstatisticaJanela curta = estatistica(estatisticas, regra.getJanelaCurta());
+            EstatisticaJanela longa = estatistica(estatisticas, regra.getJanelaLonga());
+            avaliar("HIGH_RESPONSE_TIME", regra, longa.total(), curta.percentilMs(), longa.percentilMs(),
+                    String.format("Tempo de resposta p99 de %.2fms em %s excede o limite de %.0fms",
+                            longa.percentilMs(), rotulo(regra.getJanelaLonga()), regra.getLimiar()));
+        }
     }
+
+    private void avaliar(String tipo, AlertaProperties.Regra regra, long volume,
+                         double valorCurta, double valorLonga, String mensagem) {
+        String chave = tipo + "[" + regra.getSeveridade() + " " + rotulo(regra.getJanelaCurta()) + "/"
+                + rotulo(regra.getJanelaLonga()) + "]";
+        if (!ativos.contains(chave)) {
+            if (volume >= properties.getVolumeMinimo()
+                    && valorCurta > regra.getLimiar() && valorLonga > regra.getLimiar()) {
+                ativos.add(chave);
+                enviarAlerta(regra.getSeveridade(), tipo, mensagem);
+            }
+        } else if (valorLonga < regra.getLimiar() * properties.getFatorResolucao()) {
+            ativos.remove(chave);
+            logger.info("ALERTA RESOLVIDO. Tipo: [{}], Regra: {}", tipo, chave);
+        }
+    }
+
+    private EstatisticaJanela estatistica(Map<Duration, EstatisticaJanela> estatisticas, Duration duracao) {
+        return estatisticas.computeIfAbsent(duracao, d -> janela.resumir(d, PERCENTIL_LATENCIA));
+    }
+
+    private List<AlertaProperties.Regra> regras() {
+        return Stream.concat(properties.getTaxaErro().stream(), properties.getLatencia().stream())
+                .toList();
+    }
+
+    private static String rotulo(Duration duracao) {
+        return duracao.toSeconds() % 60 == 0 ? duracao.toMinutes() + "m" : duracao.toSeconds() + "s";
     }
 
     /**
@@ -73,15 +130,4 @@ public class AlertServiceImpl implements AlertService {
         logger.warn("ALERTA DISPARADO! Severidade: [{}], Tipo: [{}], Mensagem: {}", severidade, tipo, mensagem);
         // Em um cenário real, aqui você integraria com PagerDuty, Slack, E-mail, etc.
     }
-
-    // Métodos auxiliares privados para buscar os valores das métricas.
-    private double getCounterValue(String name) {
-        // O `find(name).counter()` pode retornar null se a métrica não existir.
-        return meterRegistry.find(name).counter() != null ? meterRegistry.find(name).counter().count() : 0.0;
-    }
-    
-    private double getTimerMean(String name) {
-        // Retorna a média em segundos, a unidade base do Timer.
-        return meterRegistry.find(name).timer() != null ? meterRegistry.find(name).timer().mean(java.util.concurrent.TimeUnit.MILLISECONDS) : 0.0;
-    }
-}
\ No newline at end of file
+}
@@ -5,29 +5,71 @@ import com.delivery_api.dto.ClienteResponseDTO;
 import com.delivery_api.exception.BusinessException;
 import com.delivery_api.exception.ConflictException;
 import com.delivery_api.exception.EntityNotFoundException;
+import com.delivery_api.geo.EnderecoCidade;
+import com.delivery_api.logging.AcessoDadosEventos;
+import com.delivery_api.logging.EventoAcessoDados;
+import com.delivery_api.mapper.ClienteMapper;
 import com.delivery_api.model.Cliente;
+import com.delivery_api.projection.ClienteCidade;
+import com.delivery_api.projection.ClienteEndereco;
 import com.delivery_api.repository.ClienteRepository;
+import com.delivery_api.search.ClienteNomeIndex;
+import com.delivery_api.search.NomeNgramIndex;
 import com.delivery_api.service.ClienteService;
 import org.modelmapper.ModelMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 // 🔹 Imports necessários para o cache
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class ClienteServiceImpl implements ClienteService {
 
+    private static final Logger log = LoggerFactory.getLogger(ClienteServiceImpl.class);
+
     @Autowired
     private ClienteRepository clienteRepository;
 
     @Autowired
     private ModelMapper modelMapper;
+    @Autowired
+    private ClienteMapper clienteMapper;
+    @Autowired
+    private ClienteNomeIndex clienteNomeIndex;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private AcessoDadosEventos acessoDadosEventos;
+
+    static final int QUANTIDADE_MAXIMA_BUSCA = 100;
+    static final int QUANTIDADE_MAXIMA_CIDADES = 500;
+
+    // Clientes inseridos fora da aplicação (data.sql, cargas) só ganham cidade com o preenchimento.
+    @Value("${delivery.clientes.preencher-cidades-na-inicializacao:false}")
+    private boolean preencherCidadesNaInicializacao;
+
+    @Value("${delivery.clientes.lote-preenchimento-cidades:1000}")
+    private int lotePreenchimentoCidades;
 
     /**
      * Cadastra um novo cliente.
@@ -45,8 +87,9 @@ public class ClienteServiceImpl implements ClienteService {
         Cliente cliente = modelMapper.map(dto, Cliente.class);
         cliente.setAtivo(true);
         Cliente novoCliente = clienteRepository.save(cliente);
+        clienteNomeIndex.atualizarAposCommit(novoCliente);
 
-        return modelMapper.map(novoCliente, ClienteResponseDTO.class);
+        return clienteMapper.toResponseDTO(novoCliente);
     }
 
     /**
@@ -55,12 +98,12 @@ public class ClienteServiceImpl implements ClienteService {
      */
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "clientes", key = "#id")
+    @Cacheable(value = "clientes", key = "#id", sync = true)
     public ClienteResponseDTO buscarClientePorId(Long id) {
-        System.out.println("### BUSCANDO CLIENTE DO BANCO DE DADOS (ID: " + id + ") ###");
+        acessoDadosEventos.registrar(EventoAcessoDados.CLIENTE_POR_ID, id);
         Cliente cliente = clienteRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Cliente não encontrado com ID: " + id));
-        return modelMapper.map(cliente, ClienteResponseDTO.class);
+        return clienteMapper.toResponseDTO(cliente);
     }
 
     /**
@@ -69,12 +112,12 @@ public class ClienteServiceImpl implements ClienteService {
      */
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "clientes", key = "#email")
+    @Cacheable(value = "clientes", key = "#email", sync = true)
     public ClienteResponseDTO buscarClientePorEmail(String email) {
-        System.out.println("### BUSCANDO CLIENTE DO BANCO DE DADOS (EMAIL: " + email + ") ###");
+        acessoDadosEventos.registrar(EventoAcessoDados.CLIENTE_POR_EMAIL, email);
         Cliente cliente = clienteRepository.findByEmail(email)
                 .orElseThrow(() -> new EntityNotFoundException("Cliente não encontrado com email: " + email));
-        return modelMapper.map(cliente, ClienteResponseDTO.class);
+        return clienteMapper.toResponseDTO(cliente);
     }
 
     /**
@@ -83,15 +126,106 @@ public class ClienteServiceImpl implements ClienteService {
      */
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "clientes", key = "'listaClientesAtivos'")
+    @Cacheable(value = "clientes", key = "'listaClientesAtivos'", sync = true)
     public List<ClienteResponseDTO> listarClientesAtivos() {
-        System.out.println("### BUSCANDO LISTA DE CLIENTES ATIVOS DO BANCO DE DADOS ###");
+        acessoDadosEventos.registrar(EventoAcessoDados.CLIENTES_ATIVOS);
         List<Cliente> clientesAtivos = clienteRepository.findByAtivoTrue();
         return clientesAtivos.stream()
-                .map(cliente -> modelMapper.map(cliente, ClienteResponseDTO.class))
+                .map(clienteMapper::toResponseDTO)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Busca clientes por nome no índice de trigramas em memória, tolerando acentos e erros de digitação.
+     * Não passa pelo cache "clientes": o índice já responde sem ir ao banco, que só carrega os encontrados.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ClienteResponseDTO> buscarClientesPorNome(String nome, boolean apenasAtivos, int quantidade) {
+        if (quantidade <= 0 || quantidade > QUANTIDADE_MAXIMA_BUSCA) {
+            throw new BusinessException("A quantidade deve estar entre 1 e " + QUANTIDADE_MAXIMA_BUSCA);
+        }
+        List<Long> ids = clienteNomeIndex.buscar(nome, quantidade, apenasAtivos).stream()
+                .map(NomeNgramIndex.Resultado::id)
+                .toList();
+        Map<Long, Cliente> porId = clienteRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Cliente::getId, Function.identity()));
+        return ids.stream()
+                .map(porId::get)
+                .filter(cliente -> cliente != null && (!apenasAtivos || cliente.isAtivo()))
+                .map(clienteMapper::toResponseDTO)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, List<Long>> buscarIdsAtivosPorCidades(List<String> cidades) {
+        if (cidades == null || cidades.isEmpty() || cidades.size() > QUANTIDADE_MAXIMA_CIDADES) {
+            throw new BusinessException("Informe de 1 a " + QUANTIDADE_MAXIMA_CIDADES + " cidades");
+        }
+        Map<String, List<Long>> idsPorCidadeNormalizada = new HashMap<>();
+        for (String cidade : cidades) {
+            idsPorCidadeNormalizada.put(EnderecoCidade.normalizar(cidade), new ArrayList<>());
+        }
+        for (ClienteCidade cliente : clienteRepository.findIdsAtivosPorCidades(idsPorCidadeNormalizada.keySet())) {
+            idsPorCidadeNormalizada.get(cliente.cidade()).add(cliente.id());
+        }
+
+        Map<String, List<Long>> resultado = new LinkedHashMap<>();
+        for (String cidade : cidades) {
+            resultado.put(cidade, idsPorCidadeNormalizada.get(EnderecoCidade.normalizar(cidade)));
+        }
+        return resultado;
+    }
+
+    /**
+     * Percorre os clientes sem cidade por cursor no ID, um lote por transação, e grava a cidade com um
+     * UPDATE por cidade distinta do lote. Endereços sem UF continuam sem cidade.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int preencherCidades() {
+        long inicio = System.nanoTime();
+        long ultimoId = 0;
+        int atualizados = 0;
+        List<ClienteEndereco> lote;
+        do {
+            long aposId = ultimoId;
+            lote = clienteRepository.findSemCidadeAposId(aposId, Limit.of(lotePreenchimentoCidades));
+            if (lote.isEmpty()) {
+                break;
+            }
+            Map<String, List<Long>> idsPorCidade = new HashMap<>();
+            for (ClienteEndereco cliente : lote) {
+                String cidade = EnderecoCidade.extrair(cliente.endereco());
+                if (cidade != null) {
+                    idsPorCidade.computeIfAbsent(cidade, c -> new ArrayList<>()).add(cliente.id());
+                }
+            }
+            Integer doLote = transactionTemplate.execute(status -> {
+                int total = 0;
+                for (Map.Entry<String, List<Long>> cidade : idsPorCidade.entrySet()) {
+                    total += clienteRepository.atualizarCidade(cidade.getKey(), cidade.getValue());
+                }
+                return total;
+            });
+            atualizados += doLote != null ? doLote : 0;
+            ultimoId = lote.get(lote.size() - 1).id();
+        } while (lote.size() == lotePreenchimentoCidades);
+
+        log.info("Cidades dos clientes preenchidas: {} clientes atualizados em {} ms",
+                atualizados, (System.nanoTime() - inicio) / 1_000_000);
+        return atualizados;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void preencherCidadesNaInicializacao() {
+        if (preencherCidadesNaInicializacao) {
+            preencherCidades();
+        }
+    }
+
     /**
      * Atualiza um cliente existente.
      * Invalida todo o cache "clientes" para garantir que dados desatualizados sejam removidos.
@@ -112,7 +246,8 @@ public class ClienteServiceImpl implements ClienteService {
         cliente.setEndereco(dto.getEndereco());
 
         Cliente clienteAtualizado = clienteRepository.save(cliente);
-        return modelMapper.map(clienteAtualizado, ClienteResponseDTO.class);
+        clienteNomeIndex.atualizarAposCommit(clienteAtualizado);
+        return clienteMapper.toResponseDTO(clienteAtualizado);
     }
 
     /**
@@ -127,7 +262,8 @@ public class ClienteServiceImpl implements ClienteService {
 
         cliente.setAtivo(!cliente.isAtivo());
         Cliente clienteAtualizado = clienteRepository.save(cliente);
+        clienteNomeIndex.atualizarAposCommit(clienteAtualizado);
 
-        return modelMapper.map(clienteAtualizado, ClienteResponseDTO.class);
+        return clienteMapper.toResponseDTO(clienteAtualizado);
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.delivery_api.service.impl;
 
+import com.delivery_api.metrics.LatenciaRegistro;
+import com.delivery_api.metrics.OperacaoLatencia;
 import com.delivery_api.service.MetricsService;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
@@ -26,7 +28,7 @@ public class MetricsServiceImpl implements MetricsService {
     private final Timer tempoProcessamentoPedido;
     private final AtomicInteger usuariosAtivos = new AtomicInteger(0);
 
-    public MetricsServiceImpl(MeterRegistry meterRegistry) {
+    public MetricsServiceImpl(MeterRegistry meterRegistry, LatenciaRegistro latenciaRegistro) {
         this.meterRegistry = meterRegistry;
 
         // --- INICIALIZAÇÃO DAS MÉTRICAS ---
@@ -44,10 +46,9 @@ public class MetricsServiceImpl implements MetricsService {
                 .description("Pedidos com erro no processamento")
                 .register(meterRegistry);
 
-        // 2. Temporizador (Timer): para medir a duração de eventos.
-        this.tempoProcessamentoPedido = Timer.builder("delivery_pedido_processamento_seconds")
-                .description("Tempo de processamento de pedidos")
-                .register(meterRegistry);
+        // 2. Temporizador (Timer): para medir a duração de eventos. É o mesmo timer que o @MedirLatencia
+        //    da criação de pedidos alimenta, com percentis e SLOs (ver LatenciaRegistro).
+        this.tempoProcessamentoPedido = latenciaRegistro.timer(OperacaoLatencia.PEDIDO_CRIACAO);
 
         // 3. Medidor (Gauge): para valores que podem aumentar e diminuir (ex: usuários online).
         Gauge.builder("delivery_usuarios_ativos_total", usuariosAtivos, AtomicInteger::get)
@@ -0,0 +1,252 @@
+package com.delivery_api.service.impl;
+
+import com.delivery_api.enums.FormatoExportacao;
+import com.delivery_api.enums.StatusPedido;
+import com.delivery_api.exception.BusinessException;
+import com.delivery_api.projection.PedidoExportLinha;
+import com.delivery_api.repository.PedidoRepository;
+import com.delivery_api.service.PedidoExportService;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Exportação de pedidos em streaming.
+ *
+ * As linhas vêm de um cursor JDBC só para frente ({@link PedidoRepository#streamParaExportacao})
+ * como projeções, sem entidades gerenciadas, então o contexto de persistência não cresce. Cada
+ * pedido é escrito assim que seus itens terminam; a escrita bloqueia quando o cliente lê devagar,
+ * e o cursor só avança quando há espaço no buffer de saída.
+ */
+@Service
+public class PedidoExportServiceImpl implements PedidoExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(PedidoExportServiceImpl.class);
+
+    // Pedidos escritos entre flushes, para o cliente receber dados de forma contínua.
+    static final int PEDIDOS_POR_FLUSH = 200;
+
+    private static final int TAMANHO_BUFFER = 16 * 1024;
+
+    private static final String CABECALHO_CSV = "pedido_id,numero_pedido,data_pedido,status,cliente_id,restaurante_id,"
+            + "subtotal,taxa_entrega,valor_total,item_id,produto_id,produto_nome,quantidade,preco_unitario,item_subtotal";
+
+    // Sem separador entre valores de raiz: a quebra de linha do NDJSON é escrita à parte.
+    private final JsonFactory jsonFactory = new JsonFactory()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .setRootValueSeparator(null);
+
+    @Autowired
+    private PedidoRepository pedidoRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportarPedidos(LocalDate dataInicio, LocalDate dataFim, StatusPedido status,
+                                FormatoExportacao formato, OutputStream saida) throws IOException {
+        if (dataInicio == null || dataFim == null) {
+            throw new BusinessException("Informe dataInicio e dataFim para exportar pedidos");
+        }
+        if (dataFim.isBefore(dataInicio)) {
+            throw new BusinessException("dataFim não pode ser anterior a dataInicio");
+        }
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8), TAMANHO_BUFFER);
+        EscritorExportacao escritor = formato == FormatoExportacao.CSV
+                ? new EscritorCsv(writer)
+                : new EscritorNdjson(jsonFactory.createGenerator(writer));
+
+        long pedidos = 0;
+        try (Stream<PedidoExportLinha> linhas = pedidoRepository.streamParaExportacao(
+                dataInicio.atStartOfDay(), dataFim.plusDays(1).atStartOfDay(), status)) {
+            escritor.inicio();
+            Long pedidoAtual = null;
+            Iterator<PedidoExportLinha> iterator = linhas.iterator();
+            while (iterator.hasNext()) {
+                PedidoExportLinha linha = iterator.next();
+                if (!linha.pedidoId().equals(pedidoAtual)) {
+                    if (pedidoAtual != null) {
+                        escritor.fimDoPedido();
+                        if (++pedidos % PEDIDOS_POR_FLUSH == 0) {
+                            escritor.flush();
+                        }
+                    }
+                    pedidoAtual = linha.pedidoId();
+                    escritor.inicioDoPedido(linha);
+                }
+                escritor.item(linha);
+            }
+            if (pedidoAtual != null) {
+                escritor.fimDoPedido();
+                pedidos++;
+            }
+            escritor.flush();
+        }
+
+        log.info("Exportação {} de pedidos ({} a {}, status {}): {} pedidos", formato, dataInicio, dataFim, status, pedidos);
+        return pedidos;
+    }
+
+    private interface EscritorExportacao {
+        void inicio() throws IOException;
+
+        void inicioDoPedido(PedidoExportLinha linha) throws IOException;
+
+        // Chamado para toda linha do pedido; em pedidos sem itens, os campos do item são nulos.
+        void item(PedidoExportLinha linha) throws IOException;
+
+        void fimDoPedido() throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    // Uma linha por item, com os dados do pedido repetidos.
+    private static final class EscritorCsv implements EscritorExportacao {
+
+        private final Writer writer;
+
+        EscritorCsv(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void inicio() throws IOException {
+            writer.write(CABECALHO_CSV);
+            writer.write('\n');
+        }
+
+        @Override
+        public void inicioDoPedido(PedidoExportLinha linha) {
+        }
+
+        @Override
+        public void item(PedidoExportLinha l) throws IOException {
+            campo(l.pedidoId()).campo(l.numeroPedido()).campo(l.dataPedido()).campo(l.status())
+                    .campo(l.clienteId()).campo(l.restauranteId()).campo(l.subtotal()).campo(l.taxaEntrega())
+                    .campo(l.valorTotal()).campo(l.itemId()).campo(l.produtoId()).campo(l.produtoNome())
+                    .campo(l.quantidade()).campo(l.precoUnitario());
+            valor(l.itemSubtotal());
+            writer.write('\n');
+        }
+
+        @Override
+        public void fimDoPedido() {
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        private EscritorCsv campo(Object valor) throws IOException {
+            valor(valor);
+            writer.write(',');
+            return this;
+        }
+
+        private void valor(Object valor) throws IOException {
+            if (valor == null) {
+                return;
+            }
+            String texto = valor instanceof BigDecimal decimal ? decimal.toPlainString() : valor.toString();
+            if (texto.indexOf(',') < 0 && texto.indexOf('"') < 0 && texto.indexOf('\n') < 0 && texto.indexOf('\r') < 0) {
+                writer.write(texto);
+                return;
+            }
+            writer.write('"');
+            writer.write(texto.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+
+    // Um pedido por linha, com os itens em um array.
+    private static final class EscritorNdjson implements EscritorExportacao {
+
+        private final JsonGenerator json;
+
+        EscritorNdjson(JsonGenerator json) {
+            this.json = json;
+        }
+
+        @Override
+        public void inicio() {
+        }
+
+        @Override
+        public void inicioDoPedido(PedidoExportLinha l) throws IOException {
+            json.writeStartObject();
+            json.writeNumberField("id", l.pedidoId());
+            json.writeStringField("numeroPedido", l.numeroPedido());
+            json.writeStringField("dataPedido", Objects.toString(l.dataPedido(), null));
+            json.writeStringField("status", l.status() != null ? l.status().name() : null);
+            numero("clienteId", l.clienteId());
+            numero("restauranteId", l.restauranteId());
+            numero("subtotal", l.subtotal());
+            numero("taxaEntrega", l.taxaEntrega());
+            numero("valorTotal", l.valorTotal());
+            json.writeArrayFieldStart("itens");
+        }
+
+        @Override
+        public void item(PedidoExportLinha l) throws IOException {
+            if (l.itemId() == null) {
+                return;
+            }
+            json.writeStartObject();
+            json.writeNumberField("id", l.itemId());
+            numero("produtoId", l.produtoId());
+            json.writeStringField("produtoNome", l.produtoNome());
+            if (l.quantidade() != null) {
+                json.writeNumberField("quantidade", l.quantidade());
+            } else {
+                json.writeNullField("quantidade");
+            }
+            numero("precoUnitario", l.precoUnitario());
+            numero("subtotal", l.itemSubtotal());
+            json.writeEndObject();
+        }
+
+        @Override
+        public void fimDoPedido() throws IOException {
+            json.writeEndArray();
+            json.writeEndObject();
+            json.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            json.flush();
+        }
+
+        private void numero(String nome, Long valor) throws IOException {
+            if (valor != null) {
+                json.writeNumberField(nome, valor);
+            } else {
+                json.writeNullField(nome);
+            }
+        }
+
+        private void numero(String nome, BigDecimal valor) throws IOException {
+            if (valor != null) {
+                json.writeNumberField(nome, valor);
+            } else {
+                json.writeNullField(nome);
+            }
+        }
+    }
+}
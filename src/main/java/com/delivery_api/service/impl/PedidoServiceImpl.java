@@ -1,24 +1,36 @@
 package com.delivery_api.service.impl;
 
+import com.delivery_api.cache.OwnershipIndex;
 import com.delivery_api.dto.CalculoPedidoDTO;
 import com.delivery_api.dto.CalculoPedidoResponseDTO;
+import com.delivery_api.dto.CursorPage;
 import com.delivery_api.dto.ItemPedidoDTO;
+import com.delivery_api.dto.KeysetCursor;
 import com.delivery_api.dto.PedidoDTO;
 import com.delivery_api.dto.PedidoResponseDTO;
 import com.delivery_api.model.*;
 import com.delivery_api.enums.StatusPedido;
 import com.delivery_api.exception.BusinessException;
 import com.delivery_api.exception.EntityNotFoundException;
+import com.delivery_api.geo.CalculadoraTaxaEntrega;
+import com.delivery_api.logging.AcessoDadosEventos;
+import com.delivery_api.logging.EventoAcessoDados;
+import com.delivery_api.mapper.PedidoMapper;
+import com.delivery_api.metrics.MedirLatencia;
+import com.delivery_api.metrics.OperacaoLatencia;
+import com.delivery_api.projection.PedidoDono;
 import com.delivery_api.repository.*;
 import com.delivery_api.service.PedidoService;
+import com.delivery_api.service.VendaDiariaService;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 // 🔹 Imports necessários para o cache
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -27,7 +39,12 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -43,10 +60,19 @@ public class PedidoServiceImpl implements PedidoService {
     @Autowired
     private ProdutoRepository produtoRepository;
     @Autowired
-    private ModelMapper modelMapper;
+    private PedidoMapper pedidoMapper;
+    @Autowired
+    private OwnershipIndex ownershipIndex;
+    @Autowired
+    private VendaDiariaService vendaDiariaService;
+    @Autowired
+    private CalculadoraTaxaEntrega calculadoraTaxaEntrega;
+    @Autowired
+    private AcessoDadosEventos acessoDadosEventos;
 
     @Override
     @Transactional
+    @MedirLatencia(OperacaoLatencia.PEDIDO_CRIACAO)
     public PedidoResponseDTO criarPedido(PedidoDTO dto) {
         // ... (lógica inalterada)
         // 1. Validar cliente
@@ -63,13 +89,13 @@ public class PedidoServiceImpl implements PedidoService {
             throw new BusinessException("Restaurante não está disponível");
         }
 
-        // 3. Validar produtos e criar itens
-        List<ItemPedido> itensPedido = new ArrayList<>();
+        // 3. Validar produtos e criar itens (produtos carregados em uma única consulta)
+        Map<Long, Produto> produtos = carregarProdutos(dto.getItens());
+        Map<Long, ItemPedido> itensPorProduto = new LinkedHashMap<>();
         BigDecimal subtotal = BigDecimal.ZERO;
 
         for (ItemPedidoDTO itemDTO : dto.getItens()) {
-            Produto produto = produtoRepository.findById(itemDTO.getProdutoId())
-                    .orElseThrow(() -> new EntityNotFoundException("Produto não encontrado: " + itemDTO.getProdutoId()));
+            Produto produto = obterProduto(produtos, itemDTO.getProdutoId());
             if (!produto.isDisponivel()) {
                 throw new BusinessException("Produto indisponível: " + produto.getNome());
             }
@@ -77,18 +103,22 @@ public class PedidoServiceImpl implements PedidoService {
                 throw new BusinessException("Produto não pertence ao restaurante selecionado");
             }
 
-            ItemPedido item = new ItemPedido();
-            item.setProduto(produto);
-            item.setQuantidade(itemDTO.getQuantidade());
-            item.setPrecoUnitario(produto.getPreco());
-            item.setSubtotal(produto.getPreco().multiply(BigDecimal.valueOf(itemDTO.getQuantidade())));
-            
-            itensPedido.add(item);
-            subtotal = subtotal.add(item.getSubtotal());
+            // Linhas repetidas do mesmo produto são agrupadas em um único item
+            ItemPedido item = itensPorProduto.computeIfAbsent(produto.getId(), produtoId -> {
+                ItemPedido novoItem = new ItemPedido();
+                novoItem.setProduto(produto);
+                novoItem.setPrecoUnitario(produto.getPreco());
+                return novoItem;
+            });
+            item.setQuantidade(item.getQuantidade() + itemDTO.getQuantidade());
+            item.setSubtotal(produto.getPreco().multiply(BigDecimal.valueOf(item.getQuantidade())));
+
+            subtotal = subtotal.add(produto.getPreco().multiply(BigDecimal.valueOf(itemDTO.getQuantidade())));
         }
+        List<ItemPedido> itensPedido = new ArrayList<>(itensPorProduto.values());
 
-        // 4. Calcular total
-        BigDecimal taxaEntrega = restaurante.getTaxaEntrega();
+        // 4. Calcular total (taxa do restaurante + faixa de distância até o CEP)
+        BigDecimal taxaEntrega = calculadoraTaxaEntrega.calcular(restaurante, dto.getCep());
         BigDecimal valorTotal = subtotal.add(taxaEntrega);
 
         // 5. Criar e salvar pedido
@@ -109,9 +139,10 @@ public class PedidoServiceImpl implements PedidoService {
         pedido.setItens(itensPedido);
         
         Pedido pedidoSalvo = pedidoRepository.save(pedido);
+        vendaDiariaService.registrarPedido(pedidoSalvo);
 
         // 6. Retornar DTO
-        return modelMapper.map(pedidoSalvo, PedidoResponseDTO.class);
+        return pedidoMapper.toResponseDTO(pedidoSalvo);
     }
 
     /**
@@ -122,12 +153,12 @@ public class PedidoServiceImpl implements PedidoService {
      */
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "pedidos", key = "#id")
+    @Cacheable(value = "pedidos", key = "#id", sync = true)
     public PedidoResponseDTO buscarPedidoPorId(Long id) {
-        System.out.println("### BUSCANDO PEDIDO DO BANCO DE DADOS (ID: " + id + ") ###");
+        acessoDadosEventos.registrar(EventoAcessoDados.PEDIDO_POR_ID, id);
         Pedido pedido = pedidoRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Pedido não encontrado com ID: " + id));
-        return modelMapper.map(pedido, PedidoResponseDTO.class);
+        return pedidoMapper.toResponseDTO(pedido);
     }
 
     @Override
@@ -135,7 +166,7 @@ public class PedidoServiceImpl implements PedidoService {
     public List<PedidoResponseDTO> buscarPedidosPorCliente(Long clienteId) {
         List<Pedido> pedidos = pedidoRepository.findByClienteId(clienteId);
         return pedidos.stream()
-                .map(pedido -> modelMapper.map(pedido, PedidoResponseDTO.class))
+                .map(pedidoMapper::toResponseDTO)
                 .collect(Collectors.toList());
     }
 
@@ -147,26 +178,29 @@ public class PedidoServiceImpl implements PedidoService {
      */
     @Override
     @CacheEvict(value = "pedidos", key = "#id")
+    @MedirLatencia(OperacaoLatencia.PEDIDO_STATUS)
     public PedidoResponseDTO atualizarStatusPedido(Long id, StatusPedido novoStatus) {
-        System.out.println("### ATUALIZANDO PEDIDO E LIMPANDO CACHE (ID: " + id + ") ###");
+        acessoDadosEventos.registrar(EventoAcessoDados.PEDIDO_STATUS_ATUALIZADO, id);
         Pedido pedido = pedidoRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Pedido não encontrado"));
         if (!isTransicaoValida(pedido.getStatus(), novoStatus)) {
             throw new BusinessException("Transição de status inválida: " + pedido.getStatus() + " -> " + novoStatus);
         }
+        StatusPedido statusAnterior = pedido.getStatus();
         pedido.setStatus(novoStatus);
         Pedido pedidoAtualizado = pedidoRepository.save(pedido);
-        return modelMapper.map(pedidoAtualizado, PedidoResponseDTO.class);
+        vendaDiariaService.registrarMudancaDeStatus(pedidoAtualizado, statusAnterior);
+        return pedidoMapper.toResponseDTO(pedidoAtualizado);
     }
     
     @Override
     @Transactional(readOnly = true)
     public BigDecimal calcularTotalPedido(List<ItemPedidoDTO> itens) {
         // ... (lógica inalterada)
+        Map<Long, Produto> produtos = carregarProdutos(itens);
         BigDecimal total = BigDecimal.ZERO;
         for (ItemPedidoDTO item : itens) {
-            Produto produto = produtoRepository.findById(item.getProdutoId())
-                    .orElseThrow(() -> new EntityNotFoundException("Produto não encontrado"));
+            Produto produto = obterProduto(produtos, item.getProdutoId());
             BigDecimal subtotalItem = produto.getPreco().multiply(BigDecimal.valueOf(item.getQuantidade()));
             total = total.add(subtotalItem);
         }
@@ -180,49 +214,89 @@ public class PedidoServiceImpl implements PedidoService {
      */
     @Override
     @CacheEvict(value = "pedidos", key = "#id")
+    @MedirLatencia(OperacaoLatencia.PEDIDO_CANCELAMENTO)
     public void cancelarPedido(Long id) {
-        System.out.println("### CANCELANDO PEDIDO E LIMPANDO CACHE (ID: " + id + ") ###");
+        acessoDadosEventos.registrar(EventoAcessoDados.PEDIDO_CANCELADO, id);
         Pedido pedido = pedidoRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Pedido não encontrado"));
         if (!podeSerCancelado(pedido.getStatus())) {
             throw new BusinessException("Pedido não pode ser cancelado no status: " + pedido.getStatus());
         }
+        StatusPedido statusAnterior = pedido.getStatus();
         pedido.setStatus(StatusPedido.CANCELADO);
         pedidoRepository.save(pedido);
+        vendaDiariaService.registrarMudancaDeStatus(pedido, statusAnterior);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<PedidoResponseDTO> listarPedidos(StatusPedido status, LocalDate dataInicio, LocalDate dataFim, Pageable pageable) {
-        // ... (lógica inalterada)
-        Page<Pedido> pedidosPage = pedidoRepository.findAll(pageable);
-        return pedidosPage.map(pedido -> modelMapper.map(pedido, PedidoResponseDTO.class));
+        // Filtros aplicados no banco; só os pedidos que os atendem são lidos.
+        Page<Pedido> pedidosPage = pedidoRepository.findAll(
+                PedidoSpecifications.filtros(status, dataInicio, dataFim), pageable);
+        return pedidosPage.map(pedidoMapper::toResponseDTO);
+    }
+
+    /**
+     * Lista pedidos por cursor (keyset) em (dataPedido, id), do mais recente para o mais antigo.
+     * Cada página é uma busca pelo índice a partir do último item entregue, sem OFFSET:
+     * o custo não cresce com a profundidade. O COUNT(*) só é executado se {@code incluirTotal}.
+     * Os filtros são os mesmos de {@link #listarPedidos} e devem se repetir a cada página.
+     *
+     * @param cursor token recebido em {@code links.next}; nulo ou vazio para a primeira página
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<PedidoResponseDTO> listarPedidosPorCursor(StatusPedido status, LocalDate dataInicio, LocalDate dataFim,
+                                                                String cursor, int size, boolean incluirTotal) {
+        boolean primeira = cursor == null || cursor.isBlank();
+        Specification<Pedido> filtros = PedidoSpecifications.filtros(status, dataInicio, dataFim);
+        Specification<Pedido> criterio = primeira
+                ? filtros
+                : filtros.and(KeysetCursor.decode(cursor, 2, valores -> PedidoSpecifications.aposCursor(
+                        LocalDateTime.parse(valores[0]), Long.valueOf(valores[1]))));
+
+        List<Pedido> pedidos = pedidoRepository.findBy(criterio, consulta -> consulta
+                .sortBy(PedidoSpecifications.ORDEM_CURSOR)
+                .limit(size + 1)
+                .all());
+        Long total = incluirTotal ? pedidoRepository.count(filtros) : null;
+
+        return CursorPage.fromLookahead(pedidos, size, primeira,
+                        ultimo -> KeysetCursor.encode(ultimo.getDataPedido(), ultimo.getId()), total)
+                .map(pedidoMapper::toResponseDTO);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<PedidoResponseDTO> buscarPedidosPorRestaurante(Long restauranteId, StatusPedido status) {
-        // ... (lógica inalterada)
-        List<Pedido> pedidos = pedidoRepository.findByRestauranteId(restauranteId);
+        // Status opcional; a consulta usa o índice (restaurante_id, data_pedido).
+        List<Pedido> pedidos = pedidoRepository.findAll(
+                PedidoSpecifications.doRestaurante(restauranteId).and(PedidoSpecifications.comStatus(status)),
+                Sort.by(Sort.Direction.DESC, "dataPedido"));
         return pedidos.stream()
-                .map(pedido -> modelMapper.map(pedido, PedidoResponseDTO.class))
+                .map(pedidoMapper::toResponseDTO)
                 .collect(Collectors.toList());
     }
 
     @Override
+    @MedirLatencia(OperacaoLatencia.PEDIDO_CALCULO)
     public CalculoPedidoResponseDTO calcularTotalPedido(CalculoPedidoDTO dto) {
         // ... (lógica inalterada)
         Restaurante restaurante = restauranteRepository.findById(dto.getRestauranteId())
                 .orElseThrow(() -> new EntityNotFoundException("Restaurante não encontrado"));
 
+        Map<Long, Produto> produtos = carregarProdutos(dto.getItens());
         BigDecimal subtotal = BigDecimal.ZERO;
         for (ItemPedidoDTO itemDTO : dto.getItens()) {
-            Produto produto = produtoRepository.findById(itemDTO.getProdutoId())
-                    .orElseThrow(() -> new EntityNotFoundException("Produto não encontrado: " + itemDTO.getProdutoId()));
+            Produto produto = obterProduto(produtos, itemDTO.getProdutoId());
             subtotal = subtotal.add(produto.getPreco().multiply(BigDecimal.valueOf(itemDTO.getQuantidade())));
         }
 
-        BigDecimal taxaEntrega = restaurante.getTaxaEntrega();
+        // Sem CEP, a cotação usa só a taxa base do restaurante
+        BigDecimal taxaEntrega = dto.getCep() != null
+                ? calculadoraTaxaEntrega.calcular(restaurante, dto.getCep())
+                : restaurante.getTaxaEntrega();
         BigDecimal valorTotal = subtotal.add(taxaEntrega);
 
         CalculoPedidoResponseDTO response = new CalculoPedidoResponseDTO();
@@ -234,6 +308,27 @@ public class PedidoServiceImpl implements PedidoService {
     }
 
     // --- Métodos privados e de autorização (inalterados) ---
+
+    /**
+     * Carrega todos os produtos referenciados pelos itens em uma única consulta,
+     * já com o restaurante de cada um. IDs repetidos no carrinho são buscados uma só vez.
+     */
+    private Map<Long, Produto> carregarProdutos(List<ItemPedidoDTO> itens) {
+        Set<Long> ids = itens.stream()
+                .map(ItemPedidoDTO::getProdutoId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return produtoRepository.findProdutosComRestaurantePorIds(ids).stream()
+                .collect(Collectors.toMap(Produto::getId, Function.identity()));
+    }
+
+    private Produto obterProduto(Map<Long, Produto> produtos, Long produtoId) {
+        Produto produto = produtos.get(produtoId);
+        if (produto == null) {
+            throw new EntityNotFoundException("Produto não encontrado: " + produtoId);
+        }
+        return produto;
+    }
+
     private boolean isTransicaoValida(StatusPedido statusAtual, StatusPedido novoStatus) {
         switch (statusAtual) {
             case PENDENTE:
@@ -261,15 +356,16 @@ public class PedidoServiceImpl implements PedidoService {
         return (Usuario) authentication.getPrincipal();
     }
 
+    // As checagens abaixo consultam só o índice de posse (cliente e restaurante do pedido),
+    // sem carregar o pedido que o endpoint vai buscar logo em seguida.
     public boolean canAccess(Long pedidoId) {
         Usuario usuarioLogado = getUsuarioLogado();
         if (usuarioLogado == null) return false;
 
-        Pedido pedido = pedidoRepository.findById(pedidoId)
-                .orElseThrow(() -> new EntityNotFoundException("Pedido não encontrado"));
-        
-        boolean isClientOwner = pedido.getCliente().getId().equals(usuarioLogado.getId());
-        boolean isRestaurantOwner = pedido.getRestaurante().getId().equals(usuarioLogado.getRestauranteId());
+        PedidoDono dono = ownershipIndex.donoDoPedido(pedidoId);
+
+        boolean isClientOwner = dono.clienteId().equals(usuarioLogado.getId());
+        boolean isRestaurantOwner = dono.restauranteId().equals(usuarioLogado.getRestauranteId());
 
         return isClientOwner || isRestaurantOwner;
     }
@@ -278,19 +374,13 @@ public class PedidoServiceImpl implements PedidoService {
         Usuario usuarioLogado = getUsuarioLogado();
         if (usuarioLogado == null) return false;
 
-        Pedido pedido = pedidoRepository.findById(pedidoId)
-                .orElseThrow(() -> new EntityNotFoundException("Pedido não encontrado"));
-
-        return pedido.getCliente().getId().equals(usuarioLogado.getId());
+        return ownershipIndex.donoDoPedido(pedidoId).clienteId().equals(usuarioLogado.getId());
     }
 
     public boolean isRestaurantOwner(Long pedidoId) {
         Usuario usuarioLogado = getUsuarioLogado();
         if (usuarioLogado == null || usuarioLogado.getRestauranteId() == null) return false;
 
-        Pedido pedido = pedidoRepository.findById(pedidoId)
-                .orElseThrow(() -> new EntityNotFoundException("Pedido não encontrado"));
-
-        return pedido.getRestaurante().getId().equals(usuarioLogado.getRestauranteId());
+        return ownershipIndex.donoDoPedido(pedidoId).restauranteId().equals(usuarioLogado.getRestauranteId());
     }
 }
\ No newline at end of file
@@ -1,24 +1,35 @@
 package com.delivery_api.service.impl;
 
+import com.delivery_api.cache.OwnershipIndex;
+import com.delivery_api.cache.ProdutoCacheInvalidator;
 import com.delivery_api.dto.ProdutoDTO;
 import com.delivery_api.dto.ProdutoResponseDTO;
 import com.delivery_api.exception.EntityNotFoundException;
+import com.delivery_api.logging.AcessoDadosEventos;
+import com.delivery_api.logging.EventoAcessoDados;
+import com.delivery_api.mapper.ProdutoMapper;
 import com.delivery_api.model.Produto;
 import com.delivery_api.model.Restaurante;
 import com.delivery_api.model.Usuario;
 import com.delivery_api.repository.ProdutoRepository;
 import com.delivery_api.repository.RestauranteRepository;
+import com.delivery_api.search.ProdutoSearchIndex;
 import com.delivery_api.service.ProdutoService;
+import com.delivery_api.util.AposCommit;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,13 +42,22 @@ public class ProdutoServiceImpl implements ProdutoService {
     private RestauranteRepository restauranteRepository;
     @Autowired
     private ModelMapper modelMapper;
+    @Autowired
+    private ProdutoMapper produtoMapper;
+    @Autowired
+    private ProdutoCacheInvalidator produtoCacheInvalidator;
+    @Autowired
+    private OwnershipIndex ownershipIndex;
+    @Autowired
+    private ProdutoSearchIndex produtoSearchIndex;
+    @Autowired
+    private AcessoDadosEventos acessoDadosEventos;
 
     /**
-     * Limpa todos os caches de "produtos" sempre que um novo produto é cadastrado.
-     * Isso garante que qualquer lista de produtos em cache seja atualizada na próxima requisição.
+     * Invalida apenas as listas em cache que passam a conter o novo produto:
+     * as do seu restaurante, a da sua categoria e a lista completa.
      */
     @Override
-    @CacheEvict(value = "produtos", allEntries = true)
     public ProdutoResponseDTO cadastrarProduto(ProdutoDTO dto) {
         Restaurante restaurante = restauranteRepository.findById(dto.getRestauranteId())
                 .orElseThrow(() -> new EntityNotFoundException("Restaurante não encontrado: " + dto.getRestauranteId()));
@@ -47,8 +67,10 @@ public class ProdutoServiceImpl implements ProdutoService {
         produto.setDisponivel(true);
         
         Produto produtoSalvo = produtoRepository.save(produto);
-        System.out.println("### CADASTRANDO PRODUTO E LIMPANDO CACHE DE LISTAS ###");
-        return modelMapper.map(produtoSalvo, ProdutoResponseDTO.class);
+        produtoCacheInvalidator.produtoAlterado(produtoSalvo.getId(), restaurante.getId(), produtoSalvo.getCategoria());
+        produtoSearchIndex.atualizarAposCommit(produtoSalvo);
+        acessoDadosEventos.registrar(EventoAcessoDados.PRODUTO_CADASTRADO, produtoSalvo.getId());
+        return produtoMapper.toResponseDTO(produtoSalvo);
     }
 
     /**
@@ -57,26 +79,23 @@ public class ProdutoServiceImpl implements ProdutoService {
      */
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "produtos", key = "#id")
+    @Cacheable(value = "produtos", key = "#id", sync = true)
     public ProdutoResponseDTO buscarProdutoPorId(Long id) {
-        System.out.println("### BUSCANDO PRODUTO DO BANCO DE DADOS (ID: " + id + ") ###");
+        acessoDadosEventos.registrar(EventoAcessoDados.PRODUTO_POR_ID, id);
         Produto produto = produtoRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Produto não encontrado: " + id));
-        return modelMapper.map(produto, ProdutoResponseDTO.class);
+        return produtoMapper.toResponseDTO(produto);
     }
 
     /**
-     * Invalida o cache para um produto específico (pelo ID) e também limpa
-     * todos os caches de listas de produtos para refletir a alteração.
+     * Invalida o cache do produto (pelo ID) e as listas que dependem dele,
+     * incluindo a categoria anterior caso ela tenha mudado.
      */
     @Override
-    @Caching(evict = {
-        @CacheEvict(value = "produtos", key = "#id"),
-        @CacheEvict(value = "produtos", allEntries = true)
-    })
     public ProdutoResponseDTO atualizarProduto(Long id, ProdutoDTO dto) {
         Produto produto = produtoRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Produto não encontrado: " + id));
+        String categoriaAnterior = produto.getCategoria();
 
         produto.setNome(dto.getNome());
         produto.setDescricao(dto.getDescricao());
@@ -84,41 +103,41 @@ public class ProdutoServiceImpl implements ProdutoService {
         produto.setCategoria(dto.getCategoria());
 
         Produto produtoAtualizado = produtoRepository.save(produto);
-        System.out.println("### ATUALIZANDO PRODUTO E LIMPANDO SEU CACHE (ID: " + id + ") ###");
-        return modelMapper.map(produtoAtualizado, ProdutoResponseDTO.class);
+        produtoCacheInvalidator.produtoAlterado(id, produto.getRestaurante().getId(),
+                categoriaAnterior, produtoAtualizado.getCategoria());
+        produtoSearchIndex.atualizarAposCommit(produtoAtualizado);
+        acessoDadosEventos.registrar(EventoAcessoDados.PRODUTO_ATUALIZADO, id);
+        return produtoMapper.toResponseDTO(produtoAtualizado);
     }
 
     /**
-     * Invalida o cache de um produto ao removê-lo.
+     * Invalida o cache de um produto e as listas que o continham ao removê-lo, e tira o produto
+     * do índice de busca e do índice de posse.
      */
     @Override
-    @Caching(evict = {
-        @CacheEvict(value = "produtos", key = "#id"),
-        @CacheEvict(value = "produtos", allEntries = true)
-    })
     public void removerProduto(Long id) {
-        if (!produtoRepository.existsById(id)) {
-            throw new EntityNotFoundException("Produto não encontrado: " + id);
-        }
+        Produto produto = produtoRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Produto não encontrado: " + id));
         produtoRepository.deleteById(id);
-        System.out.println("### REMOVENDO PRODUTO E LIMPANDO SEU CACHE (ID: " + id + ") ###");
+        produtoCacheInvalidator.produtoAlterado(id, produto.getRestaurante().getId(), produto.getCategoria());
+        produtoSearchIndex.removerAposCommit(id);
+        AposCommit.executar(() -> ownershipIndex.removerProduto(id));
+        acessoDadosEventos.registrar(EventoAcessoDados.PRODUTO_REMOVIDO, id);
     }
 
     /**
-     * Invalida o cache do produto cuja disponibilidade foi alterada.
+     * Invalida o cache do produto cuja disponibilidade foi alterada e as listas que dependem dele.
      */
     @Override
-    @Caching(evict = {
-        @CacheEvict(value = "produtos", key = "#id"),
-        @CacheEvict(value = "produtos", allEntries = true)
-    })
     public ProdutoResponseDTO alterarDisponibilidade(Long id) {
         Produto produto = produtoRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Produto não encontrado: " + id));
         produto.setDisponivel(!produto.isDisponivel());
         produtoRepository.save(produto);
-        System.out.println("### ALTERANDO DISPONIBILIDADE E LIMPANDO CACHE (ID: " + id + ") ###");
-        return modelMapper.map(produto, ProdutoResponseDTO.class);
+        produtoCacheInvalidator.produtoAlterado(id, produto.getRestaurante().getId(), produto.getCategoria());
+        produtoSearchIndex.atualizarAposCommit(produto);
+        acessoDadosEventos.registrar(EventoAcessoDados.PRODUTO_DISPONIBILIDADE_ALTERADA, id);
+        return produtoMapper.toResponseDTO(produto);
     }
 
     /**
@@ -127,12 +146,12 @@ public class ProdutoServiceImpl implements ProdutoService {
      */
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "produtos", key = "'todos'")
+    @Cacheable(value = "produtos", key = "'todos'", sync = true)
     public List<ProdutoResponseDTO> listarTodosProdutos() {
-        System.out.println("### BUSCANDO TODOS OS PRODUTOS DO BANCO DE DADOS ###");
+        acessoDadosEventos.registrar(EventoAcessoDados.PRODUTOS_TODOS);
         List<Produto> produtos = produtoRepository.findAll();
         return produtos.stream()
-                .map(produto -> modelMapper.map(produto, ProdutoResponseDTO.class))
+                .map(produtoMapper::toResponseDTO)
                 .collect(Collectors.toList());
     }
 
@@ -142,31 +161,44 @@ public class ProdutoServiceImpl implements ProdutoService {
      */
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "produtos", key = "'categoria::' + #categoria")
+    @Cacheable(value = "produtos", key = "'categoria::' + #categoria", sync = true)
     public List<ProdutoResponseDTO> buscarProdutosPorCategoria(String categoria) {
-        System.out.println("### BUSCANDO PRODUTOS POR CATEGORIA DO BANCO: " + categoria + " ###");
+        acessoDadosEventos.registrar(EventoAcessoDados.PRODUTOS_POR_CATEGORIA, categoria);
         List<Produto> produtos = produtoRepository.findByCategoriaAndDisponivelTrue(categoria);
         return produtos.stream()
-                .map(produto -> modelMapper.map(produto, ProdutoResponseDTO.class))
+                .map(produtoMapper::toResponseDTO)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Busca no índice invertido em memória e pagina na ordem de relevância (o {@code sort} do
+     * {@link Pageable} é ignorado). O banco só é consultado para carregar os produtos da página.
+     */
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "produtos", key = "'nome::' + #nome")
-    public List<ProdutoResponseDTO> buscarProdutosPorNome(String nome) {
-        System.out.println("### BUSCANDO PRODUTOS POR NOME DO BANCO: " + nome + " ###");
-        List<Produto> produtos = produtoRepository.findByNomeContainingIgnoreCaseAndDisponivelTrue(nome);
-        return produtos.stream()
-                .map(produto -> modelMapper.map(produto, ProdutoResponseDTO.class))
-                .collect(Collectors.toList());
+    public Page<ProdutoResponseDTO> buscarProdutosPorNome(String nome, Pageable pageable) {
+        List<ProdutoSearchIndex.Resultado> resultados = produtoSearchIndex.buscar(nome);
+        int inicio = (int) Math.min(pageable.getOffset(), resultados.size());
+        int fim = Math.min(inicio + pageable.getPageSize(), resultados.size());
+        List<Long> ids = resultados.subList(inicio, fim).stream()
+                .map(ProdutoSearchIndex.Resultado::produtoId)
+                .toList();
+
+        Map<Long, Produto> porId = produtoRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Produto::getId, Function.identity()));
+        List<ProdutoResponseDTO> pagina = ids.stream()
+                .map(porId::get)
+                .filter(Objects::nonNull)
+                .map(produtoMapper::toResponseDTO)
+                .toList();
+        return new PageImpl<>(pagina, pageable, resultados.size());
     }
     
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "produtos", key = "'restaurante::' + #restauranteId + '::disponivel::' + #disponivel")
+    @Cacheable(value = "produtos", key = "'restaurante::' + #restauranteId + '::disponivel::' + #disponivel", sync = true)
     public List<ProdutoResponseDTO> buscarProdutosPorRestaurante(Long restauranteId, Boolean disponivel) {
-        System.out.println("### BUSCANDO PRODUTOS POR RESTAURANTE DO BANCO: " + restauranteId + " ###");
+        acessoDadosEventos.registrar(EventoAcessoDados.PRODUTOS_POR_RESTAURANTE, restauranteId);
         List<Produto> produtos;
         if (disponivel != null && disponivel) {
             produtos = produtoRepository.findByRestauranteIdAndDisponivelTrue(restauranteId);
@@ -174,7 +206,7 @@ public class ProdutoServiceImpl implements ProdutoService {
             produtos = produtoRepository.findByRestauranteId(restauranteId);
         }
         return produtos.stream()
-                .map(produto -> modelMapper.map(produto, ProdutoResponseDTO.class))
+                .map(produtoMapper::toResponseDTO)
                 .collect(Collectors.toList());
     }
 
@@ -191,11 +223,9 @@ public class ProdutoServiceImpl implements ProdutoService {
             return false;
         }
 
-        Produto produto = produtoRepository.findById(produtoId)
-                .orElseThrow(() -> new EntityNotFoundException("Produto com ID " + produtoId + " não encontrado."));
-
         Long restauranteIdDoUsuario = usuarioLogado.getRestauranteId();
-        Long restauranteIdDoProduto = produto.getRestaurante().getId();
+        // Só o restaurante do produto, pelo índice de posse; o produto em si não é carregado.
+        Long restauranteIdDoProduto = ownershipIndex.restauranteDoProduto(produtoId);
 
         return restauranteIdDoUsuario.equals(restauranteIdDoProduto);
     }
@@ -1,17 +1,31 @@
 package com.delivery_api.service.impl;
 
+import com.delivery_api.dto.CursorPage;
+import com.delivery_api.dto.KeysetCursor;
 import com.delivery_api.dto.RestauranteDTO;
 import com.delivery_api.dto.RestauranteResponseDTO;
+import com.delivery_api.exception.BusinessException;
 import com.delivery_api.exception.ConflictException;
+import com.delivery_api.geo.CalculadoraTaxaEntrega;
+import com.delivery_api.geo.CepCoordenadas;
+import com.delivery_api.geo.Coordenada;
+import com.delivery_api.geo.RestauranteGeoIndex;
+import com.delivery_api.logging.AcessoDadosEventos;
+import com.delivery_api.logging.EventoAcessoDados;
 import com.delivery_api.model.Restaurante;
 import com.delivery_api.model.Usuario;
 import com.delivery_api.repository.RestauranteRepository;
+import com.delivery_api.repository.RestauranteSpecifications;
+import com.delivery_api.search.NomeNgramIndex;
+import com.delivery_api.search.RestauranteNomeIndex;
 import com.delivery_api.service.RestauranteService;
-import com.delivery_api.exception.EntityNotFoundException; 
+import com.delivery_api.exception.EntityNotFoundException;
+import com.delivery_api.mapper.RestauranteMapper;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -23,18 +37,38 @@ import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Caching;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class RestauranteServiceImpl implements RestauranteService {
 
+    static final int RAIO_PADRAO_KM = 5;
+    static final int RAIO_MAXIMO_KM = 50;
+    static final int QUANTIDADE_MAXIMA_PROXIMOS = 50;
+    static final int QUANTIDADE_MAXIMA_BUSCA = 50;
+
     @Autowired
     private RestauranteRepository restauranteRepository;
+    @Autowired
+    private CepCoordenadas cepCoordenadas;
+    @Autowired
+    private RestauranteGeoIndex restauranteGeoIndex;
+    @Autowired
+    private CalculadoraTaxaEntrega calculadoraTaxaEntrega;
+    @Autowired
+    private RestauranteNomeIndex restauranteNomeIndex;
+    @Autowired
+    private AcessoDadosEventos acessoDadosEventos;
 
     @Autowired
     private ModelMapper modelMapper;
+    @Autowired
+    private RestauranteMapper restauranteMapper;
     
     // 🔹 Invalida o cache de categorias sempre que um novo restaurante é criado.
     @Override
@@ -46,8 +80,11 @@ public class RestauranteServiceImpl implements RestauranteService {
         
         Restaurante restaurante = modelMapper.map(dto, Restaurante.class);
         restaurante.setAtivo(true);
+        resolverCoordenadas(restaurante);
         Restaurante restauranteSalvo = restauranteRepository.save(restaurante);
-        return modelMapper.map(restauranteSalvo, RestauranteResponseDTO.class);
+        restauranteGeoIndex.atualizarAposCommit(restauranteSalvo);
+        restauranteNomeIndex.atualizarAposCommit(restauranteSalvo);
+        return restauranteMapper.toResponseDTO(restauranteSalvo);
     }
 
     @Override
@@ -55,18 +92,42 @@ public class RestauranteServiceImpl implements RestauranteService {
     public Page<RestauranteResponseDTO> listarRestaurantes(String categoria, Boolean ativo, Pageable pageable) {
         // Caching de resultados paginados é complexo, então optamos por não cachear esta listagem geral.
         Page<Restaurante> restaurantesPage = restauranteRepository.findAll(pageable);
-        return restaurantesPage.map(restaurante -> modelMapper.map(restaurante, RestauranteResponseDTO.class));
+        return restaurantesPage.map(restauranteMapper::toResponseDTO);
+    }
+
+    /**
+     * Lista restaurantes por cursor (keyset) em ordem de ID, sem OFFSET.
+     * O COUNT(*) só é executado se {@code incluirTotal}.
+     *
+     * @param cursor token recebido em {@code links.next}; nulo ou vazio para a primeira página
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<RestauranteResponseDTO> listarRestaurantesPorCursor(String cursor, int size, boolean incluirTotal) {
+        boolean primeira = cursor == null || cursor.isBlank();
+        Specification<Restaurante> criterio = primeira
+                ? Specification.unrestricted()
+                : KeysetCursor.decode(cursor, 1, valores -> RestauranteSpecifications.aposCursor(Long.valueOf(valores[0])));
+
+        List<Restaurante> restaurantes = restauranteRepository.findBy(criterio, consulta -> consulta
+                .sortBy(RestauranteSpecifications.ORDEM_CURSOR)
+                .limit(size + 1)
+                .all());
+        Long total = incluirTotal ? restauranteRepository.count() : null;
+
+        return CursorPage.fromLookahead(restaurantes, size, primeira, ultimo -> KeysetCursor.encode(ultimo.getId()), total)
+                .map(restauranteMapper::toResponseDTO);
     }
 
     // 🔹 Armazena o resultado no cache "restaurantes" usando o ID como chave.
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "restaurantes", key = "#id")
+    @Cacheable(value = "restaurantes", key = "#id", sync = true)
     public RestauranteResponseDTO buscarRestaurantePorId(Long id) {
-        System.out.println("### BUSCANDO RESTAURANTE DO BANCO DE DADOS (ID: " + id + ") ###");
+        acessoDadosEventos.registrar(EventoAcessoDados.RESTAURANTE_POR_ID, id);
         Restaurante restaurante = restauranteRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Restaurante", id)); 
-        return modelMapper.map(restaurante, RestauranteResponseDTO.class);
+        return restauranteMapper.toResponseDTO(restaurante);
     }
 
     // 🔹 Invalida múltiplos caches: o do restaurante específico pelo ID e o de todas as listas de categorias.
@@ -76,14 +137,17 @@ public class RestauranteServiceImpl implements RestauranteService {
         @CacheEvict(value = "restaurantesPorCategoria", allEntries = true)
     })
     public RestauranteResponseDTO atualizarRestaurante(Long id, RestauranteDTO dto) {
-        System.out.println("### ATUALIZANDO RESTAURANTE E LIMPANDO CACHE (ID: " + id + ") ###");
+        acessoDadosEventos.registrar(EventoAcessoDados.RESTAURANTE_ATUALIZADO, id);
         Restaurante restaurante = restauranteRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Restaurante", id));
         
         modelMapper.map(dto, restaurante);
+        resolverCoordenadas(restaurante);
         
         Restaurante restauranteAtualizado = restauranteRepository.save(restaurante);
-        return modelMapper.map(restauranteAtualizado, RestauranteResponseDTO.class);
+        restauranteGeoIndex.atualizarAposCommit(restauranteAtualizado);
+        restauranteNomeIndex.atualizarAposCommit(restauranteAtualizado);
+        return restauranteMapper.toResponseDTO(restauranteAtualizado);
     }
 
     // 🔹 A alteração de status também invalida os caches.
@@ -99,33 +163,107 @@ public class RestauranteServiceImpl implements RestauranteService {
         restaurante.setAtivo(!restaurante.isAtivo());
         
         restauranteRepository.save(restaurante);
-        return modelMapper.map(restaurante, RestauranteResponseDTO.class);
+        restauranteGeoIndex.atualizarAposCommit(restaurante);
+        restauranteNomeIndex.atualizarAposCommit(restaurante);
+        return restauranteMapper.toResponseDTO(restaurante);
     }
 
     // 🔹 Armazena a lista de restaurantes no cache "restaurantesPorCategoria", usando a categoria como chave.
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "restaurantesPorCategoria", key = "#categoria")
+    @Cacheable(value = "restaurantesPorCategoria", key = "#categoria", sync = true)
     public List<RestauranteResponseDTO> buscarRestaurantesPorCategoria(String categoria) {
-        System.out.println("### BUSCANDO RESTAURANTES POR CATEGORIA DO BANCO (CATEGORIA: " + categoria + ") ###");
+        acessoDadosEventos.registrar(EventoAcessoDados.RESTAURANTES_POR_CATEGORIA, categoria);
         List<Restaurante> restaurantes = restauranteRepository.findByCategoriaAndAtivoTrue(categoria);
         return restaurantes.stream()
-                .map(restaurante -> modelMapper.map(restaurante, RestauranteResponseDTO.class))
+                .map(restauranteMapper::toResponseDTO)
                 .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public BigDecimal calcularTaxaEntrega(Long id, String cep) {
-        restauranteRepository.findById(id)
+        Restaurante restaurante = restauranteRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Restaurante", id));
-        // TODO: Implementar lógica de cálculo de frete
-        return new BigDecimal("10.00");
+        return calculadoraTaxaEntrega.calcular(restaurante, cep);
     }
     
+    /**
+     * Busca no índice geográfico em memória; o banco só é consultado para montar a resposta,
+     * com uma busca por chave primária dos IDs encontrados.
+     */
     @Override
+    @Transactional(readOnly = true)
     public List<RestauranteResponseDTO> buscarRestaurantesProximos(String cep, Integer raio) {
-        // TODO: Implementar lógica de busca por proximidade
-        return List.of();
+        int raioKm = raio != null ? raio : RAIO_PADRAO_KM;
+        if (raioKm <= 0 || raioKm > RAIO_MAXIMO_KM) {
+            throw new BusinessException("O raio deve estar entre 1 e " + RAIO_MAXIMO_KM + " km");
+        }
+        return paraRespostas(restauranteGeoIndex.buscarNoRaio(coordenadaDoCep(cep), raioKm));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RestauranteResponseDTO> buscarRestaurantesMaisProximos(String cep, int quantidade) {
+        if (quantidade <= 0 || quantidade > QUANTIDADE_MAXIMA_PROXIMOS) {
+            throw new BusinessException("A quantidade deve estar entre 1 e " + QUANTIDADE_MAXIMA_PROXIMOS);
+        }
+        return paraRespostas(restauranteGeoIndex.buscarMaisProximos(coordenadaDoCep(cep), quantidade));
+    }
+
+    /**
+     * Busca no índice de trigramas em memória (sem LIKE); o banco só carrega os restaurantes encontrados.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<RestauranteResponseDTO> buscarRestaurantesPorNome(String nome, int quantidade) {
+        if (quantidade <= 0 || quantidade > QUANTIDADE_MAXIMA_BUSCA) {
+            throw new BusinessException("A quantidade deve estar entre 1 e " + QUANTIDADE_MAXIMA_BUSCA);
+        }
+        List<Long> ids = restauranteNomeIndex.buscar(nome, quantidade, true).stream()
+                .map(NomeNgramIndex.Resultado::id)
+                .toList();
+        Map<Long, Restaurante> porId = restauranteRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Restaurante::getId, Function.identity()));
+        return ids.stream()
+                .map(porId::get)
+                .filter(restaurante -> restaurante != null && restaurante.isAtivo())
+                .map(restauranteMapper::toResponseDTO)
+                .toList();
+    }
+
+    private Coordenada coordenadaDoCep(String cep) {
+        return cepCoordenadas.buscar(cep)
+                .orElseThrow(() -> new EntityNotFoundException("CEP não encontrado na tabela de coordenadas: " + cep));
+    }
+
+    // Mantém a ordem por distância do índice; ignora quem mudou no banco e ainda não saiu do índice.
+    private List<RestauranteResponseDTO> paraRespostas(List<RestauranteGeoIndex.Resultado> resultados) {
+        Map<Long, Restaurante> porId = restauranteRepository.findAllById(
+                        resultados.stream().map(RestauranteGeoIndex.Resultado::restauranteId).toList())
+                .stream()
+                .collect(Collectors.toMap(Restaurante::getId, Function.identity()));
+
+        List<RestauranteResponseDTO> respostas = new ArrayList<>(resultados.size());
+        for (RestauranteGeoIndex.Resultado resultado : resultados) {
+            Restaurante restaurante = porId.get(resultado.restauranteId());
+            if (restaurante != null && restaurante.isAtivo()) {
+                RestauranteResponseDTO dto = restauranteMapper.toResponseDTO(restaurante);
+                dto.setDistanciaKm(Math.round(resultado.distanciaKm() * 100) / 100.0);
+                respostas.add(dto);
+            }
+        }
+        return respostas;
+    }
+
+    // Coordenadas informadas têm prioridade; sem elas, usa a tabela local de CEPs.
+    private void resolverCoordenadas(Restaurante restaurante) {
+        if (restaurante.getLatitude() != null && restaurante.getLongitude() != null) {
+            return;
+        }
+        Coordenada coordenada = cepCoordenadas.buscar(restaurante.getCep()).orElse(null);
+        restaurante.setLatitude(coordenada != null ? coordenada.latitude() : null);
+        restaurante.setLongitude(coordenada != null ? coordenada.longitude() : null);
     }
     
     // 🔹 Deletar um restaurante também invalida os caches.
@@ -139,6 +277,8 @@ public class RestauranteServiceImpl implements RestauranteService {
             throw new EntityNotFoundException("Restaurante", id);
         }
         restauranteRepository.deleteById(id);
+        restauranteGeoIndex.removerAposCommit(id);
+        restauranteNomeIndex.removerAposCommit(id);
     }
     
     // MÉTODO DE VERIFICAÇÃO DE SEGURANÇA - Não precisa de cache
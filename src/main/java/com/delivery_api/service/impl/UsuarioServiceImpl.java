@@ -2,13 +2,18 @@ package com.delivery_api.service.impl;
 
 import com.delivery_api.dto.RegisterRequest;
 import com.delivery_api.exception.ConflictException;
+import com.delivery_api.exception.EntityNotFoundException;
+import com.delivery_api.logging.AcessoDadosEventos;
+import com.delivery_api.logging.EventoAcessoDados;
 import com.delivery_api.model.Usuario;
 import com.delivery_api.repository.UsuarioRepository;
+import com.delivery_api.security.DisabledUserRegistry;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 
 @Service
@@ -16,10 +21,15 @@ public class UsuarioServiceImpl implements UserDetailsService {
 
     private final UsuarioRepository usuarioRepository;
     private final PasswordEncoder passwordEncoder;
+    private final DisabledUserRegistry disabledUserRegistry;
+    private final AcessoDadosEventos acessoDadosEventos;
 
-    public UsuarioServiceImpl(UsuarioRepository usuarioRepository, PasswordEncoder passwordEncoder) {
+    public UsuarioServiceImpl(UsuarioRepository usuarioRepository, PasswordEncoder passwordEncoder,
+                              DisabledUserRegistry disabledUserRegistry, AcessoDadosEventos acessoDadosEventos) {
         this.usuarioRepository = usuarioRepository;
         this.passwordEncoder = passwordEncoder;
+        this.disabledUserRegistry = disabledUserRegistry;
+        this.acessoDadosEventos = acessoDadosEventos;
     }
 
     /**
@@ -30,9 +40,9 @@ public class UsuarioServiceImpl implements UserDetailsService {
      * Nas próximas vezes, virão diretamente do cache, evitando uma nova consulta SQL.
      */
     @Override
-    @Cacheable(value = "usuarios", key = "#email")
+    @Cacheable(value = "usuarios", key = "#email", sync = true)
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        System.out.println("### BUSCANDO USUÁRIO DO BANCO DE DADOS (EMAIL: " + email + ") ###");
+        acessoDadosEventos.registrar(EventoAcessoDados.USUARIO_POR_EMAIL, email);
         return usuarioRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado com o email: " + email));
     }
@@ -56,4 +66,25 @@ public class UsuarioServiceImpl implements UserDetailsService {
 
         return usuarioRepository.save(novoUsuario);
     }
-}
\ No newline at end of file
+
+    /**
+     * Ativa ou desativa um usuário (PATCH /api/usuarios/{id}/ativo).
+     * Toda mudança de "ativo" deve passar por aqui: remove a entrada do cache "usuarios" e atualiza
+     * na hora o bitmap de desativados deste nó; os demais nós enxergam a mudança na próxima recarga
+     * do bitmap (jwt.disabled-users-refresh).
+     */
+    @CacheEvict(value = "usuarios", key = "#result.email")
+    public Usuario alterarAtivo(Long id, boolean ativo) {
+        Usuario usuario = usuarioRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Usuário", id));
+        usuario.setAtivo(ativo);
+        Usuario salvo = usuarioRepository.save(usuario);
+
+        if (ativo) {
+            disabledUserRegistry.markEnabled(id);
+        } else {
+            disabledUserRegistry.markDisabled(id);
+        }
+        return salvo;
+    }
+}
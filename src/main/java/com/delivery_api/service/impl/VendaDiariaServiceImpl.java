@@ -0,0 +1,163 @@
+package com.delivery_api.service.impl;
+
+import com.delivery_api.dto.DivergenciaVendasDTO;
+import com.delivery_api.enums.StatusPedido;
+import com.delivery_api.model.Pedido;
+import com.delivery_api.model.VendaDiariaId;
+import com.delivery_api.projection.VendaDiariaTotais;
+import com.delivery_api.repository.VendaDiariaRepository;
+import com.delivery_api.service.VendaDiariaService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Mantém o agregado {@code venda_diaria} em dia com os pedidos.
+ *
+ * As atualizações incrementais exigem uma transação já aberta (MANDATORY): o agregado só muda
+ * junto com o pedido, e um rollback desfaz os dois. Cada atualização é um MERGE relativo
+ * (soma/subtrai), sem ler a linha antes.
+ *
+ * O primeiro pedido de um grupo (restaurante, dia, status) cria antes a linha zerada, numa
+ * transação própria: sem isso, dois pedidos simultâneos no mesmo grupo novo cairiam os dois no
+ * INSERT do MERGE e o segundo pedido seria desfeito pela chave primária (a verificação de
+ * consistência não cobre um pedido desfeito). Isso custa uma segunda conexão só nesse primeiro
+ * pedido; durante uma {@link #reconstruir()}, que apaga o agregado, a colisão ainda pode ocorrer.
+ */
+@Service
+public class VendaDiariaServiceImpl implements VendaDiariaService {
+
+    private static final Logger log = LoggerFactory.getLogger(VendaDiariaServiceImpl.class);
+
+    @Autowired
+    private VendaDiariaRepository vendaDiariaRepository;
+
+    // Cria grupos fora da transação do pedido (ver garantirGrupo)
+    private TransactionTemplate transacaoPropria;
+
+    // Pedidos inseridos fora do serviço (data.sql, cargas) só entram no agregado com uma reconstrução.
+    @Value("${delivery.vendas.reconstruir-na-inicializacao:false}")
+    private boolean reconstruirNaInicializacao;
+
+    @Autowired
+    void setTransactionManager(PlatformTransactionManager transactionManager) {
+        transacaoPropria = new TransactionTemplate(transactionManager);
+        transacaoPropria.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarPedido(Pedido pedido) {
+        acumular(pedido, pedido.getStatus(), 1);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarMudancaDeStatus(Pedido pedido, StatusPedido statusAnterior) {
+        if (statusAnterior == pedido.getStatus()) {
+            return;
+        }
+        acumular(pedido, statusAnterior, -1);
+        acumular(pedido, pedido.getStatus(), 1);
+    }
+
+    @Override
+    @Transactional
+    public int reconstruir() {
+        int removidos = vendaDiariaRepository.apagarTudo();
+        int grupos = vendaDiariaRepository.inserirAgrupandoPedidos();
+        log.info("Agregado de vendas reconstruído: {} grupos removidos, {} gravados", removidos, grupos);
+        return grupos;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DivergenciaVendasDTO> verificarConsistencia() {
+        Map<VendaDiariaId, VendaDiariaTotais> agregado = porChave(vendaDiariaRepository.listarTotais());
+        Map<VendaDiariaId, VendaDiariaTotais> reais = porChave(vendaDiariaRepository.calcularTotaisDosPedidos());
+
+        Set<VendaDiariaId> chaves = new HashSet<>(agregado.keySet());
+        chaves.addAll(reais.keySet());
+
+        List<DivergenciaVendasDTO> divergencias = new ArrayList<>();
+        for (VendaDiariaId chave : chaves) {
+            VendaDiariaTotais a = agregado.get(chave);
+            VendaDiariaTotais r = reais.get(chave);
+            long quantidadeAgregada = a != null ? a.quantidadePedidos() : 0;
+            long quantidadeReal = r != null ? r.quantidadePedidos() : 0;
+            BigDecimal valorAgregado = a != null ? a.valorTotal() : BigDecimal.ZERO;
+            BigDecimal valorReal = r != null ? r.valorTotal() : BigDecimal.ZERO;
+            if (quantidadeAgregada != quantidadeReal || valorAgregado.compareTo(valorReal) != 0) {
+                divergencias.add(new DivergenciaVendasDTO(chave.getRestauranteId(), chave.getDia(), chave.getStatus(),
+                        quantidadeAgregada, quantidadeReal, valorAgregado, valorReal));
+            }
+        }
+        if (!divergencias.isEmpty()) {
+            log.warn("Agregado de vendas divergente dos pedidos em {} grupos", divergencias.size());
+        }
+        return divergencias;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconstruirNaInicializacao() {
+        if (reconstruirNaInicializacao) {
+            reconstruir();
+        }
+    }
+
+    private void acumular(Pedido pedido, StatusPedido status, int sinal) {
+        if (pedido.getRestaurante() == null || pedido.getDataPedido() == null || status == null) {
+            return;
+        }
+        BigDecimal valor = pedido.getValorTotal() != null ? pedido.getValorTotal() : BigDecimal.ZERO;
+        VendaDiariaId grupo = new VendaDiariaId(pedido.getRestaurante().getId(),
+                pedido.getDataPedido().toLocalDate(), status);
+        garantirGrupo(grupo);
+        vendaDiariaRepository.acumular(grupo.getRestauranteId(), grupo.getDia(),
+                status.name(), sinal, sinal < 0 ? valor.negate() : valor);
+    }
+
+    // Com a linha já gravada, o MERGE do pedido cai sempre no UPDATE, que espera o lock em vez de falhar.
+    private void garantirGrupo(VendaDiariaId grupo) {
+        if (vendaDiariaRepository.existsById(grupo)) {
+            return;
+        }
+        try {
+            transacaoPropria.executeWithoutResult(status -> vendaDiariaRepository.criarGrupo(
+                    grupo.getRestauranteId(), grupo.getDia(), grupo.getStatus().name()));
+        } catch (DataIntegrityViolationException e) {
+            // Outro pedido criou o grupo entre a consulta e o INSERT: só a transação própria é desfeita
+            log.debug("Grupo {} de venda_diaria já criado por outro pedido", grupo);
+        }
+    }
+
+    // Grupos zerados (pedidos que mudaram todos de status) equivalem a grupos ausentes.
+    private Map<VendaDiariaId, VendaDiariaTotais> porChave(List<VendaDiariaTotais> totais) {
+        Map<VendaDiariaId, VendaDiariaTotais> mapa = new HashMap<>();
+        for (VendaDiariaTotais t : totais) {
+            if (t.quantidadePedidos() != 0 || t.valorTotal().signum() != 0) {
+                mapa.put(new VendaDiariaId(t.restauranteId(), t.dia(), t.status()), t);
+            }
+        }
+        return mapa;
+    }
+}
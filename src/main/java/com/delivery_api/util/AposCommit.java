@@ -0,0 +1,31 @@
+package com.delivery_api.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Adia uma ação em memória (índice, cache local) para depois do commit da transação corrente, para que ela
+ * só enxergue dados gravados de fato: aplicada antes, uma leitura concorrente poderia recolocar o valor
+ * antigo, e um rollback deixaria a memória à frente do banco.
+ */
+public final class AposCommit {
+
+    private AposCommit() {
+    }
+
+    /**
+     * Executa {@code acao} depois do commit; com rollback, não executa. Fora de transação, executa na hora.
+     */
+    public static void executar(Runnable acao) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    acao.run();
+                }
+            });
+        } else {
+            acao.run();
+        }
+    }
+}
@@ -15,7 +15,11 @@ public class CEPValidator implements ConstraintValidator<ValidCEP, String> {
 
     @Override
     public boolean isValid(String cep, ConstraintValidatorContext context) {
-        if (cep == null || cep.trim().isEmpty()) {
+        // Nulo é válido, como nas constraints do Jakarta: quem exige o CEP usa @NotBlank junto
+        if (cep == null) {
+            return true;
+        }
+        if (cep.trim().isEmpty()) {
             return false;
         }
         String cleanCep = cep.trim().replaceAll("\\s", "");
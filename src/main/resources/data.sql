@@ -12,9 +12,9 @@ INSERT INTO USUARIO (NOME, EMAIL, SENHA, ROLE, ATIVO, RESTAURANTE_ID) VALUES ('C
 INSERT INTO CLIENTE (ID, NOME, EMAIL, TELEFONE, ENDERECO, ATIVO) VALUES (4, 'Ana Cliente', 'ana.cliente@email.com', '11999998888', 'Rua das Flores, 123, Apto 45', true);
 
 -- Restaurantes (com ID para manter a referência nos produtos e pedidos)
-INSERT INTO RESTAURANTE (ID, NOME, CATEGORIA, ENDERECO, TELEFONE, TAXA_ENTREGA, TEMPO_ENTREGA, HORARIO_FUNCIONAMENTO, ATIVO) VALUES (1, 'Pizzaria Italiana Deliciosa', 'Italiana', 'Rua da Pizza, 10', '11987654321', 5.00, 45, '18:00-23:00', true);
-INSERT INTO RESTAURANTE (ID, NOME, CATEGORIA, ENDERECO, TELEFONE, TAXA_ENTREGA, TEMPO_ENTREGA, HORARIO_FUNCIONAMENTO, ATIVO) VALUES (2, 'Cantina da Nona', 'Italiana', 'Av. Massa, 20', '11912345678', 7.50, 50, '19:00-00:00', true);
-INSERT INTO RESTAURANTE (ID, NOME, CATEGORIA, ENDERECO, TELEFONE, TAXA_ENTREGA, TEMPO_ENTREGA, HORARIO_FUNCIONAMENTO, ATIVO) VALUES (3, 'Sushi House', 'Japonesa', 'Travessa do Peixe, 30', '11955554444', 12.00, 60, '12:00-22:00', false);
+INSERT INTO RESTAURANTE (ID, NOME, CATEGORIA, ENDERECO, TELEFONE, TAXA_ENTREGA, TEMPO_ENTREGA, HORARIO_FUNCIONAMENTO, ATIVO, CEP, LATITUDE, LONGITUDE) VALUES (1, 'Pizzaria Italiana Deliciosa', 'Italiana', 'Rua da Pizza, 10', '11987654321', 5.00, 45, '18:00-23:00', true, '01310-100', -23.5631, -46.6544);
+INSERT INTO RESTAURANTE (ID, NOME, CATEGORIA, ENDERECO, TELEFONE, TAXA_ENTREGA, TEMPO_ENTREGA, HORARIO_FUNCIONAMENTO, ATIVO, CEP, LATITUDE, LONGITUDE) VALUES (2, 'Cantina da Nona', 'Italiana', 'Av. Massa, 20', '11912345678', 7.50, 50, '19:00-00:00', true, '05422-000', -23.5667, -46.6911);
+INSERT INTO RESTAURANTE (ID, NOME, CATEGORIA, ENDERECO, TELEFONE, TAXA_ENTREGA, TEMPO_ENTREGA, HORARIO_FUNCIONAMENTO, ATIVO, CEP, LATITUDE, LONGITUDE) VALUES (3, 'Sushi House', 'Japonesa', 'Travessa do Peixe, 30', '11955554444', 12.00, 60, '12:00-22:00', false, '04538-132', -23.5849, -46.6812);
 
 -- Produtos
 INSERT INTO PRODUTO (ID, NOME, DESCRICAO, PRECO, CATEGORIA, DISPONIVEL, RESTAURANTE_ID) VALUES (1, 'Pizza Margherita', 'Molho de tomate, mussarela e manjericão', 45.00, 'Pizza Salgada', true, 1);
@@ -34,4 +34,12 @@ INSERT INTO ITEM_PEDIDO (ID, QUANTIDADE, PRECO_UNITARIO, SUBTOTAL, PEDIDO_ID, PR
 INSERT INTO PEDIDO (ID, NUMERO_PEDIDO, DATA_PEDIDO, ENDERECO_ENTREGA, SUBTOTAL, TAXA_ENTREGA, VALOR_TOTAL, OBSERVACOES, STATUS, CLIENTE_ID, RESTAURANTE_ID) VALUES (2, 'PED-002', '2025-09-03T19:00:00', 'Rua das Flores, 123, Apto 45', 55.00, 7.50, 62.50, NULL, 'ENTREGUE', 4, 2);
 
 -- Itens do Pedido 2
-INSERT INTO ITEM_PEDIDO (ID, QUANTIDADE, PRECO_UNITARIO, SUBTOTAL, PEDIDO_ID, PRODUTO_ID) VALUES (3, 1, 55.00, 55.00, 2, 4); -- 1 Lasanha
\ No newline at end of file
+INSERT INTO ITEM_PEDIDO (ID, QUANTIDADE, PRECO_UNITARIO, SUBTOTAL, PEDIDO_ID, PRODUTO_ID) VALUES (3, 1, 55.00, 55.00, 2, 4); -- 1 Lasanha
+
+-- As sequences (PooledSequenceGenerator) começam em 1 e não sabem dos IDs explícitos acima:
+-- reinicia cada uma depois do maior ID inserido, para o primeiro INSERT da aplicação não repetir um ID.
+ALTER SEQUENCE cliente_seq RESTART WITH 5;
+ALTER SEQUENCE restaurante_seq RESTART WITH 4;
+ALTER SEQUENCE produto_seq RESTART WITH 5;
+ALTER SEQUENCE pedido_seq RESTART WITH 3;
+ALTER SEQUENCE item_pedido_seq RESTART WITH 4;
@@ -0,0 +1,68 @@
+package com.delivery_api.audit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuditArquivoRotativoTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    @DisplayName("Deve renomear o arquivo do dia anterior e apagar os que passaram do histórico")
+    void rotacionar_NovoDia_DeveRenomearEApagarAntigos() throws Exception {
+        LocalDate hoje = LocalDate.of(2025, 9, 4);
+        Path arquivo = diretorio.resolve("audit.log");
+        Path antigo = diretorio.resolve("audit." + hoje.minusDays(40) + ".log");
+        Files.writeString(antigo, "antigo\n");
+
+        AuditArquivoRotativo rotativo = new AuditArquivoRotativo(arquivo, 30, hoje);
+        rotativo.saida().write("dia 4\n".getBytes(StandardCharsets.UTF_8));
+        rotativo.saida().flush();
+
+        assertThat(rotativo.precisaRotacionar(hoje)).isFalse();
+        assertThat(rotativo.precisaRotacionar(hoje.plusDays(1))).isTrue();
+        rotativo.rotacionar(hoje.plusDays(1));
+        rotativo.saida().write("dia 5\n".getBytes(StandardCharsets.UTF_8));
+        rotativo.close();
+
+        assertThat(Files.readString(diretorio.resolve("audit.2025-09-04.log"))).isEqualTo("dia 4\n");
+        assertThat(Files.readString(arquivo)).isEqualTo("dia 5\n");
+        assertThat(antigo).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Deve continuar gravando no mesmo arquivo quando a rotação falha, e rotacionar na nova tentativa")
+    void rotacionar_DestinoInvalido_DeveManterArquivoAtual() throws Exception {
+        LocalDate hoje = LocalDate.of(2025, 9, 4);
+        Path arquivo = diretorio.resolve("audit.log");
+        // Um diretório com o nome do arquivo rotacionado impede a rotação
+        Path bloqueio = Files.createDirectories(diretorio.resolve("audit.2025-09-04.log"));
+        Files.writeString(bloqueio.resolve("outro"), "x");
+
+        AuditArquivoRotativo rotativo = new AuditArquivoRotativo(arquivo, 30, hoje);
+        rotativo.saida().write("dia 4\n".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> rotativo.rotacionar(hoje.plusDays(1))).isInstanceOf(IOException.class);
+        assertThat(rotativo.precisaRotacionar(hoje.plusDays(1))).isTrue();
+        rotativo.saida().write("ainda dia 4\n".getBytes(StandardCharsets.UTF_8));
+        rotativo.saida().flush();
+        assertThat(Files.readString(arquivo)).isEqualTo("dia 4\nainda dia 4\n");
+
+        Files.delete(bloqueio.resolve("outro"));
+        Files.delete(bloqueio);
+        rotativo.rotacionar(hoje.plusDays(1));
+        rotativo.close();
+        assertThat(Files.readString(diretorio.resolve("audit.2025-09-04.log"))).isEqualTo("dia 4\nainda dia 4\n");
+    }
+}
@@ -0,0 +1,258 @@
+package com.delivery_api.audit;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.delivery_api.config.AuditProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditLogPipelineTest {
+
+    @TempDir
+    Path diretorio;
+
+    private AuditProperties properties;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AuditProperties();
+        properties.setArquivo(diretorio.resolve("audit.log").toString());
+        properties.setConsole(false);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Deve gravar uma linha JSON por evento, com os campos do formato anterior")
+    void publicar_AcaoEEventoDeSeguranca_DeveGravarLinhasJson() throws Exception {
+        AuditLogPipeline pipeline = new AuditLogPipeline(properties, meterRegistry);
+        pipeline.iniciar();
+
+        pipeline.publicarAcaoUsuario("7", "UPDATE", "Restaurante", Map.of("nome", "Pizzaria"), "corr-1");
+        pipeline.publicarEventoSeguranca("LOGIN_ATTEMPT", "admin@email.com", false, null);
+        pipeline.encerrar();
+
+        List<String> linhas = Files.readAllLines(diretorio.resolve("audit.log"));
+        assertThat(linhas).hasSize(2);
+        JsonNode acao = new ObjectMapper().readTree(linhas.get(0));
+        assertThat(acao.fieldNames()).toIterable()
+                .containsExactly("timestamp", "type", "userId", "action", "resource", "details", "correlationId");
+        assertThat(acao.get("type").asText()).isEqualTo("USER_ACTION");
+        assertThat(acao.get("details").get("nome").asText()).isEqualTo("Pizzaria");
+        JsonNode seguranca = new ObjectMapper().readTree(linhas.get(1));
+        assertThat(seguranca.fieldNames()).toIterable()
+                .containsExactly("timestamp", "type", "event", "details", "success", "correlationId");
+        assertThat(seguranca.get("success").asBoolean()).isFalse();
+        assertThat(seguranca.get("correlationId").isNull()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Com console ligado, deve enviar ao logger AUDIT as mesmas linhas gravadas no arquivo")
+    void publicar_ComConsole_DeveCopiarLinhasParaLoggerAudit() throws Exception {
+        Logger auditLogger = (Logger) LoggerFactory.getLogger("AUDIT");
+        ListAppender<ILoggingEvent> console = new ListAppender<>();
+        console.start();
+        auditLogger.addAppender(console);
+        properties.setConsole(true);
+        AuditLogPipeline pipeline = new AuditLogPipeline(properties, meterRegistry);
+        try {
+            pipeline.iniciar();
+            pipeline.publicarAcaoUsuario("7", "UPDATE", "Restaurante", Map.of("nome", "Pizzaria"), "corr-1");
+            pipeline.publicarEventoSeguranca("LOGIN_ATTEMPT", "admin@email.com", true, "corr-2");
+            pipeline.encerrar();
+        } finally {
+            auditLogger.detachAppender(console);
+        }
+
+        List<String> linhas = Files.readAllLines(diretorio.resolve("audit.log"));
+        assertThat(console.list).extracting(ILoggingEvent::getFormattedMessage).containsExactlyElementsOf(linhas);
+        assertThat(console.list).extracting(ILoggingEvent::getLevel).containsOnly(Level.INFO);
+    }
+
+    @Test
+    @DisplayName("Com BLOQUEAR, não deve perder eventos de várias threads nem os pendentes no encerramento")
+    void publicar_BloquearComFilaPequena_DeveGravarTodosOsEventos() throws Exception {
+        properties.setCapacidade(16);
+        properties.setTamanhoLote(4);
+        AuditLogPipeline pipeline = new AuditLogPipeline(properties, meterRegistry);
+        pipeline.iniciar();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> tarefas = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int thread = t;
+            tarefas.add(executor.submit(() -> {
+                for (int i = 0; i < 500; i++) {
+                    pipeline.publicarAcaoUsuario(String.valueOf(thread), "CREATE", "Pedido", i, null);
+                }
+            }));
+        }
+        for (Future<?> tarefa : tarefas) {
+            tarefa.get();
+        }
+        executor.shutdown();
+        pipeline.encerrar();
+
+        assertThat(Files.readAllLines(diretorio.resolve("audit.log"))).hasSize(2000);
+        assertThat(contador("publicado")).isEqualTo(2000);
+        assertThat(meterRegistry.counter("delivery_audit_gravados_total").count()).isEqualTo(2000);
+        assertThat(pipeline.publicarEventoSeguranca("LOGIN", null, true, null)).isFalse();
+        assertThat(contador("descartado_encerramento")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Com DESCARTAR, deve descartar e contar os eventos que não cabem na fila")
+    void publicar_DescartarComFilaCheia_DeveContarDescartes() throws Exception {
+        properties.setCapacidade(4);
+        properties.setPolitica(AuditProperties.Politica.DESCARTAR);
+        AuditLogPipeline pipeline = new AuditLogPipeline(properties, meterRegistry);
+
+        // Sem o escritor, nada sai da fila
+        int aceitos = 0;
+        for (int i = 0; i < 6; i++) {
+            aceitos += pipeline.publicarEventoSeguranca("LOGIN", String.valueOf(i), true, null) ? 1 : 0;
+        }
+        assertThat(aceitos).isEqualTo(4);
+        assertThat(contador("descartado_fila_cheia")).isEqualTo(2);
+
+        pipeline.iniciar();
+        pipeline.encerrar();
+        assertThat(Files.readAllLines(diretorio.resolve("audit.log"))).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("Com AMOSTRAR, deve manter só parte dos eventos acima do limiar de ocupação")
+    void publicar_AmostrarAcimaDoLimiar_DeveAmostrar() {
+        properties.setCapacidade(8);
+        properties.setPolitica(AuditProperties.Politica.AMOSTRAR);
+        properties.getAmostragem().setLimiar(0.5);
+        properties.getAmostragem().setTaxa(2);
+        AuditLogPipeline pipeline = new AuditLogPipeline(properties, meterRegistry);
+
+        for (int i = 0; i < 20; i++) {
+            pipeline.publicarEventoSeguranca("LOGIN", String.valueOf(i), true, null);
+        }
+
+        // 4 até o limiar; dos 16 seguintes, a amostragem deixa passar metade, e só 4 ainda cabem na fila
+        assertThat(contador("publicado")).isEqualTo(8);
+        assertThat(contador("descartado_amostragem")).isEqualTo(8);
+        assertThat(contador("descartado_fila_cheia")).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Deve gravar os detalhes como estavam na publicação, mesmo alterados ou impossíveis de serializar")
+    void publicar_DetalhesAlteradosOuInvalidos_DeveGravarCopiaDaPublicacao() throws Exception {
+        AuditLogPipeline pipeline = new AuditLogPipeline(properties, meterRegistry);
+        Map<String, Object> detalhes = new HashMap<>(Map.of("status", "PENDENTE"));
+
+        // Sem o escritor rodando: os eventos só são gravados depois da alteração
+        pipeline.publicarAcaoUsuario("7", "UPDATE", "Pedido", detalhes, null);
+        detalhes.put("status", "CANCELADO");
+        pipeline.publicarAcaoUsuario("7", "UPDATE", "Pedido", new DetalhesQuebrados(), null);
+        pipeline.publicarAcaoUsuario("7", "DELETE", "Pedido", 42, null);
+        pipeline.iniciar();
+        pipeline.encerrar();
+
+        List<String> linhas = Files.readAllLines(diretorio.resolve("audit.log"));
+        assertThat(linhas).hasSize(3);
+        ObjectMapper mapper = new ObjectMapper();
+        assertThat(mapper.readTree(linhas.get(0)).get("details").get("status").asText()).isEqualTo("PENDENTE");
+        assertThat(mapper.readTree(linhas.get(1)).get("details").asText()).contains("DetalhesQuebrados");
+        assertThat(mapper.readTree(linhas.get(2)).get("details").asInt()).isEqualTo(42);
+        assertThat(meterRegistry.counter("delivery_audit_erros_gravacao_total").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Com BLOQUEAR, uma rotação que falha não deve parar o escritor nem prender quem publica")
+    void publicar_RotacaoFalhando_DeveContinuarGravando() throws Exception {
+        properties.setCapacidade(4);
+        properties.setTamanhoLote(2);
+        RelogioAjustavel relogio = new RelogioAjustavel(Instant.parse("2025-09-04T12:00:00Z"));
+        AuditLogPipeline pipeline = new AuditLogPipeline(properties, meterRegistry, relogio);
+        pipeline.iniciar();
+        // Um diretório com o nome do arquivo rotacionado impede a rotação
+        Path bloqueio = Files.createDirectories(diretorio.resolve("audit.2025-09-04.log"));
+        Files.writeString(bloqueio.resolve("outro"), "x");
+
+        relogio.agora = relogio.agora.plus(Duration.ofDays(1));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> publicacao = executor.submit(() -> {
+            for (int i = 0; i < 100; i++) {
+                pipeline.publicarAcaoUsuario("7", "CREATE", "Pedido", i, null);
+            }
+        });
+        publicacao.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+        pipeline.encerrar();
+
+        assertThat(Files.readAllLines(diretorio.resolve("audit.log"))).hasSize(100);
+        assertThat(meterRegistry.counter("delivery_audit_gravados_total").count()).isEqualTo(100);
+    }
+
+    private double contador(String resultado) {
+        return meterRegistry.counter("delivery_audit_eventos_total", "resultado", resultado).count();
+    }
+
+    private static class DetalhesQuebrados {
+
+        public String getValor() {
+            throw new IllegalStateException("sessão fechada");
+        }
+
+        @Override
+        public String toString() {
+            throw new IllegalStateException("sessão fechada");
+        }
+    }
+
+    private static final class RelogioAjustavel extends Clock {
+
+        volatile Instant agora;
+
+        RelogioAjustavel(Instant agora) {
+            this.agora = agora;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return agora;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.delivery_api.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProdutoCacheInvalidatorTest {
+
+    private ConcurrentMapCacheManager cacheManager;
+    private ProdutoCacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager();
+        invalidator = new ProdutoCacheInvalidator(cacheManager);
+
+        // Três restaurantes com suas listas, três categorias, três produtos e a lista completa.
+        for (long restauranteId = 1; restauranteId <= 3; restauranteId++) {
+            for (Boolean disponivel : new Boolean[]{true, false, null}) {
+                produtos().put("restaurante::" + restauranteId + "::disponivel::" + disponivel, "lista");
+            }
+        }
+        for (String categoria : new String[]{"PIZZA", "MASSAS", "BEBIDAS"}) {
+            produtos().put("categoria::" + categoria, "lista");
+        }
+        for (long produtoId = 101; produtoId <= 103; produtoId++) {
+            produtos().put(produtoId, "produto");
+        }
+        produtos().put("todos", "lista");
+    }
+
+    @Test
+    @DisplayName("Deve remover só as chaves que dependem do produto alterado")
+    void produtoAlterado_ComTrocaDeCategoria_DeveRemoverApenasChavesDependentes() {
+        int antes = produtos().size();
+
+        invalidator.produtoAlterado(101L, 1L, "PIZZA", "MASSAS");
+
+        // ID + 3 listas do restaurante 1 + 2 categorias + "todos"
+        assertThat(antes - produtos().size()).isEqualTo(7);
+        assertThat(produtos().keySet()).containsExactlyInAnyOrderElementsOf(Set.of(
+                "restaurante::2::disponivel::true", "restaurante::2::disponivel::false", "restaurante::2::disponivel::null",
+                "restaurante::3::disponivel::true", "restaurante::3::disponivel::false", "restaurante::3::disponivel::null",
+                "categoria::BEBIDAS", 102L, 103L));
+    }
+
+    @Test
+    @DisplayName("Deve remover uma única categoria quando ela não muda")
+    void produtoAlterado_MesmaCategoria_DeveRemoverSeisChaves() {
+        int antes = produtos().size();
+
+        invalidator.produtoAlterado(102L, 2L, "BEBIDAS");
+
+        assertThat(antes - produtos().size()).isEqualTo(6);
+        assertThat(produtos()).containsKeys("categoria::PIZZA", "restaurante::1::disponivel::true", 101L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ConcurrentMap<Object, Object> produtos() {
+        return (ConcurrentMap<Object, Object>) cacheManager.getCache(ProdutoCacheInvalidator.CACHE_PRODUTOS).getNativeCache();
+    }
+}
@@ -0,0 +1,129 @@
+package com.delivery_api.cache;
+
+import com.delivery_api.config.NearCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TwoLevelCacheManagerTest {
+
+    // O ConcurrentMapCacheManager faz o papel do Redis: um L2 compartilhado pelos dois "nós".
+    private ConcurrentMapCacheManager redisEmMemoria;
+    private LocalCacheInvalidationChannel canal;
+    private MeterRegistry registryNoA;
+    private TwoLevelCacheManager noA;
+    private TwoLevelCacheManager noB;
+
+    @BeforeEach
+    void setUp() {
+        redisEmMemoria = new ConcurrentMapCacheManager();
+        canal = new LocalCacheInvalidationChannel();
+
+        NearCacheProperties properties = new NearCacheProperties();
+        NearCacheProperties.Spec produtos = new NearCacheProperties.Spec();
+        produtos.setMaximumSize(100);
+        produtos.setTtl(Duration.ofMinutes(1));
+        properties.getCaches().put("produtos", produtos);
+
+        registryNoA = new SimpleMeterRegistry();
+        noA = new TwoLevelCacheManager(redisEmMemoria, properties, canal, registryNoA);
+        noB = new TwoLevelCacheManager(redisEmMemoria, properties, canal, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Deve servir do L1 depois que o valor foi gravado, sem consultar o L2")
+    void get_AposPut_DeveAcertarNoL1() {
+        Cache cache = noA.getCache("produtos");
+        cache.put(1L, "Pizza");
+
+        assertThat(cache.get(1L).get()).isEqualTo("Pizza");
+
+        assertThat(contador(registryNoA, "l1", "hit")).isEqualTo(1.0);
+        assertThat(contador(registryNoA, "l2", "hit")).isZero();
+        assertThat(redisEmMemoria.getCache("produtos").get(1L).get()).isEqualTo("Pizza");
+    }
+
+    @Test
+    @DisplayName("Deve buscar no L2 quando o L1 não tem a entrada e repovoar o L1")
+    void get_ComFaltaNoL1_DeveBuscarNoL2ERepovoarL1() {
+        redisEmMemoria.getCache("produtos").put(2L, "Refrigerante");
+        Cache cache = noA.getCache("produtos");
+
+        assertThat(cache.get(2L).get()).isEqualTo("Refrigerante");
+        assertThat(cache.get(2L).get()).isEqualTo("Refrigerante");
+
+        assertThat(contador(registryNoA, "l1", "miss")).isEqualTo(1.0);
+        assertThat(contador(registryNoA, "l2", "hit")).isEqualTo(1.0);
+        assertThat(contador(registryNoA, "l1", "hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Deve contabilizar falta nos dois níveis quando a chave não existe")
+    void get_ChaveInexistente_DeveRetornarNuloEContarFaltas() {
+        assertThat(noA.getCache("produtos").get(99L)).isNull();
+
+        assertThat(contador(registryNoA, "l1", "miss")).isEqualTo(1.0);
+        assertThat(contador(registryNoA, "l2", "miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Deve propagar a remoção de uma chave para o L1 dos outros nós")
+    void evict_NoNoA_DeveInvalidarL1DoNoB() {
+        noA.getCache("produtos").put(3L, "Lasanha");
+        assertThat(noB.getCache("produtos").get(3L).get()).isEqualTo("Lasanha"); // agora no L1 do nó B
+
+        noA.getCache("produtos").evict(3L);
+
+        assertThat(noB.getCache("produtos").get(3L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve propagar uma atualização para que os outros nós não leiam o valor antigo do L1")
+    void put_NoNoA_DeveDescartarValorAntigoNoL1DoNoB() {
+        noA.getCache("produtos").put(4L, "Preço antigo");
+        noB.getCache("produtos").get(4L);
+
+        noA.getCache("produtos").put(4L, "Preço novo");
+
+        assertThat(noB.getCache("produtos").get(4L).get()).isEqualTo("Preço novo");
+    }
+
+    @Test
+    @DisplayName("Deve propagar a limpeza completa do cache para os outros nós")
+    void clear_NoNoA_DeveLimparL1DoNoB() {
+        noA.getCache("produtos").put("todos", "lista");
+        noB.getCache("produtos").get("todos");
+
+        noA.getCache("produtos").clear();
+
+        assertThat(noB.getCache("produtos").get("todos")).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve tratar chaves Long e String equivalentes como a mesma entrada no L1")
+    @SuppressWarnings("unchecked")
+    void get_ComChaveConvertidaParaString_DeveEncontrarMesmaEntrada() {
+        noA.getCache("produtos").put(5L, "Pizza");
+
+        com.github.benmanes.caffeine.cache.Cache<String, Object> l1 =
+                (com.github.benmanes.caffeine.cache.Cache<String, Object>) noA.getCache("produtos").getNativeCache();
+        assertThat(l1.getIfPresent("5")).isEqualTo("Pizza");
+    }
+
+    private double contador(MeterRegistry registry, String level, String result) {
+        return registry.get("delivery_cache_requests_total")
+                .tag("cache", "produtos")
+                .tag("level", level)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
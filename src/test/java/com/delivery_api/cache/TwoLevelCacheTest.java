@@ -0,0 +1,146 @@
+package com.delivery_api.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TwoLevelCacheTest {
+
+    private static final Duration TTL_REMOTO = Duration.ofMinutes(10);
+
+    private MeterRegistry registry;
+    private AtomicLong relogio;
+    private AtomicInteger cargas;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        relogio = new AtomicLong();
+        cargas = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Deve executar o loader uma única vez quando várias chamadas concorrentes erram a mesma chave")
+    void get_ChamadasConcorrentes_DeveCarregarUmaVezEAgruparAsDemais() throws Exception {
+        TwoLevelCache cache = novoCache(null);
+        int chamadas = 8;
+        CountDownLatch liberarCarga = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(chamadas);
+
+        try {
+            List<Future<String>> resultados = new ArrayList<>();
+            for (int i = 0; i < chamadas; i++) {
+                resultados.add(executor.submit(() -> cache.get(1L, () -> {
+                    cargas.incrementAndGet();
+                    liberarCarga.await();
+                    return "Pizza";
+                })));
+            }
+
+            // Segura a carga até que todas as outras chamadas estejam esperando por ela.
+            long limite = System.currentTimeMillis() + 5000;
+            while (contador("delivery_cache_coalesced_waiters_total") < chamadas - 1
+                    && System.currentTimeMillis() < limite) {
+                Thread.sleep(5);
+            }
+            liberarCarga.countDown();
+
+            for (Future<String> resultado : resultados) {
+                assertThat(resultado.get(5, TimeUnit.SECONDS)).isEqualTo("Pizza");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(cargas.get()).isEqualTo(1);
+        assertThat(contador("delivery_cache_coalesced_waiters_total")).isEqualTo(chamadas - 1.0);
+    }
+
+    @Test
+    @DisplayName("Deve liberar a chave após uma falha no loader para que a próxima chamada tente de novo")
+    void get_LoaderFalha_DevePropagarErroENaoPrenderAChave() {
+        TwoLevelCache cache = novoCache(null);
+
+        assertThatThrownBy(() -> cache.get(2L, () -> {
+            throw new IllegalStateException("banco indisponível");
+        }))
+                .isInstanceOf(Cache.ValueRetrievalException.class)
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.get(2L, () -> "Lasanha")).isEqualTo("Lasanha");
+    }
+
+    @Test
+    @DisplayName("Deve renovar antecipadamente uma entrada perto do vencimento")
+    void get_PertoDoVencimento_DeveRenovarAntecipadamente() {
+        // Sorteio fixo perto de 1 => -ln(1 - 0.999999) ~ 13.8 vezes o custo da carga
+        EarlyRefreshPolicy politica = new EarlyRefreshPolicy(TTL_REMOTO, 1.0, 100, () -> 0.999999, relogio::get);
+        TwoLevelCache cache = novoCache(politica);
+
+        assertThat(cache.get(3L, cargaLenta("Preço antigo"))).isEqualTo("Preço antigo");
+
+        // A um segundo do vencimento, com uma carga de ~100ms, a renovação deve acontecer.
+        relogio.set(TTL_REMOTO.minusSeconds(1).toNanos());
+        assertThat(cache.get(3L, cargaLenta("Preço novo"))).isEqualTo("Preço novo");
+
+        assertThat(cargas.get()).isEqualTo(2);
+        assertThat(contador("delivery_cache_refresh_ahead_total")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Não deve renovar uma entrada recém-carregada")
+    void get_EntradaRecente_NaoDeveRenovar() {
+        EarlyRefreshPolicy politica = new EarlyRefreshPolicy(TTL_REMOTO, 1.0, 100, () -> 0.999999, relogio::get);
+        TwoLevelCache cache = novoCache(politica);
+
+        cache.get(4L, cargaLenta("Pizza"));
+        relogio.set(Duration.ofSeconds(30).toNanos());
+
+        assertThat(cache.get(4L, cargaLenta("Outra"))).isEqualTo("Pizza");
+        assertThat(cargas.get()).isEqualTo(1);
+        assertThat(contador("delivery_cache_refresh_ahead_total")).isZero();
+    }
+
+    private TwoLevelCache novoCache(EarlyRefreshPolicy politica) {
+        return new TwoLevelCache("produtos",
+                Caffeine.newBuilder().maximumSize(100).build(),
+                new ConcurrentMapCache("produtos"),
+                new LocalCacheInvalidationChannel(),
+                "no-teste",
+                registry,
+                politica);
+    }
+
+    // O relógio da política é falso; o custo medido pelo cache é real, então a carga dorme de fato.
+    private Callable<String> cargaLenta(String valor) {
+        return () -> {
+            cargas.incrementAndGet();
+            Thread.sleep(100);
+            return valor;
+        };
+    }
+
+    private double contador(String nome) {
+        return registry.get(nome).tag("cache", "produtos").counter().count();
+    }
+}
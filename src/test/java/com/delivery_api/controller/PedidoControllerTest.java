@@ -1,5 +1,243 @@
 package com.delivery_api.controller;
 
-public class PedidoControllerTest {
-    
+import com.delivery_api.cache.OwnershipIndex;
+import com.delivery_api.dto.ApiResponseWrapper;
+import com.delivery_api.dto.PedidoResponseDTO;
+import com.delivery_api.dto.StatusPedidoDTO;
+import com.delivery_api.enums.StatusPedido;
+import com.delivery_api.enums.UserRole;
+import com.delivery_api.geo.CalculadoraTaxaEntrega;
+import com.delivery_api.logging.AcessoDadosEventos;
+import com.delivery_api.mapper.PedidoMapper;
+import com.delivery_api.model.Pedido;
+import com.delivery_api.model.Usuario;
+import com.delivery_api.projection.PedidoDono;
+import com.delivery_api.repository.ClienteRepository;
+import com.delivery_api.repository.PedidoRepository;
+import com.delivery_api.repository.ProdutoRepository;
+import com.delivery_api.repository.RestauranteRepository;
+import com.delivery_api.service.PedidoExportService;
+import com.delivery_api.service.VendaDiariaService;
+import com.delivery_api.service.impl.PedidoServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes das regras de {@code @PreAuthorize} do {@link PedidoController}.
+ *
+ * Sobe só o controller, o {@link PedidoServiceImpl} e o {@link OwnershipIndex} com segurança de métodos;
+ * os repositórios são mocks. Além da decisão de acesso, confere que a checagem não carrega o pedido:
+ * o único {@code findById} é o do próprio endpoint.
+ */
+@SpringJUnitConfig(PedidoControllerTest.Config.class)
+class PedidoControllerTest {
+
+    private static final Long PEDIDO_ID = 100L;
+    private static final Long CLIENTE_ID = 1L;
+    private static final Long RESTAURANTE_ID = 5L;
+
+    @Configuration
+    @EnableMethodSecurity
+    static class Config {
+
+        @Bean
+        PedidoController pedidoController() {
+            return new PedidoController();
+        }
+
+        // O nome do bean precisa ser "pedidoServiceImpl", como nas expressões do @PreAuthorize.
+        @Bean
+        PedidoServiceImpl pedidoServiceImpl() {
+            return new PedidoServiceImpl();
+        }
+
+        @Bean
+        OwnershipIndex ownershipIndex() {
+            return new OwnershipIndex();
+        }
+    }
+
+    @Autowired
+    private PedidoController pedidoController;
+
+    @MockBean
+    private PedidoRepository pedidoRepository;
+    @MockBean
+    private ClienteRepository clienteRepository;
+    @MockBean
+    private RestauranteRepository restauranteRepository;
+    @MockBean
+    private ProdutoRepository produtoRepository;
+    @MockBean
+    private PedidoMapper pedidoMapper;
+    @MockBean
+    private PedidoExportService pedidoExportService;
+    @MockBean
+    private VendaDiariaService vendaDiariaService;
+    @MockBean
+    private CalculadoraTaxaEntrega calculadoraTaxaEntrega;
+    @MockBean
+    private AcessoDadosEventos acessoDadosEventos;
+
+    private Pedido pedido;
+
+    @BeforeEach
+    void setUp() {
+        // Não herda um contexto (ou um mock de SecurityContext) deixado por outra classe de teste na mesma thread
+        SecurityContextHolder.clearContext();
+        pedido = new Pedido();
+        pedido.setId(PEDIDO_ID);
+        pedido.setStatus(StatusPedido.PENDENTE);
+
+        when(pedidoRepository.findDonoById(PEDIDO_ID)).thenReturn(Optional.of(new PedidoDono(CLIENTE_ID, RESTAURANTE_ID)));
+        when(pedidoRepository.findById(PEDIDO_ID)).thenReturn(Optional.of(pedido));
+        when(pedidoRepository.save(any(Pedido.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(pedidoMapper.toResponseDTO(any(Pedido.class))).thenReturn(new PedidoResponseDTO());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Nested
+    @DisplayName("GET /api/pedidos/{id} - canAccess")
+    class BuscarPorIdTests {
+
+        @Test
+        @DisplayName("Deve permitir ao cliente dono e carregar o pedido uma única vez")
+        void buscarPorId_ClienteDono_DevePermitir() {
+            autenticar(UserRole.CLIENTE, CLIENTE_ID, null);
+
+            ResponseEntity<ApiResponseWrapper<PedidoResponseDTO>> resposta = pedidoController.buscarPorId(PEDIDO_ID);
+
+            assertThat(resposta.getStatusCode()).isEqualTo(HttpStatus.OK);
+            verify(pedidoRepository, times(1)).findById(PEDIDO_ID);
+        }
+
+        @Test
+        @DisplayName("Deve permitir ao restaurante dono")
+        void buscarPorId_RestauranteDono_DevePermitir() {
+            autenticar(UserRole.RESTAURANTE, 77L, RESTAURANTE_ID);
+
+            assertThat(pedidoController.buscarPorId(PEDIDO_ID).getStatusCode()).isEqualTo(HttpStatus.OK);
+        }
+
+        @Test
+        @DisplayName("Deve negar a outro cliente sem carregar o pedido")
+        void buscarPorId_OutroCliente_DeveNegar() {
+            autenticar(UserRole.CLIENTE, 2L, null);
+
+            assertThatThrownBy(() -> pedidoController.buscarPorId(PEDIDO_ID)).isInstanceOf(AccessDeniedException.class);
+            verify(pedidoRepository, never()).findById(anyLong());
+        }
+
+        @Test
+        @DisplayName("Deve permitir ao ADMIN sem consultar o índice de posse")
+        void buscarPorId_Admin_NaoDeveConsultarIndice() {
+            autenticar(UserRole.ADMIN, 99L, null);
+
+            assertThat(pedidoController.buscarPorId(PEDIDO_ID).getStatusCode()).isEqualTo(HttpStatus.OK);
+            verify(pedidoRepository, never()).findDonoById(anyLong());
+        }
+    }
+
+    @Nested
+    @DisplayName("PATCH /api/pedidos/{id}/status - isRestaurantOwner")
+    class AtualizarStatusTests {
+
+        @Test
+        @DisplayName("Deve permitir ao restaurante dono")
+        void atualizarStatus_RestauranteDono_DevePermitir() {
+            autenticar(UserRole.RESTAURANTE, 77L, RESTAURANTE_ID);
+
+            assertThat(pedidoController.atualizarStatus(PEDIDO_ID, status(StatusPedido.CONFIRMADO)).getStatusCode())
+                    .isEqualTo(HttpStatus.OK);
+            verify(pedidoRepository, times(1)).findById(PEDIDO_ID);
+        }
+
+        @Test
+        @DisplayName("Deve negar a outro restaurante")
+        void atualizarStatus_OutroRestaurante_DeveNegar() {
+            autenticar(UserRole.RESTAURANTE, 78L, 6L);
+
+            assertThatThrownBy(() -> pedidoController.atualizarStatus(PEDIDO_ID, status(StatusPedido.CONFIRMADO)))
+                    .isInstanceOf(AccessDeniedException.class);
+            verify(pedidoRepository, never()).findById(anyLong());
+        }
+
+        @Test
+        @DisplayName("Deve negar ao cliente dono, que não tem o papel RESTAURANTE")
+        void atualizarStatus_ClienteDono_DeveNegar() {
+            autenticar(UserRole.CLIENTE, CLIENTE_ID, null);
+
+            assertThatThrownBy(() -> pedidoController.atualizarStatus(PEDIDO_ID, status(StatusPedido.CONFIRMADO)))
+                    .isInstanceOf(AccessDeniedException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("DELETE /api/pedidos/{id} - isClientOwner")
+    class CancelarPedidoTests {
+
+        @Test
+        @DisplayName("Deve permitir ao cliente dono")
+        void cancelarPedido_ClienteDono_DevePermitir() {
+            autenticar(UserRole.CLIENTE, CLIENTE_ID, null);
+
+            assertThat(pedidoController.cancelarPedido(PEDIDO_ID).getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+            assertThat(pedido.getStatus()).isEqualTo(StatusPedido.CANCELADO);
+            verify(pedidoRepository, times(1)).findById(PEDIDO_ID);
+        }
+
+        @Test
+        @DisplayName("Deve negar ao restaurante dono, que não é o cliente")
+        void cancelarPedido_RestauranteDono_DeveNegar() {
+            autenticar(UserRole.RESTAURANTE, 77L, RESTAURANTE_ID);
+
+            assertThatThrownBy(() -> pedidoController.cancelarPedido(PEDIDO_ID)).isInstanceOf(AccessDeniedException.class);
+            verify(pedidoRepository, never()).save(any());
+        }
+    }
+
+    private void autenticar(UserRole role, Long usuarioId, Long restauranteId) {
+        Usuario usuario = new Usuario();
+        usuario.setId(usuarioId);
+        usuario.setEmail("usuario" + usuarioId + "@email.com");
+        usuario.setRole(role);
+        usuario.setRestauranteId(restauranteId);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(usuario, null, usuario.getAuthorities()));
+    }
+
+    private static StatusPedidoDTO status(StatusPedido status) {
+        StatusPedidoDTO dto = new StatusPedidoDTO();
+        dto.setStatus(status);
+        return dto;
+    }
 }
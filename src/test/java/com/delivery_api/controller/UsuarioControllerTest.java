@@ -0,0 +1,70 @@
+package com.delivery_api.controller;
+
+import com.delivery_api.enums.UserRole;
+import com.delivery_api.exception.EntityNotFoundException;
+import com.delivery_api.exception.GlobalExceptionHandler;
+import com.delivery_api.model.Usuario;
+import com.delivery_api.service.impl.UsuarioServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários para UsuarioController")
+class UsuarioControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private UsuarioServiceImpl usuarioService;
+
+    @InjectMocks
+    private UsuarioController usuarioController;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(usuarioController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Deve desativar o usuário pelo serviço e retornar 200 com os dados do usuário")
+    void alterarAtivo_Desativar_DeveChamarServicoERetornar200() throws Exception {
+        Usuario usuario = new Usuario();
+        usuario.setId(7L);
+        usuario.setEmail("cliente@email.com");
+        usuario.setRole(UserRole.CLIENTE);
+        usuario.setAtivo(false);
+        when(usuarioService.alterarAtivo(7L, false)).thenReturn(usuario);
+
+        mockMvc.perform(patch("/api/usuarios/{id}/ativo", 7L).param("ativo", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(7))
+                .andExpect(jsonPath("$.data.email").value("cliente@email.com"));
+
+        verify(usuarioService).alterarAtivo(7L, false);
+    }
+
+    @Test
+    @DisplayName("Deve retornar 404 quando o usuário não existe")
+    void alterarAtivo_UsuarioInexistente_DeveRetornar404() throws Exception {
+        when(usuarioService.alterarAtivo(999L, true)).thenThrow(new EntityNotFoundException("Usuário", 999L));
+
+        mockMvc.perform(patch("/api/usuarios/{id}/ativo", 999L).param("ativo", "true"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status").value(404));
+    }
+}
@@ -0,0 +1,59 @@
+package com.delivery_api.dto;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes de Validação do CEP em CalculoPedidoDTO")
+class CalculoPedidoDtoValidationTest {
+
+    private static Validator validator;
+
+    @BeforeAll
+    static void setUp() {
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+    }
+
+    @Test
+    @DisplayName("Deve aceitar o CEP ausente, pois na cotação ele é opcional")
+    void cep_Nulo_DeveSerValido() {
+        CalculoPedidoDTO dto = new CalculoPedidoDTO();
+
+        assertThat(validator.validateProperty(dto, "cep")).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"01310-100", "01310100"})
+    @DisplayName("Deve aceitar os mesmos formatos de CEP que PedidoDTO")
+    void cep_FormatoValido_DeveSerValido(String cep) {
+        CalculoPedidoDTO cotacao = new CalculoPedidoDTO();
+        cotacao.setCep(cep);
+        PedidoDTO pedido = new PedidoDTO();
+        pedido.setCep(cep);
+
+        assertThat(validator.validateProperty(cotacao, "cep")).isEmpty();
+        assertThat(validator.validateProperty(pedido, "cep")).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "0131-0100", "01310-10A"})
+    @DisplayName("Deve recusar CEP inválido com a mesma mensagem de PedidoDTO")
+    void cep_FormatoInvalido_DeveRetornarMensagemDoValidCep(String cep) {
+        CalculoPedidoDTO cotacao = new CalculoPedidoDTO();
+        cotacao.setCep(cep);
+
+        Set<ConstraintViolation<CalculoPedidoDTO>> violations = validator.validateProperty(cotacao, "cep");
+
+        assertThat(violations).extracting(ConstraintViolation::getMessage)
+                .containsExactly("CEP deve ter formato válido (00000-000 ou 00000000)");
+    }
+}
@@ -0,0 +1,76 @@
+package com.delivery_api.geo;
+
+import com.delivery_api.config.TaxaEntregaProperties;
+import com.delivery_api.exception.BusinessException;
+import com.delivery_api.model.Restaurante;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CalculadoraTaxaEntregaTest {
+
+    private CalculadoraTaxaEntrega calculadora;
+    private Restaurante restaurante;
+
+    @BeforeEach
+    void setUp() {
+        TaxaEntregaProperties properties = new TaxaEntregaProperties();
+        // Fora de ordem de propósito: a calculadora ordena as faixas pelo limite.
+        properties.setFaixas(List.of(faixa(10, "5.00"), faixa(3, "0.00"), faixa(6, "2.50")));
+        calculadora = new CalculadoraTaxaEntrega(new CepCoordenadas(new ClassPathResource("geo/cep-coordenadas.csv")), properties);
+
+        // Av. Paulista, 01310-100
+        restaurante = new Restaurante();
+        restaurante.setTaxaEntrega(new BigDecimal("5.00"));
+        restaurante.setLatitude(-23.5631);
+        restaurante.setLongitude(-46.6544);
+    }
+
+    @Test
+    @DisplayName("Deve somar à taxa do restaurante o acréscimo da faixa de distância até o CEP")
+    void calcular_CepDentroDasFaixas_DeveSomarAcrescimoDaFaixa() {
+        assertThat(calculadora.calcular(restaurante, "01310-999")).isEqualByComparingTo("5.00");  // ~0,2 km
+        assertThat(calculadora.calcular(restaurante, "05422-000")).isEqualByComparingTo("7.50");  // ~3,8 km
+        assertThat(calculadora.calcular(restaurante, "02012000")).isEqualByComparingTo("10.00");  // ~7,5 km
+    }
+
+    @Test
+    @DisplayName("Deve recusar CEP fora da área ou inválido")
+    void calcular_CepForaDaAreaOuInvalido_DeveLancarExcecao() {
+        assertThatThrownBy(() -> calculadora.calcular(restaurante, "13010-000"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("fora da área de entrega");
+        assertThatThrownBy(() -> calculadora.calcular(restaurante, "0131-100"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("CEP inválido");
+    }
+
+    @Test
+    @DisplayName("Deve cobrar só a taxa base para CEP fora da tabela de coordenadas")
+    void calcular_CepForaDaTabela_DeveRetornarTaxaBase() {
+        assertThat(calculadora.calcular(restaurante, "99999-999")).isEqualByComparingTo("5.00");
+    }
+
+    @Test
+    @DisplayName("Deve cobrar só a taxa base de restaurante sem coordenadas")
+    void calcular_RestauranteSemCoordenadas_DeveRetornarTaxaBase() {
+        restaurante.setLatitude(null);
+        restaurante.setLongitude(null);
+
+        assertThat(calculadora.calcular(restaurante, "13010-000")).isEqualByComparingTo("5.00");
+    }
+
+    private static TaxaEntregaProperties.Faixa faixa(double ateKm, String acrescimo) {
+        TaxaEntregaProperties.Faixa faixa = new TaxaEntregaProperties.Faixa();
+        faixa.setAteKm(ateKm);
+        faixa.setAcrescimo(new BigDecimal(acrescimo));
+        return faixa;
+    }
+}
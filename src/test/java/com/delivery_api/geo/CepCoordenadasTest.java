@@ -0,0 +1,37 @@
+package com.delivery_api.geo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class CepCoordenadasTest {
+
+    private final CepCoordenadas cepCoordenadas = new CepCoordenadas(new ClassPathResource("geo/cep-coordenadas.csv"));
+
+    @Test
+    @DisplayName("Deve preferir o CEP completo e cair para o setor quando não houver entrada própria")
+    void buscar_CepCompletoOuSetor_DeveRetornarCoordenada() {
+        assertThat(cepCoordenadas.buscar("01310-100")).hasValue(new Coordenada(-23.5631, -46.6544));
+        assertThat(cepCoordenadas.buscar("01310999")).hasValue(new Coordenada(-23.5614, -46.6559));
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio para CEP inválido ou fora da tabela")
+    void buscar_CepInvalidoOuDesconhecido_DeveRetornarVazio() {
+        assertThat(cepCoordenadas.buscar("99999-999")).isEmpty();
+        assertThat(cepCoordenadas.buscar("0131-100")).isEmpty();
+        assertThat(cepCoordenadas.buscar(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve calcular a distância até o CEP sem depender de Optional, com NaN para CEP desconhecido")
+    void distanciaKm_CepConhecidoOuDesconhecido_DeveRetornarDistanciaOuNaN() {
+        assertThat(cepCoordenadas.distanciaKm("05422-000", -23.5631, -46.6544)).isCloseTo(3.76, within(0.01));
+        assertThat(cepCoordenadas.distanciaKm("99999-999", -23.5631, -46.6544)).isNaN();
+        assertThat(CepCoordenadas.numero(" 01310-100 ")).isEqualTo(1310100);
+        assertThat(CepCoordenadas.numero("013101000")).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,33 @@
+package com.delivery_api.geo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EnderecoCidadeTest {
+
+    @Test
+    @DisplayName("Deve extrair a cidade que antecede a UF, normalizada")
+    void extrair_EnderecoComUf_DeveRetornarCidadeNormalizada() {
+        assertThat(EnderecoCidade.extrair("Av. Paulista, 1000 - Bela Vista, São Paulo - SP, 01310-100")).isEqualTo("sao paulo");
+        assertThat(EnderecoCidade.extrair("Rua Barão de Jaguara, 50, Centro, Campinas/SP")).isEqualTo("campinas");
+        assertThat(EnderecoCidade.extrair("Rua A, 10 - Icaraí - Niterói, RJ")).isEqualTo("niteroi");
+        assertThat(EnderecoCidade.extrair("Rua B, 7 - Centro, Embu-Guaçu-SP")).isEqualTo("embu guacu");
+        assertThat(EnderecoCidade.extrair("Rua C, 1, Santa Bárbara d'Oeste - SP")).isEqualTo("santa barbara d oeste");
+    }
+
+    @Test
+    @DisplayName("Deve retornar nulo quando o endereço não tem UF")
+    void extrair_EnderecoSemUf_DeveRetornarNulo() {
+        assertThat(EnderecoCidade.extrair("Rua das Flores, 123, Apto 45")).isNull();
+        assertThat(EnderecoCidade.extrair("Rua Sp, 10")).isNull();
+        assertThat(EnderecoCidade.extrair(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve normalizar o nome da cidade como digitado")
+    void normalizar_DeveIgnorarAcentosMaiusculasEEspacos() {
+        assertThat(EnderecoCidade.normalizar("  São   PAULO ")).isEqualTo("sao paulo");
+    }
+}
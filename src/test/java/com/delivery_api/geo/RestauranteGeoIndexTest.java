@@ -0,0 +1,85 @@
+package com.delivery_api.geo;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RestauranteGeoIndexTest {
+
+    private static final Coordenada PAULISTA = new Coordenada(-23.5631, -46.6544);
+
+    private RestauranteGeoIndex indice;
+
+    @BeforeEach
+    void setUp() {
+        indice = new RestauranteGeoIndex();
+        indice.atualizar(1L, -23.5614, -46.6559, true);   // ~0,25 km
+        indice.atualizar(2L, -23.5667, -46.6911, true);   // ~3,8 km
+        indice.atualizar(3L, -23.5849, -46.6812, true);   // ~3,7 km
+        indice.atualizar(4L, -22.9035, -43.1766, true);   // Rio de Janeiro
+        indice.atualizar(5L, -23.5620, -46.6550, false);  // inativo
+    }
+
+    @Test
+    @DisplayName("Deve retornar só os ativos dentro do raio, ordenados por distância")
+    void buscarNoRaio_DeveFiltrarEOrdenarPorDistancia() {
+        List<RestauranteGeoIndex.Resultado> resultados = indice.buscarNoRaio(PAULISTA, 5);
+
+        assertThat(resultados).extracting(RestauranteGeoIndex.Resultado::restauranteId).containsExactly(1L, 3L, 2L);
+        assertThat(resultados.get(0).distanciaKm()).isBetween(0.1, 0.4);
+        assertThat(indice.buscarNoRaio(PAULISTA, 1)).extracting(RestauranteGeoIndex.Resultado::restauranteId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Deve refletir mudança de endereço, desativação e remoção")
+    void atualizar_MudancasDoRestaurante_DevemAlterarOIndice() {
+        indice.atualizar(4L, -23.5630, -46.6540, true);   // mudou para perto da origem
+        indice.atualizar(1L, -23.5614, -46.6559, false);  // desativado
+        indice.remover(3L);
+
+        assertThat(indice.buscarNoRaio(PAULISTA, 5)).extracting(RestauranteGeoIndex.Resultado::restauranteId)
+                .containsExactly(4L, 2L);
+        assertThat(indice.tamanho()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve encontrar os k mais próximos igual a uma busca exaustiva")
+    void buscarMaisProximos_DeveCoincidirComBuscaExaustiva() {
+        RestauranteGeoIndex grande = new RestauranteGeoIndex();
+        Random random = new Random(42);
+        List<Coordenada> pontos = IntStream.range(0, 3000)
+                .mapToObj(i -> new Coordenada(-23.9 + random.nextDouble() * 0.8, -47.0 + random.nextDouble() * 0.8))
+                .toList();
+        for (int i = 0; i < pontos.size(); i++) {
+            grande.atualizar(i, pontos.get(i).latitude(), pontos.get(i).longitude(), true);
+        }
+
+        for (Coordenada origem : List.of(PAULISTA, new Coordenada(-23.95, -47.05), new Coordenada(-22.9, -43.2))) {
+            for (int k : new int[]{1, 10, 50}) {
+                List<Long> esperado = IntStream.range(0, pontos.size()).boxed()
+                        .sorted(Comparator.comparingDouble(i -> origem.distanciaKm(pontos.get(i))))
+                        .limit(k)
+                        .map(Integer::longValue)
+                        .toList();
+
+                assertThat(grande.buscarMaisProximos(origem, k))
+                        .extracting(RestauranteGeoIndex.Resultado::restauranteId)
+                        .containsExactlyElementsOf(esperado);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve devolver todos quando k é maior que o índice")
+    void buscarMaisProximos_KMaiorQueOIndice_DeveRetornarTodosOsAtivos() {
+        assertThat(indice.buscarMaisProximos(PAULISTA, 10)).extracting(RestauranteGeoIndex.Resultado::restauranteId)
+                .containsExactly(1L, 3L, 2L, 4L);
+    }
+}
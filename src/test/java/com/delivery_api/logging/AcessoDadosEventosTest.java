@@ -0,0 +1,94 @@
+package com.delivery_api.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.delivery_api.config.AcessoDadosEventosProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.KeyValuePair;
+import org.slf4j.event.Level;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AcessoDadosEventosTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(AcessoDadosEventos.class);
+    private final ListAppender<ILoggingEvent> logs = new ListAppender<>();
+    private AcessoDadosEventosProperties properties;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        logs.start();
+        logger.addAppender(logs);
+        properties = new AcessoDadosEventosProperties();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(logs);
+    }
+
+    @Test
+    @DisplayName("Deve contar todos os eventos e logar com os campos estruturados quando a taxa é 1")
+    void registrar_TaxaUm_DeveContarELogarCadaEvento() {
+        properties.setInvalidacao(new AcessoDadosEventosProperties.Amostragem(Level.INFO, 1));
+        AcessoDadosEventos eventos = new AcessoDadosEventos(properties, meterRegistry);
+
+        eventos.registrar(EventoAcessoDados.PEDIDO_CANCELADO, 42L);
+        eventos.registrar(EventoAcessoDados.PEDIDO_CANCELADO, 43L);
+
+        assertThat(contador(EventoAcessoDados.PEDIDO_CANCELADO)).isEqualTo(2);
+        assertThat(contador(EventoAcessoDados.PEDIDO_POR_ID)).isZero();
+        assertThat(logs.list).hasSize(2);
+        ILoggingEvent evento = logs.list.get(0);
+        assertThat(evento.getLevel()).isEqualTo(ch.qos.logback.classic.Level.INFO);
+        assertThat(evento.getKeyValuePairs()).extracting(par -> par.key + "=" + par.value)
+                .containsExactly("evento=INVALIDACAO", "cache=pedidos", "operacao=cancelarPedido", "chave=42");
+    }
+
+    @Test
+    @DisplayName("Deve contar sem logar quando a taxa é 0 e logar só a amostra quando é maior que 1")
+    void registrar_Amostragem_DeveLogarSoParteDosEventos() {
+        properties.setCacheMiss(new AcessoDadosEventosProperties.Amostragem(Level.INFO, 10));
+        properties.setInvalidacao(new AcessoDadosEventosProperties.Amostragem(Level.INFO, 0));
+        AcessoDadosEventos eventos = new AcessoDadosEventos(properties, meterRegistry);
+
+        for (int i = 0; i < 10_000; i++) {
+            eventos.registrar(EventoAcessoDados.PRODUTO_POR_ID, i);
+            eventos.registrar(EventoAcessoDados.PRODUTO_ATUALIZADO, i);
+        }
+
+        assertThat(contador(EventoAcessoDados.PRODUTO_POR_ID)).isEqualTo(10_000);
+        assertThat(contador(EventoAcessoDados.PRODUTO_ATUALIZADO)).isEqualTo(10_000);
+        assertThat(logs.list).hasSizeBetween(700, 1300)
+                .allMatch(evento -> evento.getKeyValuePairs().contains(new KeyValuePair("amostragem", 10)));
+    }
+
+    @Test
+    @DisplayName("Não deve contar nem logar quando desabilitado")
+    void registrar_Desabilitado_NaoDeveFazerNada() {
+        properties.setHabilitado(false);
+        properties.setCacheMiss(new AcessoDadosEventosProperties.Amostragem(Level.INFO, 1));
+        AcessoDadosEventos eventos = new AcessoDadosEventos(properties, meterRegistry);
+
+        eventos.registrar(EventoAcessoDados.CLIENTES_ATIVOS);
+
+        assertThat(contador(EventoAcessoDados.CLIENTES_ATIVOS)).isZero();
+        assertThat(logs.list).isEmpty();
+    }
+
+    private double contador(EventoAcessoDados evento) {
+        return meterRegistry.get("delivery_acesso_dados_total")
+                .tag("cache", evento.getCache())
+                .tag("operacao", evento.getOperacao())
+                .counter().count();
+    }
+}
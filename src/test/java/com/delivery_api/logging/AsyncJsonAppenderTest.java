@@ -0,0 +1,125 @@
+package com.delivery_api.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncJsonAppenderTest {
+
+    private final LoggerContext contexto = new LoggerContext();
+    private final SaidaBloqueada saida = new SaidaBloqueada();
+    private AsyncJsonAppender appender;
+
+    @BeforeEach
+    void setUp() {
+        JsonStreamingEncoder encoder = new JsonStreamingEncoder();
+        encoder.setContext(contexto);
+        encoder.start();
+        appender = new AsyncJsonAppender();
+        appender.setContext(contexto);
+        appender.setName("CONSOLE_JSON");
+        appender.setEncoder(encoder);
+        appender.setSaida(saida);
+    }
+
+    @Test
+    @DisplayName("Deve gravar os eventos na outra thread e os pendentes no encerramento")
+    void append_EventosComFilaLivre_DeveGravarTodos() {
+        saida.liberar.countDown();
+        appender.start();
+
+        for (int i = 0; i < 100; i++) {
+            appender.doAppend(evento(Level.INFO, "evento " + i));
+        }
+        appender.stop();
+
+        String[] linhas = saida.conteudo().split("\n");
+        assertThat(linhas).hasSize(100);
+        assertThat(linhas[99]).contains("\"message\":\"evento 99\"");
+        assertThat(appender.getGravados()).isEqualTo(100);
+        assertThat(appender.getDescartados()).isZero();
+        assertThat(appender.getTamanhoFila()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve descartar INFO acima do limiar e qualquer nível com a fila cheia, sem bloquear quem loga")
+    void append_FilaCheia_DeveDescartarEContar() throws Exception {
+        appender.setCapacidade(4);
+        appender.setLimiarDescarte(2);
+        appender.setTamanhoLote(1);
+        appender.start();
+
+        appender.doAppend(evento(Level.INFO, "gravando"));
+        assertThat(saida.entrou.await(5, TimeUnit.SECONDS)).isTrue();
+        appender.doAppend(evento(Level.INFO, "a"));
+        appender.doAppend(evento(Level.INFO, "b"));
+        appender.doAppend(evento(Level.INFO, "c"));
+        appender.doAppend(evento(Level.INFO, "descartado pelo limiar"));
+        appender.doAppend(evento(Level.WARN, "d"));
+        appender.doAppend(evento(Level.ERROR, "descartado com a fila cheia"));
+
+        assertThat(appender.getDescartados()).isEqualTo(2);
+        assertThat(appender.getTamanhoFila()).isEqualTo(4);
+
+        saida.liberar.countDown();
+        appender.stop();
+
+        assertThat(saida.conteudo()).doesNotContain("descartado");
+        assertThat(saida.conteudo().split("\n")).hasSize(5);
+        assertThat(appender.getGravados()).isEqualTo(5);
+        assertThat(appender.getAtrasoMs()).isGreaterThanOrEqualTo(0);
+    }
+
+    private LoggingEvent evento(Level nivel, String mensagem) {
+        LoggingEvent evento = new LoggingEvent(AsyncJsonAppenderTest.class.getName(),
+                contexto.getLogger("com.delivery_api.service.impl.PedidoServiceImpl"), nivel, mensagem, null, null);
+        evento.setMDCPropertyMap(Map.of("correlationId", "corr-1"));
+        return evento;
+    }
+
+    // Saída que segura a primeira escrita até ser liberada, para encher a fila
+    private static final class SaidaBloqueada extends OutputStream {
+
+        final CountDownLatch entrou = new CountDownLatch(1);
+        final CountDownLatch liberar = new CountDownLatch(1);
+        private final ByteArrayOutputStream destino = new ByteArrayOutputStream();
+
+        @Override
+        public void write(int b) {
+            destino.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            entrou.countDown();
+            try {
+                liberar.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            synchronized (destino) {
+                destino.write(b, off, len);
+            }
+        }
+
+        String conteudo() {
+            synchronized (destino) {
+                return destino.toString(StandardCharsets.UTF_8);
+            }
+        }
+    }
+}
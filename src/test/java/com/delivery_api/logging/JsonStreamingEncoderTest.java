@@ -0,0 +1,93 @@
+package com.delivery_api.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.KeyValuePair;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonStreamingEncoderTest {
+
+    private final LoggerContext contexto = new LoggerContext();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private JsonStreamingEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        contexto.setName("default");
+        encoder = new JsonStreamingEncoder();
+        encoder.setContext(contexto);
+        encoder.setZona(ZoneOffset.UTC);
+        encoder.start();
+    }
+
+    @Test
+    @DisplayName("Deve gravar os campos do JsonLayout, com o MDC aninhado, e os pares chave/valor no primeiro nível")
+    void encode_EventoComMdc_DeveGerarLinhaJson() throws Exception {
+        LoggingEvent evento = evento(Level.INFO, "Pedido {} confirmado", null, 42, Map.of("correlationId", "corr-1"));
+        evento.setTimeStamp(LocalDateTime.of(2025, 9, 4, 20, 30, 5, 7_000_000).toInstant(ZoneOffset.UTC).toEpochMilli());
+        evento.addKeyValuePair(new KeyValuePair("cache", "pedidos"));
+        evento.addKeyValuePair(new KeyValuePair("chave", 42L));
+
+        String linha = new String(encoder.encode(evento), StandardCharsets.UTF_8);
+
+        assertThat(linha).endsWith("}\n");
+        JsonNode json = objectMapper.readTree(linha);
+        assertThat(json.fieldNames()).toIterable()
+                .containsExactly("timestamp", "level", "thread", "mdc", "logger", "message", "context", "cache", "chave");
+        assertThat(json.get("timestamp").asText()).isEqualTo("2025-09-04 20:30:05.007");
+        assertThat(json.get("level").asText()).isEqualTo("INFO");
+        assertThat(json.get("thread").asText()).isEqualTo("http-nio-8080-exec-1");
+        assertThat(json.get("logger").asText()).isEqualTo("com.delivery_api.service.impl.PedidoServiceImpl");
+        assertThat(json.get("mdc").get("correlationId").asText()).isEqualTo("corr-1");
+        assertThat(json.get("chave").isNumber()).isTrue();
+        assertThat(json.get("message").asText()).isEqualTo("Pedido 42 confirmado");
+        assertThat(json.get("context").asText()).isEqualTo("default");
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar o prefixo da data e gravar a exceção com o stack trace")
+    void encode_EventosSeguidosComExcecao_DeveGerarUmaLinhaPorEvento() throws Exception {
+        long base = LocalDateTime.of(2025, 12, 31, 23, 59, 59, 998_000_000).toInstant(ZoneOffset.UTC).toEpochMilli();
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        for (int i = 0; i < 3; i++) {
+            LoggingEvent evento = evento(Level.ERROR, "Falha \"{}\"", new IllegalStateException("estoque"), i, Map.of());
+            evento.setTimeStamp(base + i);
+            encoder.encode(evento, saida);
+        }
+
+        String[] linhas = saida.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(linhas).hasSize(3).allMatch(linha -> linha.startsWith("{\"timestamp\""));
+        assertThat(objectMapper.readTree(linhas[0]).get("timestamp").asText()).isEqualTo("2025-12-31 23:59:59.998");
+        assertThat(objectMapper.readTree(linhas[1]).get("timestamp").asText()).isEqualTo("2025-12-31 23:59:59.999");
+        JsonNode ultima = objectMapper.readTree(linhas[2]);
+        assertThat(ultima.get("timestamp").asText()).isEqualTo("2026-01-01 00:00:00.000");
+        assertThat(ultima.get("message").asText()).isEqualTo("Falha \"2\"");
+        assertThat(ultima.get("exception").asText())
+                .startsWith("java.lang.IllegalStateException: estoque")
+                .contains("JsonStreamingEncoderTest");
+        assertThat(ultima.has("mdc")).isFalse();
+    }
+
+    private LoggingEvent evento(Level nivel, String mensagem, Throwable erro, Object argumento,
+                                Map<String, String> mdc) {
+        LoggingEvent evento = new LoggingEvent(JsonStreamingEncoderTest.class.getName(),
+                contexto.getLogger("com.delivery_api.service.impl.PedidoServiceImpl"), nivel, mensagem, erro,
+                new Object[]{argumento});
+        evento.setThreadName("http-nio-8080-exec-1");
+        evento.setMDCPropertyMap(mdc);
+        return evento;
+    }
+}
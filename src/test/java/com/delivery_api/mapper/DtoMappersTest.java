@@ -0,0 +1,124 @@
+package com.delivery_api.mapper;
+
+import com.delivery_api.dto.ClienteResponseDTO;
+import com.delivery_api.dto.PedidoResponseDTO;
+import com.delivery_api.dto.ProdutoResponseDTO;
+import com.delivery_api.dto.RestauranteResponseDTO;
+import com.delivery_api.enums.StatusPedido;
+import com.delivery_api.model.Cliente;
+import com.delivery_api.model.ItemPedido;
+import com.delivery_api.model.Pedido;
+import com.delivery_api.model.Produto;
+import com.delivery_api.model.Restaurante;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Garante que os mappers escritos à mão produzem exatamente o mesmo resultado
+ * que o ModelMapper padrão que eles substituem.
+ */
+class DtoMappersTest {
+
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    private Restaurante restaurante;
+    private Cliente cliente;
+
+    @BeforeEach
+    void setUp() {
+        restaurante = new Restaurante("Cantina da Mama", "Italiana", "Rua das Pizzas, 123",
+                "11987654321", new BigDecimal("5.00"), true, 45, "18:00-23:00");
+        restaurante.setId(1L);
+
+        cliente = new Cliente("Ana Souza", "ana@email.com", "11912345678", "Rua das Palmeiras, 45", true);
+        cliente.setId(7L);
+    }
+
+    @Nested
+    @DisplayName("PedidoMapper")
+    class PedidoMapperTests {
+
+        private final PedidoMapper pedidoMapper = new PedidoMapper();
+
+        @Test
+        @DisplayName("Deve gerar o mesmo DTO que o ModelMapper para um pedido de 50 itens")
+        void toResponseDTO_PedidoCom50Itens_DeveSerIgualAoModelMapper() {
+            Pedido pedido = novoPedido(50);
+
+            PedidoResponseDTO esperado = modelMapper.map(pedido, PedidoResponseDTO.class);
+            PedidoResponseDTO dto = pedidoMapper.toResponseDTO(pedido);
+
+            assertThat(dto).usingRecursiveComparison().isEqualTo(esperado);
+            assertThat(dto.getItens()).hasSize(50);
+            assertThat(dto.getItens().get(0).getProdutoId()).isEqualTo(1000L);
+        }
+
+        @Test
+        @DisplayName("Deve manter cliente e restaurante nulos quando o pedido não os possui")
+        void toResponseDTO_SemClienteERestaurante_DeveSerIgualAoModelMapper() {
+            Pedido pedido = new Pedido();
+            pedido.setId(5L);
+            pedido.setStatus(StatusPedido.PENDENTE);
+
+            assertThat(pedidoMapper.toResponseDTO(pedido))
+                    .usingRecursiveComparison()
+                    .isEqualTo(modelMapper.map(pedido, PedidoResponseDTO.class));
+        }
+    }
+
+    @Test
+    @DisplayName("ProdutoMapper deve gerar o mesmo DTO que o ModelMapper, incluindo o restauranteId")
+    void produtoMapper_DeveSerIgualAoModelMapper() {
+        Produto produto = new Produto(10L, "Pizza", "Mussarela", new BigDecimal("45.90"), "Pizzas", true, restaurante, null);
+
+        ProdutoResponseDTO dto = new ProdutoMapper().toResponseDTO(produto);
+
+        assertThat(dto).usingRecursiveComparison().isEqualTo(modelMapper.map(produto, ProdutoResponseDTO.class));
+        assertThat(dto.getRestauranteId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("RestauranteMapper deve gerar o mesmo DTO que o ModelMapper")
+    void restauranteMapper_DeveSerIgualAoModelMapper() {
+        assertThat(new RestauranteMapper().toResponseDTO(restaurante))
+                .usingRecursiveComparison()
+                .isEqualTo(modelMapper.map(restaurante, RestauranteResponseDTO.class));
+    }
+
+    @Test
+    @DisplayName("ClienteMapper deve gerar o mesmo DTO que o ModelMapper")
+    void clienteMapper_DeveSerIgualAoModelMapper() {
+        assertThat(new ClienteMapper().toResponseDTO(cliente))
+                .usingRecursiveComparison()
+                .isEqualTo(modelMapper.map(cliente, ClienteResponseDTO.class));
+    }
+
+    private Pedido novoPedido(int quantidadeItens) {
+        Pedido pedido = new Pedido();
+        pedido.setId(99L);
+        pedido.setCliente(cliente);
+        pedido.setRestaurante(restaurante);
+        pedido.setObservacoes("Sem cebola");
+        for (int i = 0; i < quantidadeItens; i++) {
+            Produto produto = new Produto(1000L + i, "Produto " + i, "Descrição", new BigDecimal("10.00"),
+                    "Lanches", true, restaurante, null);
+            ItemPedido item = new ItemPedido();
+            item.setId(5000L + i);
+            item.setProduto(produto);
+            item.setQuantidade(1 + i % 3);
+            item.setPrecoUnitario(produto.getPreco());
+            item.calcularSubtotal();
+            pedido.adicionarItem(item);
+        }
+        pedido.confirmar();
+        return pedido;
+    }
+}
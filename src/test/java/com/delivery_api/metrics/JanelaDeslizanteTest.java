@@ -0,0 +1,122 @@
+package com.delivery_api.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JanelaDeslizanteTest {
+
+    private RelogioManual relogio;
+    private JanelaDeslizante janela;
+
+    @BeforeEach
+    void setUp() {
+        relogio = new RelogioManual();
+        janela = new JanelaDeslizante(Duration.ofMinutes(15), relogio);
+    }
+
+    @Test
+    @DisplayName("Deve somar só os segundos dentro de cada janela")
+    void resumir_ChamadasEmMomentosDiferentes_DeveSomarSoAsDaJanela() {
+        for (int i = 0; i < 10; i++) {
+            janela.registrar(TimeUnit.MILLISECONDS.toNanos(10), true);
+        }
+        relogio.avancar(Duration.ofMinutes(3));
+        for (int i = 0; i < 30; i++) {
+            janela.registrar(TimeUnit.MILLISECONDS.toNanos(10), false);
+        }
+
+        EstatisticaJanela umMinuto = janela.resumir(Duration.ofMinutes(1), 0.99);
+        EstatisticaJanela cincoMinutos = janela.resumir(Duration.ofMinutes(5), 0.99);
+
+        assertThat(umMinuto.total()).isEqualTo(30);
+        assertThat(umMinuto.taxaErro()).isZero();
+        assertThat(cincoMinutos.total()).isEqualTo(40);
+        assertThat(cincoMinutos.erros()).isEqualTo(10);
+        assertThat(cincoMinutos.taxaErro()).isEqualTo(0.25);
+    }
+
+    @Test
+    @DisplayName("Deve descartar o balde de uma volta anterior do anel ao gravar no mesmo segundo do anel")
+    void registrar_DepoisDeUmaVoltaCompleta_DeveZerarOBalde() {
+        janela.registrar(TimeUnit.MILLISECONDS.toNanos(10), true);
+        relogio.avancar(Duration.ofMinutes(15));
+        janela.registrar(TimeUnit.MILLISECONDS.toNanos(10), false);
+
+        EstatisticaJanela resumo = janela.resumir(Duration.ofMinutes(15), 0.99);
+
+        assertThat(resumo.total()).isEqualTo(1);
+        assertThat(resumo.erros()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve mostrar as chamadas lentas no p99 da janela")
+    void resumir_CaudaLenta_DeveAparecerNoP99() {
+        for (int i = 0; i < 98; i++) {
+            janela.registrar(TimeUnit.MILLISECONDS.toNanos(10), false);
+        }
+        janela.registrar(TimeUnit.SECONDS.toNanos(2), false);
+        janela.registrar(TimeUnit.SECONDS.toNanos(2), false);
+
+        EstatisticaJanela resumo = janela.resumir(Duration.ofMinutes(1), 0.99);
+
+        // Limite superior da faixa: até 25% acima do valor gravado
+        assertThat(resumo.percentilMs()).isBetween(2000.0, 2500.0);
+        assertThat(janela.resumir(Duration.ofMinutes(1), 0.5).percentilMs()).isBetween(10.0, 12.5);
+    }
+
+    @Test
+    @DisplayName("Deve colocar cada valor numa faixa cujo limite superior o cobre com até 25% de folga")
+    void faixa_ValoresVariados_DeveRespeitarOLimiteSuperior() {
+        for (long micros : new long[]{0, 1, 7, 8, 9, 15, 16, 100, 1_000, 123_456, 10_000_000}) {
+            int faixa = JanelaDeslizante.faixa(micros);
+            assertThat(JanelaDeslizante.limiteSuperior(faixa)).isGreaterThanOrEqualTo(micros)
+                    .isLessThanOrEqualTo(Math.max(micros + micros / 4, 7));
+            if (faixa > 0) {
+                assertThat(JanelaDeslizante.limiteSuperior(faixa - 1)).isLessThan(micros);
+            }
+        }
+        assertThat(JanelaDeslizante.faixa(Long.MAX_VALUE)).isEqualTo(JanelaDeslizante.FAIXAS - 1);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar janela maior que o horizonte")
+    void resumir_JanelaForaDoHorizonte_DeveLancarExcecao() {
+        assertThatThrownBy(() -> janela.resumir(Duration.ofMinutes(30), 0.99))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static final class RelogioManual extends Clock {
+
+        private Instant agora = Instant.parse("2025-09-04T20:30:00.500Z");
+
+        void avancar(Duration duracao) {
+            agora = agora.plus(duracao);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return agora;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.delivery_api.metrics;
+
+import com.delivery_api.config.LatenciaProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LatenciaAspectTest {
+
+    private LatenciaRegistro latenciaRegistro;
+    private Operacoes operacoes;
+
+    @BeforeEach
+    void setUp() {
+        latenciaRegistro = new LatenciaRegistro(new LatenciaProperties(), new SimpleMeterRegistry());
+        LatenciaAspect aspect = new LatenciaAspect();
+        ReflectionTestUtils.setField(aspect, "latenciaRegistro", latenciaRegistro);
+
+        AspectJProxyFactory fabrica = new AspectJProxyFactory(new Operacoes());
+        fabrica.addAspect(aspect);
+        operacoes = fabrica.getProxy();
+    }
+
+    @Test
+    @DisplayName("Deve medir os métodos anotados, inclusive quando lançam exceção")
+    void medir_MetodosAnotados_DeveGravarNoTimerDaOperacao() {
+        assertThat(operacoes.criar()).isEqualTo("criado");
+        assertThatThrownBy(operacoes::cancelar).isInstanceOf(IllegalStateException.class);
+        operacoes.semMedida();
+
+        assertThat(latenciaRegistro.timer(OperacaoLatencia.PEDIDO_CRIACAO).count()).isEqualTo(1);
+        assertThat(latenciaRegistro.timer(OperacaoLatencia.PEDIDO_CANCELAMENTO).count()).isEqualTo(1);
+        assertThat(latenciaRegistro.timer(OperacaoLatencia.PEDIDO_STATUS).count()).isZero();
+    }
+
+    static class Operacoes {
+
+        @MedirLatencia(OperacaoLatencia.PEDIDO_CRIACAO)
+        public String criar() {
+            return "criado";
+        }
+
+        @MedirLatencia(OperacaoLatencia.PEDIDO_CANCELAMENTO)
+        public void cancelar() {
+            throw new IllegalStateException("Pedido não pode ser cancelado");
+        }
+
+        public void semMedida() {
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.delivery_api.metrics;
+
+import com.delivery_api.config.LatenciaProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LatenciaRegistroTest {
+
+    private LatenciaProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LatenciaProperties();
+        properties.setSlos(Map.of("pedido-criacao", List.of(Duration.ofMillis(100), Duration.ofMillis(500))));
+    }
+
+    @Test
+    @DisplayName("Deve mostrar a cauda da latência nos percentis e a fração dentro de cada SLO")
+    void resumo_CaudaLenta_DeveAparecerNosPercentisENasSlos() {
+        LatenciaRegistro registro = new LatenciaRegistro(properties, new SimpleMeterRegistry());
+
+        // 95 chamadas de 10ms e 5 de 2s: a média (~110ms) não mostra as lentas, o p99 mostra
+        for (int i = 0; i < 95; i++) {
+            registro.registrar(OperacaoLatencia.PEDIDO_CRIACAO, TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        for (int i = 0; i < 5; i++) {
+            registro.registrar(OperacaoLatencia.PEDIDO_CRIACAO, TimeUnit.SECONDS.toNanos(2));
+        }
+
+        LatenciaResumo resumo = registro.resumo().get("pedido-criacao");
+        assertThat(resumo.contagem()).isEqualTo(100);
+        assertThat(resumo.mediaMs()).isCloseTo(109.5, within(0.1));
+        assertThat(resumo.percentisMs()).containsOnlyKeys("p50", "p95", "p99");
+        assertThat(resumo.percentisMs().get("p50")).isCloseTo(10.0, within(1.0));
+        assertThat(resumo.percentisMs().get("p99")).isGreaterThan(1900.0);
+        assertThat(resumo.slos()).containsExactly(Map.entry("100ms", 0.95), Map.entry("500ms", 0.95));
+        assertThat(registro.percentilMs(OperacaoLatencia.PEDIDO_CRIACAO, 0.99)).isGreaterThan(1900.0);
+        assertThat(registro.percentilMs(OperacaoLatencia.PEDIDO_CRIACAO, 0.75)).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve usar as SLOs padrão nas operações sem configuração própria")
+    void resumo_OperacaoSemSlo_DeveUsarSlosPadrao() {
+        LatenciaRegistro registro = new LatenciaRegistro(properties, new SimpleMeterRegistry());
+
+        registro.registrar(OperacaoLatencia.AUTH_LOGIN, TimeUnit.MILLISECONDS.toNanos(300));
+
+        assertThat(registro.resumo().get("auth-login").slos())
+                .containsExactly(Map.entry("100ms", 0.0), Map.entry("250ms", 0.0),
+                        Map.entry("500ms", 1.0), Map.entry("1000ms", 1.0));
+    }
+
+    @Test
+    @DisplayName("Deve publicar o histograma com as SLOs no Prometheus sem conflito entre as operações")
+    void registrar_Prometheus_DevePublicarBuckets() {
+        PrometheusMeterRegistry prometheus = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        LatenciaRegistro registro = new LatenciaRegistro(properties, prometheus);
+
+        registro.registrar(OperacaoLatencia.PEDIDO_CRIACAO, TimeUnit.MILLISECONDS.toNanos(40));
+        registro.registrar(OperacaoLatencia.PEDIDO_STATUS, TimeUnit.MILLISECONDS.toNanos(5));
+
+        String saida = prometheus.scrape();
+        assertThat(saida)
+                .contains("delivery_pedido_processamento_seconds_bucket{operacao=\"criar\",le=\"0.1\"} 1")
+                .contains("delivery_pedido_processamento_seconds_count{operacao=\"atualizar_status\"} 1")
+                .doesNotContain("quantile=");
+        // No Prometheus, os percentis saem dos buckets; os da aplicação continuam para o dashboard e os alertas
+        assertThat(registro.percentilMs(OperacaoLatencia.PEDIDO_CRIACAO, 0.99)).isCloseTo(40.0, within(1.0));
+    }
+}
@@ -0,0 +1,154 @@
+package com.delivery_api.metrics;
+
+import com.delivery_api.config.LatenciaProperties;
+import com.delivery_api.config.PainelProperties;
+import com.delivery_api.service.AlertService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PainelMetricasPublicadorTest {
+
+    private PainelMetricasPublicador publicador;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AlertService alertService = mock(AlertService.class);
+        when(alertService.alertasAtivos()).thenReturn(List.of());
+        PainelProperties properties = new PainelProperties();
+        // Sem publicações do agendador durante o teste: só as chamadas explícitas a publicar()
+        properties.setIntervalo(Duration.ofHours(1));
+        properties.setThreadsEnvio(2);
+        publicador = new PainelMetricasPublicador(meterRegistry,
+                new LatenciaRegistro(new LatenciaProperties(), meterRegistry), alertService, properties,
+                new ObjectMapper());
+        publicador.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        publicador.stop();
+    }
+
+    @Test
+    @DisplayName("Deve enviar o mesmo JSON, serializado uma vez, a todos os assinantes")
+    void publicar_DoisAssinantes_DeveEnviarOMesmoJson() throws Exception {
+        EmitterGravado primeiro = new EmitterGravado(2, null);
+        EmitterGravado segundo = new EmitterGravado(2, null);
+        publicador.assinar(primeiro);
+        publicador.assinar(segundo);
+        // Snapshot inicial gravado; senão o da publicação o substituiria
+        aguardar(primeiro, 1);
+        aguardar(segundo, 1);
+
+        publicador.publicar();
+
+        assertThat(primeiro.completos.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(segundo.completos.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(primeiro.recebidos.get(1)).isSameAs(segundo.recebidos.get(1));
+        assertThat(primeiro.recebidos.get(1)).contains("\"pedidos_total\"", "\"latencias\"", "\"pedido-criacao\"",
+                "\"p99\"", "\"alertas_ativos\"");
+    }
+
+    @Test
+    @DisplayName("Não deve bloquear o produtor nem os outros assinantes com um cliente lento")
+    void publicar_AssinanteLento_DeveSubstituirSnapshotsSemBloquear() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        EmitterGravado lento = new EmitterGravado(1, liberar);
+        EmitterGravado rapido = new EmitterGravado(6, null);
+        publicador.assinar(lento);
+        publicador.assinar(rapido);
+        assertThat(lento.entrou.await(5, TimeUnit.SECONDS)).isTrue();
+        aguardar(rapido, 1);
+
+        for (int i = 0; i < 5; i++) {
+            publicador.publicar();
+            // Espera o rápido gravar antes do próximo, para ele receber cada snapshot
+            aguardar(rapido, i + 2);
+        }
+        assertThat(rapido.completos.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(lento.recebidos).isEmpty();
+
+        liberar.countDown();
+
+        // O lento recebe o snapshot inicial e o mais recente; os 4 intermediários são substituídos
+        aguardar(lento, 2);
+        assertThat(lento.recebidos).hasSize(2);
+        assertThat(lento.recebidos.get(1)).isSameAs(rapido.recebidos.get(5));
+        assertThat(publicador.getSubstituidos()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Deve remover o assinante quando a gravação falha")
+    void publicar_ClienteDesconectado_DeveRemoverAssinante() throws Exception {
+        EmitterGravado desconectado = new EmitterGravado(1, null) {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                super.send(builder);
+                throw new IOException("Broken pipe");
+            }
+        };
+        publicador.assinar(desconectado);
+
+        assertThat(desconectado.completos.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 50 && publicador.getAssinantes() > 0; i++) {
+            Thread.sleep(10);
+        }
+        assertThat(publicador.getAssinantes()).isZero();
+    }
+
+    private static void aguardar(EmitterGravado emitter, int quantidade) throws InterruptedException {
+        for (int i = 0; i < 500 && emitter.recebidos.size() < quantidade; i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static class EmitterGravado extends SseEmitter {
+
+        final List<String> recebidos = new CopyOnWriteArrayList<>();
+        final CountDownLatch entrou = new CountDownLatch(1);
+        final CountDownLatch completos;
+        private final CountDownLatch liberar;
+
+        EmitterGravado(int esperados, CountDownLatch liberar) {
+            this.completos = new CountDownLatch(esperados);
+            this.liberar = liberar;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            entrou.countDown();
+            if (liberar != null) {
+                try {
+                    liberar.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            for (ResponseBodyEmitter.DataWithMediaType dado : builder.build()) {
+                if (MediaType.APPLICATION_JSON.equals(dado.getMediaType())) {
+                    recebidos.add((String) dado.getData());
+                }
+            }
+            completos.countDown();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.delivery_api.repository;
+
+import com.delivery_api.model.Cliente;
+import com.delivery_api.projection.ClienteCidade;
+import com.delivery_api.projection.ClienteEndereco;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.sql.init.mode=never")
+class ClienteRepositoryCidadeTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    private Cliente paulistano;
+    private Cliente campineiro;
+    private Cliente semUf;
+
+    @BeforeEach
+    void setUp() {
+        paulistano = entityManager.persist(new Cliente("Ana", "ana@email.com", null, "Av. Paulista, 1000 - São Paulo - SP", true));
+        entityManager.persist(new Cliente("Bia", "bia@email.com", null, "Rua Augusta, 5, São Paulo/SP", false));
+        campineiro = entityManager.persist(new Cliente("Caio", "caio@email.com", null, "Rua Barão, 50, Campinas/SP", true));
+        semUf = entityManager.persist(new Cliente("Davi", "davi@email.com", null, "Rua das Flores, 123", true));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Deve derivar a cidade do endereço ao gravar e buscar pela cidade como digitada")
+    void findByCidade_DeveUsarCidadeDerivadaDoEndereco() {
+        assertThat(entityManager.find(Cliente.class, paulistano.getId()).getCidade()).isEqualTo("sao paulo");
+        assertThat(clienteRepository.findByCidade("SÃO PAULO")).extracting(Cliente::getId).containsExactly(paulistano.getId());
+        // Antes, o LIKE no endereço também trazia quem só tinha "Paulo" no nome da rua
+        assertThat(clienteRepository.findByCidade("Paulo")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve agrupar os clientes ativos de várias cidades em uma consulta")
+    void findIdsAtivosPorCidades_DeveRetornarSoAtivosOrdenadosPorCidade() {
+        List<ClienteCidade> resultado = clienteRepository.findIdsAtivosPorCidades(List.of("sao paulo", "campinas", "recife"));
+
+        assertThat(resultado).containsExactly(
+                new ClienteCidade("campinas", campineiro.getId()),
+                new ClienteCidade("sao paulo", paulistano.getId()));
+    }
+
+    @Test
+    @DisplayName("Deve listar em lotes os clientes sem cidade e gravar a cidade em massa")
+    void findSemCidadeEAtualizarCidade_DevePreencherPorLote() {
+        clienteRepository.atualizarCidade(null, List.of(paulistano.getId(), campineiro.getId()));
+
+        List<ClienteEndereco> primeiroLote = clienteRepository.findSemCidadeAposId(0, Limit.of(2));
+        assertThat(primeiroLote).extracting(ClienteEndereco::id).containsExactly(paulistano.getId(), campineiro.getId());
+        List<ClienteEndereco> segundoLote = clienteRepository.findSemCidadeAposId(campineiro.getId(), Limit.of(2));
+        assertThat(segundoLote).extracting(ClienteEndereco::id).containsExactly(semUf.getId());
+
+        assertThat(clienteRepository.atualizarCidade("campinas", List.of(campineiro.getId()))).isEqualTo(1);
+        entityManager.clear();
+        assertThat(clienteRepository.findByCidade("Campinas")).extracting(Cliente::getId).containsExactly(campineiro.getId());
+    }
+}
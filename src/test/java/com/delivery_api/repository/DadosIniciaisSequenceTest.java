@@ -0,0 +1,61 @@
+package com.delivery_api.repository;
+
+import com.delivery_api.enums.StatusPedido;
+import com.delivery_api.model.Cliente;
+import com.delivery_api.model.ItemPedido;
+import com.delivery_api.model.Pedido;
+import com.delivery_api.model.Produto;
+import com.delivery_api.model.Restaurante;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Com o data.sql: os IDs explícitos da carga inicial não podem colidir com os gerados pelas sequences
+@DataJpaTest(properties = "spring.sql.init.mode=always")
+class DadosIniciaisSequenceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Test
+    @DisplayName("Deve inserir novas entidades por cima da carga inicial sem repetir IDs")
+    void persistir_ComCargaInicial_DeveGerarIdsDepoisDosExistentes() {
+        assertThat(clienteRepository.findById(4L)).isPresent();
+
+        Cliente cliente = entityManager.persist(new Cliente("Novo Cliente", "novo@email.com", null, "Rua Nova, 1", true));
+        Restaurante restaurante = entityManager.persist(new Restaurante("Novo Restaurante", "Italiana", "Rua Nova, 2",
+                "11911110000", new BigDecimal("5.00"), true, 30, "10:00-22:00"));
+        Produto produto = entityManager.persist(new Produto(null, "Novo Produto", "Descrição",
+                new BigDecimal("10.00"), "Novos", true, restaurante, null));
+
+        Pedido pedido = new Pedido();
+        pedido.setCliente(cliente);
+        pedido.setRestaurante(restaurante);
+        pedido.setDataPedido(LocalDateTime.now());
+        pedido.setStatus(StatusPedido.PENDENTE);
+        ItemPedido item = new ItemPedido();
+        item.setProduto(produto);
+        item.setQuantidade(1);
+        item.setPrecoUnitario(produto.getPreco());
+        item.calcularSubtotal();
+        pedido.adicionarItem(item);
+        entityManager.persist(pedido);
+        entityManager.flush();
+
+        assertThat(cliente.getId()).isGreaterThan(4L);
+        assertThat(restaurante.getId()).isGreaterThan(3L);
+        assertThat(produto.getId()).isGreaterThan(4L);
+        assertThat(pedido.getId()).isGreaterThan(2L);
+        assertThat(item.getId()).isGreaterThan(3L);
+    }
+}
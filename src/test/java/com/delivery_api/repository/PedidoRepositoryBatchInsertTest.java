@@ -0,0 +1,88 @@
+package com.delivery_api.repository;
+
+import com.delivery_api.enums.StatusPedido;
+import com.delivery_api.model.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class PedidoRepositoryBatchInsertTest {
+
+    private static final int QUANTIDADE_ITENS = 50;
+    private static final int BATCH_SIZE = 20;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PedidoRepository pedidoRepository;
+
+    private Cliente cliente;
+    private Restaurante restaurante;
+    private List<Produto> produtos;
+
+    @BeforeEach
+    void setUp() {
+        cliente = entityManager.persist(new Cliente("Cliente Lote", "lote@email.com", "11999990000", "Rua do Lote, 50", true));
+        restaurante = entityManager.persist(new Restaurante("Restaurante Lote", "Italiana", "Rua do Lote, 1",
+                "11911110000", new BigDecimal("5.00"), true, 30, "10:00-22:00"));
+
+        produtos = new ArrayList<>();
+        for (int i = 0; i < QUANTIDADE_ITENS; i++) {
+            produtos.add(entityManager.persist(new Produto(null, "Produto " + i, "Descrição " + i,
+                    new BigDecimal("10.00"), "Lote", true, restaurante, null)));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Deve inserir um pedido de 50 itens usando lotes JDBC em vez de um INSERT por item")
+    void salvarPedidoCom50Itens_DeveAgruparInsertsEmLotes() {
+        Pedido pedido = new Pedido();
+        pedido.setCliente(entityManager.find(Cliente.class, cliente.getId()));
+        pedido.setRestaurante(entityManager.find(Restaurante.class, restaurante.getId()));
+        pedido.setDataPedido(LocalDateTime.now());
+        pedido.setStatus(StatusPedido.PENDENTE);
+        for (Produto produto : produtos) {
+            ItemPedido item = new ItemPedido();
+            item.setProduto(entityManager.getEntityManager().getReference(Produto.class, produto.getId()));
+            item.setQuantidade(1);
+            item.setPrecoUnitario(produto.getPreco());
+            item.calcularSubtotal();
+            pedido.adicionarItem(item);
+        }
+
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        pedidoRepository.save(pedido);
+        entityManager.flush();
+
+        // 1 pedido + 50 itens continuam sendo 51 linhas inseridas...
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(QUANTIDADE_ITENS + 1);
+
+        // ...mas enviadas em poucos statements: uma ida a cada sequence, o INSERT do pedido
+        // e ceil(50 / batch_size) lotes de itens. Com IDENTITY seriam 51 statements.
+        long lotesDeItens = (QUANTIDADE_ITENS + BATCH_SIZE - 1) / BATCH_SIZE;
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2 + 1 + lotesDeItens);
+        assertThat(pedido.getItens()).allSatisfy(item -> assertThat(item.getId()).isNotNull());
+    }
+}
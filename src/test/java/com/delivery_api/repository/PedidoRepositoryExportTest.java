@@ -0,0 +1,103 @@
+package com.delivery_api.repository;
+
+import com.delivery_api.enums.StatusPedido;
+import com.delivery_api.model.Cliente;
+import com.delivery_api.model.ItemPedido;
+import com.delivery_api.model.Pedido;
+import com.delivery_api.model.Produto;
+import com.delivery_api.model.Restaurante;
+import com.delivery_api.projection.PedidoExportLinha;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest(properties = "spring.sql.init.mode=never")
+class PedidoRepositoryExportTest {
+
+    private static final LocalDateTime INICIO = LocalDateTime.of(2025, 9, 1, 0, 0);
+    private static final LocalDateTime FIM = LocalDateTime.of(2025, 10, 1, 0, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PedidoRepository pedidoRepository;
+
+    private Pedido comItens;
+    private Pedido semItens;
+
+    @BeforeEach
+    void setUp() {
+        Cliente cliente = entityManager.persist(new Cliente("Cliente Export", "export@email.com", "11999990003", "Rua do Export, 1", true));
+        Restaurante restaurante = entityManager.persist(new Restaurante("Restaurante Export", "Italiana", "Rua do Export, 2",
+                "11911110004", new BigDecimal("5.00"), true, 30, "10:00-22:00"));
+        Produto pizza = entityManager.persist(new Produto(null, "Pizza", "Mussarela", new BigDecimal("40.00"), "PIZZA", true, restaurante, null));
+        Produto suco = entityManager.persist(new Produto(null, "Suco", "Laranja", new BigDecimal("9.00"), "BEBIDAS", true, restaurante, null));
+
+        comItens = novoPedido(cliente, restaurante, LocalDateTime.of(2025, 9, 30, 23, 0));
+        comItens.adicionarItem(novoItem(pizza, 2));
+        comItens.adicionarItem(novoItem(suco, 1));
+        entityManager.persist(comItens);
+        semItens = entityManager.persist(novoPedido(cliente, restaurante, LocalDateTime.of(2025, 9, 1, 0, 0)));
+        entityManager.persist(novoPedido(cliente, restaurante, FIM));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Deve trazer uma linha por item, os pedidos sem itens e só o período pedido, em ordem de data")
+    void streamParaExportacao_DeveRetornarLinhasAgrupadasPorPedido() {
+        List<PedidoExportLinha> linhas;
+        try (Stream<PedidoExportLinha> stream = pedidoRepository.streamParaExportacao(INICIO, FIM, null)) {
+            linhas = stream.toList();
+        }
+
+        assertThat(linhas).extracting(PedidoExportLinha::pedidoId)
+                .containsExactly(semItens.getId(), comItens.getId(), comItens.getId());
+        assertThat(linhas.get(0).itemId()).isNull();
+        assertThat(linhas.subList(1, 3)).extracting(PedidoExportLinha::produtoNome, PedidoExportLinha::quantidade)
+                .containsExactlyInAnyOrder(
+                        tuple("Pizza", 2),
+                        tuple("Suco", 1));
+        // São projeções: nenhuma entidade fica no contexto de persistência durante a leitura.
+        assertThat(entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve aplicar o filtro de status")
+    void streamParaExportacao_ComStatus_DeveFiltrar() {
+        try (Stream<PedidoExportLinha> stream = pedidoRepository.streamParaExportacao(INICIO, FIM, StatusPedido.CANCELADO)) {
+            assertThat(stream).isEmpty();
+        }
+    }
+
+    private Pedido novoPedido(Cliente cliente, Restaurante restaurante, LocalDateTime data) {
+        Pedido pedido = new Pedido();
+        pedido.setCliente(cliente);
+        pedido.setRestaurante(restaurante);
+        pedido.setStatus(StatusPedido.ENTREGUE);
+        pedido.setDataPedido(data);
+        return pedido;
+    }
+
+    private ItemPedido novoItem(Produto produto, int quantidade) {
+        ItemPedido item = new ItemPedido();
+        item.setProduto(produto);
+        item.setQuantidade(quantidade);
+        item.setPrecoUnitario(produto.getPreco());
+        item.calcularSubtotal();
+        return item;
+    }
+}
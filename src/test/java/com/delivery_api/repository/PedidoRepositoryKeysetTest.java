@@ -0,0 +1,78 @@
+package com.delivery_api.repository;
+
+import com.delivery_api.enums.StatusPedido;
+import com.delivery_api.model.Cliente;
+import com.delivery_api.model.Pedido;
+import com.delivery_api.model.Restaurante;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.sql.init.mode=never")
+class PedidoRepositoryKeysetTest {
+
+    private static final int TAMANHO_PAGINA = 3;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PedidoRepository pedidoRepository;
+
+    @BeforeEach
+    void setUp() {
+        Cliente cliente = entityManager.persist(new Cliente("Cliente Cursor", "cursor@email.com", "11999990001", "Rua do Cursor, 1", true));
+        Restaurante restaurante = entityManager.persist(new Restaurante("Restaurante Cursor", "Italiana", "Rua do Cursor, 2",
+                "11911110001", new BigDecimal("5.00"), true, 30, "10:00-22:00"));
+
+        // Vários pedidos no mesmo instante: o ID precisa desempatar sem pular nem repetir nenhum.
+        LocalDateTime base = LocalDateTime.of(2025, 9, 4, 20, 0);
+        int[] minutos = {0, 10, 10, 10, 20, 30, 30, 40};
+        for (int minuto : minutos) {
+            Pedido pedido = new Pedido();
+            pedido.setCliente(cliente);
+            pedido.setRestaurante(restaurante);
+            pedido.setStatus(StatusPedido.PENDENTE);
+            pedido.setDataPedido(base.plusMinutes(minuto));
+            entityManager.persist(pedido);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Deve percorrer todos os pedidos por cursor na mesma ordem da listagem completa")
+    void aposCursor_PercorrendoTodasAsPaginas_NaoDevePularNemRepetirPedidos() {
+        List<Long> esperado = pedidoRepository.findAll(PedidoSpecifications.ORDEM_CURSOR).stream()
+                .map(Pedido::getId)
+                .toList();
+
+        List<Long> percorrido = new ArrayList<>();
+        Specification<Pedido> criterio = Specification.unrestricted();
+        while (true) {
+            List<Pedido> pagina = pedidoRepository.findBy(criterio, consulta -> consulta
+                    .sortBy(PedidoSpecifications.ORDEM_CURSOR)
+                    .limit(TAMANHO_PAGINA)
+                    .all());
+            pagina.forEach(pedido -> percorrido.add(pedido.getId()));
+            if (pagina.size() < TAMANHO_PAGINA) {
+                break;
+            }
+            Pedido ultimo = pagina.get(pagina.size() - 1);
+            criterio = PedidoSpecifications.aposCursor(ultimo.getDataPedido(), ultimo.getId());
+        }
+
+        assertThat(percorrido).hasSize(8).containsExactlyElementsOf(esperado);
+    }
+}
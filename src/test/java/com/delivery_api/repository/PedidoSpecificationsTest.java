@@ -0,0 +1,99 @@
+package com.delivery_api.repository;
+
+import com.delivery_api.enums.StatusPedido;
+import com.delivery_api.model.Cliente;
+import com.delivery_api.model.Pedido;
+import com.delivery_api.model.Restaurante;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.sql.init.mode=never")
+class PedidoSpecificationsTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PedidoRepository pedidoRepository;
+
+    private Restaurante pizzaria;
+    private Restaurante hamburgueria;
+
+    @BeforeEach
+    void setUp() {
+        Cliente cliente = entityManager.persist(new Cliente("Cliente Filtro", "filtro@email.com", "11999990002", "Rua do Filtro, 1", true));
+        pizzaria = entityManager.persist(new Restaurante("Pizzaria Filtro", "Italiana", "Rua do Filtro, 2",
+                "11911110002", new BigDecimal("5.00"), true, 30, "10:00-22:00"));
+        hamburgueria = entityManager.persist(new Restaurante("Hamburgueria Filtro", "Lanches", "Rua do Filtro, 3",
+                "11911110003", new BigDecimal("4.00"), true, 25, "11:00-23:00"));
+
+        persistir(cliente, pizzaria, StatusPedido.PENDENTE, LocalDateTime.of(2025, 9, 1, 12, 0));
+        persistir(cliente, pizzaria, StatusPedido.ENTREGUE, LocalDateTime.of(2025, 9, 2, 23, 59));
+        persistir(cliente, pizzaria, StatusPedido.PENDENTE, LocalDateTime.of(2025, 9, 3, 0, 0));
+        persistir(cliente, hamburgueria, StatusPedido.PENDENTE, LocalDateTime.of(2025, 9, 2, 8, 0));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Deve aplicar status e período no banco, com a data final inclusive")
+    void filtros_ComStatusEPeriodo_DeveRetornarApenasPedidosCorrespondentes() {
+        List<Pedido> pedidos = pedidoRepository.findAll(
+                PedidoSpecifications.filtros(StatusPedido.PENDENTE, LocalDate.of(2025, 9, 2), LocalDate.of(2025, 9, 3)),
+                PageRequest.of(0, 10)).getContent();
+
+        assertThat(pedidos).extracting(Pedido::getDataPedido).containsExactlyInAnyOrder(
+                LocalDateTime.of(2025, 9, 3, 0, 0), LocalDateTime.of(2025, 9, 2, 8, 0));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar os filtros nulos")
+    void filtros_TodosNulos_DeveRetornarTodosOsPedidos() {
+        assertThat(pedidoRepository.count(PedidoSpecifications.filtros(null, null, null))).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Deve combinar restaurante e status")
+    void doRestauranteComStatus_DeveFiltrarPorAmbos() {
+        List<Pedido> pedidos = pedidoRepository.findAll(
+                PedidoSpecifications.doRestaurante(pizzaria.getId()).and(PedidoSpecifications.comStatus(StatusPedido.PENDENTE)));
+
+        assertThat(pedidos).hasSize(2).allSatisfy(pedido -> {
+            assertThat(pedido.getRestaurante().getId()).isEqualTo(pizzaria.getId());
+            assertThat(pedido.getStatus()).isEqualTo(StatusPedido.PENDENTE);
+        });
+    }
+
+    @Test
+    @DisplayName("Deve criar os índices compostos declarados na entidade")
+    void schema_DeveConterIndicesCompostosDePedido() {
+        @SuppressWarnings("unchecked")
+        List<String> indices = entityManager.getEntityManager().createNativeQuery(
+                        "SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES WHERE TABLE_NAME = 'PEDIDO'")
+                .getResultList();
+
+        assertThat(indices).extracting(String::toLowerCase).contains(
+                "idx_pedido_status_data", "idx_pedido_restaurante_data", "idx_pedido_cliente_data", "idx_pedido_data_id");
+    }
+
+    private void persistir(Cliente cliente, Restaurante restaurante, StatusPedido status, LocalDateTime dataPedido) {
+        Pedido pedido = new Pedido();
+        pedido.setCliente(cliente);
+        pedido.setRestaurante(restaurante);
+        pedido.setStatus(status);
+        pedido.setDataPedido(dataPedido);
+        entityManager.persist(pedido);
+    }
+}
@@ -0,0 +1,84 @@
+package com.delivery_api.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NomeNgramIndexTest {
+
+    private NomeNgramIndex indice;
+
+    @BeforeEach
+    void setUp() {
+        indice = new NomeNgramIndex();
+        indice.atualizar(1, "Pizzaria Bella Napoli", true);
+        indice.atualizar(2, "Sushi Yamato", true);
+        indice.atualizar(3, "Cantina Italiana da Nonna", true);
+        indice.atualizar(4, "Pizzaria São João", false);
+        indice.atualizar(5, "Açaí do João", true);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar acentos e maiúsculas e casar por trecho do nome")
+    void buscar_SemAcentoEPorTrecho_DeveEncontrar() {
+        assertThat(ids("ACAI", 10, true)).containsExactly(5L);
+        assertThat(ids("yamat", 10, true)).containsExactly(2L);
+        assertThat(ids("nonna", 10, true)).containsExactly(3L);
+        assertThat(ids("a", 10, true)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve tolerar um erro de digitação em palavras longas")
+    void buscar_ComErroDeDigitacao_DeveEncontrar() {
+        assertThat(ids("cantima italiana", 10, true)).containsExactly(3L);
+        assertThat(ids("churrascaria", 10, true)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve filtrar inativos, ordenar pela relevância e limitar aos k melhores")
+    void buscar_ComFiltroEK_DeveRetornarOsMelhoresAtivos() {
+        assertThat(ids("pizzaria", 10, true)).containsExactly(1L);
+        // Ambos contêm a consulta; o nome mais curto se parece mais com ela
+        assertThat(ids("pizzaria", 10, false)).containsExactly(4L, 1L);
+        // Quem contém a consulta inteira vem antes de quem só se parece com ela
+        indice.atualizar(6, "Restaurante e Pizzaria Italiano Tradizionale", true);
+        assertThat(ids("italiano", 10, true)).containsExactly(6L, 3L);
+        assertThat(ids("pizzaria", 1, false)).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("Deve refletir alteração de nome, de status e remoção")
+    void atualizarERemover_DeveAtualizarOIndice() {
+        indice.atualizar(4, "Pizzaria São João", true);
+        assertThat(ids("pizzaria", 10, true)).containsExactly(4L, 1L);
+
+        indice.atualizar(1, "Forno Napolitano", true);
+        assertThat(ids("pizzaria", 10, true)).containsExactly(4L);
+        assertThat(ids("napolitano", 10, true)).containsExactly(1L);
+
+        indice.remover(2);
+        assertThat(ids("sushi", 10, false)).isEmpty();
+        assertThat(indice.tamanho()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Deve manter os resultados depois de recompactar o índice")
+    void atualizar_MuitasAlteracoes_DeveRecompactarSemPerderDocumentos() {
+        for (int i = 0; i < 3000; i++) {
+            indice.atualizar(2, "Sushi Yamato " + i, true);
+        }
+
+        assertThat(indice.tamanho()).isEqualTo(5);
+        assertThat(ids("sushi yamato 2999", 10, true)).first().isEqualTo(2L);
+        assertThat(ids("nonna", 10, true)).containsExactly(3L);
+        assertThat(ids("pizzaria", 10, false)).containsExactly(4L, 1L);
+    }
+
+    private List<Long> ids(String consulta, int k, boolean apenasAtivos) {
+        return indice.buscar(consulta, k, apenasAtivos).stream().map(NomeNgramIndex.Resultado::id).toList();
+    }
+}
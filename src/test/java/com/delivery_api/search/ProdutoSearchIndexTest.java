@@ -0,0 +1,74 @@
+package com.delivery_api.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProdutoSearchIndexTest {
+
+    private ProdutoSearchIndex indice;
+
+    @BeforeEach
+    void setUp() {
+        indice = new ProdutoSearchIndex();
+        indice.atualizar(1, "Pizza Margherita", "Molho de tomate, mussarela e manjericão", "Pizza Salgada", true);
+        indice.atualizar(2, "Refrigerante 2L", "Coca-Cola, Guaraná ou Fanta", "Bebidas", true);
+        indice.atualizar(3, "Pizza Calabresa", "Molho, calabresa e cebola", "Pizza Salgada", true);
+        indice.atualizar(4, "Lasanha Bolonhesa", "Massa artesanal com molho à bolonhesa", "Massas", true);
+        indice.atualizar(5, "Esfiha de Calabresa", "Massa fina", "Árabe", true);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar acentos e maiúsculas e casar por prefixo")
+    void buscar_SemAcentoEComPrefixo_DeveEncontrar() {
+        assertThat(ids("GUARANA")).containsExactly(2L);
+        assertThat(ids("manjericao")).containsExactly(1L);
+        assertThat(ids("arabe")).containsExactly(5L);
+        assertThat(ids("bolon")).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("Deve exigir todos os termos e ordenar pelo campo em que aparecem")
+    void buscar_VariosTermos_DeveExigirTodosERanquearPeloNome() {
+        // "calabresa" está no nome de 3 e 5; "pizza" só casa com 3
+        assertThat(ids("pizza calabresa")).containsExactly(3L);
+        // Nome (3 e 5) antes da descrição (ninguém aqui) e categoria
+        assertThat(ids("calabresa")).containsExactly(3L, 5L);
+        // "molho" no nome de ninguém: as três descrições empatam e desempatam pelo ID
+        assertThat(ids("molho")).containsExactly(1L, 3L, 4L);
+        assertThat(ids("pizza sushi")).isEmpty();
+        assertThat(ids("de e com")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve tolerar erros de digitação quando nenhum termo casa por prefixo")
+    void buscar_ComErroDeDigitacao_DeveEncontrarPorAproximacao() {
+        assertThat(ids("lasanja")).containsExactly(4L);      // letra trocada
+        assertThat(ids("calbresa")).containsExactly(3L, 5L); // letra faltando
+        assertThat(ids("refirgerante")).containsExactly(2L); // transposição
+        assertThat(ids("pzz")).isEmpty();                    // curto demais para aproximar
+    }
+
+    @Test
+    @DisplayName("Deve refletir alterações, indisponibilidade e remoção")
+    void atualizarERemover_DeveAtualizarOIndice() {
+        indice.atualizar(1, "Pizza Portuguesa", "Presunto, ovo e cebola", "Pizza Salgada", true);
+        assertThat(ids("margherita")).isEmpty();
+        assertThat(ids("portuguesa")).containsExactly(1L);
+
+        indice.atualizar(3, "Pizza Calabresa", "Molho, calabresa e cebola", "Pizza Salgada", false);
+        assertThat(ids("pizza")).containsExactly(1L);
+
+        indice.remover(1);
+        assertThat(ids("cebola")).isEmpty();
+        assertThat(indice.tamanho()).isEqualTo(4);
+    }
+
+    private List<Long> ids(String consulta) {
+        return indice.buscar(consulta).stream().map(ProdutoSearchIndex.Resultado::produtoId).toList();
+    }
+}
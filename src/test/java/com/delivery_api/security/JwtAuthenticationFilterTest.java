@@ -0,0 +1,115 @@
+package com.delivery_api.security;
+
+import com.delivery_api.config.JwtProperties;
+import com.delivery_api.enums.UserRole;
+import com.delivery_api.model.Usuario;
+import com.delivery_api.repository.UsuarioRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private UsuarioRepository usuarioRepository;
+
+    private JwtUtil jwtUtil;
+    private JwtProperties jwtProperties;
+    private DisabledUserRegistry disabledUserRegistry;
+    private JwtAuthenticationFilter filter;
+    private Usuario usuario;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", "segredo-de-teste-com-pelo-menos-32-bytes");
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpiration", 86_400_000L);
+        jwtUtil.init();
+
+        jwtProperties = new JwtProperties();
+        jwtProperties.setStatelessPrincipal(true);
+        disabledUserRegistry = new DisabledUserRegistry(usuarioRepository, jwtProperties);
+        filter = new JwtAuthenticationFilter(jwtUtil, userDetailsService, jwtProperties, disabledUserRegistry);
+
+        usuario = new Usuario();
+        usuario.setId(7L);
+        usuario.setNome("Dono");
+        usuario.setEmail("dono@restaurante.com");
+        usuario.setRole(UserRole.RESTAURANTE);
+        usuario.setRestauranteId(3L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Deve montar o principal a partir das claims sem buscar o usuário")
+    void doFilter_ModoStateless_DeveAutenticarSemUserDetailsService() throws Exception {
+        Authentication autenticacao = filtrar(jwtUtil.generateToken(usuario));
+
+        assertThat(autenticacao).isNotNull();
+        Usuario principal = (Usuario) autenticacao.getPrincipal();
+        assertThat(principal.getId()).isEqualTo(7L);
+        assertThat(principal.getUsername()).isEqualTo("dono@restaurante.com");
+        assertThat(principal.getRestauranteId()).isEqualTo(3L);
+        assertThat(autenticacao.getAuthorities()).extracting("authority").containsExactly("ROLE_RESTAURANTE");
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("Não deve autenticar um usuário marcado como desativado no bitmap")
+    void doFilter_UsuarioDesativado_NaoDeveAutenticar() throws Exception {
+        when(usuarioRepository.findIdsInativos()).thenReturn(List.of(2L, 7L));
+        disabledUserRegistry.reload();
+
+        assertThat(filtrar(jwtUtil.generateToken(usuario))).isNull();
+
+        disabledUserRegistry.markEnabled(7L);
+        assertThat(filtrar(jwtUtil.generateToken(usuario))).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Deve buscar o usuário quando o modo stateless está desligado")
+    void doFilter_ModoDesligado_DeveUsarUserDetailsService() throws Exception {
+        jwtProperties.setStatelessPrincipal(false);
+        when(userDetailsService.loadUserByUsername("dono@restaurante.com")).thenReturn(usuario);
+
+        Authentication autenticacao = filtrar(jwtUtil.generateToken(usuario));
+
+        assertThat(autenticacao.getPrincipal()).isSameAs(usuario);
+        verify(userDetailsService).loadUserByUsername("dono@restaurante.com");
+    }
+
+    private Authentication filtrar(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/pedidos/1");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,90 @@
+package com.delivery_api.security;
+
+import com.delivery_api.enums.UserRole;
+import com.delivery_api.model.Usuario;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtUtilTest {
+
+    private static final String SEGREDO = "segredo-de-teste-com-pelo-menos-32-bytes";
+
+    private JwtUtil jwtUtil;
+    private Usuario usuario;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = novoJwtUtil(86_400_000L);
+
+        usuario = new Usuario();
+        usuario.setId(1L);
+        usuario.setEmail("cliente@email.com");
+        usuario.setRole(UserRole.CLIENTE);
+    }
+
+    @Test
+    @DisplayName("Deve devolver todas as claims em uma única validação")
+    void validateToken_TokenValido_DeveRetornarClaims() {
+        Claims claims = jwtUtil.validateToken(jwtUtil.generateToken(usuario));
+
+        assertThat(claims.getSubject()).isEqualTo("cliente@email.com");
+        assertThat(claims.get("userId", Long.class)).isEqualTo(1L);
+        assertThat(claims.get("role", String.class)).isEqualTo("CLIENTE");
+        assertThat(jwtUtil.isTokenValid(claims, usuario)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve servir um token já verificado a partir do cache")
+    void validateToken_MesmoToken_DeveReaproveitarVerificacao() {
+        String token = jwtUtil.generateToken(usuario);
+
+        assertThat(jwtUtil.validateToken(token)).isSameAs(jwtUtil.validateToken(token));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar um token com assinatura adulterada mesmo após o original estar em cache")
+    void validateToken_AssinaturaAdulterada_DeveLancarExcecao() {
+        String token = jwtUtil.generateToken(usuario);
+        jwtUtil.validateToken(token);
+
+        // Troca um caractere no meio da assinatura (o último carrega bits de preenchimento).
+        int posicao = token.length() - 10;
+        char trocado = token.charAt(posicao) == 'A' ? 'B' : 'A';
+        String adulterado = token.substring(0, posicao) + trocado + token.substring(posicao + 1);
+
+        assertThatThrownBy(() -> jwtUtil.validateToken(adulterado)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar um token expirado")
+    void validateToken_TokenExpirado_DeveLancarExpiredJwtException() {
+        String token = novoJwtUtil(-1_000L).generateToken(usuario);
+
+        assertThatThrownBy(() -> jwtUtil.validateToken(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    @DisplayName("Deve recusar o token de outro usuário")
+    void isTokenValid_OutroUsuario_DeveRetornarFalse() {
+        Usuario outro = new Usuario();
+        outro.setEmail("outro@email.com");
+
+        assertThat(jwtUtil.isTokenValid(jwtUtil.generateToken(usuario), outro)).isFalse();
+    }
+
+    private static JwtUtil novoJwtUtil(long expiracao) {
+        JwtUtil util = new JwtUtil();
+        ReflectionTestUtils.setField(util, "secretKey", SEGREDO);
+        ReflectionTestUtils.setField(util, "jwtExpiration", expiracao);
+        util.init();
+        return util;
+    }
+}
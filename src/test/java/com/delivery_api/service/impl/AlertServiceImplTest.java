@@ -0,0 +1,138 @@
+package com.delivery_api.service.impl;
+
+import com.delivery_api.config.AlertaProperties;
+import com.delivery_api.config.LatenciaProperties;
+import com.delivery_api.exception.BusinessException;
+import com.delivery_api.exception.EntityNotFoundException;
+import com.delivery_api.metrics.LatenciaAspect;
+import com.delivery_api.metrics.LatenciaRegistro;
+import com.delivery_api.metrics.MedirLatencia;
+import com.delivery_api.metrics.OperacaoLatencia;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AlertServiceImplTest {
+
+    private static final String CRITICO = "HIGH_ERROR_RATE[CRITICAL 1m/5m]";
+
+    private LatenciaRegistro latenciaRegistro;
+    private AlertaProperties alertaProperties;
+    private AlertServiceImpl alertService;
+
+    @BeforeEach
+    void setUp() {
+        latenciaRegistro = new LatenciaRegistro(new LatenciaProperties(), new SimpleMeterRegistry());
+        alertaProperties = new AlertaProperties();
+        alertService = new AlertServiceImpl(alertaProperties, latenciaRegistro);
+    }
+
+    @Test
+    @DisplayName("Deve disparar quando o consumo do orçamento de erros passa do limiar nas duas janelas")
+    void verificarAlertas_MuitosErrosRecentes_DeveDispararRegraCritica() {
+        registrar(100, true);
+
+        alertService.verificarAlertas();
+
+        assertThat(alertService.alertasAtivos()).contains(CRITICO);
+    }
+
+    @Test
+    @DisplayName("Não deve disparar abaixo do volume mínimo")
+    void verificarAlertas_PoucasChamadas_NaoDeveDisparar() {
+        registrar(5, true);
+
+        alertService.verificarAlertas();
+
+        assertThat(alertService.alertasAtivos()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve manter o alerta entre o limiar de resolução e o de disparo, e resolver abaixo dele")
+    void verificarAlertas_TaxaCaindo_DeveResolverSoAbaixoDoLimiarDeResolucao() {
+        registrar(100, true);
+        alertService.verificarAlertas();
+
+        // 100 erros em 800 chamadas: consumo de 12.5x, abaixo de 14.4 mas acima de 14.4 * 0.8
+        registrar(700, false);
+        alertService.verificarAlertas();
+        assertThat(alertService.alertasAtivos()).contains(CRITICO);
+
+        // 100 em 1250: 8x
+        registrar(450, false);
+        alertService.verificarAlertas();
+        assertThat(alertService.alertasAtivos()).doesNotContain(CRITICO);
+    }
+
+    @Test
+    @DisplayName("Deve contar como erro só as falhas inesperadas de criarPedido, não os erros do cliente")
+    void verificarAlertas_ErrosDoClienteNaCriacao_NaoDeveDisparar() {
+        LatenciaAspect aspect = new LatenciaAspect();
+        ReflectionTestUtils.setField(aspect, "latenciaRegistro", latenciaRegistro);
+        AspectJProxyFactory fabrica = new AspectJProxyFactory(new CriacaoPedido());
+        fabrica.addAspect(aspect);
+        CriacaoPedido criacao = fabrica.getProxy();
+
+        for (int i = 0; i < 50; i++) {
+            RuntimeException erroDoCliente = i % 2 == 0
+                    ? new BusinessException("Produto indisponível")
+                    : new EntityNotFoundException("Cliente", 1L);
+            assertThatThrownBy(() -> criacao.criarPedido(erroDoCliente)).isSameAs(erroDoCliente);
+        }
+        alertService.verificarAlertas();
+        assertThat(alertService.alertasAtivos()).isEmpty();
+
+        for (int i = 0; i < 50; i++) {
+            assertThatThrownBy(() -> criacao.criarPedido(new IllegalStateException("Falha no banco")))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+        alertService.verificarAlertas();
+        assertThat(alertService.alertasAtivos()).contains(CRITICO);
+    }
+
+    @Test
+    @DisplayName("Deve disparar o alerta de latência quando o p99 passa do limite")
+    void verificarAlertas_P99Alto_DeveDispararAlertaDeLatencia() {
+        for (int i = 0; i < 20; i++) {
+            latenciaRegistro.registrar(OperacaoLatencia.PEDIDO_CRIACAO, TimeUnit.SECONDS.toNanos(2), false);
+        }
+
+        alertService.verificarAlertas();
+
+        assertThat(alertService.alertasAtivos()).containsExactly("HIGH_RESPONSE_TIME[WARNING 1m/5m]");
+    }
+
+    @Test
+    @DisplayName("Deve falhar na criação se uma regra usar janela maior que o horizonte guardado")
+    void construtor_JanelaForaDoHorizonte_DeveLancarExcecao() {
+        alertaProperties.setLatencia(List.of(
+                new AlertaProperties.Regra("WARNING", Duration.ofMinutes(5), Duration.ofHours(1), 1000)));
+
+        assertThatThrownBy(() -> new AlertServiceImpl(alertaProperties, latenciaRegistro))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void registrar(int quantidade, boolean erro) {
+        for (int i = 0; i < quantidade; i++) {
+            latenciaRegistro.registrar(OperacaoLatencia.PEDIDO_CRIACAO, TimeUnit.MILLISECONDS.toNanos(10), erro);
+        }
+    }
+
+    static class CriacaoPedido {
+
+        @MedirLatencia(OperacaoLatencia.PEDIDO_CRIACAO)
+        public void criarPedido(RuntimeException falha) {
+            throw falha;
+        }
+    }
+}
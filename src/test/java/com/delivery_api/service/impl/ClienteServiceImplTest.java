@@ -4,9 +4,13 @@ import com.delivery_api.dto.ClienteDTO;
 import com.delivery_api.dto.ClienteResponseDTO;
 import com.delivery_api.exception.BusinessException;
 import com.delivery_api.exception.ConflictException;
-import com.delivery_api.exception.EntityNotFoundException; // Certifique-se de que a exceção existe
+import com.delivery_api.exception.EntityNotFoundException;
+import com.delivery_api.logging.AcessoDadosEventos;
+import com.delivery_api.mapper.ClienteMapper; // Certifique-se de que a exceção existe
 import com.delivery_api.model.Cliente;
+import com.delivery_api.projection.ClienteCidade;
 import com.delivery_api.repository.ClienteRepository;
+import com.delivery_api.search.ClienteNomeIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,10 +22,12 @@ import org.modelmapper.ModelMapper;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -35,6 +41,15 @@ class ClienteServiceImplTest {
     @Mock
     private ModelMapper modelMapper;
 
+    @Mock
+    private ClienteMapper clienteMapper;
+
+    @Mock
+    private ClienteNomeIndex clienteNomeIndex;
+
+    @Mock
+    private AcessoDadosEventos acessoDadosEventos;
+
     @InjectMocks
     private ClienteServiceImpl clienteService;
 
@@ -69,6 +84,7 @@ class ClienteServiceImplTest {
         clienteService.cadastrarCliente(clienteDTO);
 
         verify(clienteRepository, times(1)).save(any(Cliente.class));
+        verify(clienteNomeIndex).atualizarAposCommit(cliente);
     }
 
     // ClienteServiceImplTest.java
@@ -80,7 +96,7 @@ class ClienteServiceImplTest {
         cliente.setAtivo(true);
         when(clienteRepository.findById(1L)).thenReturn(Optional.of(cliente));
         when(clienteRepository.save(any(Cliente.class))).thenReturn(cliente);
-        when(modelMapper.map(cliente, ClienteResponseDTO.class)).thenReturn(clienteResponseDTO);
+        when(clienteMapper.toResponseDTO(cliente)).thenReturn(clienteResponseDTO);
 
         // ACT
         ClienteResponseDTO resultado = clienteService.ativarDesativarCliente(1L);
@@ -105,7 +121,7 @@ class ClienteServiceImplTest {
     @DisplayName("Deve buscar cliente por email com sucesso quando email existe")
     void buscarClientePorEmail_QuandoEmailExiste_RetornaCliente() {
         when(clienteRepository.findByEmail("joao.silva@example.com")).thenReturn(Optional.of(cliente));
-        when(modelMapper.map(cliente, ClienteResponseDTO.class)).thenReturn(clienteResponseDTO);
+        when(clienteMapper.toResponseDTO(cliente)).thenReturn(clienteResponseDTO);
 
         ClienteResponseDTO resultado = clienteService.buscarClientePorEmail("joao.silva@example.com");
 
@@ -146,7 +162,7 @@ class ClienteServiceImplTest {
 
         when(clienteRepository.findById(1L)).thenReturn(Optional.of(cliente));
         when(clienteRepository.save(any(Cliente.class))).thenReturn(cliente);
-        when(modelMapper.map(cliente, ClienteResponseDTO.class)).thenReturn(clienteResponseDTO);
+        when(clienteMapper.toResponseDTO(cliente)).thenReturn(clienteResponseDTO);
 
         // ACT
         ClienteResponseDTO resultado = clienteService.atualizarCliente(1L, dto);
@@ -174,7 +190,7 @@ class ClienteServiceImplTest {
     void buscarClientePorId_QuandoIdExiste_RetornaCliente() {
         // ARRANGE: Simula que o repositório encontrará o cliente com ID 1
         when(clienteRepository.findById(1L)).thenReturn(Optional.of(cliente));
-        when(modelMapper.map(cliente, ClienteResponseDTO.class)).thenReturn(clienteResponseDTO);
+        when(clienteMapper.toResponseDTO(cliente)).thenReturn(clienteResponseDTO);
 
         // ACT: Chama o serviço
         ClienteResponseDTO resultado = clienteService.buscarClientePorId(1L);
@@ -201,7 +217,7 @@ class ClienteServiceImplTest {
     void listarClientesAtivos_RetornaListaDeClientes() {
         // ARRANGE: Simula que o repositório retornará uma lista com um cliente
         when(clienteRepository.findByAtivoTrue()).thenReturn(Collections.singletonList(cliente));
-        when(modelMapper.map(cliente, ClienteResponseDTO.class)).thenReturn(clienteResponseDTO);
+        when(clienteMapper.toResponseDTO(cliente)).thenReturn(clienteResponseDTO);
 
         // ACT: Chama o serviço
         List<ClienteResponseDTO> resultados = clienteService.listarClientesAtivos();
@@ -221,7 +237,7 @@ class ClienteServiceImplTest {
         
         when(clienteRepository.findById(1L)).thenReturn(Optional.of(cliente));
         when(clienteRepository.save(any(Cliente.class))).thenReturn(cliente);
-        when(modelMapper.map(cliente, ClienteResponseDTO.class)).thenReturn(clienteResponseDTO);
+        when(clienteMapper.toResponseDTO(cliente)).thenReturn(clienteResponseDTO);
 
         // ACT
         ClienteResponseDTO resultado = clienteService.atualizarCliente(1L, dadosAtualizacao);
@@ -232,4 +248,20 @@ class ClienteServiceImplTest {
         // Para verificar se o nome foi realmente atualizado, precisaríamos de uma captura de argumento (mais avançado)
         // ou confiar que a lógica do serviço está correta, já que o save foi chamado.
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve agrupar os IDs por cidade como informada, incluindo cidades sem clientes")
+    void buscarIdsAtivosPorCidades_VariasCidades_RetornaIdsAgrupados() {
+        when(clienteRepository.findIdsAtivosPorCidades(anyCollection())).thenReturn(List.of(
+                new ClienteCidade("campinas", 3L),
+                new ClienteCidade("sao paulo", 1L),
+                new ClienteCidade("sao paulo", 2L)));
+
+        Map<String, List<Long>> resultado = clienteService.buscarIdsAtivosPorCidades(List.of("São Paulo", "Campinas", "Recife"));
+
+        assertEquals(List.of("São Paulo", "Campinas", "Recife"), List.copyOf(resultado.keySet()));
+        assertEquals(List.of(1L, 2L), resultado.get("São Paulo"));
+        assertEquals(List.of(3L), resultado.get("Campinas"));
+        assertTrue(resultado.get("Recife").isEmpty());
+    }
+}
@@ -0,0 +1,99 @@
+package com.delivery_api.service.impl;
+
+import com.delivery_api.enums.FormatoExportacao;
+import com.delivery_api.enums.StatusPedido;
+import com.delivery_api.exception.BusinessException;
+import com.delivery_api.projection.PedidoExportLinha;
+import com.delivery_api.repository.PedidoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PedidoExportServiceImplTest {
+
+    private static final LocalDate INICIO = LocalDate.of(2025, 9, 1);
+    private static final LocalDate FIM = LocalDate.of(2025, 9, 30);
+    private static final LocalDateTime DATA = LocalDateTime.of(2025, 9, 10, 19, 30);
+
+    @Mock
+    private PedidoRepository pedidoRepository;
+
+    @InjectMocks
+    private PedidoExportServiceImpl exportService;
+
+    @Test
+    @DisplayName("Deve escrever um pedido por linha em NDJSON, com os itens agrupados, e fechar o cursor")
+    void exportarPedidos_Ndjson_DeveAgruparItensPorPedido() throws Exception {
+        AtomicBoolean fechado = new AtomicBoolean();
+        when(pedidoRepository.streamParaExportacao(INICIO.atStartOfDay(), FIM.plusDays(1).atStartOfDay(), StatusPedido.ENTREGUE))
+                .thenReturn(Stream.of(
+                        linha(1L, 10L, "Pizza", 2, "30.00"),
+                        linha(1L, 11L, "Refrigerante", 1, "8.50"),
+                        linha(2L, null, null, null, null)).onClose(() -> fechado.set(true)));
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        long pedidos = exportService.exportarPedidos(INICIO, FIM, StatusPedido.ENTREGUE, FormatoExportacao.NDJSON, saida);
+
+        String[] linhas = saida.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(pedidos).isEqualTo(2);
+        assertThat(linhas).hasSize(2);
+        assertThat(linhas[0])
+                .startsWith("{\"id\":1,\"numeroPedido\":\"PED-1\",\"dataPedido\":\"2025-09-10T19:30\",\"status\":\"ENTREGUE\"")
+                .contains("\"itens\":[{\"id\":10,\"produtoId\":100,\"produtoNome\":\"Pizza\",\"quantidade\":2,\"precoUnitario\":30.00,\"subtotal\":60.00},"
+                        + "{\"id\":11,");
+        assertThat(linhas[1]).startsWith("{\"id\":2,").endsWith("\"itens\":[]}");
+        assertThat(fechado).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve escrever uma linha por item em CSV, escapando vírgulas e aspas")
+    void exportarPedidos_Csv_DeveEscreverCabecalhoELinhaPorItem() throws Exception {
+        when(pedidoRepository.streamParaExportacao(any(), any(), eq(null)))
+                .thenReturn(Stream.of(linha(1L, 10L, "Pizza \"Grande\", borda recheada", 1, "45.90")));
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        exportService.exportarPedidos(INICIO, FIM, null, FormatoExportacao.CSV, saida);
+
+        assertThat(saida.toString(StandardCharsets.UTF_8).split("\n")).containsExactly(
+                "pedido_id,numero_pedido,data_pedido,status,cliente_id,restaurante_id,subtotal,taxa_entrega,valor_total,"
+                        + "item_id,produto_id,produto_nome,quantidade,preco_unitario,item_subtotal",
+                "1,PED-1,2025-09-10T19:30,ENTREGUE,7,3,45.90,5.00,50.90,10,100,\"Pizza \"\"Grande\"\", borda recheada\",1,45.90,45.90");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar um período com data final anterior à inicial sem consultar o banco")
+    void exportarPedidos_PeriodoInvertido_DeveLancarExcecao() {
+        assertThatThrownBy(() -> exportService.exportarPedidos(FIM, INICIO, null, FormatoExportacao.CSV, new ByteArrayOutputStream()))
+                .isInstanceOf(BusinessException.class);
+        verify(pedidoRepository, never()).streamParaExportacao(any(), any(), any());
+    }
+
+    private PedidoExportLinha linha(Long pedidoId, Long itemId, String produto, Integer quantidade, String preco) {
+        BigDecimal precoUnitario = preco != null ? new BigDecimal(preco) : null;
+        BigDecimal subtotalItem = preco != null ? precoUnitario.multiply(BigDecimal.valueOf(quantidade)) : null;
+        BigDecimal subtotal = subtotalItem != null ? subtotalItem : BigDecimal.ZERO;
+        return new PedidoExportLinha(pedidoId, "PED-" + pedidoId, DATA, StatusPedido.ENTREGUE, 7L, 3L,
+                subtotal, new BigDecimal("5.00"), subtotal.add(new BigDecimal("5.00")),
+                itemId, itemId != null ? 100L : null, produto, quantidade, precoUnitario, subtotalItem);
+    }
+}
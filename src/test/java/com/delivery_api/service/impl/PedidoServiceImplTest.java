@@ -1,31 +1,48 @@
 package com.delivery_api.service.impl;
 
+import com.delivery_api.cache.OwnershipIndex;
+import com.delivery_api.config.TaxaEntregaProperties;
 import com.delivery_api.dto.*;
 import com.delivery_api.enums.StatusPedido;
 import com.delivery_api.exception.BusinessException;
 import com.delivery_api.exception.EntityNotFoundException;
+import com.delivery_api.geo.CalculadoraTaxaEntrega;
+import com.delivery_api.geo.CepCoordenadas;
+import com.delivery_api.logging.AcessoDadosEventos;
+import com.delivery_api.mapper.PedidoMapper;
 import com.delivery_api.model.*;
+import com.delivery_api.projection.PedidoDono;
 import com.delivery_api.repository.ClienteRepository;
 import com.delivery_api.repository.PedidoRepository;
 import com.delivery_api.repository.ProdutoRepository;
 import com.delivery_api.repository.RestauranteRepository;
+import com.delivery_api.service.VendaDiariaService;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -35,6 +52,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -50,12 +68,24 @@ class PedidoServiceImplTest {
     @Mock
     private RestauranteRepository restauranteRepository;
     @Mock
-    private ModelMapper modelMapper;
+    private PedidoMapper pedidoMapper;
+    @Mock
+    private OwnershipIndex ownershipIndex;
+    @Mock
+    private VendaDiariaService vendaDiariaService;
+    @Mock
+    private CalculadoraTaxaEntrega calculadoraTaxaEntrega;
     @Mock
     private Authentication authentication;
     @Mock
     private SecurityContext securityContext;
 
+    @Mock
+    private AcessoDadosEventos acessoDadosEventos;
+
+    @Captor
+    private ArgumentCaptor<Collection<Long>> idsCaptor;
+
     @InjectMocks
     private PedidoServiceImpl pedidoService;
 
@@ -92,6 +122,7 @@ class PedidoServiceImplTest {
         pedidoDTO = new PedidoDTO();
         pedidoDTO.setClienteId(cliente.getId());
         pedidoDTO.setRestauranteId(restaurante.getId());
+        pedidoDTO.setCep("01310-100");
         pedidoDTO.setItens(Collections.singletonList(itemDTO));
         
         pedido = new Pedido();
@@ -108,6 +139,11 @@ class PedidoServiceImplTest {
         usuario.setRestauranteId(1L);
     }
 
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
     @Nested
     class CriarPedidoTests {
         @Test
@@ -115,15 +151,18 @@ class PedidoServiceImplTest {
         void criarPedido_ComDadosValidos_RetornaSucesso() {
             when(clienteRepository.findById(cliente.getId())).thenReturn(Optional.of(cliente));
             when(restauranteRepository.findById(restaurante.getId())).thenReturn(Optional.of(restaurante));
-            when(produtoRepository.findById(produto.getId())).thenReturn(Optional.of(produto));
+            when(produtoRepository.findProdutosComRestaurantePorIds(any())).thenReturn(List.of(produto));
+            when(calculadoraTaxaEntrega.calcular(restaurante, "01310-100")).thenReturn(new BigDecimal("7.50"));
             when(pedidoRepository.save(any(Pedido.class))).thenReturn(pedido);
-            when(modelMapper.map(any(Pedido.class), eq(PedidoResponseDTO.class))).thenReturn(pedidoResponseDTO);
+            when(pedidoMapper.toResponseDTO(any(Pedido.class))).thenReturn(pedidoResponseDTO);
 
             PedidoResponseDTO response = pedidoService.criarPedido(pedidoDTO);
 
             assertThat(response).isNotNull();
             assertThat(response.getId()).isEqualTo(100L);
-            verify(pedidoRepository).save(any(Pedido.class));
+            verify(pedidoRepository).save(argThat(salvo -> salvo.getTaxaEntrega().equals(new BigDecimal("7.50"))
+                    && salvo.getValorTotal().equals(new BigDecimal("57.50"))));
+            verify(vendaDiariaService).registrarPedido(pedido);
         }
         
         @Test
@@ -160,7 +199,7 @@ class PedidoServiceImplTest {
 
             when(clienteRepository.findById(cliente.getId())).thenReturn(Optional.of(cliente));
             when(restauranteRepository.findById(restaurante.getId())).thenReturn(Optional.of(restaurante));
-            when(produtoRepository.findById(produto.getId())).thenReturn(Optional.of(produto));
+            when(produtoRepository.findProdutosComRestaurantePorIds(any())).thenReturn(List.of(produto));
 
             assertThatThrownBy(() -> pedidoService.criarPedido(pedidoDTO))
                 .isInstanceOf(BusinessException.class)
@@ -174,7 +213,7 @@ class PedidoServiceImplTest {
             produto.setDisponivel(false);
             when(clienteRepository.findById(cliente.getId())).thenReturn(Optional.of(cliente));
             when(restauranteRepository.findById(restaurante.getId())).thenReturn(Optional.of(restaurante));
-            when(produtoRepository.findById(produto.getId())).thenReturn(Optional.of(produto));
+            when(produtoRepository.findProdutosComRestaurantePorIds(any())).thenReturn(List.of(produto));
 
             assertThatThrownBy(() -> pedidoService.criarPedido(pedidoDTO))
                     .isInstanceOf(BusinessException.class)
@@ -197,12 +236,75 @@ class PedidoServiceImplTest {
         void criarPedido_QuandoProdutoNaoExiste_LancaExcecao() {
             when(clienteRepository.findById(cliente.getId())).thenReturn(Optional.of(cliente));
             when(restauranteRepository.findById(restaurante.getId())).thenReturn(Optional.of(restaurante));
-            when(produtoRepository.findById(produto.getId())).thenReturn(Optional.empty());
+            when(produtoRepository.findProdutosComRestaurantePorIds(any())).thenReturn(List.of());
 
             assertThatThrownBy(() -> pedidoService.criarPedido(pedidoDTO))
-                    .isInstanceOf(EntityNotFoundException.class);
+                    .isInstanceOf(EntityNotFoundException.class)
+                    .hasMessage("Produto não encontrado: " + produto.getId());
             verify(pedidoRepository, never()).save(any());
         }
+
+        @Test
+        @DisplayName("Deve carregar os produtos em uma única consulta e agrupar IDs repetidos no carrinho")
+        void criarPedido_ComProdutosRepetidos_AgrupaItensEmUmaUnicaConsulta() {
+            ItemPedidoDTO mesmoProduto = new ItemPedidoDTO();
+            mesmoProduto.setProdutoId(produto.getId());
+            mesmoProduto.setQuantidade(3);
+            pedidoDTO.setItens(List.of(pedidoDTO.getItens().get(0), mesmoProduto));
+
+            when(clienteRepository.findById(cliente.getId())).thenReturn(Optional.of(cliente));
+            when(restauranteRepository.findById(restaurante.getId())).thenReturn(Optional.of(restaurante));
+            when(produtoRepository.findProdutosComRestaurantePorIds(any())).thenReturn(List.of(produto));
+            when(calculadoraTaxaEntrega.calcular(restaurante, "01310-100")).thenReturn(restaurante.getTaxaEntrega());
+            when(pedidoRepository.save(any(Pedido.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(pedidoMapper.toResponseDTO(any(Pedido.class))).thenReturn(pedidoResponseDTO);
+
+            pedidoService.criarPedido(pedidoDTO);
+
+            verify(produtoRepository, times(1)).findProdutosComRestaurantePorIds(idsCaptor.capture());
+            verify(produtoRepository, never()).findById(anyLong());
+            assertThat(idsCaptor.getValue()).containsExactly(produto.getId());
+
+            ArgumentCaptor<Pedido> pedidoCaptor = ArgumentCaptor.forClass(Pedido.class);
+            verify(pedidoRepository).save(pedidoCaptor.capture());
+            Pedido salvo = pedidoCaptor.getValue();
+            assertThat(salvo.getItens()).hasSize(1);
+            assertThat(salvo.getItens().get(0).getQuantidade()).isEqualTo(5);
+            assertThat(salvo.getItens().get(0).getSubtotal()).isEqualByComparingTo("125.00");
+            assertThat(salvo.getSubtotal()).isEqualByComparingTo("125.00");
+            assertThat(salvo.getValorTotal()).isEqualByComparingTo("130.00");
+        }
+
+        @Test
+        @DisplayName("Deve criar pedido com a taxa base quando o CEP não está na tabela de coordenadas")
+        void criarPedido_ComCepForaDaTabela_UsaTaxaBaseDoRestaurante() {
+            TaxaEntregaProperties properties = new TaxaEntregaProperties();
+            TaxaEntregaProperties.Faixa faixa = new TaxaEntregaProperties.Faixa();
+            faixa.setAteKm(3);
+            faixa.setAcrescimo(new BigDecimal("2.50"));
+            properties.setFaixas(List.of(faixa));
+            CepCoordenadas cepCoordenadas = new CepCoordenadas();
+            ReflectionTestUtils.setField(cepCoordenadas, "arquivo", new ClassPathResource("geo/cep-coordenadas.csv"));
+            cepCoordenadas.carregar();
+            ReflectionTestUtils.setField(pedidoService, "calculadoraTaxaEntrega",
+                    new CalculadoraTaxaEntrega(cepCoordenadas, properties));
+            restaurante.setLatitude(-23.5631);
+            restaurante.setLongitude(-46.6544);
+            pedidoDTO.setCep("16015-240");
+
+            when(clienteRepository.findById(cliente.getId())).thenReturn(Optional.of(cliente));
+            when(restauranteRepository.findById(restaurante.getId())).thenReturn(Optional.of(restaurante));
+            when(produtoRepository.findProdutosComRestaurantePorIds(any())).thenReturn(List.of(produto));
+            when(pedidoRepository.save(any(Pedido.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(pedidoMapper.toResponseDTO(any(Pedido.class))).thenReturn(pedidoResponseDTO);
+
+            pedidoService.criarPedido(pedidoDTO);
+
+            ArgumentCaptor<Pedido> pedidoCaptor = ArgumentCaptor.forClass(Pedido.class);
+            verify(pedidoRepository).save(pedidoCaptor.capture());
+            assertThat(pedidoCaptor.getValue().getTaxaEntrega()).isEqualByComparingTo("5.00");
+            assertThat(pedidoCaptor.getValue().getValorTotal()).isEqualByComparingTo("55.00");
+        }
     }
 
     @Nested
@@ -310,6 +412,7 @@ class PedidoServiceImplTest {
             
             assertThat(pedido.getStatus()).isEqualTo(StatusPedido.CANCELADO);
             verify(pedidoRepository).save(pedido);
+            verify(vendaDiariaService).registrarMudancaDeStatus(pedido, StatusPedido.CONFIRMADO);
         }
 
         @Test
@@ -363,7 +466,7 @@ class PedidoServiceImplTest {
         @Test
         @DisplayName("Deve calcular o total de um pedido (versão com lista de itens)")
         void calcularTotalPedido_ComListaDeItens_DeveRetornarSomaCorreta() {
-            when(produtoRepository.findById(produto.getId())).thenReturn(Optional.of(produto));
+            when(produtoRepository.findProdutosComRestaurantePorIds(any())).thenReturn(List.of(produto));
             
             BigDecimal total = pedidoService.calcularTotalPedido(pedidoDTO.getItens());
 
@@ -378,13 +481,32 @@ class PedidoServiceImplTest {
             calculoDTO.setItens(pedidoDTO.getItens());
 
             when(restauranteRepository.findById(restaurante.getId())).thenReturn(Optional.of(restaurante));
-            when(produtoRepository.findById(produto.getId())).thenReturn(Optional.of(produto));
+            when(produtoRepository.findProdutosComRestaurantePorIds(any())).thenReturn(List.of(produto));
             
             CalculoPedidoResponseDTO response = pedidoService.calcularTotalPedido(calculoDTO);
 
             assertThat(response.getSubtotalItens()).isEqualTo(new BigDecimal("50.00"));
             assertThat(response.getTaxaEntrega()).isEqualTo(new BigDecimal("5.00"));
             assertThat(response.getValorTotal()).isEqualTo(new BigDecimal("55.00"));
+            verifyNoInteractions(calculadoraTaxaEntrega);
+        }
+
+        @Test
+        @DisplayName("Deve cotar a taxa pela distância quando o CEP de entrega é informado")
+        void calcularTotalPedido_ComCep_DeveUsarTaxaPorDistancia() {
+            CalculoPedidoDTO calculoDTO = new CalculoPedidoDTO();
+            calculoDTO.setRestauranteId(restaurante.getId());
+            calculoDTO.setItens(pedidoDTO.getItens());
+            calculoDTO.setCep("05422-000");
+
+            when(restauranteRepository.findById(restaurante.getId())).thenReturn(Optional.of(restaurante));
+            when(produtoRepository.findProdutosComRestaurantePorIds(any())).thenReturn(List.of(produto));
+            when(calculadoraTaxaEntrega.calcular(restaurante, "05422-000")).thenReturn(new BigDecimal("10.00"));
+
+            CalculoPedidoResponseDTO response = pedidoService.calcularTotalPedido(calculoDTO);
+
+            assertThat(response.getTaxaEntrega()).isEqualTo(new BigDecimal("10.00"));
+            assertThat(response.getValorTotal()).isEqualTo(new BigDecimal("60.00"));
         }
     }
 
@@ -394,8 +516,8 @@ class PedidoServiceImplTest {
         @DisplayName("Deve listar pedidos com paginação")
         void listarPedidos_DeveRetornarPaginaDeDTOs() {
             Page<Pedido> paginaDePedidos = new PageImpl<>(List.of(pedido));
-            when(pedidoRepository.findAll(any(Pageable.class))).thenReturn(paginaDePedidos);
-            when(modelMapper.map(any(Pedido.class), eq(PedidoResponseDTO.class))).thenReturn(pedidoResponseDTO);
+            when(pedidoRepository.findAll(ArgumentMatchers.<Specification<Pedido>>any(), any(Pageable.class))).thenReturn(paginaDePedidos);
+            when(pedidoMapper.toResponseDTO(any(Pedido.class))).thenReturn(pedidoResponseDTO);
 
             Page<PedidoResponseDTO> resultado = pedidoService.listarPedidos(null, null, null, Pageable.unpaged());
 
@@ -403,11 +525,54 @@ class PedidoServiceImplTest {
             assertThat(resultado.getContent()).hasSize(1);
         }
 
+        @Test
+        @DisplayName("Deve devolver o cursor do último item quando houver próxima página")
+        void listarPedidosPorCursor_ComMaisItensQueOTamanho_DeveRetornarProximoCursor() {
+            Pedido recente = novoPedido(101L, LocalDateTime.of(2025, 9, 4, 21, 0));
+            Pedido meio = novoPedido(102L, LocalDateTime.of(2025, 9, 4, 20, 30));
+            Pedido excedente = novoPedido(103L, LocalDateTime.of(2025, 9, 4, 20, 0));
+            when(pedidoRepository.findBy(ArgumentMatchers.<Specification<Pedido>>any(), any())).thenReturn(List.of(recente, meio, excedente));
+            when(pedidoMapper.toResponseDTO(any(Pedido.class))).thenReturn(pedidoResponseDTO);
+
+            CursorPage<PedidoResponseDTO> resultado = pedidoService.listarPedidosPorCursor(null, null, null, null, 2, false);
+
+            assertThat(resultado.content()).hasSize(2);
+            assertThat(resultado.first()).isTrue();
+            assertThat(resultado.totalElements()).isNull();
+            assertThat(resultado.nextCursor()).isEqualTo(KeysetCursor.encode(meio.getDataPedido(), 102L));
+            verify(pedidoRepository, never()).count(ArgumentMatchers.<Specification<Pedido>>any());
+        }
+
+        @Test
+        @DisplayName("Não deve devolver cursor na última página")
+        void listarPedidosPorCursor_UltimaPagina_NaoDeveRetornarProximoCursor() {
+            String cursor = KeysetCursor.encode(LocalDateTime.of(2025, 9, 4, 20, 30), 102L);
+            when(pedidoRepository.findBy(ArgumentMatchers.<Specification<Pedido>>any(), any())).thenReturn(List.of(pedido));
+            when(pedidoRepository.count(ArgumentMatchers.<Specification<Pedido>>any())).thenReturn(3L);
+            when(pedidoMapper.toResponseDTO(any(Pedido.class))).thenReturn(pedidoResponseDTO);
+
+            CursorPage<PedidoResponseDTO> resultado = pedidoService.listarPedidosPorCursor(StatusPedido.PENDENTE, null, null, cursor, 2, true);
+
+            assertThat(resultado.content()).hasSize(1);
+            assertThat(resultado.first()).isFalse();
+            assertThat(resultado.hasNext()).isFalse();
+            assertThat(resultado.totalElements()).isEqualTo(3L);
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar um cursor adulterado")
+        void listarPedidosPorCursor_CursorInvalido_DeveLancarBusinessException() {
+            assertThatThrownBy(() -> pedidoService.listarPedidosPorCursor(null, null, null, KeysetCursor.encode("ontem", "abc"), 2, false))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessage("Cursor de paginação inválido");
+            verify(pedidoRepository, never()).findBy(ArgumentMatchers.<Specification<Pedido>>any(), any());
+        }
+
         @Test
         @DisplayName("Deve buscar pedidos por restaurante")
         void buscarPedidosPorRestaurante_ComIdValido_DeveRetornarListaDeDTOs() {
-            when(pedidoRepository.findByRestauranteId(1L)).thenReturn(List.of(pedido));
-            when(modelMapper.map(any(Pedido.class), eq(PedidoResponseDTO.class))).thenReturn(pedidoResponseDTO);
+            when(pedidoRepository.findAll(ArgumentMatchers.<Specification<Pedido>>any(), any(Sort.class))).thenReturn(List.of(pedido));
+            when(pedidoMapper.toResponseDTO(any(Pedido.class))).thenReturn(pedidoResponseDTO);
 
             List<PedidoResponseDTO> resultado = pedidoService.buscarPedidosPorRestaurante(1L, null);
 
@@ -417,7 +582,7 @@ class PedidoServiceImplTest {
         @Test
         void buscarPedidoPorId_ComIdExistente_DeveRetornarDTO() {
             when(pedidoRepository.findById(100L)).thenReturn(Optional.of(pedido));
-            when(modelMapper.map(pedido, PedidoResponseDTO.class)).thenReturn(pedidoResponseDTO);
+            when(pedidoMapper.toResponseDTO(pedido)).thenReturn(pedidoResponseDTO);
             PedidoResponseDTO response = pedidoService.buscarPedidoPorId(100L);
             assertThat(response).isNotNull();
         }
@@ -425,7 +590,7 @@ class PedidoServiceImplTest {
         @Test
         void buscarPedidosPorCliente_ComClienteExistente_DeveRetornarListaDeDTOs() {
             when(pedidoRepository.findByClienteId(1L)).thenReturn(List.of(pedido));
-            when(modelMapper.map(pedido, PedidoResponseDTO.class)).thenReturn(pedidoResponseDTO);
+            when(pedidoMapper.toResponseDTO(pedido)).thenReturn(pedidoResponseDTO);
             List<PedidoResponseDTO> response = pedidoService.buscarPedidosPorCliente(1L);
             assertThat(response).isNotNull().hasSize(1);
         }
@@ -437,7 +602,7 @@ class PedidoServiceImplTest {
         @DisplayName("Deve retornar true se usuário é dono do pedido (cliente)")
         void isClientOwner_WhenUserIsClient_ReturnsTrue() {
             setupSecurityContext(usuario);
-            when(pedidoRepository.findById(100L)).thenReturn(Optional.of(pedido));
+            when(ownershipIndex.donoDoPedido(100L)).thenReturn(new PedidoDono(1L, 1L));
 
             assertTrue(pedidoService.isClientOwner(100L));
         }
@@ -448,7 +613,7 @@ class PedidoServiceImplTest {
             Usuario outroUsuario = new Usuario();
             outroUsuario.setId(999L);
             setupSecurityContext(outroUsuario);
-            when(pedidoRepository.findById(100L)).thenReturn(Optional.of(pedido));
+            when(ownershipIndex.donoDoPedido(100L)).thenReturn(new PedidoDono(1L, 1L));
 
             assertFalse(pedidoService.isClientOwner(100L));
         }
@@ -457,7 +622,7 @@ class PedidoServiceImplTest {
         @DisplayName("Deve retornar true se usuário é dono do restaurante")
         void isRestaurantOwner_WhenUserIsRestaurantOwner_ReturnsTrue() {
             setupSecurityContext(usuario);
-            when(pedidoRepository.findById(100L)).thenReturn(Optional.of(pedido));
+            when(ownershipIndex.donoDoPedido(100L)).thenReturn(new PedidoDono(1L, 1L));
 
             assertTrue(pedidoService.isRestaurantOwner(100L));
         }
@@ -469,7 +634,7 @@ class PedidoServiceImplTest {
             outroUsuario.setId(999L);
             outroUsuario.setRestauranteId(999L);
             setupSecurityContext(outroUsuario);
-            when(pedidoRepository.findById(100L)).thenReturn(Optional.of(pedido));
+            when(ownershipIndex.donoDoPedido(100L)).thenReturn(new PedidoDono(1L, 1L));
 
             assertFalse(pedidoService.isRestaurantOwner(100L));
         }
@@ -478,7 +643,7 @@ class PedidoServiceImplTest {
         @DisplayName("Deve return true se usuário tem acesso ao pedido")
         void canAccess_WhenUserHasAccess_ReturnsTrue() {
             setupSecurityContext(usuario);
-            when(pedidoRepository.findById(100L)).thenReturn(Optional.of(pedido));
+            when(ownershipIndex.donoDoPedido(100L)).thenReturn(new PedidoDono(1L, 1L));
 
             assertTrue(pedidoService.canAccess(100L));
         }
@@ -501,11 +666,19 @@ class PedidoServiceImplTest {
         pedido.setStatus(statusInicial);
         when(pedidoRepository.findById(100L)).thenReturn(Optional.of(pedido));
         when(pedidoRepository.save(any(Pedido.class))).thenReturn(pedido);
-        when(modelMapper.map(any(Pedido.class), eq(PedidoResponseDTO.class))).thenReturn(pedidoResponseDTO);
+        when(pedidoMapper.toResponseDTO(any(Pedido.class))).thenReturn(pedidoResponseDTO);
 
         pedidoService.atualizarStatusPedido(100L, statusFinal);
         
         assertThat(pedido.getStatus()).isEqualTo(statusFinal);
         verify(pedidoRepository).save(pedido);
+        verify(vendaDiariaService).registrarMudancaDeStatus(pedido, statusInicial);
+    }
+
+    private static Pedido novoPedido(Long id, LocalDateTime dataPedido) {
+        Pedido novo = new Pedido();
+        novo.setId(id);
+        novo.setDataPedido(dataPedido);
+        return novo;
     }
-}
\ No newline at end of file
+}
@@ -1,13 +1,19 @@
 package com.delivery_api.service.impl;
 
+import com.delivery_api.cache.OwnershipIndex;
+import com.delivery_api.cache.ProdutoCacheInvalidator;
 import com.delivery_api.dto.ProdutoDTO;
 import com.delivery_api.dto.ProdutoResponseDTO;
 import com.delivery_api.exception.EntityNotFoundException;
+import com.delivery_api.logging.AcessoDadosEventos;
+import com.delivery_api.mapper.ProdutoMapper;
 import com.delivery_api.model.Produto;
 import com.delivery_api.model.Restaurante;
 import com.delivery_api.model.Usuario;
 import com.delivery_api.repository.ProdutoRepository;
 import com.delivery_api.repository.RestauranteRepository;
+import com.delivery_api.search.ProdutoSearchIndex;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +22,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -33,6 +41,7 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -50,12 +59,27 @@ class ProdutoServiceImplTest {
     @Mock
     private ModelMapper modelMapper;
 
+    @Mock
+    private ProdutoMapper produtoMapper;
+
+    @Mock
+    private ProdutoCacheInvalidator produtoCacheInvalidator;
+
+    @Mock
+    private OwnershipIndex ownershipIndex;
+
+    @Mock
+    private ProdutoSearchIndex produtoSearchIndex;
+
     @Mock
     private SecurityContext securityContext;
 
     @Mock
     private Authentication authentication;
 
+    @Mock
+    private AcessoDadosEventos acessoDadosEventos;
+
     private Restaurante restaurante;
     private Produto produto;
     private ProdutoDTO produtoDTO;
@@ -78,6 +102,7 @@ class ProdutoServiceImplTest {
         produto = new Produto();
         produto.setId(101L);
         produto.setNome("Pizza Teste");
+        produto.setCategoria("PIZZA");
         produto.setDisponivel(true);
         produto.setRestaurante(restaurante);
 
@@ -91,6 +116,11 @@ class ProdutoServiceImplTest {
         usuario.setRestauranteId(1L);
     }
 
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
     // --- Testes para cadastrarProduto ---
 
     @Test
@@ -100,7 +130,7 @@ class ProdutoServiceImplTest {
         when(restauranteRepository.findById(1L)).thenReturn(Optional.of(restaurante));
         when(modelMapper.map(any(ProdutoDTO.class), eq(Produto.class))).thenReturn(produto);
         when(produtoRepository.save(any(Produto.class))).thenReturn(produto);
-        when(modelMapper.map(any(Produto.class), eq(ProdutoResponseDTO.class))).thenReturn(produtoResponseDTO);
+        when(produtoMapper.toResponseDTO(any(Produto.class))).thenReturn(produtoResponseDTO);
 
         // Act
         ProdutoResponseDTO response = produtoService.cadastrarProduto(produtoDTO);
@@ -109,6 +139,7 @@ class ProdutoServiceImplTest {
         assertThat(response).isNotNull();
         assertThat(response.getNome()).isEqualTo("Pizza Teste");
         verify(produtoRepository).save(produto);
+        verify(produtoSearchIndex).atualizarAposCommit(produto);
     }
 
     @Test
@@ -132,7 +163,7 @@ class ProdutoServiceImplTest {
     void buscarProdutoPorId_ComIdExistente_DeveRetornarProdutoDTO() {
         // Arrange
         when(produtoRepository.findById(101L)).thenReturn(Optional.of(produto));
-        when(modelMapper.map(produto, ProdutoResponseDTO.class)).thenReturn(produtoResponseDTO);
+        when(produtoMapper.toResponseDTO(produto)).thenReturn(produtoResponseDTO);
 
         // Act
         ProdutoResponseDTO response = produtoService.buscarProdutoPorId(101L);
@@ -161,7 +192,7 @@ class ProdutoServiceImplTest {
         // Arrange
         when(produtoRepository.findById(101L)).thenReturn(Optional.of(produto));
         when(produtoRepository.save(any(Produto.class))).thenReturn(produto);
-        when(modelMapper.map(produto, ProdutoResponseDTO.class)).thenReturn(produtoResponseDTO);
+        when(produtoMapper.toResponseDTO(produto)).thenReturn(produtoResponseDTO);
         
         // Act
         ProdutoResponseDTO response = produtoService.atualizarProduto(101L, produtoDTO);
@@ -173,13 +204,29 @@ class ProdutoServiceImplTest {
         assertThat(produto.getDescricao()).isEqualTo(produtoDTO.getDescricao());
     }
 
+    @Test
+    @DisplayName("Deve invalidar a categoria antiga e a nova ao trocar a categoria do produto")
+    void atualizarProduto_ComNovaCategoria_DeveInvalidarAsDuasCategorias() {
+        // Arrange
+        produtoDTO.setCategoria("MASSAS");
+        when(produtoRepository.findById(101L)).thenReturn(Optional.of(produto));
+        when(produtoRepository.save(any(Produto.class))).thenReturn(produto);
+        when(produtoMapper.toResponseDTO(produto)).thenReturn(produtoResponseDTO);
+
+        // Act
+        produtoService.atualizarProduto(101L, produtoDTO);
+
+        // Assert
+        verify(produtoCacheInvalidator).produtoAlterado(101L, 1L, "PIZZA", "MASSAS");
+    }
+
     // --- Testes para removerProduto ---
 
     @Test
     @DisplayName("Deve remover um produto com sucesso")
     void removerProduto_ComIdExistente_DeveChamarDeleteById() {
         // Arrange
-        when(produtoRepository.existsById(101L)).thenReturn(true);
+        when(produtoRepository.findById(101L)).thenReturn(Optional.of(produto));
         doNothing().when(produtoRepository).deleteById(101L);
 
         // Act
@@ -187,19 +234,22 @@ class ProdutoServiceImplTest {
 
         // Assert
         verify(produtoRepository, times(1)).deleteById(101L);
+        verify(produtoCacheInvalidator).produtoAlterado(101L, 1L, "PIZZA");
+        verify(ownershipIndex).removerProduto(101L);
     }
 
     @Test
     @DisplayName("Deve lançar EntityNotFoundException ao tentar remover produto com ID inexistente")
     void removerProduto_ComIdInexistente_DeveLancarEntityNotFoundException() {
         // Arrange
-        when(produtoRepository.existsById(99L)).thenReturn(false);
+        when(produtoRepository.findById(99L)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> produtoService.removerProduto(99L))
                 .isInstanceOf(EntityNotFoundException.class);
 
         verify(produtoRepository, never()).deleteById(anyLong());
+        verifyNoInteractions(produtoCacheInvalidator);
     }
     
     // --- Testes para alterarDisponibilidade ---
@@ -211,7 +261,7 @@ class ProdutoServiceImplTest {
         produto.setDisponivel(true); // Estado inicial
         when(produtoRepository.findById(101L)).thenReturn(Optional.of(produto));
         when(produtoRepository.save(any(Produto.class))).thenReturn(produto);
-        when(modelMapper.map(produto, ProdutoResponseDTO.class)).thenReturn(produtoResponseDTO);
+        when(produtoMapper.toResponseDTO(produto)).thenReturn(produtoResponseDTO);
 
         // Act
         ProdutoResponseDTO response = produtoService.alterarDisponibilidade(101L);
@@ -240,7 +290,7 @@ class ProdutoServiceImplTest {
     void buscarProdutosPorRestaurante_ComDisponivelTrue_DeveChamarMetodoCorreto() {
         // Arrange
         when(produtoRepository.findByRestauranteIdAndDisponivelTrue(1L)).thenReturn(List.of(produto));
-        when(modelMapper.map(produto, ProdutoResponseDTO.class)).thenReturn(produtoResponseDTO);
+        when(produtoMapper.toResponseDTO(produto)).thenReturn(produtoResponseDTO);
 
         // Act
         List<ProdutoResponseDTO> result = produtoService.buscarProdutosPorRestaurante(1L, true);
@@ -256,7 +306,7 @@ class ProdutoServiceImplTest {
     void buscarProdutosPorRestaurante_ComDisponivelNull_DeveChamarMetodoCorreto() {
         // Arrange
         when(produtoRepository.findByRestauranteId(1L)).thenReturn(List.of(produto));
-        when(modelMapper.map(produto, ProdutoResponseDTO.class)).thenReturn(produtoResponseDTO);
+        when(produtoMapper.toResponseDTO(produto)).thenReturn(produtoResponseDTO);
 
         // Act
         List<ProdutoResponseDTO> result = produtoService.buscarProdutosPorRestaurante(1L, null);
@@ -272,7 +322,7 @@ class ProdutoServiceImplTest {
     void buscarProdutosPorRestaurante_ComDisponivelFalse_DeveChamarMetodoCorreto() {
         // Arrange
         when(produtoRepository.findByRestauranteId(1L)).thenReturn(List.of(produto));
-        when(modelMapper.map(produto, ProdutoResponseDTO.class)).thenReturn(produtoResponseDTO);
+        when(produtoMapper.toResponseDTO(produto)).thenReturn(produtoResponseDTO);
 
         // Act
         List<ProdutoResponseDTO> result = produtoService.buscarProdutosPorRestaurante(1L, false);
@@ -290,7 +340,7 @@ class ProdutoServiceImplTest {
     void listarTodosProdutos_DeveRetornarListaDeDTOs() {
         // Arrange
         when(produtoRepository.findAll()).thenReturn(List.of(produto));
-        when(modelMapper.map(produto, ProdutoResponseDTO.class)).thenReturn(produtoResponseDTO);
+        when(produtoMapper.toResponseDTO(produto)).thenReturn(produtoResponseDTO);
         
         // Act
         List<ProdutoResponseDTO> result = produtoService.listarTodosProdutos();
@@ -306,7 +356,7 @@ class ProdutoServiceImplTest {
         // Arrange
         when(produtoRepository.findByCategoriaAndDisponivelTrue("PIZZA"))
             .thenReturn(List.of(produto));
-        when(modelMapper.map(produto, ProdutoResponseDTO.class))
+        when(produtoMapper.toResponseDTO(produto))
             .thenReturn(produtoResponseDTO);
 
         // Act
@@ -318,20 +368,28 @@ class ProdutoServiceImplTest {
     }
 
     @Test
-    @DisplayName("Deve buscar produtos por nome")
-    void buscarProdutosPorNome_DeveRetornarLista() {
-        // Arrange
-        when(produtoRepository.findByNomeContainingIgnoreCaseAndDisponivelTrue("Pizza"))
-            .thenReturn(List.of(produto));
-        when(modelMapper.map(produto, ProdutoResponseDTO.class))
-            .thenReturn(produtoResponseDTO);
-
-        // Act
-        List<ProdutoResponseDTO> result = produtoService.buscarProdutosPorNome("Pizza");
-        
-        // Assert
-        assertThat(result).hasSize(1);
-        verify(produtoRepository).findByNomeContainingIgnoreCaseAndDisponivelTrue("Pizza");
+    @DisplayName("Deve paginar a busca por nome na ordem de relevância do índice")
+    void buscarProdutosPorNome_DevePaginarResultadosDoIndice() {
+        Produto outro = new Produto();
+        outro.setId(2L);
+        ProdutoResponseDTO outroDTO = new ProdutoResponseDTO();
+        outroDTO.setId(2L);
+
+        when(produtoSearchIndex.buscar("pizza")).thenReturn(List.of(
+                new ProdutoSearchIndex.Resultado(7L, 9.0),
+                new ProdutoSearchIndex.Resultado(8L, 8.0),
+                new ProdutoSearchIndex.Resultado(2L, 5.0),
+                new ProdutoSearchIndex.Resultado(101L, 3.0)));
+        // O banco devolve fora de ordem; a página segue a relevância
+        when(produtoRepository.findAllById(List.of(2L, 101L))).thenReturn(List.of(produto, outro));
+        when(produtoMapper.toResponseDTO(produto)).thenReturn(produtoResponseDTO);
+        when(produtoMapper.toResponseDTO(outro)).thenReturn(outroDTO);
+
+        Page<ProdutoResponseDTO> result = produtoService.buscarProdutosPorNome("pizza", PageRequest.of(1, 2));
+
+        assertThat(result.getContent()).containsExactly(outroDTO, produtoResponseDTO);
+        assertThat(result.getTotalElements()).isEqualTo(4);
+        assertThat(result.getNumber()).isEqualTo(1);
     }
 
     // --- Testes para isOwner ---
@@ -375,7 +433,7 @@ class ProdutoServiceImplTest {
         when(authentication.getPrincipal()).thenReturn(usuario);
         SecurityContextHolder.setContext(securityContext);
         
-        when(produtoRepository.findById(101L)).thenReturn(Optional.of(produto));
+        when(ownershipIndex.restauranteDoProduto(101L)).thenReturn(produto.getRestaurante().getId());
 
         // Act
         boolean result = produtoService.isOwner(101L);
@@ -392,7 +450,8 @@ class ProdutoServiceImplTest {
         when(authentication.getPrincipal()).thenReturn(usuario);
         SecurityContextHolder.setContext(securityContext);
         
-        when(produtoRepository.findById(999L)).thenReturn(Optional.empty());
+        when(ownershipIndex.restauranteDoProduto(999L))
+            .thenThrow(new EntityNotFoundException("Produto com ID 999 não encontrado."));
 
         // Act & Assert
         assertThatThrownBy(() -> produtoService.isOwner(999L))
@@ -4,9 +4,16 @@ import com.delivery_api.dto.RestauranteDTO;
 import com.delivery_api.dto.RestauranteResponseDTO;
 import com.delivery_api.exception.ConflictException;
 import com.delivery_api.exception.EntityNotFoundException;
+import com.delivery_api.geo.CalculadoraTaxaEntrega;
+import com.delivery_api.geo.CepCoordenadas;
+import com.delivery_api.geo.Coordenada;
+import com.delivery_api.geo.RestauranteGeoIndex;
+import com.delivery_api.logging.AcessoDadosEventos;
+import com.delivery_api.mapper.RestauranteMapper;
 import com.delivery_api.model.Restaurante;
 import com.delivery_api.model.Usuario;
 import com.delivery_api.repository.RestauranteRepository;
+import com.delivery_api.search.RestauranteNomeIndex;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -48,6 +55,24 @@ class RestauranteServiceImplTest {
     @Mock
     private ModelMapper modelMapper;
 
+    @Mock
+    private RestauranteMapper restauranteMapper;
+
+    @Mock
+    private CepCoordenadas cepCoordenadas;
+
+    @Mock
+    private RestauranteGeoIndex restauranteGeoIndex;
+
+    @Mock
+    private CalculadoraTaxaEntrega calculadoraTaxaEntrega;
+
+    @Mock
+    private RestauranteNomeIndex restauranteNomeIndex;
+
+    @Mock
+    private AcessoDadosEventos acessoDadosEventos;
+
     private Restaurante restaurante;
     private RestauranteDTO restauranteDTO;
     private RestauranteResponseDTO restauranteResponseDTO;
@@ -85,7 +110,7 @@ class RestauranteServiceImplTest {
         when(restauranteRepository.existsByTelefone(anyString())).thenReturn(false);
         when(modelMapper.map(any(RestauranteDTO.class), eq(Restaurante.class))).thenReturn(restaurante);
         when(restauranteRepository.save(any(Restaurante.class))).thenReturn(restaurante);
-        when(modelMapper.map(any(Restaurante.class), eq(RestauranteResponseDTO.class))).thenReturn(restauranteResponseDTO);
+        when(restauranteMapper.toResponseDTO(any(Restaurante.class))).thenReturn(restauranteResponseDTO);
 
         RestauranteResponseDTO response = restauranteService.cadastrarRestaurante(restauranteDTO);
 
@@ -111,7 +136,7 @@ class RestauranteServiceImplTest {
     void listarRestaurantes_QuandoChamado_DeveRetornarPaginaDeDTOs() {
         Page<Restaurante> paginaDeRestaurantes = new PageImpl<>(Collections.singletonList(restaurante));
         when(restauranteRepository.findAll(any(Pageable.class))).thenReturn(paginaDeRestaurantes);
-        when(modelMapper.map(any(Restaurante.class), eq(RestauranteResponseDTO.class))).thenReturn(restauranteResponseDTO);
+        when(restauranteMapper.toResponseDTO(any(Restaurante.class))).thenReturn(restauranteResponseDTO);
 
         Page<RestauranteResponseDTO> resultado = restauranteService.listarRestaurantes(null, null, Pageable.unpaged());
 
@@ -124,7 +149,7 @@ class RestauranteServiceImplTest {
     @DisplayName("Deve retornar um restaurante quando o ID existe")
     void buscarRestaurantePorId_ComIdExistente_DeveRetornarRestauranteDTO() {
         when(restauranteRepository.findById(anyLong())).thenReturn(Optional.of(restaurante));
-        when(modelMapper.map(restaurante, RestauranteResponseDTO.class)).thenReturn(restauranteResponseDTO);
+        when(restauranteMapper.toResponseDTO(restaurante)).thenReturn(restauranteResponseDTO);
 
         RestauranteResponseDTO response = restauranteService.buscarRestaurantePorId(1L);
 
@@ -147,7 +172,7 @@ class RestauranteServiceImplTest {
     void atualizarRestaurante_ComIdExistente_DeveRetornarRestauranteAtualizadoDTO() {
         when(restauranteRepository.findById(1L)).thenReturn(Optional.of(restaurante));
         when(restauranteRepository.save(any(Restaurante.class))).thenReturn(restaurante);
-        when(modelMapper.map(restaurante, RestauranteResponseDTO.class)).thenReturn(restauranteResponseDTO);
+        when(restauranteMapper.toResponseDTO(restaurante)).thenReturn(restauranteResponseDTO);
         
         doNothing().when(modelMapper).map(any(RestauranteDTO.class), any(Restaurante.class));
 
@@ -164,12 +189,13 @@ class RestauranteServiceImplTest {
         restaurante.setAtivo(true);
         when(restauranteRepository.findById(1L)).thenReturn(Optional.of(restaurante));
         when(restauranteRepository.save(any(Restaurante.class))).thenReturn(restaurante);
-        when(modelMapper.map(any(Restaurante.class), eq(RestauranteResponseDTO.class))).thenReturn(restauranteResponseDTO);
+        when(restauranteMapper.toResponseDTO(any(Restaurante.class))).thenReturn(restauranteResponseDTO);
 
         restauranteService.alterarStatusRestaurante(1L);
 
         assertThat(restaurante.isAtivo()).isFalse();
         verify(restauranteRepository).save(restaurante);
+        verify(restauranteGeoIndex).atualizarAposCommit(restaurante);
     }
 
     @Test
@@ -178,7 +204,7 @@ class RestauranteServiceImplTest {
         restaurante.setAtivo(false);
         when(restauranteRepository.findById(1L)).thenReturn(Optional.of(restaurante));
         when(restauranteRepository.save(any(Restaurante.class))).thenReturn(restaurante);
-        when(modelMapper.map(any(Restaurante.class), eq(RestauranteResponseDTO.class))).thenReturn(restauranteResponseDTO);
+        when(restauranteMapper.toResponseDTO(any(Restaurante.class))).thenReturn(restauranteResponseDTO);
         
         restauranteService.alterarStatusRestaurante(1L);
         
@@ -218,13 +244,14 @@ class RestauranteServiceImplTest {
     }
 
     @Test
-    @DisplayName("Deve calcular taxa de entrega para restaurante existente")
-    void calcularTaxaEntrega_ComIdExistente_DeveRetornarValorFixo() {
+    @DisplayName("Deve calcular a taxa de entrega do restaurante pela distância até o CEP")
+    void calcularTaxaEntrega_ComIdExistente_DeveDelegarParaCalculadora() {
         when(restauranteRepository.findById(1L)).thenReturn(Optional.of(restaurante));
+        when(calculadoraTaxaEntrega.calcular(restaurante, "12345-678")).thenReturn(new BigDecimal("7.50"));
 
         BigDecimal taxa = restauranteService.calcularTaxaEntrega(1L, "12345-678");
         
-        assertThat(taxa).isEqualTo(new BigDecimal("10.00"));
+        assertThat(taxa).isEqualTo(new BigDecimal("7.50"));
     }
 
     @Test
@@ -240,7 +267,7 @@ class RestauranteServiceImplTest {
     @DisplayName("Deve buscar restaurantes por categoria com sucesso")
     void buscarRestaurantesPorCategoria_ComCategoriaExistente_DeveRetornarListaDeDTOs() {
         when(restauranteRepository.findByCategoriaAndAtivoTrue("ITALIANA")).thenReturn(List.of(restaurante));
-        when(modelMapper.map(restaurante, RestauranteResponseDTO.class)).thenReturn(restauranteResponseDTO);
+        when(restauranteMapper.toResponseDTO(restaurante)).thenReturn(restauranteResponseDTO);
 
         List<RestauranteResponseDTO> resultado = restauranteService.buscarRestaurantesPorCategoria("ITALIANA");
 
@@ -249,10 +276,40 @@ class RestauranteServiceImplTest {
     }
 
     @Test
-    @DisplayName("Deve retornar lista vazia para restaurantes próximos (não implementado)")
-    void buscarRestaurantesProximos_NaoImplementado_DeveRetornarVazio() {
-        List<RestauranteResponseDTO> resultado = restauranteService.buscarRestaurantesProximos("12345678", 10);
-        assertThat(resultado).isEmpty();
+    @DisplayName("Deve buscar restaurantes próximos no índice e devolver só os ativos, em ordem de distância")
+    void buscarRestaurantesProximos_ComCepConhecido_DeveRetornarAtivosOrdenadosPorDistancia() {
+        Coordenada origem = new Coordenada(-23.5631, -46.6544);
+        Restaurante desativado = new Restaurante();
+        desativado.setId(2L);
+        desativado.setAtivo(false);
+        Restaurante distante = new Restaurante();
+        distante.setId(3L);
+        distante.setAtivo(true);
+        RestauranteResponseDTO distanteDTO = new RestauranteResponseDTO();
+        distanteDTO.setId(3L);
+        when(cepCoordenadas.buscar("01310-100")).thenReturn(Optional.of(origem));
+        when(restauranteGeoIndex.buscarNoRaio(origem, 10)).thenReturn(List.of(
+                new RestauranteGeoIndex.Resultado(1L, 0.254),
+                new RestauranteGeoIndex.Resultado(2L, 1.5),
+                new RestauranteGeoIndex.Resultado(3L, 3.719)));
+        when(restauranteRepository.findAllById(List.of(1L, 2L, 3L))).thenReturn(List.of(distante, restaurante, desativado));
+        when(restauranteMapper.toResponseDTO(restaurante)).thenReturn(restauranteResponseDTO);
+        when(restauranteMapper.toResponseDTO(distante)).thenReturn(distanteDTO);
+
+        List<RestauranteResponseDTO> resultado = restauranteService.buscarRestaurantesProximos("01310-100", 10);
+
+        assertThat(resultado).extracting(RestauranteResponseDTO::getId).containsExactly(1L, 3L);
+        assertThat(resultado).extracting(RestauranteResponseDTO::getDistanciaKm).containsExactly(0.25, 3.72);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção para CEP fora da tabela de coordenadas")
+    void buscarRestaurantesProximos_CepDesconhecido_DeveLancarExcecao() {
+        when(cepCoordenadas.buscar("99999-999")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> restauranteService.buscarRestaurantesProximos("99999-999", 5))
+                .isInstanceOf(EntityNotFoundException.class);
+        verifyNoInteractions(restauranteGeoIndex);
     }
 
     @Test
@@ -3,8 +3,10 @@ package com.delivery_api.service.impl;
 import com.delivery_api.dto.RegisterRequest;
 import com.delivery_api.enums.UserRole;
 import com.delivery_api.exception.ConflictException;
+import com.delivery_api.logging.AcessoDadosEventos;
 import com.delivery_api.model.Usuario;
 import com.delivery_api.repository.UsuarioRepository;
+import com.delivery_api.security.DisabledUserRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,6 +23,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -36,6 +39,12 @@ class UsuarioServiceImplTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private DisabledUserRegistry disabledUserRegistry;
+
+    @Mock
+    private AcessoDadosEventos acessoDadosEventos;
+
     private Usuario usuario;
     private RegisterRequest registerRequest;
 
@@ -128,4 +137,22 @@ class UsuarioServiceImplTest {
         verify(usuarioRepository, never()).save(any());
         verify(passwordEncoder, never()).encode(anyString());
     }
-}
\ No newline at end of file
+
+    // --- Testes para alterarAtivo ---
+
+    @Test
+    @DisplayName("Deve desativar o usuário e marcá-lo no bitmap de desativados")
+    void alterarAtivo_Desativar_DeveMarcarNoBitmap() {
+        // Arrange
+        when(usuarioRepository.findById(1L)).thenReturn(Optional.of(usuario));
+        when(usuarioRepository.save(usuario)).thenReturn(usuario);
+
+        // Act
+        Usuario resultado = usuarioService.alterarAtivo(1L, false);
+
+        // Assert
+        assertThat(resultado.isAtivo()).isFalse();
+        verify(disabledUserRegistry).markDisabled(1L);
+        verify(disabledUserRegistry, never()).markEnabled(anyLong());
+    }
+}
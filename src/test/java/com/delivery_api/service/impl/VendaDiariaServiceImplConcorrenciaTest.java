@@ -0,0 +1,113 @@
+package com.delivery_api.service.impl;
+
+import com.delivery_api.enums.StatusPedido;
+import com.delivery_api.model.Pedido;
+import com.delivery_api.model.Restaurante;
+import com.delivery_api.model.VendaDiaria;
+import com.delivery_api.repository.VendaDiariaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pedidos em transações reais e simultâneas (sem a transação de teste do {@code @DataJpaTest}).
+ */
+@DataJpaTest(properties = "spring.sql.init.mode=never")
+@Import(VendaDiariaServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class VendaDiariaServiceImplConcorrenciaTest {
+
+    // Sem chave estrangeira para restaurante: um ID fora dos usados pelos outros testes basta
+    private static final long RESTAURANTE_ID = 9_001L;
+    private static final LocalDateTime PRIMEIRO_DIA = LocalDateTime.of(2025, 10, 1, 12, 0);
+    private static final int THREADS = 8;
+    private static final int RODADAS = 20;
+
+    @Autowired
+    private VendaDiariaServiceImpl vendaDiariaService;
+    @Autowired
+    private VendaDiariaRepository vendaDiariaRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                vendaDiariaRepository.deleteAll(gruposDoRestaurante()));
+    }
+
+    @Test
+    @DisplayName("Primeiros pedidos simultâneos no mesmo grupo devem ser todos somados, sem desfazer nenhum")
+    void registrarPedido_PrimeirosPedidosSimultaneosNoMesmoGrupo_DeveSomarTodos() throws Exception {
+        TransactionTemplate transacao = new TransactionTemplate(transactionManager);
+        CyclicBarrier largada = new CyclicBarrier(THREADS);
+        AtomicInteger pedidosDesfeitos = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            // A cada rodada, todas as threads abrem juntas o mesmo grupo novo (um dia ainda sem pedidos)
+            List<Future<?>> threads = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                threads.add(executor.submit(() -> {
+                    for (int rodada = 0; rodada < RODADAS; rodada++) {
+                        Pedido pedido = novoPedido(PRIMEIRO_DIA.plusDays(rodada));
+                        largada.await(5, TimeUnit.SECONDS);
+                        try {
+                            transacao.executeWithoutResult(status -> vendaDiariaService.registrarPedido(pedido));
+                        } catch (RuntimeException e) {
+                            pedidosDesfeitos.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> thread : threads) {
+                thread.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(pedidosDesfeitos).hasValue(0);
+        assertThat(gruposDoRestaurante()).hasSize(RODADAS).allSatisfy(grupo -> {
+            assertThat(grupo.getQuantidadePedidos()).isEqualTo(THREADS);
+            assertThat(grupo.getValorTotal()).isEqualByComparingTo(BigDecimal.valueOf(THREADS));
+        });
+    }
+
+    private List<VendaDiaria> gruposDoRestaurante() {
+        return vendaDiariaRepository.findAll().stream()
+                .filter(grupo -> grupo.getId().getRestauranteId() == RESTAURANTE_ID)
+                .toList();
+    }
+
+    private Pedido novoPedido(LocalDateTime data) {
+        Restaurante restaurante = new Restaurante();
+        restaurante.setId(RESTAURANTE_ID);
+        Pedido pedido = new Pedido();
+        pedido.setRestaurante(restaurante);
+        pedido.setStatus(StatusPedido.PENDENTE);
+        pedido.setDataPedido(data);
+        pedido.setValorTotal(BigDecimal.ONE);
+        return pedido;
+    }
+}
@@ -0,0 +1,146 @@
+package com.delivery_api.service.impl;
+
+import com.delivery_api.dto.DivergenciaVendasDTO;
+import com.delivery_api.enums.StatusPedido;
+import com.delivery_api.model.Cliente;
+import com.delivery_api.model.Pedido;
+import com.delivery_api.model.Restaurante;
+import com.delivery_api.projection.RelatorioVendas;
+import com.delivery_api.repository.PedidoRepository;
+import com.delivery_api.repository.RestauranteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Testa o agregado venda_diaria contra o banco (H2): MERGE incremental, reconstrução,
+ * verificação de consistência e os relatórios que passaram a ler o agregado.
+ */
+@DataJpaTest(properties = "spring.sql.init.mode=never")
+@Import(VendaDiariaServiceImpl.class)
+class VendaDiariaServiceImplTest {
+
+    private static final LocalDateTime DIA_1 = LocalDateTime.of(2025, 9, 1, 12, 0);
+    private static final LocalDateTime DIA_2 = LocalDateTime.of(2025, 9, 2, 20, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private VendaDiariaServiceImpl vendaDiariaService;
+    @Autowired
+    private PedidoRepository pedidoRepository;
+    @Autowired
+    private RestauranteRepository restauranteRepository;
+
+    private Cliente cliente;
+    private Restaurante pizzaria;
+    private Restaurante cantina;
+
+    @BeforeEach
+    void setUp() {
+        cliente = entityManager.persist(new Cliente("Cliente Vendas", "vendas@email.com", "11999990004", "Rua das Vendas, 1", true));
+        pizzaria = entityManager.persist(new Restaurante("Pizzaria Vendas", "Italiana", "Rua das Vendas, 2",
+                "11911110005", new BigDecimal("5.00"), true, 30, "10:00-22:00"));
+        cantina = entityManager.persist(new Restaurante("Cantina Sem Vendas", "Italiana", "Rua das Vendas, 3",
+                "11911110006", new BigDecimal("5.00"), true, 30, "10:00-22:00"));
+    }
+
+    @Test
+    @DisplayName("Deve manter o agregado igual aos pedidos ao criar e mudar status")
+    void registrar_CriacaoEMudancaDeStatus_DeveManterAgregadoConsistente() {
+        Pedido primeiro = novoPedido(DIA_1, StatusPedido.PENDENTE, "50.00");
+        Pedido segundo = novoPedido(DIA_1, StatusPedido.PENDENTE, "30.00");
+        Pedido terceiro = novoPedido(DIA_2, StatusPedido.PENDENTE, "20.00");
+
+        mudarStatus(primeiro, StatusPedido.CONFIRMADO);
+        mudarStatus(segundo, StatusPedido.CANCELADO);
+        mudarStatus(terceiro, StatusPedido.CONFIRMADO);
+        mudarStatus(terceiro, StatusPedido.PREPARANDO);
+
+        assertThat(vendaDiariaService.verificarConsistencia()).isEmpty();
+        assertThat(pedidoRepository.calcularVendasPorPeriodo(LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 2)))
+                .isEqualByComparingTo("70.00");
+        assertThat(pedidoRepository.calcularVendasPorPeriodo(LocalDate.of(2025, 9, 2), LocalDate.of(2025, 9, 2)))
+                .isEqualByComparingTo("20.00");
+        assertThat(pedidoRepository.countPedidosByStatus())
+                .extracting(linha -> linha[0], linha -> ((Number) linha[1]).longValue())
+                .containsExactlyInAnyOrder(
+                        tuple(StatusPedido.CONFIRMADO, 1L),
+                        tuple(StatusPedido.CANCELADO, 1L),
+                        tuple(StatusPedido.PREPARANDO, 1L));
+    }
+
+    @Test
+    @DisplayName("Deve apontar pedidos gravados fora do serviço e corrigi-los na reconstrução")
+    void reconstruir_PedidoForaDoServico_DeveCorrigirDivergencia() {
+        novoPedido(DIA_1, StatusPedido.ENTREGUE, "40.00");
+        Pedido semRegistro = new Pedido();
+        semRegistro.setCliente(cliente);
+        semRegistro.setRestaurante(pizzaria);
+        semRegistro.setStatus(StatusPedido.ENTREGUE);
+        semRegistro.setDataPedido(DIA_1.plusHours(1));
+        semRegistro.setValorTotal(new BigDecimal("10.00"));
+        entityManager.persistAndFlush(semRegistro);
+
+        List<DivergenciaVendasDTO> divergencias = vendaDiariaService.verificarConsistencia();
+        assertThat(divergencias).singleElement().satisfies(d -> {
+            assertThat(d.quantidadeAgregada()).isEqualTo(1);
+            assertThat(d.quantidadeReal()).isEqualTo(2);
+            assertThat(d.valorReal()).isEqualByComparingTo("50.00");
+        });
+
+        assertThat(vendaDiariaService.reconstruir()).isEqualTo(1);
+        assertThat(vendaDiariaService.verificarConsistencia()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve listar restaurantes sem vendas no relatório por restaurante")
+    void relatorioVendasPorRestaurante_DeveLerDoAgregado() {
+        novoPedido(DIA_1, StatusPedido.ENTREGUE, "40.00");
+        novoPedido(DIA_2, StatusPedido.ENTREGUE, "60.00");
+
+        List<RelatorioVendas> relatorio = restauranteRepository.relatorioVendasPorRestaurante();
+
+        assertThat(relatorio).anySatisfy(r -> {
+            assertThat(r.getNomeRestaurante()).isEqualTo(pizzaria.getNome());
+            assertThat(r.getTotalVendas()).isEqualByComparingTo("100.00");
+            assertThat(r.getQuantidadePedidos()).isEqualTo(2L);
+        }).anySatisfy(r -> {
+            assertThat(r.getNomeRestaurante()).isEqualTo(cantina.getNome());
+            assertThat(r.getQuantidadePedidos()).isZero();
+        });
+        assertThat(pedidoRepository.calcularTotalVendasPorRestaurante())
+                .extracting(linha -> linha[0])
+                .containsExactly(pizzaria.getNome());
+    }
+
+    private Pedido novoPedido(LocalDateTime data, StatusPedido status, String valor) {
+        Pedido pedido = new Pedido();
+        pedido.setCliente(cliente);
+        pedido.setRestaurante(pizzaria);
+        pedido.setStatus(status);
+        pedido.setDataPedido(data);
+        pedido.setValorTotal(new BigDecimal(valor));
+        entityManager.persist(pedido);
+        vendaDiariaService.registrarPedido(pedido);
+        return pedido;
+    }
+
+    private void mudarStatus(Pedido pedido, StatusPedido novoStatus) {
+        StatusPedido anterior = pedido.getStatus();
+        pedido.setStatus(novoStatus);
+        vendaDiariaService.registrarMudancaDeStatus(pedido, anterior);
+    }
+}
@@ -0,0 +1,55 @@
+package com.delivery_api.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AposCommitTest {
+
+    private final AtomicInteger execucoes = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Fora de transação deve executar a ação na hora")
+    void executar_SemTransacao_DeveExecutarImediatamente() {
+        AposCommit.executar(execucoes::incrementAndGet);
+
+        assertThat(execucoes).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Dentro de transação deve executar a ação só depois do commit")
+    void executar_ComTransacao_DeveEsperarCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        AposCommit.executar(execucoes::incrementAndGet);
+        assertThat(execucoes).hasValue(0);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(execucoes).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Com rollback não deve executar a ação")
+    void executar_ComRollback_NaoDeveExecutar() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        AposCommit.executar(execucoes::incrementAndGet);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(execucoes).hasValue(0);
+    }
+}